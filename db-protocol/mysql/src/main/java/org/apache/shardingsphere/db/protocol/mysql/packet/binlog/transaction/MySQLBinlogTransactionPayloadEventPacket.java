@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.binlog.transaction;
+
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.AbstractMySQLBinlogEventPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.MySQLBinlogEventHeader;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+/**
+ * MySQL binlog transaction payload event packet.
+ *
+ * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/classbinary__log_1_1Transaction__payload__event.html">TRANSACTION_PAYLOAD_EVENT</a>
+ */
+@Getter
+public final class MySQLBinlogTransactionPayloadEventPacket extends AbstractMySQLBinlogEventPacket {
+    
+    /**
+     * Compression type of ZSTD.
+     */
+    public static final int COMPRESSION_TYPE_ZSTD = 0;
+    
+    /**
+     * Compression type of none.
+     */
+    public static final int COMPRESSION_TYPE_NONE = 255;
+    
+    private static final int HEADER_END_MARK = 0;
+    
+    private static final int PAYLOAD_SIZE_FIELD = 1;
+    
+    private static final int COMPRESSION_TYPE_FIELD = 2;
+    
+    private static final int UNCOMPRESSED_SIZE_FIELD = 3;
+    
+    private int compressionType = COMPRESSION_TYPE_NONE;
+    
+    private long payloadSize;
+    
+    private long uncompressedSize;
+    
+    private final byte[] payload;
+    
+    public MySQLBinlogTransactionPayloadEventPacket(final MySQLBinlogEventHeader binlogEventHeader, final int compressionType, final long uncompressedSize, final byte[] payload) {
+        super(binlogEventHeader);
+        this.compressionType = compressionType;
+        payloadSize = payload.length;
+        this.uncompressedSize = uncompressedSize;
+        this.payload = payload;
+    }
+    
+    public MySQLBinlogTransactionPayloadEventPacket(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+        super(binlogEventHeader);
+        readHeaderFields(payload);
+        this.payload = payload.readStringFixByBytes(0 == payloadSize ? getRemainBytesLength(payload) : (int) payloadSize);
+    }
+    
+    private void readHeaderFields(final MySQLPacketPayload payload) {
+        while (getRemainBytesLength(payload) > 0) {
+            int fieldType = (int) payload.readIntLenenc();
+            if (HEADER_END_MARK == fieldType) {
+                return;
+            }
+            int fieldLength = (int) payload.readIntLenenc();
+            switch (fieldType) {
+                case PAYLOAD_SIZE_FIELD:
+                    payloadSize = payload.readIntLenenc();
+                    break;
+                case COMPRESSION_TYPE_FIELD:
+                    compressionType = (int) payload.readIntLenenc();
+                    break;
+                case UNCOMPRESSED_SIZE_FIELD:
+                    uncompressedSize = payload.readIntLenenc();
+                    break;
+                default:
+                    payload.skipReserved(fieldLength);
+                    break;
+            }
+        }
+    }
+    
+    @Override
+    protected void writeEvent(final MySQLPacketPayload payload) {
+        writeHeaderField(payload, COMPRESSION_TYPE_FIELD, compressionType);
+        writeHeaderField(payload, UNCOMPRESSED_SIZE_FIELD, uncompressedSize);
+        writeHeaderField(payload, PAYLOAD_SIZE_FIELD, payloadSize);
+        payload.writeIntLenenc(HEADER_END_MARK);
+        payload.writeBytes(this.payload);
+    }
+    
+    private void writeHeaderField(final MySQLPacketPayload payload, final int fieldType, final long value) {
+        payload.writeIntLenenc(fieldType);
+        payload.writeIntLenenc(lengthOfIntLenenc(value));
+        payload.writeIntLenenc(value);
+    }
+    
+    private int lengthOfIntLenenc(final long value) {
+        if (value < 0xfb) {
+            return 1;
+        }
+        if (value < Math.pow(2, 16)) {
+            return 3;
+        }
+        if (value < Math.pow(2, 24)) {
+            return 4;
+        }
+        return 9;
+    }
+}
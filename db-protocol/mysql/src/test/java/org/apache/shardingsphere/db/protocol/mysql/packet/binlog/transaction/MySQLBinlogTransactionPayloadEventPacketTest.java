@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.binlog.transaction;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinlogEventType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.MySQLBinlogEventHeader;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MySQLBinlogTransactionPayloadEventPacketTest {
+    
+    @Test
+    void assertNewWithWrittenPacket() {
+        byte[] compressedPayload = new byte[]{1, 2, 3, 4, 5};
+        ByteBuf byteBuf = Unpooled.buffer();
+        MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8);
+        payload.writeInt1(0);
+        new MySQLBinlogTransactionPayloadEventPacket(createBinlogEventHeader(0), MySQLBinlogTransactionPayloadEventPacket.COMPRESSION_TYPE_ZSTD, 300L, compressedPayload).write(payload);
+        payload.getByteBuf().readerIndex(1 + MySQLBinlogEventHeader.MYSQL_BINLOG_EVENT_HEADER_LENGTH);
+        MySQLBinlogTransactionPayloadEventPacket actual = new MySQLBinlogTransactionPayloadEventPacket(createBinlogEventHeader(byteBuf.writerIndex() - 1), payload);
+        assertThat(actual.getCompressionType(), is(MySQLBinlogTransactionPayloadEventPacket.COMPRESSION_TYPE_ZSTD));
+        assertThat(actual.getUncompressedSize(), is(300L));
+        assertThat(actual.getPayloadSize(), is(5L));
+        assertThat(actual.getPayload(), is(compressedPayload));
+    }
+    
+    private MySQLBinlogEventHeader createBinlogEventHeader(final int eventSize) {
+        return new MySQLBinlogEventHeader(0, MySQLBinlogEventType.TRANSACTION_PAYLOAD_EVENT.getValue(), 1, eventSize, 0, 0, 0);
+    }
+}
@@ -26,6 +26,14 @@ import java.util.List;
  */
 public interface ReadQueryLoadBalanceAlgorithm extends ShardingSphereAlgorithm {
     
+    /**
+     * Initialize with database name, which is called after the algorithm is created for readwrite-splitting rule.
+     *
+     * @param databaseName database name of readwrite-splitting rule
+     */
+    default void initDatabase(final String databaseName) {
+    }
+    
     /**
      * Get data source.
      * 
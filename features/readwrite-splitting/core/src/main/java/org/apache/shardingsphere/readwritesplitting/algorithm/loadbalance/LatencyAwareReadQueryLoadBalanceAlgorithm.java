@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import org.apache.shardingsphere.infra.executor.sql.statistics.DataSourceExecutionStatistics;
+import org.apache.shardingsphere.infra.executor.sql.statistics.DataSourceExecutionStatisticsRegistry;
+import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency aware read query load-balance algorithm.
+ * 
+ * <p>Two random read data sources are compared, and the one with lower load is chosen.
+ * The load is weighted by execution latency, connection wait and executions in flight, which are recorded by JDBC executor.</p>
+ */
+public final class LatencyAwareReadQueryLoadBalanceAlgorithm implements ReadQueryLoadBalanceAlgorithm {
+    
+    private String databaseName;
+    
+    @Override
+    public void initDatabase(final String databaseName) {
+        this.databaseName = databaseName;
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String writeDataSourceName, final List<String> readDataSourceNames) {
+        int size = readDataSourceNames.size();
+        if (1 == size) {
+            return readDataSourceNames.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(size);
+        int secondIndex = (firstIndex + 1 + random.nextInt(size - 1)) % size;
+        DataSourceExecutionStatistics first = DataSourceExecutionStatisticsRegistry.getInstance().get(databaseName, readDataSourceNames.get(firstIndex));
+        DataSourceExecutionStatistics second = DataSourceExecutionStatisticsRegistry.getInstance().get(databaseName, readDataSourceNames.get(secondIndex));
+        return readDataSourceNames.get(getLoad(first) <= getLoad(second) ? firstIndex : secondIndex);
+    }
+    
+    private double getLoad(final DataSourceExecutionStatistics statistics) {
+        return ((double) statistics.getLatencyNanos() + statistics.getConnectionWaitNanos() + 1D) * (statistics.getInFlightCount() + 1);
+    }
+    
+    @Override
+    public String getType() {
+        return "LATENCY_AWARE";
+    }
+}
@@ -17,12 +17,8 @@
 
 package org.apache.shardingsphere.readwritesplitting.route.standard;
 
-import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
-import org.apache.shardingsphere.readwritesplitting.route.standard.filter.ReadDataSourcesFilter;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
 
-import java.util.List;
-
 /**
  * Standard data source router for readwrite-splitting.
  */
@@ -35,14 +31,6 @@ public final class StandardReadwriteSplittingDataSourceRouter {
      * @return routed data source name
      */
     public String route(final ReadwriteSplittingDataSourceRule rule) {
-        return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSource(), getFilteredReadDataSources(rule));
-    }
-    
-    private List<String> getFilteredReadDataSources(final ReadwriteSplittingDataSourceRule rule) {
-        List<String> result = rule.getReadwriteSplittingGroup().getReadDataSources();
-        for (ReadDataSourcesFilter each : ShardingSphereServiceLoader.getServiceInstances(ReadDataSourcesFilter.class)) {
-            result = each.filter(rule, result);
-        }
-        return result;
+        return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSource(), rule.getEnabledReadDataSources());
     }
 }
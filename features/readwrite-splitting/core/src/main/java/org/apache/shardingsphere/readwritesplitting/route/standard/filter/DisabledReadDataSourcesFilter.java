@@ -19,7 +19,7 @@ package org.apache.shardingsphere.readwritesplitting.route.standard.filter;
 
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -29,7 +29,7 @@ public final class DisabledReadDataSourcesFilter implements ReadDataSourcesFilte
     
     @Override
     public List<String> filter(final ReadwriteSplittingDataSourceRule rule, final List<String> toBeFilteredReadDataSources) {
-        List<String> result = new LinkedList<>(toBeFilteredReadDataSources);
+        List<String> result = new ArrayList<>(toBeFilteredReadDataSources);
         result.removeIf(rule.getDisabledDataSourceNames()::contains);
         return result;
     }
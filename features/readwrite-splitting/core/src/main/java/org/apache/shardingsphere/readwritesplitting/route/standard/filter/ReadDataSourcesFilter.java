@@ -24,6 +24,8 @@ import java.util.List;
 
 /**
  * Read data sources filter.
+ * 
+ * <p>Filtered read data sources are cached by readwrite-splitting data source rule, and refreshed only when data source status changed.</p>
  */
 @SingletonSPI
 public interface ReadDataSourcesFilter {
@@ -18,14 +18,19 @@
 package org.apache.shardingsphere.readwritesplitting.rule;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.transaction.TransactionalReadQueryStrategy;
 import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
 import org.apache.shardingsphere.readwritesplitting.group.ReadwriteSplittingGroup;
 import org.apache.shardingsphere.readwritesplitting.group.type.StaticReadwriteSplittingGroup;
+import org.apache.shardingsphere.readwritesplitting.route.standard.filter.ReadDataSourcesFilter;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 
 /**
  * Readwrite-splitting data source rule.
@@ -43,12 +48,15 @@ public final class ReadwriteSplittingDataSourceRule {
     
     private final Collection<String> disabledDataSourceNames = new HashSet<>();
     
+    private volatile List<String> enabledReadDataSources;
+    
     public ReadwriteSplittingDataSourceRule(final ReadwriteSplittingDataSourceRuleConfiguration config, final TransactionalReadQueryStrategy transactionalReadQueryStrategy,
                                             final ReadQueryLoadBalanceAlgorithm loadBalancer) {
         name = config.getName();
         this.transactionalReadQueryStrategy = transactionalReadQueryStrategy;
         this.loadBalancer = loadBalancer;
         readwriteSplittingGroup = createStaticReadwriteSplittingGroup(config);
+        enabledReadDataSources = createEnabledReadDataSources();
     }
     
     private StaticReadwriteSplittingGroup createStaticReadwriteSplittingGroup(final ReadwriteSplittingDataSourceRuleConfiguration config) {
@@ -64,13 +72,24 @@ public final class ReadwriteSplittingDataSourceRule {
         return readwriteSplittingGroup.getWriteDataSource();
     }
     
+    /**
+     * Get enabled read data source names.
+     *
+     * @return enabled read data source names filtered by read data sources filters
+     */
+    public List<String> getEnabledReadDataSources() {
+        return enabledReadDataSources;
+    }
+    
     /**
      * Enable data source.
      *
      * @param dataSourceName data source name to be enabled.
      */
-    public void enableDataSource(final String dataSourceName) {
-        disabledDataSourceNames.remove(dataSourceName);
+    public synchronized void enableDataSource(final String dataSourceName) {
+        if (disabledDataSourceNames.remove(dataSourceName)) {
+            enabledReadDataSources = createEnabledReadDataSources();
+        }
     }
     
     /**
@@ -78,7 +97,17 @@ public final class ReadwriteSplittingDataSourceRule {
      *
      * @param dataSourceName data source name to be disabled.
      */
-    public void disableDataSource(final String dataSourceName) {
-        disabledDataSourceNames.add(dataSourceName);
+    public synchronized void disableDataSource(final String dataSourceName) {
+        if (disabledDataSourceNames.add(dataSourceName)) {
+            enabledReadDataSources = createEnabledReadDataSources();
+        }
+    }
+    
+    private List<String> createEnabledReadDataSources() {
+        List<String> result = readwriteSplittingGroup.getReadDataSources();
+        for (ReadDataSourcesFilter each : ShardingSphereServiceLoader.getServiceInstances(ReadDataSourcesFilter.class)) {
+            result = each.filter(this, result);
+        }
+        return Collections.unmodifiableList(new ArrayList<>(result));
     }
 }
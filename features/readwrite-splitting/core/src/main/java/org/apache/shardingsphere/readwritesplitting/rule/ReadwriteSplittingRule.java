@@ -81,7 +81,9 @@ public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceCon
         for (ReadwriteSplittingDataSourceRuleConfiguration each : ruleConfig.getDataSources()) {
             if (ruleConfig.getLoadBalancers().containsKey(each.getLoadBalancerName())) {
                 AlgorithmConfiguration algorithmConfig = ruleConfig.getLoadBalancers().get(each.getLoadBalancerName());
-                result.put(each.getName() + "." + each.getLoadBalancerName(), TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, algorithmConfig.getType(), algorithmConfig.getProps()));
+                ReadQueryLoadBalanceAlgorithm loadBalancer = TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, algorithmConfig.getType(), algorithmConfig.getProps());
+                loadBalancer.initDatabase(databaseName);
+                result.put(each.getName() + "." + each.getLoadBalancerName(), loadBalancer);
             }
         }
         return result;
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import org.apache.shardingsphere.infra.executor.sql.statistics.DataSourceExecutionStatistics;
+import org.apache.shardingsphere.infra.executor.sql.statistics.DataSourceExecutionStatisticsRegistry;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class LatencyAwareReadQueryLoadBalanceAlgorithmTest {
+    
+    private final List<String> readDataSourceNames = Arrays.asList("latency_aware_read_ds_0", "latency_aware_read_ds_1");
+    
+    @AfterEach
+    void tearDown() {
+        readDataSourceNames.forEach(each -> DataSourceExecutionStatisticsRegistry.getInstance().remove("foo_db", each));
+        readDataSourceNames.forEach(each -> DataSourceExecutionStatisticsRegistry.getInstance().remove("bar_db", each));
+    }
+    
+    @Test
+    void assertGetSingleReadDataSource() {
+        ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm();
+        assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", Collections.singletonList("test_read_ds_1")), is("test_read_ds_1"));
+    }
+    
+    @Test
+    void assertGetLessLoadedReadDataSource() {
+        DataSourceExecutionStatistics statistics = DataSourceExecutionStatisticsRegistry.getInstance().get("foo_db", "latency_aware_read_ds_0");
+        statistics.recordConnectionWait(1000000L);
+        statistics.start();
+        ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm();
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("latency_aware_read_ds_1"));
+        }
+    }
+    
+    @Test
+    void assertGetLessLoadedReadDataSourceOfCurrentDatabase() {
+        DataSourceExecutionStatisticsRegistry.getInstance().get("bar_db", "latency_aware_read_ds_1").recordConnectionWait(1000000L);
+        DataSourceExecutionStatisticsRegistry.getInstance().get("foo_db", "latency_aware_read_ds_0").recordConnectionWait(1000000L);
+        ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm();
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("latency_aware_read_ds_1"));
+        }
+    }
+    
+    @Test
+    void assertGetReadDataSourceWithDecayedLoad() throws ReflectiveOperationException {
+        DataSourceExecutionStatistics statistics = DataSourceExecutionStatisticsRegistry.getInstance().get("foo_db", "latency_aware_read_ds_0");
+        statistics.recordConnectionWait(1000000L);
+        ((AtomicLong) Plugins.getMemberAccessor().get(DataSourceExecutionStatistics.class.getDeclaredField("connectionWaitSampledNanoTime"), statistics)).set(System.nanoTime() - TimeUnit.MINUTES.toNanos(5L));
+        DataSourceExecutionStatisticsRegistry.getInstance().get("foo_db", "latency_aware_read_ds_1").recordConnectionWait(1000L);
+        ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm();
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("latency_aware_read_ds_0"));
+        }
+    }
+    
+    private ReadQueryLoadBalanceAlgorithm createLoadBalanceAlgorithm() {
+        ReadQueryLoadBalanceAlgorithm result = TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, "LATENCY_AWARE", new Properties());
+        result.initDatabase("foo_db");
+        return result;
+    }
+}
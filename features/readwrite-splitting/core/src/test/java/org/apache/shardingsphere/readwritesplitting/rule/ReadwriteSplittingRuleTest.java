@@ -82,6 +82,7 @@ class ReadwriteSplittingRuleTest {
         readwriteSplittingRule.updateStatus(new StorageNodeDataSourceChangedEvent(new QualifiedDatabase("readwrite_splitting_db.readwrite.read_ds_0"),
                 new StorageNodeDataSource(StorageNodeRole.MEMBER, DataSourceState.DISABLED)));
         assertThat(readwriteSplittingRule.getSingleDataSourceRule().getDisabledDataSourceNames(), is(Collections.singleton("read_ds_0")));
+        assertThat(readwriteSplittingRule.getSingleDataSourceRule().getEnabledReadDataSources(), is(Collections.singletonList("read_ds_1")));
     }
     
     @Test
@@ -93,6 +94,7 @@ class ReadwriteSplittingRuleTest {
         readwriteSplittingRule.updateStatus(new StorageNodeDataSourceChangedEvent(new QualifiedDatabase("readwrite_splitting_db.readwrite.read_ds_0"),
                 new StorageNodeDataSource(StorageNodeRole.MEMBER, DataSourceState.ENABLED)));
         assertThat(readwriteSplittingRule.getSingleDataSourceRule().getDisabledDataSourceNames(), is(Collections.emptySet()));
+        assertThat(readwriteSplittingRule.getSingleDataSourceRule().getEnabledReadDataSources(), is(Arrays.asList("read_ds_0", "read_ds_1")));
     }
     
     @Test
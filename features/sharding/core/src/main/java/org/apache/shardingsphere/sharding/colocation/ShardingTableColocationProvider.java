@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.colocation;
+
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.NoneShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.constant.ShardingOrder;
+import org.apache.shardingsphere.sharding.rule.BindingTableRule;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.colocation.TableColocation;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.colocation.TableColocationProvider;
+
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Sharding table colocation provider.
+ *
+ * <p>Only tables sharded by standard sharding strategies are colocatable, tables with complex or hint sharding strategies are not.</p>
+ */
+public final class ShardingTableColocationProvider implements TableColocationProvider<ShardingRule> {
+    
+    @Override
+    public Optional<TableColocation> findTableColocation(final String tableName, final ShardingRule rule) {
+        Optional<TableRule> tableRule = rule.findTableRule(tableName);
+        if (!tableRule.isPresent()) {
+            return Optional.empty();
+        }
+        ShardingStrategyConfiguration databaseShardingStrategyConfig = rule.getDatabaseShardingStrategyConfiguration(tableRule.get());
+        ShardingStrategyConfiguration tableShardingStrategyConfig = rule.getTableShardingStrategyConfiguration(tableRule.get());
+        int dataSourceCount = tableRule.get().getActualDataSourceNames().size();
+        if (!isColocatable(databaseShardingStrategyConfig, rule.getDefaultShardingColumn(), 1 == dataSourceCount)
+                || !isColocatable(tableShardingStrategyConfig, rule.getDefaultShardingColumn(), tableRule.get().getActualDataNodes().size() == dataSourceCount)) {
+            return Optional.empty();
+        }
+        String colocationGroup = rule.findBindingTableRule(tableName).map(this::getColocationGroup).orElseGet(tableName::toLowerCase);
+        return Optional.of(TableColocation.sharding(colocationGroup,
+                getShardingColumn(databaseShardingStrategyConfig, rule.getDefaultShardingColumn()), getShardingColumn(tableShardingStrategyConfig, rule.getDefaultShardingColumn())));
+    }
+    
+    private boolean isColocatable(final ShardingStrategyConfiguration shardingStrategyConfig, final String defaultShardingColumn, final boolean isSingleDataNode) {
+        if (shardingStrategyConfig instanceof NoneShardingStrategyConfiguration) {
+            return isSingleDataNode;
+        }
+        return shardingStrategyConfig instanceof StandardShardingStrategyConfiguration && null != getShardingColumn(shardingStrategyConfig, defaultShardingColumn);
+    }
+    
+    private String getColocationGroup(final BindingTableRule bindingTableRule) {
+        return bindingTableRule.getAllLogicTables().stream().map(String::toLowerCase).sorted().collect(Collectors.joining(","));
+    }
+    
+    private String getShardingColumn(final ShardingStrategyConfiguration shardingStrategyConfig, final String defaultShardingColumn) {
+        if (!(shardingStrategyConfig instanceof StandardShardingStrategyConfiguration)) {
+            return null;
+        }
+        String result = ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn();
+        return null == result ? defaultShardingColumn : result;
+    }
+    
+    @Override
+    public int getOrder() {
+        return ShardingOrder.ORDER;
+    }
+    
+    @Override
+    public Class<ShardingRule> getTypeClass() {
+        return ShardingRule.class;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata.data;
+
+import org.apache.shardingsphere.infra.database.core.metadata.database.DialectDatabaseMetaData;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+import org.apache.shardingsphere.infra.metadata.statistics.collector.ShardingSphereStatisticsCollector;
+import org.apache.shardingsphere.sharding.metadata.data.dialect.DialectColumnStatisticsCollector;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Column statistics table data collector.
+ *
+ * <p>Statistics of all columns kept by storage catalog are collected for every actual table of sharding tables,
+ * actual tables in the same storage unit share one connection.</p>
+ */
+public final class ColumnStatisticsTableCollector implements ShardingSphereStatisticsCollector {
+    
+    private static final String SHARDING_COLUMN_STATISTICS = "sharding_column_statistics";
+    
+    @Override
+    public Optional<ShardingSphereTableData> collect(final String databaseName, final ShardingSphereTable table,
+                                                     final Map<String, ShardingSphereDatabase> shardingSphereDatabases) throws SQLException {
+        ShardingSphereTableData result = new ShardingSphereTableData(SHARDING_COLUMN_STATISTICS);
+        DatabaseType protocolType = shardingSphereDatabases.values().iterator().next().getProtocolType();
+        DialectDatabaseMetaData dialectDatabaseMetaData = new DatabaseTypeRegistry(protocolType).getDialectDatabaseMetaData();
+        int count = 1;
+        if (dialectDatabaseMetaData.getDefaultSchema().isPresent()) {
+            collectFromDatabase(shardingSphereDatabases.get(databaseName), result, count);
+        } else {
+            for (ShardingSphereDatabase each : shardingSphereDatabases.values()) {
+                count = collectFromDatabase(each, result, count);
+            }
+        }
+        return result.getRows().isEmpty() ? Optional.empty() : Optional.of(result);
+    }
+    
+    private int collectFromDatabase(final ShardingSphereDatabase database, final ShardingSphereTableData tableData, final int startId) throws SQLException {
+        Optional<ShardingRule> shardingRule = database.getRuleMetaData().findSingleRule(ShardingRule.class);
+        if (!shardingRule.isPresent()) {
+            return startId;
+        }
+        Map<String, Map<DataNode, String>> dataSourceDataNodes = new LinkedHashMap<>();
+        for (TableRule each : shardingRule.get().getTableRules().values()) {
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                dataSourceDataNodes.computeIfAbsent(dataNode.getDataSourceName(), key -> new LinkedHashMap<>()).put(dataNode, each.getLogicTable());
+            }
+        }
+        int result = startId;
+        for (Entry<String, Map<DataNode, String>> entry : dataSourceDataNodes.entrySet()) {
+            result = collectFromDataSource(database, database.getResourceMetaData().getStorageUnits().get(entry.getKey()), entry.getValue(), tableData, result);
+        }
+        return result;
+    }
+    
+    private int collectFromDataSource(final ShardingSphereDatabase database, final StorageUnit storageUnit, final Map<DataNode, String> dataNodeLogicTables,
+                                      final ShardingSphereTableData tableData, final int startId) throws SQLException {
+        Optional<DialectColumnStatisticsCollector> dialectCollector = DatabaseTypedSPILoader.findService(DialectColumnStatisticsCollector.class, storageUnit.getStorageType());
+        if (!dialectCollector.isPresent()) {
+            return startId;
+        }
+        int result = startId;
+        try (Connection connection = storageUnit.getDataSource().getConnection()) {
+            for (Entry<DataNode, String> entry : dataNodeLogicTables.entrySet()) {
+                for (List<Object> columnRow : dialectCollector.get().collect(connection, entry.getKey())) {
+                    List<Object> row = new LinkedList<>();
+                    row.add(result++);
+                    row.add(database.getName());
+                    row.add(entry.getValue());
+                    row.add(entry.getKey().getDataSourceName());
+                    row.add(entry.getKey().getTableName());
+                    row.addAll(columnRow);
+                    tableData.getRows().add(new ShardingSphereRowData(row));
+                }
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public String getType() {
+        return SHARDING_COLUMN_STATISTICS;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata.data.dialect;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+/**
+ * Column histogram utility class.
+ *
+ * <p>Histogram is formatted as comma separated {@code bound:cumulativeFrequency} pairs with ascending numeric bounds,
+ * the first pair is the minimum value with cumulative frequency 0, and the last pair is the maximum value with cumulative frequency 1.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ColumnHistogramUtils {
+    
+    /**
+     * Format equi-depth histogram bounds, every bucket between neighbour bounds holds the same fraction of rows.
+     *
+     * @param bounds bucket bounds
+     * @return formatted histogram, empty if bounds are not numeric
+     */
+    public static Optional<String> formatEquiDepthBounds(final List<String> bounds) {
+        if (bounds.size() < 2) {
+            return Optional.empty();
+        }
+        double[] cumulativeFrequencies = new double[bounds.size()];
+        for (int i = 0; i < bounds.size(); i++) {
+            cumulativeFrequencies[i] = (double) i / (bounds.size() - 1);
+        }
+        return format(bounds, cumulativeFrequencies);
+    }
+    
+    /**
+     * Format histogram.
+     *
+     * @param bounds ascending bucket bounds
+     * @param cumulativeFrequencies cumulative frequencies of bounds
+     * @return formatted histogram, empty if bounds are not numeric
+     */
+    public static Optional<String> format(final List<String> bounds, final double[] cumulativeFrequencies) {
+        if (bounds.size() < 2 || bounds.size() != cumulativeFrequencies.length) {
+            return Optional.empty();
+        }
+        StringJoiner result = new StringJoiner(",");
+        for (int i = 0; i < bounds.size(); i++) {
+            Optional<BigDecimal> bound = toNumber(bounds.get(i));
+            if (!bound.isPresent()) {
+                return Optional.empty();
+            }
+            result.add(bound.get().toPlainString() + ":" + cumulativeFrequencies[i]);
+        }
+        return Optional.of(result.toString());
+    }
+    
+    private static Optional<BigDecimal> toNumber(final String value) {
+        if (null == value) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new BigDecimal(value.trim()));
+        } catch (final NumberFormatException ignored) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata.data.dialect.type;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.util.json.JsonUtils;
+import org.apache.shardingsphere.sharding.metadata.data.dialect.DialectColumnStatisticsCollector;
+import org.apache.shardingsphere.sharding.metadata.data.dialect.ColumnHistogramUtils;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Column statistics table data collector of MySQL.
+ */
+public final class MySQLColumnStatisticsCollector implements DialectColumnStatisticsCollector {
+    
+    private static final String MYSQL_COLUMN_DISTINCT_COUNT =
+            "SELECT COLUMN_NAME, MAX(CARDINALITY) AS DISTINCT_COUNT FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ? AND SEQ_IN_INDEX = 1 GROUP BY COLUMN_NAME";
+    
+    private static final String MYSQL_COLUMN_HISTOGRAM = "SELECT COLUMN_NAME, HISTOGRAM FROM information_schema.COLUMN_STATISTICS WHERE SCHEMA_NAME = ? AND TABLE_NAME = ?";
+    
+    private static final int HISTOGRAM_MIN_MAJOR_VERSION = 8;
+    
+    @Override
+    public Collection<List<Object>> collect(final Connection connection, final DataNode dataNode) throws SQLException {
+        Map<String, BigDecimal> distinctCounts = loadDistinctCounts(connection, dataNode);
+        Map<String, String> histograms = connection.getMetaData().getDatabaseMajorVersion() < HISTOGRAM_MIN_MAJOR_VERSION ? Collections.emptyMap() : loadHistograms(connection, dataNode);
+        Set<String> columnNames = new LinkedHashSet<>(distinctCounts.keySet());
+        columnNames.addAll(histograms.keySet());
+        Collection<List<Object>> result = new LinkedList<>();
+        for (String each : columnNames) {
+            result.add(Arrays.asList(each, distinctCounts.getOrDefault(each, BigDecimal.ZERO), histograms.getOrDefault(each, "")));
+        }
+        return result;
+    }
+    
+    private Map<String, BigDecimal> loadDistinctCounts(final Connection connection, final DataNode dataNode) throws SQLException {
+        Map<String, BigDecimal> result = new LinkedHashMap<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(MYSQL_COLUMN_DISTINCT_COUNT)) {
+            preparedStatement.setString(1, connection.getCatalog());
+            preparedStatement.setString(2, dataNode.getTableName());
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    BigDecimal distinctCount = resultSet.getBigDecimal("DISTINCT_COUNT");
+                    result.put(resultSet.getString("COLUMN_NAME"), null == distinctCount ? BigDecimal.ZERO : distinctCount);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, String> loadHistograms(final Connection connection, final DataNode dataNode) throws SQLException {
+        Map<String, String> result = new LinkedHashMap<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(MYSQL_COLUMN_HISTOGRAM)) {
+            preparedStatement.setString(1, connection.getCatalog());
+            preparedStatement.setString(2, dataNode.getTableName());
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    String columnName = resultSet.getString("COLUMN_NAME");
+                    convertHistogram(resultSet.getString("HISTOGRAM")).ifPresent(optional -> result.put(columnName, optional));
+                }
+            }
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Optional<String> convertHistogram(final String histogram) {
+        if (null == histogram) {
+            return Optional.empty();
+        }
+        Map<String, Object> histogramMap = JsonUtils.fromJsonString(histogram, Map.class);
+        if (!(histogramMap.get("buckets") instanceof List)) {
+            return Optional.empty();
+        }
+        List<List<Object>> buckets = (List<List<Object>>) histogramMap.get("buckets");
+        if (buckets.isEmpty()) {
+            return Optional.empty();
+        }
+        boolean equiHeight = "equi-height".equals(histogramMap.get("histogram-type"));
+        List<String> bounds = new ArrayList<>(buckets.size() + 1);
+        double[] cumulativeFrequencies = new double[equiHeight ? buckets.size() + 1 : buckets.size()];
+        int index = 0;
+        if (equiHeight) {
+            bounds.add(String.valueOf(buckets.get(0).get(0)));
+            cumulativeFrequencies[index++] = 0D;
+        }
+        for (List<Object> each : buckets) {
+            bounds.add(String.valueOf(each.get(equiHeight ? 1 : 0)));
+            cumulativeFrequencies[index++] = ((Number) each.get(equiHeight ? 2 : 1)).doubleValue();
+        }
+        return ColumnHistogramUtils.format(bounds, cumulativeFrequencies);
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
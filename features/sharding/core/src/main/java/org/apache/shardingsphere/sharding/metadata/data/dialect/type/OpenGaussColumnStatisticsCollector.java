@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata.data.dialect.type;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.sharding.metadata.data.dialect.DialectColumnStatisticsCollector;
+import org.apache.shardingsphere.sharding.metadata.data.dialect.ColumnHistogramUtils;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Column statistics table data collector of openGauss.
+ */
+public final class OpenGaussColumnStatisticsCollector implements DialectColumnStatisticsCollector {
+    
+    private static final String OPENGAUSS_COLUMN_STATISTICS = "SELECT S.ATTNAME AS COLUMN_NAME, CASE WHEN S.N_DISTINCT < 0 THEN -S.N_DISTINCT * C.RELTUPLES ELSE S.N_DISTINCT END AS DISTINCT_COUNT,"
+            + " CAST(S.HISTOGRAM_BOUNDS AS TEXT) AS HISTOGRAM_BOUNDS FROM PG_STATS S JOIN PG_NAMESPACE N ON N.NSPNAME = S.SCHEMANAME"
+            + " JOIN PG_CLASS C ON C.RELNAMESPACE = N.OID AND C.RELNAME = S.TABLENAME WHERE S.SCHEMANAME = ? AND S.TABLENAME = ?";
+    
+    @Override
+    public Collection<List<Object>> collect(final Connection connection, final DataNode dataNode) throws SQLException {
+        Collection<List<Object>> result = new LinkedList<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(OPENGAUSS_COLUMN_STATISTICS)) {
+            preparedStatement.setString(1, connection.getSchema());
+            preparedStatement.setString(2, dataNode.getTableName());
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    BigDecimal distinctCount = resultSet.getBigDecimal("DISTINCT_COUNT");
+                    String histogram = ColumnHistogramUtils.formatEquiDepthBounds(parseArrayText(resultSet.getString("HISTOGRAM_BOUNDS"))).orElse("");
+                    result.add(Arrays.asList(resultSet.getString("COLUMN_NAME"), null == distinctCount || distinctCount.signum() < 0 ? BigDecimal.ZERO : distinctCount, histogram));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private List<String> parseArrayText(final String arrayText) {
+        if (null == arrayText || arrayText.length() < 2) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(arrayText.substring(1, arrayText.length() - 1).split(","));
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "openGauss";
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.rule;
 
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
@@ -30,9 +31,10 @@ import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.instance.InstanceContextAware;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.identifier.scope.DatabaseRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.ChangedTableDetectableRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
-import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.TableNamesMapper;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
@@ -83,7 +85,7 @@ import java.util.stream.Collectors;
  * Sharding rule.
  */
 @Getter
-public final class ShardingRule implements DatabaseRule, DataNodeContainedRule, TableContainedRule {
+public final class ShardingRule implements DatabaseRule, DataNodeContainedRule, ChangedTableDetectableRule {
     
     private static final String ALGORITHM_EXPRESSION_KEY = "algorithm-expression";
     
@@ -119,13 +121,22 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
     
     private final TableNamesMapper actualTableMapper;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, String> actualDataNodesExpressions;
+    
     public ShardingRule(final ShardingRuleConfiguration ruleConfig, final Collection<String> dataSourceNames, final InstanceContext instanceContext) {
+        this(ruleConfig, dataSourceNames, instanceContext, null);
+    }
+    
+    public ShardingRule(final ShardingRuleConfiguration ruleConfig, final Collection<String> dataSourceNames, final InstanceContext instanceContext, final ShardingRule previousRule) {
         configuration = ruleConfig;
-        this.dataSourceNames = getDataSourceNames(ruleConfig.getTables(), ruleConfig.getAutoTables(), dataSourceNames);
+        actualDataNodesExpressions = createActualDataNodesExpressions(ruleConfig.getTables());
+        Map<String, List<String>> actualDataNodes = evaluateActualDataNodes(ruleConfig.getTables(), previousRule);
+        this.dataSourceNames = getDataSourceNames(ruleConfig.getTables(), ruleConfig.getAutoTables(), actualDataNodes, dataSourceNames);
         ruleConfig.getShardingAlgorithms().forEach((key, value) -> shardingAlgorithms.put(key, TypedSPILoader.getService(ShardingAlgorithm.class, value.getType(), value.getProps())));
         ruleConfig.getKeyGenerators().forEach((key, value) -> keyGenerators.put(key, TypedSPILoader.getService(KeyGenerateAlgorithm.class, value.getType(), value.getProps())));
         ruleConfig.getAuditors().forEach((key, value) -> auditors.put(key, TypedSPILoader.getService(ShardingAuditAlgorithm.class, value.getType(), value.getProps())));
-        tableRules.putAll(createTableRules(ruleConfig.getTables(), ruleConfig.getDefaultKeyGenerateStrategy()));
+        tableRules.putAll(createTableRules(ruleConfig.getTables(), actualDataNodes, ruleConfig.getDefaultKeyGenerateStrategy()));
         tableRules.putAll(createAutoTableRules(ruleConfig.getAutoTables(), ruleConfig.getDefaultKeyGenerateStrategy()));
         bindingTableRules.putAll(createBindingTableRules(ruleConfig.getBindingTableGroups()));
         defaultDatabaseShardingStrategyConfig = createDefaultDatabaseShardingStrategyConfig(ruleConfig);
@@ -148,6 +159,33 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         actualTableMapper = createActualTableMapper();
     }
     
+    private Map<String, String> createActualDataNodesExpressions(final Collection<ShardingTableRuleConfiguration> tableRuleConfigs) {
+        Map<String, String> result = new HashMap<>(tableRuleConfigs.size(), 1F);
+        tableRuleConfigs.forEach(each -> result.putIfAbsent(each.getLogicTable().toLowerCase(), each.getActualDataNodes()));
+        return result;
+    }
+    
+    private Map<String, List<String>> evaluateActualDataNodes(final Collection<ShardingTableRuleConfiguration> tableRuleConfigs, final ShardingRule previousRule) {
+        Map<String, List<String>> result = new HashMap<>(tableRuleConfigs.size(), 1F);
+        for (ShardingTableRuleConfiguration each : tableRuleConfigs) {
+            result.computeIfAbsent(each.getLogicTable().toLowerCase(),
+                    key -> findReusableActualDataNodes(each, previousRule).orElseGet(() -> InlineExpressionParserFactory.newInstance(each.getActualDataNodes()).splitAndEvaluate()));
+        }
+        return result;
+    }
+    
+    private Optional<List<String>> findReusableActualDataNodes(final ShardingTableRuleConfiguration tableRuleConfig, final ShardingRule previousRule) {
+        if (null == previousRule || Strings.isNullOrEmpty(tableRuleConfig.getActualDataNodes())) {
+            return Optional.empty();
+        }
+        String logicTable = tableRuleConfig.getLogicTable().toLowerCase();
+        TableRule previousTableRule = previousRule.tableRules.get(logicTable);
+        if (null == previousTableRule || !tableRuleConfig.getActualDataNodes().equals(previousRule.actualDataNodesExpressions.get(logicTable))) {
+            return Optional.empty();
+        }
+        return Optional.of(previousTableRule.getActualDataNodes().stream().map(DataNode::format).collect(Collectors.toList()));
+    }
+    
     private ShardingStrategyConfiguration createDefaultDatabaseShardingStrategyConfig(final ShardingRuleConfiguration ruleConfig) {
         Optional.ofNullable(ruleConfig.getDefaultDatabaseShardingStrategy()).ifPresent(optional -> checkManualShardingAlgorithm(optional.getShardingAlgorithmName(), "default"));
         return null == ruleConfig.getDefaultDatabaseShardingStrategy() ? new NoneShardingStrategyConfiguration() : ruleConfig.getDefaultDatabaseShardingStrategy();
@@ -182,8 +220,8 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         return result;
     }
     
-    private Collection<String> getDataSourceNames(final Collection<ShardingTableRuleConfiguration> tableRuleConfigs,
-                                                  final Collection<ShardingAutoTableRuleConfiguration> autoTableRuleConfigs, final Collection<String> dataSourceNames) {
+    private Collection<String> getDataSourceNames(final Collection<ShardingTableRuleConfiguration> tableRuleConfigs, final Collection<ShardingAutoTableRuleConfiguration> autoTableRuleConfigs,
+                                                  final Map<String, List<String>> actualDataNodes, final Collection<String> dataSourceNames) {
         if (tableRuleConfigs.isEmpty() && autoTableRuleConfigs.isEmpty()) {
             return dataSourceNames;
         }
@@ -191,7 +229,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
             return dataSourceNames;
         }
         Collection<String> result = new LinkedHashSet<>();
-        tableRuleConfigs.forEach(each -> result.addAll(getDataSourceNames(each)));
+        tableRuleConfigs.forEach(each -> result.addAll(getDataSourceNames(actualDataNodes.get(each.getLogicTable().toLowerCase()))));
         autoTableRuleConfigs.forEach(each -> result.addAll(getDataSourceNames(each)));
         return result;
     }
@@ -201,20 +239,21 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         return new HashSet<>(actualDataSources);
     }
     
-    private Collection<String> getDataSourceNames(final ShardingTableRuleConfiguration shardingTableRuleConfig) {
-        List<String> actualDataNodes = InlineExpressionParserFactory.newInstance(shardingTableRuleConfig.getActualDataNodes()).splitAndEvaluate();
+    private Collection<String> getDataSourceNames(final List<String> actualDataNodes) {
         return actualDataNodes.stream().map(each -> new DataNode(each).getDataSourceName()).collect(Collectors.toList());
     }
     
-    private Map<String, TableRule> createTableRules(final Collection<ShardingTableRuleConfiguration> tableRuleConfigs, final KeyGenerateStrategyConfiguration defaultKeyGenerateStrategyConfig) {
-        return tableRuleConfigs.stream().map(each -> createTableRule(each, defaultKeyGenerateStrategyConfig))
+    private Map<String, TableRule> createTableRules(final Collection<ShardingTableRuleConfiguration> tableRuleConfigs, final Map<String, List<String>> actualDataNodes,
+                                                    final KeyGenerateStrategyConfiguration defaultKeyGenerateStrategyConfig) {
+        return tableRuleConfigs.stream().map(each -> createTableRule(each, actualDataNodes.get(each.getLogicTable().toLowerCase()), defaultKeyGenerateStrategyConfig))
                 .collect(Collectors.toMap(each -> each.getLogicTable().toLowerCase(), Function.identity(), (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
     }
     
-    private TableRule createTableRule(final ShardingTableRuleConfiguration tableRuleConfig, final KeyGenerateStrategyConfiguration defaultKeyGenerateStrategyConfig) {
+    private TableRule createTableRule(final ShardingTableRuleConfiguration tableRuleConfig, final List<String> actualDataNodes,
+                                      final KeyGenerateStrategyConfiguration defaultKeyGenerateStrategyConfig) {
         Optional.ofNullable(tableRuleConfig.getDatabaseShardingStrategy()).ifPresent(optional -> checkManualShardingAlgorithm(optional.getShardingAlgorithmName(), tableRuleConfig.getLogicTable()));
         Optional.ofNullable(tableRuleConfig.getTableShardingStrategy()).ifPresent(optional -> checkManualShardingAlgorithm(optional.getShardingAlgorithmName(), tableRuleConfig.getLogicTable()));
-        return new TableRule(tableRuleConfig, dataSourceNames, getDefaultGenerateKeyColumn(defaultKeyGenerateStrategyConfig));
+        return new TableRule(tableRuleConfig, actualDataNodes, dataSourceNames, getDefaultGenerateKeyColumn(defaultKeyGenerateStrategyConfig));
     }
     
     private void checkManualShardingAlgorithm(final String shardingAlgorithmName, final String logicTable) {
@@ -735,6 +774,28 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         return actualDataNodes.stream().filter(each -> each.getDataSourceName().equalsIgnoreCase(catalog)).findFirst().map(DataNode::getTableName);
     }
     
+    @Override
+    public Collection<String> getChangedTableNames(final ShardingSphereRule previousRule) {
+        Map<String, TableRule> previousTableRules = previousRule instanceof ShardingRule ? ((ShardingRule) previousRule).tableRules : Collections.emptyMap();
+        Collection<String> result = new LinkedHashSet<>();
+        tableRules.forEach((key, value) -> {
+            if (!isSameTableMetaData(previousTableRules.get(key), value)) {
+                result.add(value.getLogicTable());
+            }
+        });
+        previousTableRules.forEach((key, value) -> {
+            if (!tableRules.containsKey(key)) {
+                result.add(value.getLogicTable());
+            }
+        });
+        return result;
+    }
+    
+    private boolean isSameTableMetaData(final TableRule previousTableRule, final TableRule tableRule) {
+        return null != previousTableRule && previousTableRule.getActualDataNodes().equals(tableRule.getActualDataNodes())
+                && previousTableRule.getGenerateKeyColumn().equals(tableRule.getGenerateKeyColumn());
+    }
+    
     private boolean isJoinConditionContainsShardingColumns(final ShardingSphereSchema schema, final SelectStatementContext select,
                                                            final Collection<String> tableNames, final Collection<WhereSegment> whereSegments) {
         Collection<String> databaseJoinConditionTables = new HashSet<>(tableNames.size(), 1F);
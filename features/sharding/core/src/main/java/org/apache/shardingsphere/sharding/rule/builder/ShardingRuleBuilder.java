@@ -40,7 +40,8 @@ public final class ShardingRuleBuilder implements DatabaseRuleBuilder<ShardingRu
     public ShardingRule build(final ShardingRuleConfiguration config, final String databaseName, final DatabaseType protocolType,
                               final Map<String, DataSource> dataSources, final Collection<ShardingSphereRule> builtRules, final InstanceContext instanceContext) {
         ShardingSpherePreconditions.checkState(null != dataSources && !dataSources.isEmpty(), () -> new MissingRequiredShardingConfigurationException("Data source", databaseName));
-        return new ShardingRule(config, dataSources.keySet(), instanceContext);
+        ShardingRule previousRule = builtRules.stream().filter(ShardingRule.class::isInstance).map(ShardingRule.class::cast).findFirst().orElse(null);
+        return new ShardingRule(config, dataSources.keySet(), instanceContext, previousRule);
     }
     
     @Override
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.colocation;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ComplexShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.HintShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.NoneShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.rule.BindingTableRule;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.colocation.TableColocation;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.colocation.TableColocationType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShardingTableColocationProviderTest {
+    
+    @Test
+    void assertFindTableColocationWithoutTableRule() {
+        assertFalse(new ShardingTableColocationProvider().findTableColocation("t_order", mock(ShardingRule.class)).isPresent());
+    }
+    
+    @Test
+    void assertFindTableColocationWithBindingTableRule() {
+        ShardingRule rule = mock(ShardingRule.class);
+        TableRule tableRule = mock(TableRule.class);
+        when(rule.findTableRule("t_order")).thenReturn(Optional.of(tableRule));
+        BindingTableRule bindingTableRule = mock(BindingTableRule.class);
+        when(bindingTableRule.getAllLogicTables()).thenReturn(Arrays.asList("t_order_item", "T_ORDER"));
+        when(rule.findBindingTableRule("t_order")).thenReturn(Optional.of(bindingTableRule));
+        when(rule.getDatabaseShardingStrategyConfiguration(tableRule)).thenReturn(new StandardShardingStrategyConfiguration("user_id", "database_inline"));
+        when(rule.getTableShardingStrategyConfiguration(tableRule)).thenReturn(new StandardShardingStrategyConfiguration("order_id", "table_inline"));
+        Optional<TableColocation> actual = new ShardingTableColocationProvider().findTableColocation("t_order", rule);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getType(), is(TableColocationType.SHARDING));
+        assertThat(actual.get().getColocationGroup(), is("t_order,t_order_item"));
+        assertThat(actual.get().getDatabaseShardingColumn(), is("user_id"));
+        assertThat(actual.get().getTableShardingColumn(), is("order_id"));
+    }
+    
+    @Test
+    void assertFindTableColocationWithDefaultShardingColumnAndSingleTablePerDataSource() {
+        ShardingRule rule = mock(ShardingRule.class);
+        TableRule tableRule = mock(TableRule.class);
+        when(tableRule.getActualDataSourceNames()).thenReturn(Arrays.asList("ds_0", "ds_1"));
+        when(tableRule.getActualDataNodes()).thenReturn(Arrays.asList(new DataNode("ds_0.t_order"), new DataNode("ds_1.t_order")));
+        when(rule.findTableRule("t_order")).thenReturn(Optional.of(tableRule));
+        when(rule.findBindingTableRule("t_order")).thenReturn(Optional.empty());
+        when(rule.getDefaultShardingColumn()).thenReturn("user_id");
+        when(rule.getDatabaseShardingStrategyConfiguration(tableRule)).thenReturn(new StandardShardingStrategyConfiguration(null, "database_inline"));
+        when(rule.getTableShardingStrategyConfiguration(tableRule)).thenReturn(new NoneShardingStrategyConfiguration());
+        Optional<TableColocation> actual = new ShardingTableColocationProvider().findTableColocation("t_order", rule);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getColocationGroup(), is("t_order"));
+        assertThat(actual.get().getDatabaseShardingColumn(), is("user_id"));
+        assertNull(actual.get().getTableShardingColumn());
+    }
+    
+    @Test
+    void assertFindTableColocationWithComplexShardingStrategy() {
+        ShardingRule rule = mock(ShardingRule.class);
+        TableRule tableRule = mock(TableRule.class);
+        when(rule.findTableRule("t_order")).thenReturn(Optional.of(tableRule));
+        when(rule.getDatabaseShardingStrategyConfiguration(tableRule)).thenReturn(new StandardShardingStrategyConfiguration("user_id", "database_inline"));
+        when(rule.getTableShardingStrategyConfiguration(tableRule)).thenReturn(new ComplexShardingStrategyConfiguration("user_id,order_id", "table_complex"));
+        assertFalse(new ShardingTableColocationProvider().findTableColocation("t_order", rule).isPresent());
+    }
+    
+    @Test
+    void assertFindTableColocationWithHintShardingStrategy() {
+        ShardingRule rule = mock(ShardingRule.class);
+        TableRule tableRule = mock(TableRule.class);
+        when(rule.findTableRule("t_order")).thenReturn(Optional.of(tableRule));
+        when(rule.getDatabaseShardingStrategyConfiguration(tableRule)).thenReturn(new HintShardingStrategyConfiguration("database_hint"));
+        when(rule.getTableShardingStrategyConfiguration(tableRule)).thenReturn(new StandardShardingStrategyConfiguration("order_id", "table_inline"));
+        assertFalse(new ShardingTableColocationProvider().findTableColocation("t_order", rule).isPresent());
+    }
+    
+    @Test
+    void assertFindTableColocationWithNoneShardingStrategyAndMultipleDataSources() {
+        ShardingRule rule = mock(ShardingRule.class);
+        TableRule tableRule = mock(TableRule.class);
+        when(tableRule.getActualDataSourceNames()).thenReturn(Arrays.asList("ds_0", "ds_1"));
+        when(rule.findTableRule("t_order")).thenReturn(Optional.of(tableRule));
+        when(rule.getDatabaseShardingStrategyConfiguration(tableRule)).thenReturn(new NoneShardingStrategyConfiguration());
+        when(rule.getTableShardingStrategyConfiguration(tableRule)).thenReturn(new StandardShardingStrategyConfiguration("order_id", "table_inline"));
+        assertFalse(new ShardingTableColocationProvider().findTableColocation("t_order", rule).isPresent());
+    }
+}
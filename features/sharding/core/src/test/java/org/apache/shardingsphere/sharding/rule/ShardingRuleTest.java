@@ -783,6 +783,47 @@ class ShardingRuleTest {
         assertThat(actualTableByCatalog.orElse(""), is("table_0"));
     }
     
+    @Test
+    void assertCreateWithPreviousRule() {
+        ShardingRule previousRule = createMinimumShardingRule();
+        ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
+        ruleConfig.getTables().add(createTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}"));
+        ruleConfig.getTables().add(createTableRuleConfiguration("NEW_TABLE", "ds_${0..1}.new_table_${0..1}"));
+        ShardingRule actual = new ShardingRule(ruleConfig, createDataSourceNames(), mock(InstanceContext.class), previousRule);
+        assertThat(actual.getTableRule("LOGIC_TABLE").getActualDataNodes(), is(previousRule.getTableRule("LOGIC_TABLE").getActualDataNodes()));
+        assertThat(actual.getTableRule("NEW_TABLE").getActualDataNodes().size(), is(4));
+        assertThat(actual.getDataSourceNames(), is(new LinkedHashSet<>(Arrays.asList("ds_0", "ds_1"))));
+        assertThat(actual.getChangedTableNames(previousRule), is(Collections.singleton("NEW_TABLE")));
+    }
+    
+    @Test
+    void assertGetChangedTableNamesWithAlteredActualDataNodes() {
+        ShardingRule previousRule = createMinimumShardingRule();
+        ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
+        ruleConfig.getTables().add(createTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..1}"));
+        ShardingRule actual = new ShardingRule(ruleConfig, createDataSourceNames(), mock(InstanceContext.class), previousRule);
+        assertThat(actual.getTableRule("LOGIC_TABLE").getActualDataNodes().size(), is(4));
+        assertThat(actual.getChangedTableNames(previousRule), is(Collections.singleton("LOGIC_TABLE")));
+    }
+    
+    @Test
+    void assertGetChangedTableNamesWithAlteredGenerateKeyColumn() {
+        ShardingRule previousRule = createMinimumShardingRule();
+        ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
+        ShardingTableRuleConfiguration tableRuleConfig = createTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}");
+        tableRuleConfig.setKeyGenerateStrategy(new KeyGenerateStrategyConfiguration("id", "uuid"));
+        ruleConfig.getTables().add(tableRuleConfig);
+        ruleConfig.getKeyGenerators().put("uuid", new AlgorithmConfiguration("UUID", new Properties()));
+        assertThat(new ShardingRule(ruleConfig, createDataSourceNames(), mock(InstanceContext.class), previousRule).getChangedTableNames(previousRule), is(Collections.singleton("LOGIC_TABLE")));
+    }
+    
+    @Test
+    void assertGetChangedTableNamesWithDroppedTable() {
+        ShardingRule previousRule = createMinimumShardingRule();
+        ShardingRule actual = new ShardingRule(new ShardingRuleConfiguration(), createDataSourceNames(), mock(InstanceContext.class), previousRule);
+        assertThat(actual.getChangedTableNames(previousRule), is(Collections.singleton("LOGIC_TABLE")));
+    }
+    
     @Test
     void assertIsSupportAutoIncrement() {
         assertFalse(createMaximumShardingRule().isSupportAutoIncrement("logic_table"));
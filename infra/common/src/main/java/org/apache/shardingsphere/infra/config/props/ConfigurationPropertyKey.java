@@ -64,6 +64,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     CHECK_TABLE_METADATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Whether load table metadata lazily when application startup.
+     */
+    LAZY_LOAD_TABLE_METADATA_ENABLED("lazy-load-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
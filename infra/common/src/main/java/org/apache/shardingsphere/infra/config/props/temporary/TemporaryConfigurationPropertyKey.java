@@ -40,7 +40,12 @@ public enum TemporaryConfigurationPropertyKey implements TypedPropertyKey {
     /**
      * System schema metadata enabled.
      */
-    SYSTEM_SCHEMA_METADATA_ENABLED("system-schema-metadata-enabled", String.valueOf(Boolean.TRUE), boolean.class, true);
+    SYSTEM_SCHEMA_METADATA_ENABLED("system-schema-metadata-enabled", String.valueOf(Boolean.TRUE), boolean.class, true),
+    
+    /**
+     * Meta data checksum validation enabled.
+     */
+    META_DATA_CHECKSUM_VALIDATION_ENABLED("meta-data-checksum-validation-enabled", String.valueOf(Boolean.FALSE), boolean.class, true);
     
     private final String key;
     
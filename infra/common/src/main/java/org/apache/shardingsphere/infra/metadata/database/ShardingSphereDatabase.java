@@ -88,10 +88,28 @@ public final class ShardingSphereDatabase {
      */
     public static ShardingSphereDatabase create(final String name, final DatabaseType protocolType, final Map<String, DatabaseType> storageTypes,
                                                 final DatabaseConfiguration databaseConfig, final ConfigurationProperties props, final InstanceContext instanceContext) throws SQLException {
+        return create(name, protocolType, storageTypes, databaseConfig, props, instanceContext, false);
+    }
+    
+    /**
+     * Create database meta data.
+     * 
+     * @param name database name
+     * @param protocolType database protocol type
+     * @param storageTypes storage types
+     * @param databaseConfig database configuration
+     * @param props configuration properties
+     * @param instanceContext instance context
+     * @param lazyLoadTables whether load table meta data lazily
+     * @return database meta data
+     * @throws SQLException SQL exception
+     */
+    public static ShardingSphereDatabase create(final String name, final DatabaseType protocolType, final Map<String, DatabaseType> storageTypes, final DatabaseConfiguration databaseConfig,
+                                                final ConfigurationProperties props, final InstanceContext instanceContext, final boolean lazyLoadTables) throws SQLException {
         Collection<ShardingSphereRule> databaseRules = DatabaseRulesBuilder.build(name, protocolType, databaseConfig, instanceContext);
-        Map<String, ShardingSphereSchema> schemas = new ConcurrentHashMap<>(GenericSchemaBuilder
-                .build(new GenericSchemaBuilderMaterial(protocolType, storageTypes, DataSourceStateManager.getInstance().getEnabledDataSources(name, databaseConfig), databaseRules,
-                        props, new DatabaseTypeRegistry(protocolType).getDefaultSchemaName(name))));
+        GenericSchemaBuilderMaterial material = new GenericSchemaBuilderMaterial(protocolType, storageTypes, DataSourceStateManager.getInstance().getEnabledDataSources(name, databaseConfig),
+                databaseRules, props, new DatabaseTypeRegistry(protocolType).getDefaultSchemaName(name));
+        Map<String, ShardingSphereSchema> schemas = new ConcurrentHashMap<>(lazyLoadTables ? GenericSchemaBuilder.buildLazily(material) : GenericSchemaBuilder.build(material));
         SystemSchemaBuilder.build(name, protocolType, props).forEach(schemas::putIfAbsent);
         return create(name, protocolType, databaseConfig, databaseRules, schemas);
     }
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.infra.metadata.database.schema.builder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.datanode.DataNodes;
 import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoader;
 import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoaderMaterial;
 import org.apache.shardingsphere.infra.database.core.metadata.data.model.ColumnMetaData;
@@ -42,6 +44,7 @@ import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
@@ -83,19 +86,62 @@ public final class GenericSchemaBuilder {
         return revise(result, material);
     }
     
+    /**
+     * Build generic schema with table meta data of default schema loaded lazily.
+     * 
+     * <p>Tables of other schemas are loaded eagerly.</p>
+     *
+     * @param material generic schema builder material
+     * @return generic schema map
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, ShardingSphereSchema> buildLazily(final GenericSchemaBuilderMaterial material) throws SQLException {
+        Collection<String> tableNames = getAllTableNames(material.getRules());
+        Collection<String> lazyTableNames = getLazyTableNames(tableNames, material);
+        Collection<String> eagerTableNames = tableNames.stream().filter(each -> !lazyTableNames.contains(each)).collect(Collectors.toList());
+        Map<String, ShardingSphereSchema> result = new ConcurrentHashMap<>(build(eagerTableNames, material));
+        String schemaName = material.getDefaultSchemaName().toLowerCase();
+        result.computeIfAbsent(schemaName, key -> new ShardingSphereSchema()).loadTablesLazily(new LazyTableMetaDataLoader(material, schemaName, lazyTableNames));
+        return result;
+    }
+    
+    private static Collection<String> getLazyTableNames(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) {
+        DataNodes dataNodes = new DataNodes(material.getRules());
+        return tableNames.stream().filter(each -> dataNodes.getDataNodes(each).stream()
+                .allMatch(dataNode -> null == dataNode.getSchemaName() || dataNode.getSchemaName().equalsIgnoreCase(material.getDefaultSchemaName()))).collect(Collectors.toSet());
+    }
+    
     private static Collection<String> getAllTableNames(final Collection<ShardingSphereRule> rules) {
         return rules.stream().filter(TableContainedRule.class::isInstance).flatMap(each -> ((TableContainedRule) each).getLogicTableMapper().getTableNames().stream()).collect(Collectors.toSet());
     }
     
     private static Map<String, SchemaMetaData> loadSchemas(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) throws SQLException {
         boolean checkMetaDataEnable = material.getProps().getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED);
-        Collection<MetaDataLoaderMaterial> materials = SchemaMetaDataUtils.getMetaDataLoaderMaterials(tableNames, material, checkMetaDataEnable);
+        Collection<MetaDataLoaderMaterial> materials = SchemaMetaDataUtils.getMetaDataLoaderMaterials(tableNames, material, checkMetaDataEnable && !isUniformedByChecksum(tableNames, material));
         if (materials.isEmpty()) {
             return Collections.emptyMap();
         }
         return MetaDataLoader.load(materials);
     }
     
+    private static boolean isUniformedByChecksum(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) throws SQLException {
+        Optional<Map<String, Map<String, String>>> checksums = MetaDataLoader.loadTableStructureChecksums(SchemaMetaDataUtils.getAllActualTableMetaDataLoaderMaterials(tableNames, material));
+        if (!checksums.isPresent()) {
+            return false;
+        }
+        DataNodes dataNodes = new DataNodes(material.getRules());
+        for (String each : tableNames) {
+            Collection<String> tableChecksums = new HashSet<>();
+            for (DataNode dataNode : dataNodes.getDataNodes(each)) {
+                tableChecksums.add(checksums.get().getOrDefault(dataNode.getDataSourceName(), Collections.emptyMap()).get(dataNode.getTableName()));
+            }
+            if (tableChecksums.size() > 1 || tableChecksums.contains(null)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     private static Map<String, SchemaMetaData> translate(final Map<String, SchemaMetaData> schemaMetaDataMap, final GenericSchemaBuilderMaterial material) {
         Collection<TableMetaData> tableMetaDataList = new LinkedList<>();
         for (DatabaseType each : material.getStorageTypes().values()) {
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.builder;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnknownSQLException;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Lazy table meta data loader.
+ * 
+ * <p>Tables are loaded on first reference, concurrent references of the same table share one load,
+ * and a low priority background thread loads the remaining tables in batches.</p>
+ */
+@Slf4j
+public final class LazyTableMetaDataLoader {
+    
+    private static final int BATCH_SIZE = 100;
+    
+    private static final ExecutorService EXECUTOR_SERVICE = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setPriority(Thread.MIN_PRIORITY).setNameFormat("ShardingSphere-LazyTableMetaDataLoader-%d").build());
+    
+    private final GenericSchemaBuilderMaterial material;
+    
+    private final String schemaName;
+    
+    private final Map<String, String> unloadedTableNames = new ConcurrentHashMap<>();
+    
+    private final Map<String, CompletableFuture<ShardingSphereTable>> loadingTables = new ConcurrentHashMap<>();
+    
+    @Getter
+    private final CompletableFuture<Void> completionFuture = new CompletableFuture<>();
+    
+    public LazyTableMetaDataLoader(final GenericSchemaBuilderMaterial material, final String schemaName, final Collection<String> tableNames) {
+        this.material = material;
+        this.schemaName = schemaName;
+        tableNames.forEach(each -> unloadedTableNames.put(each.toLowerCase(), each));
+        completeIfAllLoaded();
+    }
+    
+    /**
+     * Get unloaded table names.
+     *
+     * @return unloaded table names
+     */
+    public Collection<String> getUnloadedTableNames() {
+        return Collections.unmodifiableCollection(unloadedTableNames.values());
+    }
+    
+    /**
+     * Judge whether table is unloaded.
+     *
+     * @param lowerCaseTableName lower case table name
+     * @return table is unloaded or not
+     */
+    public boolean isUnloaded(final String lowerCaseTableName) {
+        return unloadedTableNames.containsKey(lowerCaseTableName);
+    }
+    
+    /**
+     * Mark table as loaded because it has been put or removed by others.
+     *
+     * @param lowerCaseTableName lower case table name
+     */
+    public void markLoaded(final String lowerCaseTableName) {
+        if (null != unloadedTableNames.remove(lowerCaseTableName)) {
+            completeIfAllLoaded();
+        }
+    }
+    
+    /**
+     * Load table on demand.
+     *
+     * @param schema schema which table belongs to
+     * @param lowerCaseTableName lower case table name
+     * @return loaded table, null if table does not exist
+     * @throws UnknownSQLException unknown SQL exception
+     */
+    public ShardingSphereTable load(final ShardingSphereSchema schema, final String lowerCaseTableName) {
+        CompletableFuture<ShardingSphereTable> future = new CompletableFuture<>();
+        CompletableFuture<ShardingSphereTable> loadingFuture = loadingTables.putIfAbsent(lowerCaseTableName, future);
+        if (null != loadingFuture) {
+            return loadingFuture.join();
+        }
+        try {
+            String tableName = unloadedTableNames.get(lowerCaseTableName);
+            ShardingSphereTable result = null == tableName ? schema.getTables().get(lowerCaseTableName) : putLoadedTable(schema, lowerCaseTableName, loadTable(tableName).orElse(null));
+            future.complete(result);
+            return result;
+        } catch (final SQLException ex) {
+            future.completeExceptionally(ex);
+            throw new UnknownSQLException(ex);
+        } finally {
+            loadingTables.remove(lowerCaseTableName);
+        }
+    }
+    
+    /**
+     * Load table meta data from storage units.
+     *
+     * @param tableName table name
+     * @return loaded table
+     * @throws SQLException SQL exception
+     */
+    public Optional<ShardingSphereTable> loadTable(final String tableName) throws SQLException {
+        return Optional.ofNullable(GenericSchemaBuilder.build(Collections.singleton(tableName), material).get(schemaName)).map(optional -> optional.getTable(tableName));
+    }
+    
+    /**
+     * Load remaining tables in background.
+     *
+     * @param schema schema which tables belong to
+     */
+    public void loadRemaining(final ShardingSphereSchema schema) {
+        if (!completionFuture.isDone()) {
+            EXECUTOR_SERVICE.execute(() -> Lists.partition(new ArrayList<>(unloadedTableNames.values()), BATCH_SIZE).forEach(each -> loadBatch(schema, each)));
+        }
+    }
+    
+    private void loadBatch(final ShardingSphereSchema schema, final List<String> tableNames) {
+        Collection<String> toBeLoadedTableNames = new ArrayList<>(tableNames.size());
+        for (String each : tableNames) {
+            if (isUnloaded(each.toLowerCase()) && !loadingTables.containsKey(each.toLowerCase())) {
+                toBeLoadedTableNames.add(each);
+            }
+        }
+        if (toBeLoadedTableNames.isEmpty()) {
+            return;
+        }
+        try {
+            ShardingSphereSchema loadedSchema = GenericSchemaBuilder.build(toBeLoadedTableNames, material).getOrDefault(schemaName, new ShardingSphereSchema());
+            for (String each : toBeLoadedTableNames) {
+                if (isUnloaded(each.toLowerCase())) {
+                    putLoadedTable(schema, each.toLowerCase(), loadedSchema.getTable(each));
+                }
+            }
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.warn("Load table meta data of schema: {} in background failed, tables will be loaded on first reference and schema meta data will not be persisted.", schemaName, ex);
+            completionFuture.completeExceptionally(ex);
+        }
+    }
+    
+    private ShardingSphereTable putLoadedTable(final ShardingSphereSchema schema, final String lowerCaseTableName, final ShardingSphereTable table) {
+        if (null == table) {
+            schema.getTables().remove(lowerCaseTableName);
+        } else {
+            schema.getTables().put(lowerCaseTableName, table);
+        }
+        markLoaded(lowerCaseTableName);
+        return table;
+    }
+    
+    private void completeIfAllLoaded() {
+        if (unloadedTableNames.isEmpty()) {
+            completionFuture.complete(null);
+        }
+    }
+}
@@ -17,13 +17,16 @@
 
 package org.apache.shardingsphere.infra.metadata.database.schema.model;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.LazyTableMetaDataLoader;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -36,6 +39,9 @@ public final class ShardingSphereSchema {
     
     private final Map<String, ShardingSphereView> views;
     
+    @Getter(AccessLevel.NONE)
+    private volatile LazyTableMetaDataLoader lazyTableMetaDataLoader;
+    
     @SuppressWarnings("CollectionWithoutInitialCapacity")
     public ShardingSphereSchema() {
         tables = new ConcurrentHashMap<>();
@@ -74,7 +80,9 @@ public final class ShardingSphereSchema {
      * @return table meta data
      */
     public ShardingSphereTable getTable(final String tableName) {
-        return tables.get(tableName.toLowerCase());
+        String lowerCaseTableName = tableName.toLowerCase();
+        LazyTableMetaDataLoader loader = lazyTableMetaDataLoader;
+        return null != loader && loader.isUnloaded(lowerCaseTableName) ? loader.load(this, lowerCaseTableName) : tables.get(lowerCaseTableName);
     }
     
     /**
@@ -95,6 +103,7 @@ public final class ShardingSphereSchema {
      */
     public void putTable(final String tableName, final ShardingSphereTable table) {
         tables.put(tableName.toLowerCase(), table);
+        markTableLoaded(tableName);
     }
     
     /**
@@ -125,6 +134,14 @@ public final class ShardingSphereSchema {
      */
     public void removeTable(final String tableName) {
         tables.remove(tableName.toLowerCase());
+        markTableLoaded(tableName);
+    }
+    
+    private void markTableLoaded(final String tableName) {
+        LazyTableMetaDataLoader loader = lazyTableMetaDataLoader;
+        if (null != loader) {
+            loader.markLoaded(tableName.toLowerCase());
+        }
     }
     
     /**
@@ -143,7 +160,9 @@ public final class ShardingSphereSchema {
      * @return contains table from table meta data or not
      */
     public boolean containsTable(final String tableName) {
-        return tables.containsKey(tableName.toLowerCase());
+        String lowerCaseTableName = tableName.toLowerCase();
+        LazyTableMetaDataLoader loader = lazyTableMetaDataLoader;
+        return null != loader && loader.isUnloaded(lowerCaseTableName) ? null != loader.load(this, lowerCaseTableName) : tables.containsKey(lowerCaseTableName);
     }
     
     /**
@@ -197,4 +216,26 @@ public final class ShardingSphereSchema {
     public List<String> getVisibleColumnNames(final String tableName) {
         return containsTable(tableName) ? getTable(tableName).getVisibleColumns() : Collections.emptyList();
     }
+    
+    /**
+     * Load tables lazily.
+     * 
+     * <p>Unloaded tables are not enumerated by tables until they are referenced or loaded by background loader.</p>
+     *
+     * @param loader lazy table meta data loader
+     */
+    public void loadTablesLazily(final LazyTableMetaDataLoader loader) {
+        lazyTableMetaDataLoader = loader;
+        loader.getCompletionFuture().thenRun(() -> lazyTableMetaDataLoader = null);
+        loader.loadRemaining(this);
+    }
+    
+    /**
+     * Find lazy table meta data loader which has unloaded tables.
+     *
+     * @return lazy table meta data loader
+     */
+    public Optional<LazyTableMetaDataLoader> findLazyTableMetaDataLoader() {
+        return Optional.ofNullable(lazyTableMetaDataLoader);
+    }
 }
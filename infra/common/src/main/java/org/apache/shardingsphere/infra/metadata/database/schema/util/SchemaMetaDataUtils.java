@@ -53,6 +53,22 @@ public final class SchemaMetaDataUtils {
      */
     public static Collection<MetaDataLoaderMaterial> getMetaDataLoaderMaterials(final Collection<String> tableNames,
                                                                                 final GenericSchemaBuilderMaterial material, final boolean checkMetaDataEnable) {
+        return getDataSourceMetaDataLoaderMaterials(tableNames, material, checkMetaDataEnable).values();
+    }
+    
+    /**
+     * Get meta data loader materials of all actual tables.
+     *
+     * @param tableNames table name collection
+     * @param material material
+     * @return meta data loader materials, key is data source name
+     */
+    public static Map<String, MetaDataLoaderMaterial> getAllActualTableMetaDataLoaderMaterials(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) {
+        return getDataSourceMetaDataLoaderMaterials(tableNames, material, true);
+    }
+    
+    private static Map<String, MetaDataLoaderMaterial> getDataSourceMetaDataLoaderMaterials(final Collection<String> tableNames,
+                                                                                            final GenericSchemaBuilderMaterial material, final boolean checkMetaDataEnable) {
         Map<String, Collection<String>> dataSourceTableGroups = new LinkedHashMap<>();
         Collection<DatabaseType> unsupportedThreeTierStorageStructureDatabaseTypes = getUnsupportedThreeTierStorageStructureDatabaseTypes(material.getStorageTypes().values());
         DataNodes dataNodes = new DataNodes(material.getRules());
@@ -64,11 +80,11 @@ public final class SchemaMetaDataUtils {
                 addOneActualTableDataNode(material, dataSourceTableGroups, dataNodes, each);
             }
         }
-        Collection<MetaDataLoaderMaterial> result = new LinkedList<>();
+        Map<String, MetaDataLoaderMaterial> result = new LinkedHashMap<>(dataSourceTableGroups.size(), 1F);
         for (Entry<String, Collection<String>> entry : dataSourceTableGroups.entrySet()) {
             DatabaseType storageType = material.getStorageTypes().get(entry.getKey());
             String defaultSchemaName = getDefaultSchemaNameByStorageType(storageType, material.getDefaultSchemaName());
-            result.add(new MetaDataLoaderMaterial(entry.getValue(), getDataSource(material, entry.getKey()), storageType, defaultSchemaName));
+            result.put(entry.getKey(), new MetaDataLoaderMaterial(entry.getValue(), getDataSource(material, entry.getKey()), storageType, defaultSchemaName));
         }
         return result;
     }
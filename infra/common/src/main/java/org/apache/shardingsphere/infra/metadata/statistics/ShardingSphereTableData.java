@@ -23,7 +23,7 @@ import lombok.RequiredArgsConstructor;
 
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
  * ShardingSphere table data.
@@ -35,5 +35,5 @@ public final class ShardingSphereTableData {
     
     private final String name;
     
-    private final Collection<ShardingSphereRowData> rows = new TreeSet<>(Comparator.comparing(ShardingSphereRowData::getUniqueKey));
+    private final Collection<ShardingSphereRowData> rows = new ConcurrentSkipListSet<>(Comparator.comparing(ShardingSphereRowData::getUniqueKey));
 }
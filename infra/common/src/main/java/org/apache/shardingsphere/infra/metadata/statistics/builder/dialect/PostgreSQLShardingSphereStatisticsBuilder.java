@@ -52,7 +52,7 @@ public final class PostgreSQLShardingSphereStatisticsBuilder implements Sharding
     private final SystemDatabase systemDatabase = new SystemDatabase(TypedSPILoader.getService(DatabaseType.class, "PostgreSQL"));
     
     static {
-        COLLECTED_SCHEMA_TABLES.put("shardingsphere", Collections.singletonList("sharding_table_statistics"));
+        COLLECTED_SCHEMA_TABLES.put("shardingsphere", Arrays.asList("sharding_table_statistics", "sharding_column_statistics"));
         COLLECTED_SCHEMA_TABLES.put("pg_catalog", Arrays.asList("pg_class", "pg_namespace"));
         INIT_DATA_SCHEMA_TABLES.put("shardingsphere", Collections.singletonList("cluster_information"));
     }
@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rule.identifier.type;
+
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+
+import java.util.Collection;
+
+/**
+ * ShardingSphere rule which can detect tables whose meta data are changed by rule rebuilding.
+ */
+public interface ChangedTableDetectableRule extends TableContainedRule {
+    
+    /**
+     * Get changed table names compared with previous rule.
+     *
+     * @param previousRule previous rule which is replaced by current rule
+     * @return changed table names, which include added, dropped and altered tables
+     */
+    Collection<String> getChangedTableNames(ShardingSphereRule previousRule);
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.metadata.database.schema.builder;
 
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoader;
 import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaMetaData;
@@ -30,6 +31,8 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
 import org.apache.shardingsphere.test.mock.AutoMockExtension;
 import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,6 +42,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.stream.Collectors;
 
@@ -86,6 +90,17 @@ class GenericSchemaBuilderTest {
         assertTables(new ShardingSphereSchema(actual.values().iterator().next().getTables(), Collections.emptyMap()).getTables());
     }
     
+    @Test
+    void assertLoadWithCheckTableMetaDataEnabledAndUniformedChecksums() throws SQLException {
+        GenericSchemaBuilderMaterial checkedMaterial = new GenericSchemaBuilderMaterial(material.getProtocolType(), material.getStorageTypes(), material.getDataSourceMap(), material.getRules(),
+                new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED.getKey(), Boolean.TRUE.toString()))),
+                material.getDefaultSchemaName());
+        Collection<String> tableNames = Collections.singletonList("data_node_routed_table1");
+        when(MetaDataLoader.loadTableStructureChecksums(any())).thenReturn(Optional.of(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, Collections.emptyMap())));
+        when(MetaDataLoader.load(any())).thenReturn(createSchemaMetaDataMap(tableNames, checkedMaterial));
+        assertFalse(GenericSchemaBuilder.build(tableNames, checkedMaterial).get(DefaultDatabase.LOGIC_NAME).getTables().isEmpty());
+    }
+    
     private Map<String, SchemaMetaData> createSchemaMetaDataMap(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) {
         if (!tableNames.isEmpty() && (tableNames.contains("data_node_routed_table1") || tableNames.contains("data_node_routed_table2"))) {
             Collection<TableMetaData> tableMetaDataList = tableNames.stream()
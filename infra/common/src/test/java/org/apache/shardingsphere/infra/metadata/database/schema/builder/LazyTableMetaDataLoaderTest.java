@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.builder;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoader;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.TableMetaData;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.fixture.rule.TableContainedFixtureRule;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(MetaDataLoader.class)
+class LazyTableMetaDataLoaderTest {
+    
+    private GenericSchemaBuilderMaterial material;
+    
+    @BeforeEach
+    void setUp() {
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+        material = new GenericSchemaBuilderMaterial(databaseType, Collections.singletonMap(DefaultDatabase.LOGIC_NAME, databaseType),
+                Collections.singletonMap(DefaultDatabase.LOGIC_NAME, new MockedDataSource()),
+                Collections.singleton(new TableContainedFixtureRule()), new ConfigurationProperties(new Properties()), DefaultDatabase.LOGIC_NAME);
+    }
+    
+    @Test
+    void assertLoadExistedTable() throws SQLException {
+        when(MetaDataLoader.load(any())).thenReturn(createSchemaMetaDataMap("data_node_routed_table1"));
+        LazyTableMetaDataLoader loader = new LazyTableMetaDataLoader(material, DefaultDatabase.LOGIC_NAME, Arrays.asList("data_node_routed_table1", "data_node_routed_table2"));
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        ShardingSphereTable actual = loader.load(schema, "data_node_routed_table1");
+        assertThat(actual.getName(), is("data_node_routed_table1"));
+        assertThat(schema.getTable("data_node_routed_table1"), is(actual));
+        assertFalse(loader.isUnloaded("data_node_routed_table1"));
+        assertTrue(loader.isUnloaded("data_node_routed_table2"));
+        assertFalse(loader.getCompletionFuture().isDone());
+    }
+    
+    @Test
+    void assertLoadNotExistedTable() throws SQLException {
+        when(MetaDataLoader.load(any())).thenReturn(Collections.emptyMap());
+        LazyTableMetaDataLoader loader = new LazyTableMetaDataLoader(material, DefaultDatabase.LOGIC_NAME, Collections.singleton("invalid_table"));
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        schema.getTables().put("invalid_table", new ShardingSphereTable("invalid_table", Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        assertNull(loader.load(schema, "invalid_table"));
+        assertFalse(schema.getTables().containsKey("invalid_table"));
+        assertTrue(loader.getCompletionFuture().isDone());
+    }
+    
+    @Test
+    void assertMarkLoaded() {
+        LazyTableMetaDataLoader loader = new LazyTableMetaDataLoader(material, DefaultDatabase.LOGIC_NAME, Collections.singleton("Foo_Tbl"));
+        assertThat(loader.getUnloadedTableNames().iterator().next(), is("Foo_Tbl"));
+        loader.markLoaded("foo_tbl");
+        assertTrue(loader.getUnloadedTableNames().isEmpty());
+        assertTrue(loader.getCompletionFuture().isDone());
+    }
+    
+    @Test
+    void assertCompleteWithoutTables() {
+        assertTrue(new LazyTableMetaDataLoader(material, DefaultDatabase.LOGIC_NAME, Collections.emptyList()).getCompletionFuture().isDone());
+    }
+    
+    private Map<String, SchemaMetaData> createSchemaMetaDataMap(final String tableName) {
+        return Collections.singletonMap(DefaultDatabase.LOGIC_NAME,
+                new SchemaMetaData(DefaultDatabase.LOGIC_NAME, Collections.singleton(new TableMetaData(tableName, Collections.emptyList(), Collections.emptyList(), Collections.emptyList()))));
+    }
+}
@@ -64,7 +64,7 @@ class SystemSchemaBuilderTest {
         assertTrue(actual.containsKey("shardingsphere"));
         assertThat(actual.get("information_schema").getTables().size(), is(69));
         assertThat(actual.get("pg_catalog").getTables().size(), is(134));
-        assertThat(actual.get("shardingsphere").getTables().size(), is(2));
+        assertThat(actual.get("shardingsphere").getTables().size(), is(3));
     }
     
     @Test
@@ -76,6 +76,6 @@ class SystemSchemaBuilderTest {
         assertTrue(actual.containsKey("shardingsphere"));
         assertThat(actual.get("information_schema").getTables().size(), is(66));
         assertThat(actual.get("pg_catalog").getTables().size(), is(240));
-        assertThat(actual.get("shardingsphere").getTables().size(), is(2));
+        assertThat(actual.get("shardingsphere").getTables().size(), is(3));
     }
 }
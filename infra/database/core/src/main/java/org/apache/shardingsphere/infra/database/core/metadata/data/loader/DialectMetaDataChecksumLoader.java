@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.core.metadata.data.loader;
+
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPI;
+import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Dialect meta data checksum loader.
+ */
+@SingletonSPI
+public interface DialectMetaDataChecksumLoader extends DatabaseTypedSPI {
+    
+    /**
+     * Load checksums of schema meta data.
+     * 
+     * <p>The checksum only needs to change when tables, columns or indexes of the schema change, it is used to decide whether persisted meta data is stale.</p>
+     *
+     * @param dataSource data source
+     * @return schema name and checksum map, empty if checksum can not be calculated
+     * @throws SQLException SQL exception
+     */
+    Map<String, String> load(DataSource dataSource) throws SQLException;
+    
+    /**
+     * Load structure checksums of tables.
+     * 
+     * <p>Tables with identical columns and indexes must have identical checksums, so that actual tables of one logic table can be compared without loading their meta data.</p>
+     *
+     * @param material meta data loader material
+     * @return actual table name and checksum map, empty if checksum of tables is not supported
+     * @throws SQLException SQL exception
+     */
+    default Optional<Map<String, String>> loadTableChecksums(final MetaDataLoaderMaterial material) throws SQLException {
+        return Optional.empty();
+    }
+}
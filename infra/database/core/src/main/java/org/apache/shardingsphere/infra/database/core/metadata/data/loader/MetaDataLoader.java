@@ -33,6 +33,7 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -91,6 +92,52 @@ public final class MetaDataLoader {
         return loadByDefault(material);
     }
     
+    /**
+     * Load table structure checksums.
+     *
+     * @param materials meta data loader materials, key is data source name
+     * @return table structure checksums, key is data source name, empty if any storage type does not support checksum
+     * @throws SQLException SQL exception
+     */
+    public static Optional<Map<String, Map<String, String>>> loadTableStructureChecksums(final Map<String, MetaDataLoaderMaterial> materials) throws SQLException {
+        Map<String, Future<Optional<Map<String, String>>>> futures = new LinkedHashMap<>(materials.size(), 1F);
+        for (Entry<String, MetaDataLoaderMaterial> entry : materials.entrySet()) {
+            futures.put(entry.getKey(), EXECUTOR_SERVICE.submit(() -> loadTableStructureChecksums(entry.getValue())));
+        }
+        Map<String, Map<String, String>> result = new LinkedHashMap<>(materials.size(), 1F);
+        try {
+            for (Entry<String, Future<Optional<Map<String, String>>>> entry : futures.entrySet()) {
+                Optional<Map<String, String>> checksums = entry.getValue().get();
+                if (!checksums.isPresent()) {
+                    return Optional.empty();
+                }
+                result.put(entry.getKey(), checksums.get());
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw new UnknownSQLException(ex).toSQLException();
+        }
+        return Optional.of(result);
+    }
+    
+    private static Optional<Map<String, String>> loadTableStructureChecksums(final MetaDataLoaderMaterial material) {
+        Optional<DialectMetaDataChecksumLoader> checksumLoader = DatabaseTypedSPILoader.findService(DialectMetaDataChecksumLoader.class, material.getStorageType());
+        if (!checksumLoader.isPresent()) {
+            return Optional.empty();
+        }
+        try {
+            return checksumLoader.get().loadTableChecksums(material);
+        } catch (final SQLException ex) {
+            log.debug("Dialect load table structure checksums error.", ex);
+            return Optional.empty();
+        }
+    }
+    
     private static Collection<SchemaMetaData> loadByDefault(final MetaDataLoaderMaterial material) throws SQLException {
         Collection<TableMetaData> tableMetaData = new LinkedList<>();
         for (String each : material.getActualTableNames()) {
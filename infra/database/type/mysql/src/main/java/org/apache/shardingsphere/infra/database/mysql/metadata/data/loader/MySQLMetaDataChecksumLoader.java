@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.mysql.metadata.data.loader;
+
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.infra.database.core.GlobalDataSourceRegistry;
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.DialectMetaDataChecksumLoader;
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoaderMaterial;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Meta data checksum loader for MySQL.
+ */
+public final class MySQLMetaDataChecksumLoader implements DialectMetaDataChecksumLoader {
+    
+    private static final String COLUMN_CHECKSUM_SQL = "SELECT COUNT(*), COALESCE(SUM(CRC32(CONCAT_WS(',', TABLE_NAME, COLUMN_NAME, ORDINAL_POSITION, COLUMN_TYPE, IS_NULLABLE, COLUMN_KEY, EXTRA, "
+            + "COLLATION_NAME))), 0) FROM information_schema.columns WHERE TABLE_SCHEMA=?";
+    
+    private static final String INDEX_CHECKSUM_SQL = "SELECT COUNT(*), COALESCE(SUM(CRC32(CONCAT_WS(',', TABLE_NAME, INDEX_NAME, NON_UNIQUE, SEQ_IN_INDEX, COLUMN_NAME))), 0) "
+            + "FROM information_schema.statistics WHERE TABLE_SCHEMA=?";
+    
+    private static final String TABLE_COLUMN_CHECKSUM_SQL = "SELECT TABLE_NAME, COUNT(*), COALESCE(SUM(CRC32(CONCAT_WS(',', COLUMN_NAME, ORDINAL_POSITION, COLUMN_TYPE, IS_NULLABLE, "
+            + "COLUMN_KEY, EXTRA, IFNULL(COLLATION_NAME, '')))), 0) FROM information_schema.columns WHERE TABLE_SCHEMA=? AND TABLE_NAME IN (%s) GROUP BY TABLE_NAME";
+    
+    private static final String TABLE_INDEX_CHECKSUM_SQL = "SELECT TABLE_NAME, COUNT(*), COALESCE(SUM(CRC32(CONCAT_WS(',', "
+            + "IF(RIGHT(INDEX_NAME, CHAR_LENGTH(TABLE_NAME) + 1) = CONCAT('_', TABLE_NAME), LEFT(INDEX_NAME, CHAR_LENGTH(INDEX_NAME) - CHAR_LENGTH(TABLE_NAME) - 1), INDEX_NAME), "
+            + "NON_UNIQUE, SEQ_IN_INDEX, COLUMN_NAME))), 0) FROM information_schema.statistics WHERE TABLE_SCHEMA=? AND TABLE_NAME IN (%s) GROUP BY TABLE_NAME";
+    
+    @Override
+    public Map<String, String> load(final DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            String schemaName = connection.getCatalog();
+            if (Strings.isNullOrEmpty(schemaName)) {
+                return Collections.emptyMap();
+            }
+            return Collections.singletonMap(schemaName, loadChecksum(connection, COLUMN_CHECKSUM_SQL, schemaName) + ":" + loadChecksum(connection, INDEX_CHECKSUM_SQL, schemaName));
+        }
+    }
+    
+    private String loadChecksum(final Connection connection, final String sql, final String schemaName) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            preparedStatement.setString(1, schemaName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() ? resultSet.getLong(1) + "-" + resultSet.getString(2) : "";
+            }
+        }
+    }
+    
+    @Override
+    public Optional<Map<String, String>> loadTableChecksums(final MetaDataLoaderMaterial material) throws SQLException {
+        Collection<String> tableNames = material.getActualTableNames();
+        if (tableNames.isEmpty()) {
+            return Optional.of(Collections.emptyMap());
+        }
+        try (Connection connection = material.getDataSource().getConnection()) {
+            String schemaName = Strings.isNullOrEmpty(connection.getCatalog())
+                    ? GlobalDataSourceRegistry.getInstance().getCachedDatabaseTables().get(tableNames.iterator().next())
+                    : connection.getCatalog();
+            if (Strings.isNullOrEmpty(schemaName)) {
+                return Optional.empty();
+            }
+            Map<String, String> columnChecksums = loadTableChecksums(connection, TABLE_COLUMN_CHECKSUM_SQL, schemaName, tableNames);
+            Map<String, String> indexChecksums = loadTableChecksums(connection, TABLE_INDEX_CHECKSUM_SQL, schemaName, tableNames);
+            Map<String, String> result = new HashMap<>(columnChecksums.size(), 1F);
+            columnChecksums.forEach((key, value) -> result.put(key, value + ":" + indexChecksums.getOrDefault(key, "")));
+            return Optional.of(result);
+        }
+    }
+    
+    private Map<String, String> loadTableChecksums(final Connection connection, final String sql, final String schemaName, final Collection<String> tableNames) throws SQLException {
+        Map<String, String> result = new HashMap<>(tableNames.size(), 1F);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format(sql, String.join(",", Collections.nCopies(tableNames.size(), "?"))))) {
+            preparedStatement.setString(1, schemaName);
+            int parameterIndex = 2;
+            for (String each : tableNames) {
+                preparedStatement.setString(parameterIndex++, each);
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.put(resultSet.getString(1), resultSet.getLong(2) + "-" + resultSet.getString(3));
+                }
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.mysql.metadata.data.loader;
+
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.DialectMetaDataChecksumLoader;
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoaderMaterial;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MySQLMetaDataChecksumLoaderTest {
+    
+    private final DialectMetaDataChecksumLoader loader = DatabaseTypedSPILoader.getService(DialectMetaDataChecksumLoader.class, TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+    
+    @Test
+    void assertLoad() throws SQLException {
+        DataSource dataSource = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        when(dataSource.getConnection().getCatalog()).thenReturn("foo_db");
+        ResultSet columnResultSet = mockChecksumResultSet(3L, "123");
+        when(dataSource.getConnection().prepareStatement("SELECT COUNT(*), COALESCE(SUM(CRC32(CONCAT_WS(',', TABLE_NAME, COLUMN_NAME, ORDINAL_POSITION, COLUMN_TYPE, IS_NULLABLE, COLUMN_KEY, EXTRA, "
+                + "COLLATION_NAME))), 0) FROM information_schema.columns WHERE TABLE_SCHEMA=?").executeQuery()).thenReturn(columnResultSet);
+        ResultSet indexResultSet = mockChecksumResultSet(1L, "456");
+        when(dataSource.getConnection().prepareStatement("SELECT COUNT(*), COALESCE(SUM(CRC32(CONCAT_WS(',', TABLE_NAME, INDEX_NAME, NON_UNIQUE, SEQ_IN_INDEX, COLUMN_NAME))), 0) "
+                + "FROM information_schema.statistics WHERE TABLE_SCHEMA=?").executeQuery()).thenReturn(indexResultSet);
+        assertThat(loader.load(dataSource), is(Collections.singletonMap("foo_db", "3-123:1-456")));
+    }
+    
+    @Test
+    void assertLoadWithoutCatalog() throws SQLException {
+        DataSource dataSource = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        when(dataSource.getConnection().getCatalog()).thenReturn("");
+        assertTrue(loader.load(dataSource).isEmpty());
+    }
+    
+    @Test
+    void assertLoadTableChecksums() throws SQLException {
+        DataSource dataSource = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        when(dataSource.getConnection().getCatalog()).thenReturn("foo_db");
+        ResultSet columnResultSet = mockTableChecksumResultSet(3L, "123");
+        PreparedStatement columnPreparedStatement = mock(PreparedStatement.class);
+        when(dataSource.getConnection().prepareStatement("SELECT TABLE_NAME, COUNT(*), COALESCE(SUM(CRC32(CONCAT_WS(',', COLUMN_NAME, ORDINAL_POSITION, COLUMN_TYPE, IS_NULLABLE, "
+                + "COLUMN_KEY, EXTRA, IFNULL(COLLATION_NAME, '')))), 0) FROM information_schema.columns WHERE TABLE_SCHEMA=? AND TABLE_NAME IN (?,?) GROUP BY TABLE_NAME"))
+                .thenReturn(columnPreparedStatement);
+        when(columnPreparedStatement.executeQuery()).thenReturn(columnResultSet);
+        ResultSet indexResultSet = mockTableChecksumResultSet(1L, "456");
+        when(dataSource.getConnection().prepareStatement("SELECT TABLE_NAME, COUNT(*), COALESCE(SUM(CRC32(CONCAT_WS(',', "
+                + "IF(RIGHT(INDEX_NAME, CHAR_LENGTH(TABLE_NAME) + 1) = CONCAT('_', TABLE_NAME), LEFT(INDEX_NAME, CHAR_LENGTH(INDEX_NAME) - CHAR_LENGTH(TABLE_NAME) - 1), INDEX_NAME), "
+                + "NON_UNIQUE, SEQ_IN_INDEX, COLUMN_NAME))), 0) FROM information_schema.statistics WHERE TABLE_SCHEMA=? AND TABLE_NAME IN (?,?) GROUP BY TABLE_NAME").executeQuery())
+                .thenReturn(indexResultSet);
+        MetaDataLoaderMaterial material = new MetaDataLoaderMaterial(Arrays.asList("t_order_0", "t_order_1"), dataSource, TypedSPILoader.getService(DatabaseType.class, "MySQL"), "foo_db");
+        Map<String, String> actual = loader.loadTableChecksums(material).orElseThrow(IllegalStateException::new);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("t_order_0"), is("3-123:1-456"));
+        assertThat(actual.get("t_order_1"), is("3-123:1-456"));
+        verify(columnPreparedStatement).setString(1, "foo_db");
+        verify(columnPreparedStatement).setString(2, "t_order_0");
+        verify(columnPreparedStatement).setString(3, "t_order_1");
+    }
+    
+    private ResultSet mockTableChecksumResultSet(final long count, final String checksum) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, true, false);
+        when(result.getString(1)).thenReturn("t_order_0", "t_order_1");
+        when(result.getLong(2)).thenReturn(count);
+        when(result.getString(3)).thenReturn(checksum);
+        return result;
+    }
+    
+    private ResultSet mockChecksumResultSet(final long count, final String checksum) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, false);
+        when(result.getLong(1)).thenReturn(count);
+        when(result.getString(2)).thenReturn(checksum);
+        return result;
+    }
+}
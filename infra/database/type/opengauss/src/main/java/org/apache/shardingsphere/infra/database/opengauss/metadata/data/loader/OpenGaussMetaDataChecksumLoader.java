@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.opengauss.metadata.data.loader;
+
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.DialectMetaDataChecksumLoader;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Meta data checksum loader for openGauss.
+ */
+public final class OpenGaussMetaDataChecksumLoader implements DialectMetaDataChecksumLoader {
+    
+    private static final String COLUMN_CHECKSUM_SQL = "SELECT table_schema, COUNT(*), COALESCE(SUM(('x' || SUBSTR(MD5(CONCAT_WS(',', table_name, column_name, ordinal_position, udt_name, "
+            + "is_nullable, column_default)), 1, 8))::BIT(32)::BIGINT), 0) FROM information_schema.columns WHERE table_schema NOT IN ('information_schema', 'pg_catalog') GROUP BY table_schema";
+    
+    private static final String INDEX_CHECKSUM_SQL = "SELECT schemaname, COUNT(*), COALESCE(SUM(('x' || SUBSTR(MD5(CONCAT_WS(',', tablename, indexname, indexdef)), 1, 8))::BIT(32)::BIGINT), 0) "
+            + "FROM pg_indexes WHERE schemaname NOT IN ('information_schema', 'pg_catalog') GROUP BY schemaname";
+    
+    @Override
+    public Map<String, String> load(final DataSource dataSource) throws SQLException {
+        Map<String, String> result = new TreeMap<>();
+        try (Connection connection = dataSource.getConnection()) {
+            Map<String, String> columnChecksums = loadChecksums(connection, COLUMN_CHECKSUM_SQL);
+            Map<String, String> indexChecksums = loadChecksums(connection, INDEX_CHECKSUM_SQL);
+            columnChecksums.forEach((key, value) -> result.put(key, value + ":" + indexChecksums.getOrDefault(key, "")));
+        }
+        return result;
+    }
+    
+    private Map<String, String> loadChecksums(final Connection connection, final String sql) throws SQLException {
+        Map<String, String> result = new TreeMap<>();
+        try (
+                PreparedStatement preparedStatement = connection.prepareStatement(sql);
+                ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                result.put(resultSet.getString(1), resultSet.getLong(2) + "-" + resultSet.getString(3));
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "openGauss";
+    }
+}
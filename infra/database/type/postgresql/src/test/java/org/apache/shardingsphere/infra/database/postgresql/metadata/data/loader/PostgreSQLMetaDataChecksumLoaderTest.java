@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.postgresql.metadata.data.loader;
+
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.DialectMetaDataChecksumLoader;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostgreSQLMetaDataChecksumLoaderTest {
+    
+    private final DialectMetaDataChecksumLoader loader = DatabaseTypedSPILoader.getService(DialectMetaDataChecksumLoader.class, TypedSPILoader.getService(DatabaseType.class, "PostgreSQL"));
+    
+    @Test
+    void assertLoad() throws SQLException {
+        DataSource dataSource = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        ResultSet columnResultSet = mock(ResultSet.class);
+        when(columnResultSet.next()).thenReturn(true, true, false);
+        when(columnResultSet.getString(1)).thenReturn("foo_schema", "bar_schema");
+        when(columnResultSet.getLong(2)).thenReturn(3L, 2L);
+        when(columnResultSet.getString(3)).thenReturn("123", "789");
+        when(dataSource.getConnection().prepareStatement("SELECT table_schema, COUNT(*), COALESCE(SUM(('x' || SUBSTR(MD5(CONCAT_WS(',', table_name, column_name, ordinal_position, udt_name, "
+                + "is_nullable, column_default)), 1, 8))::BIT(32)::BIGINT), 0) FROM information_schema.columns WHERE table_schema NOT IN ('information_schema', 'pg_catalog') GROUP BY table_schema")
+                .executeQuery()).thenReturn(columnResultSet);
+        ResultSet indexResultSet = mock(ResultSet.class);
+        when(indexResultSet.next()).thenReturn(true, false);
+        when(indexResultSet.getString(1)).thenReturn("foo_schema");
+        when(indexResultSet.getLong(2)).thenReturn(1L);
+        when(indexResultSet.getString(3)).thenReturn("456");
+        when(dataSource.getConnection().prepareStatement("SELECT schemaname, COUNT(*), COALESCE(SUM(('x' || SUBSTR(MD5(CONCAT_WS(',', tablename, indexname, indexdef)), 1, 8))::BIT(32)::BIGINT), 0) "
+                + "FROM pg_indexes WHERE schemaname NOT IN ('information_schema', 'pg_catalog') GROUP BY schemaname").executeQuery()).thenReturn(indexResultSet);
+        Map<String, String> actual = loader.load(dataSource);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("foo_schema"), is("3-123:1-456"));
+        assertThat(actual.get("bar_schema"), is("2-789:"));
+    }
+}
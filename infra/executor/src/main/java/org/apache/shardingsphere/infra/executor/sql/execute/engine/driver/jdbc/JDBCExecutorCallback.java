@@ -27,6 +27,8 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorEx
 import org.apache.shardingsphere.infra.executor.sql.hook.SPISQLExecutionHook;
 import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
+import org.apache.shardingsphere.infra.executor.sql.statistics.DataSourceExecutionStatistics;
+import org.apache.shardingsphere.infra.executor.sql.statistics.DataSourceExecutionStatisticsRegistry;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
@@ -44,6 +46,8 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCExecutionUnit, T> {
     
+    private final String databaseName;
+    
     private final DatabaseType protocolType;
     
     private final ResourceMetaData resourceMetaData;
@@ -77,6 +81,8 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         DatabaseType storageType = resourceMetaData.getStorageUnits().get(jdbcExecutionUnit.getExecutionUnit().getDataSourceName()).getStorageType();
         ConnectionProperties connectionProps = resourceMetaData.getStorageUnits().get(jdbcExecutionUnit.getExecutionUnit().getDataSourceName()).getConnectionProperties();
         SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
+        DataSourceExecutionStatistics statistics = DataSourceExecutionStatisticsRegistry.getInstance().get(databaseName, jdbcExecutionUnit.getExecutionUnit().getDataSourceName());
+        long startNanos = statistics.start();
         try {
             SQLUnit sqlUnit = jdbcExecutionUnit.getExecutionUnit().getSqlUnit();
             sqlExecutionHook.start(jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), sqlUnit.getSql(), sqlUnit.getParameters(), connectionProps, isTrunkThread);
@@ -94,6 +100,8 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
             sqlExecutionHook.finishFailure(ex);
             SQLExecutorExceptionHandler.handleException(ex);
             return null;
+        } finally {
+            statistics.finish(startNanos);
         }
     }
     
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.statistics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Execution statistics of data source.
+ * 
+ * <p>Latency and connection wait are exponentially weighted, and halve for every 10 seconds without a new sample.
+ * So a data source which is not chosen because of its slow samples is chosen again after a while.</p>
+ */
+public final class DataSourceExecutionStatistics {
+    
+    private static final double SMOOTHING_FACTOR = 0.2D;
+    
+    private static final long DECAY_HALF_LIFE_NANOS = TimeUnit.SECONDS.toNanos(10L);
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private final AtomicLong latencyNanos = new AtomicLong();
+    
+    private final AtomicLong latencySampledNanoTime = new AtomicLong();
+    
+    private final AtomicLong connectionWaitNanos = new AtomicLong();
+    
+    private final AtomicLong connectionWaitSampledNanoTime = new AtomicLong();
+    
+    /**
+     * Start execution.
+     *
+     * @return start nano time
+     */
+    public long start() {
+        inFlightCount.incrementAndGet();
+        return System.nanoTime();
+    }
+    
+    /**
+     * Finish execution.
+     *
+     * @param startNanos start nano time
+     */
+    public void finish(final long startNanos) {
+        inFlightCount.decrementAndGet();
+        long nanoTime = System.nanoTime();
+        latencyNanos.updateAndGet(each -> smooth(decay(each, latencySampledNanoTime.get(), nanoTime), nanoTime - startNanos));
+        latencySampledNanoTime.set(nanoTime);
+    }
+    
+    /**
+     * Record connection wait.
+     *
+     * @param waitNanos wait time in nanoseconds
+     */
+    public void recordConnectionWait(final long waitNanos) {
+        long nanoTime = System.nanoTime();
+        connectionWaitNanos.updateAndGet(each -> smooth(decay(each, connectionWaitSampledNanoTime.get(), nanoTime), waitNanos));
+        connectionWaitSampledNanoTime.set(nanoTime);
+    }
+    
+    private long smooth(final long previous, final long sample) {
+        return 0L == previous ? Math.max(sample, 1L) : Math.max((long) (previous + (sample - previous) * SMOOTHING_FACTOR), 1L);
+    }
+    
+    private long decay(final long value, final long sampledNanoTime, final long nanoTime) {
+        long halvingCount = (nanoTime - sampledNanoTime) / DECAY_HALF_LIFE_NANOS;
+        return 0L == value || halvingCount <= 0L ? value : Math.max(value >> Math.min(halvingCount, Long.SIZE - 2), 1L);
+    }
+    
+    /**
+     * Get count of executions in flight.
+     *
+     * @return count of executions in flight
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+    
+    /**
+     * Get exponentially weighted execution latency.
+     *
+     * @return execution latency in nanoseconds, 0 if never executed
+     */
+    public long getLatencyNanos() {
+        return decay(latencyNanos.get(), latencySampledNanoTime.get(), System.nanoTime());
+    }
+    
+    /**
+     * Get exponentially weighted connection wait.
+     *
+     * @return connection wait in nanoseconds, 0 if never waited
+     */
+    public long getConnectionWaitNanos() {
+        return decay(connectionWaitNanos.get(), connectionWaitSampledNanoTime.get(), System.nanoTime());
+    }
+}
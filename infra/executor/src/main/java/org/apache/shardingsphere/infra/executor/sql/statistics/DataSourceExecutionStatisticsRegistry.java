@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.statistics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Data source execution statistics registry.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataSourceExecutionStatisticsRegistry {
+    
+    private static final DataSourceExecutionStatisticsRegistry INSTANCE = new DataSourceExecutionStatisticsRegistry();
+    
+    private final Map<String, Map<String, DataSourceExecutionStatistics>> statistics = new ConcurrentHashMap<>();
+    
+    /**
+     * Get data source execution statistics registry.
+     *
+     * @return got instance
+     */
+    public static DataSourceExecutionStatisticsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get execution statistics.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return execution statistics
+     */
+    public DataSourceExecutionStatistics get(final String databaseName, final String dataSourceName) {
+        Map<String, DataSourceExecutionStatistics> databaseStatistics = getDatabaseStatistics(databaseName.toLowerCase());
+        DataSourceExecutionStatistics result = databaseStatistics.get(dataSourceName);
+        return null == result ? databaseStatistics.computeIfAbsent(dataSourceName, unused -> new DataSourceExecutionStatistics()) : result;
+    }
+    
+    private Map<String, DataSourceExecutionStatistics> getDatabaseStatistics(final String lowerCaseDatabaseName) {
+        Map<String, DataSourceExecutionStatistics> result = statistics.get(lowerCaseDatabaseName);
+        return null == result ? statistics.computeIfAbsent(lowerCaseDatabaseName, unused -> new ConcurrentHashMap<>()) : result;
+    }
+    
+    /**
+     * Remove execution statistics of database.
+     *
+     * @param databaseName database name
+     */
+    public void remove(final String databaseName) {
+        statistics.remove(databaseName.toLowerCase());
+    }
+    
+    /**
+     * Remove execution statistics.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     */
+    public void remove(final String databaseName, final String dataSourceName) {
+        Map<String, DataSourceExecutionStatistics> databaseStatistics = statistics.get(databaseName.toLowerCase());
+        if (null != databaseStatistics) {
+            databaseStatistics.remove(dataSourceName);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.statistics;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DataSourceExecutionStatisticsTest {
+    
+    @Test
+    void assertStartAndFinish() {
+        DataSourceExecutionStatistics actual = new DataSourceExecutionStatistics();
+        long startNanos = actual.start();
+        assertThat(actual.getInFlightCount(), is(1));
+        actual.finish(startNanos);
+        assertThat(actual.getInFlightCount(), is(0));
+        assertTrue(actual.getLatencyNanos() > 0L);
+    }
+    
+    @Test
+    void assertRecordConnectionWait() {
+        DataSourceExecutionStatistics actual = new DataSourceExecutionStatistics();
+        actual.recordConnectionWait(1000L);
+        assertThat(actual.getConnectionWaitNanos(), is(1000L));
+        actual.recordConnectionWait(2000L);
+        assertThat(actual.getConnectionWaitNanos(), is(1200L));
+    }
+    
+    @Test
+    void assertDecayConnectionWaitWithoutSamples() throws ReflectiveOperationException {
+        DataSourceExecutionStatistics actual = new DataSourceExecutionStatistics();
+        actual.recordConnectionWait(1000000L);
+        ((AtomicLong) Plugins.getMemberAccessor().get(DataSourceExecutionStatistics.class.getDeclaredField("connectionWaitSampledNanoTime"), actual)).set(System.nanoTime() - TimeUnit.SECONDS.toNanos(20L));
+        assertThat(actual.getConnectionWaitNanos(), is(250000L));
+    }
+}
@@ -88,6 +88,15 @@ class YamlEngineTest {
         assertThat(YamlEngine.marshal(actual), is("name: test" + System.lineSeparator()));
     }
     
+    @Test
+    void assertMarshalCompact() {
+        YamlShortcutsConfigurationFixture actual = new YamlShortcutsConfigurationFixture();
+        actual.setName("test");
+        String compactContent = YamlEngine.marshalCompact(actual);
+        assertThat(compactContent, is("{name: test}"));
+        assertThat(YamlEngine.unmarshal(compactContent, YamlShortcutsConfigurationFixture.class).getName(), is("test"));
+    }
+    
     @Test
     void assertUnmarshalInvalidYaml() throws IOException {
         URL url = getClass().getClassLoader().getResource("yaml/accepted-class.yaml");
@@ -36,8 +36,9 @@ import java.util.Optional;
  */
 public abstract class ExecuteQueryCallback extends JDBCExecutorCallback<QueryResult> {
     
-    protected ExecuteQueryCallback(final DatabaseType protocolType, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
-        super(protocolType, resourceMetaData, sqlStatement, isExceptionThrown);
+    protected ExecuteQueryCallback(final String databaseName, final DatabaseType protocolType, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement,
+                                   final boolean isExceptionThrown) {
+        super(databaseName, protocolType, resourceMetaData, sqlStatement, isExceptionThrown);
     }
     
     @Override
@@ -30,6 +30,7 @@ import org.apache.shardingsphere.infra.datasource.pool.props.domain.DataSourcePo
 import org.apache.shardingsphere.infra.exception.OverallConnectionNotEnoughException;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DatabaseConnectionManager;
+import org.apache.shardingsphere.infra.executor.sql.statistics.DataSourceExecutionStatisticsRegistry;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceMetaData;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceType;
 import org.apache.shardingsphere.infra.instance.metadata.proxy.ProxyInstanceMetaData;
@@ -379,16 +380,21 @@ public final class DriverDatabaseConnectionManager implements DatabaseConnection
     @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
     private List<Connection> createConnections(final String databaseName, final String dataSourceName, final DataSource dataSource, final int connectionSize,
                                                final ConnectionMode connectionMode) throws SQLException {
-        if (1 == connectionSize) {
-            Connection connection = createConnection(databaseName, dataSourceName, dataSource, connectionContext.getTransactionContext());
-            methodInvocationRecorder.replay(connection);
-            return Collections.singletonList(connection);
-        }
-        if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
-            return createConnections(databaseName, dataSourceName, dataSource, connectionSize, connectionContext.getTransactionContext());
-        }
-        synchronized (dataSource) {
-            return createConnections(databaseName, dataSourceName, dataSource, connectionSize, connectionContext.getTransactionContext());
+        long startNanos = System.nanoTime();
+        try {
+            if (1 == connectionSize) {
+                Connection connection = createConnection(databaseName, dataSourceName, dataSource, connectionContext.getTransactionContext());
+                methodInvocationRecorder.replay(connection);
+                return Collections.singletonList(connection);
+            }
+            if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
+                return createConnections(databaseName, dataSourceName, dataSource, connectionSize, connectionContext.getTransactionContext());
+            }
+            synchronized (dataSource) {
+                return createConnections(databaseName, dataSourceName, dataSource, connectionSize, connectionContext.getTransactionContext());
+            }
+        } finally {
+            DataSourceExecutionStatisticsRegistry.getInstance().get(databaseName, dataSourceName).recordConnectionWait(System.nanoTime() - startNanos);
         }
     }
     
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.data.pipeline.spi.ratelimit;
 import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
 import org.apache.shardingsphere.infra.algorithm.ShardingSphereAlgorithm;
 
+import java.util.Optional;
+
 /**
  * Job rate limit algorithm.
  */
@@ -32,4 +34,23 @@ public interface JobRateLimitAlgorithm extends ShardingSphereAlgorithm {
      * @param data delta value for how much changed
      */
     void intercept(JobOperationType type, Number data);
+    
+    /**
+     * Feedback result of intercepted operation.
+     *
+     * @param type job operation type
+     * @param elapsedMillis elapsed milliseconds of operation, waiting time of rate limit is excluded
+     * @param succeeded whether operation succeeded
+     */
+    default void feedback(final JobOperationType type, final long elapsedMillis, final boolean succeeded) {
+    }
+    
+    /**
+     * Get current rate.
+     *
+     * @return current permits per second
+     */
+    default Optional<Double> getCurrentRate() {
+        return Optional.empty();
+    }
 }
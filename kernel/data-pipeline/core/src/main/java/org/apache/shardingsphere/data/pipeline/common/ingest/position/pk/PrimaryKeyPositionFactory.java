@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.data.pipeline.common.ingest.position.pk;
 
 import com.google.common.base.Preconditions;
-import com.google.common.base.Splitter;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
@@ -26,6 +25,7 @@ import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.type.In
 import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.type.StringPrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.type.UnsupportedKeyPosition;
 
+import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -42,7 +42,7 @@ public final class PrimaryKeyPositionFactory {
      * @throws IllegalArgumentException illegal argument exception
      */
     public static IngestPosition newInstance(final String data) {
-        List<String> parts = Splitter.on(',').splitToList(data);
+        List<String> parts = split(data);
         Preconditions.checkArgument(3 == parts.size(), "Unknown primary key position: " + data);
         Preconditions.checkArgument(1 == parts.get(0).length(), "Invalid primary key position type: " + parts.get(0));
         char type = parts.get(0).charAt(0);
@@ -52,7 +52,7 @@ public final class PrimaryKeyPositionFactory {
             case 'i':
                 return new IntegerPrimaryKeyPosition(Long.parseLong(beginValue), Long.parseLong(endValue));
             case 's':
-                return new StringPrimaryKeyPosition(beginValue, endValue);
+                return new StringPrimaryKeyPosition(unescapeStringValue(beginValue), unescapeStringValue(endValue));
             case 'u':
                 return new UnsupportedKeyPosition();
             default:
@@ -77,4 +77,42 @@ public final class PrimaryKeyPositionFactory {
         // TODO support more types, e.g. byte[] (MySQL varbinary)
         return new UnsupportedKeyPosition();
     }
+    
+    private static List<String> split(final String data) {
+        List<String> result = new LinkedList<>();
+        StringBuilder part = new StringBuilder();
+        boolean escaped = false;
+        for (char each : data.toCharArray()) {
+            if (',' == each && !escaped) {
+                result.add(part.toString());
+                part.setLength(0);
+                continue;
+            }
+            part.append(each);
+            escaped = !escaped && '\\' == each;
+        }
+        result.add(part.toString());
+        return result;
+    }
+    
+    private static String unescapeStringValue(final String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        if (StringPrimaryKeyPosition.EMPTY_VALUE.equals(value)) {
+            return "";
+        }
+        StringBuilder result = new StringBuilder(value.length());
+        boolean escaped = false;
+        for (char each : value.toCharArray()) {
+            if (escaped && ('\\' == each || ',' == each)) {
+                result.setCharAt(result.length() - 1, each);
+                escaped = false;
+                continue;
+            }
+            result.append(each);
+            escaped = !escaped && '\\' == each;
+        }
+        return result.toString();
+    }
 }
@@ -17,23 +17,26 @@
 
 package org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.type;
 
-import com.google.common.base.Strings;
 import lombok.Getter;
 import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.PrimaryKeyPosition;
 
 /**
  * String primary key position.
+ * 
+ * <p>Null value is persisted as empty text, empty value is persisted as {@code \e}, and {@code \} and {@code ,} inside value are escaped by {@code \}.</p>
  */
 @Getter
 public final class StringPrimaryKeyPosition implements PrimaryKeyPosition<String> {
     
+    public static final String EMPTY_VALUE = "\\e";
+    
     private final String beginValue;
     
     private final String endValue;
     
     public StringPrimaryKeyPosition(final String beginValue, final String endValue) {
-        this.beginValue = Strings.emptyToNull(beginValue);
-        this.endValue = Strings.emptyToNull(endValue);
+        this.beginValue = beginValue;
+        this.endValue = endValue;
     }
     
     @Override
@@ -48,6 +51,13 @@ public final class StringPrimaryKeyPosition implements PrimaryKeyPosition<String
     
     @Override
     public String toString() {
-        return String.format("%s,%s,%s", getType(), null == beginValue ? "" : beginValue, null == endValue ? "" : endValue);
+        return String.format("%s,%s,%s", getType(), escape(beginValue), escape(endValue));
+    }
+    
+    private String escape(final String value) {
+        if (null == value) {
+            return "";
+        }
+        return value.isEmpty() ? EMPTY_VALUE : value.replace("\\", "\\\\").replace(",", "\\,");
     }
 }
@@ -44,4 +44,8 @@ public final class InventoryIncrementalJobItemProgress implements PipelineJobIte
     private long processedRecordsCount;
     
     private long inventoryRecordsCount;
+    
+    private double readRateLimit;
+    
+    private double writeRateLimit;
 }
@@ -41,4 +41,8 @@ public final class YamlInventoryIncrementalJobItemProgress implements YamlConfig
     private long processedRecordsCount;
     
     private long inventoryRecordsCount;
+    
+    private double readRateLimit;
+    
+    private double writeRateLimit;
 }
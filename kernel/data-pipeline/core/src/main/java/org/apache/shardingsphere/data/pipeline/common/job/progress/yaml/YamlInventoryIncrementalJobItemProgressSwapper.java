@@ -42,6 +42,8 @@ public final class YamlInventoryIncrementalJobItemProgressSwapper implements Yam
         result.setIncremental(incrementalTasksProgressSwapper.swapToYaml(progress.getIncremental()));
         result.setProcessedRecordsCount(progress.getProcessedRecordsCount());
         result.setInventoryRecordsCount(progress.getInventoryRecordsCount());
+        result.setReadRateLimit(progress.getReadRateLimit());
+        result.setWriteRateLimit(progress.getWriteRateLimit());
         return result;
     }
     
@@ -55,6 +57,8 @@ public final class YamlInventoryIncrementalJobItemProgressSwapper implements Yam
         result.setIncremental(incrementalTasksProgressSwapper.swapToObject(yamlProgress.getSourceDatabaseType(), yamlProgress.getIncremental()));
         result.setProcessedRecordsCount(yamlProgress.getProcessedRecordsCount());
         result.setInventoryRecordsCount(yamlProgress.getInventoryRecordsCount());
+        result.setReadRateLimit(yamlProgress.getReadRateLimit());
+        result.setWriteRateLimit(yamlProgress.getWriteRateLimit());
         return result;
     }
 }
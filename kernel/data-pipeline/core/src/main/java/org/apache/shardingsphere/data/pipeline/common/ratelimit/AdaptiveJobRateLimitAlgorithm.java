@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.common.ratelimit;
+
+import com.google.common.base.Strings;
+import com.google.common.util.concurrent.RateLimiter;
+import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
+import org.apache.shardingsphere.data.pipeline.core.exception.job.ratelimit.JobRateLimitAlgorithmInitializationException;
+import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Adaptive job rate limit algorithm.
+ *
+ * <p>Rate is adjusted by AIMD (additive increase, multiplicative decrease) on every window:
+ * it is increased by step when average latency of operations is within SLO and error rate is under threshold,
+ * otherwise it is multiplied by decrease factor. Rate is always kept between min rate and max rate.</p>
+ */
+public final class AdaptiveJobRateLimitAlgorithm implements JobRateLimitAlgorithm {
+    
+    private static final String INITIAL_RATE_KEY = "initial-rate";
+    
+    private static final String MIN_RATE_KEY = "min-rate";
+    
+    private static final String MAX_RATE_KEY = "max-rate";
+    
+    private static final String LATENCY_SLO_MILLIS_KEY = "latency-slo-millis";
+    
+    private static final String ERROR_RATE_THRESHOLD_KEY = "error-rate-threshold";
+    
+    private static final String INCREASE_STEP_KEY = "increase-step";
+    
+    private static final String DECREASE_FACTOR_KEY = "decrease-factor";
+    
+    private static final String WINDOW_MILLIS_KEY = "window-millis";
+    
+    private double minRate;
+    
+    private double maxRate;
+    
+    private long latencySLOMillis;
+    
+    private double errorRateThreshold;
+    
+    private double increaseStep;
+    
+    private double decreaseFactor;
+    
+    private long windowMillis;
+    
+    private RateLimiter rateLimiter;
+    
+    private volatile double currentRate;
+    
+    private long windowStartMillis;
+    
+    private int windowOperationCount;
+    
+    private int windowFailureCount;
+    
+    private long windowElapsedMillis;
+    
+    @Override
+    public void init(final Properties props) {
+        minRate = getDoubleValue(props, MIN_RATE_KEY, 1D);
+        ShardingSpherePreconditions.checkState(minRate > 0D, () -> new JobRateLimitAlgorithmInitializationException(getType(), "min rate must be a positive number"));
+        maxRate = getDoubleValue(props, MAX_RATE_KEY, 1000D);
+        ShardingSpherePreconditions.checkState(maxRate >= minRate, () -> new JobRateLimitAlgorithmInitializationException(getType(), "max rate must not be less than min rate"));
+        double initialRate = getDoubleValue(props, INITIAL_RATE_KEY, Math.min(50D, maxRate));
+        ShardingSpherePreconditions.checkState(initialRate >= minRate && initialRate <= maxRate,
+                () -> new JobRateLimitAlgorithmInitializationException(getType(), "initial rate must be between min rate and max rate"));
+        latencySLOMillis = (long) getDoubleValue(props, LATENCY_SLO_MILLIS_KEY, 1000D);
+        ShardingSpherePreconditions.checkState(latencySLOMillis > 0L, () -> new JobRateLimitAlgorithmInitializationException(getType(), "latency SLO millis must be a positive number"));
+        errorRateThreshold = getDoubleValue(props, ERROR_RATE_THRESHOLD_KEY, 0.05D);
+        ShardingSpherePreconditions.checkState(errorRateThreshold >= 0D && errorRateThreshold < 1D,
+                () -> new JobRateLimitAlgorithmInitializationException(getType(), "error rate threshold must be in [0, 1)"));
+        increaseStep = getDoubleValue(props, INCREASE_STEP_KEY, 5D);
+        ShardingSpherePreconditions.checkState(increaseStep > 0D, () -> new JobRateLimitAlgorithmInitializationException(getType(), "increase step must be a positive number"));
+        decreaseFactor = getDoubleValue(props, DECREASE_FACTOR_KEY, 0.5D);
+        ShardingSpherePreconditions.checkState(decreaseFactor > 0D && decreaseFactor < 1D, () -> new JobRateLimitAlgorithmInitializationException(getType(), "decrease factor must be in (0, 1)"));
+        windowMillis = (long) getDoubleValue(props, WINDOW_MILLIS_KEY, 1000D);
+        ShardingSpherePreconditions.checkState(windowMillis >= 0L, () -> new JobRateLimitAlgorithmInitializationException(getType(), "window millis must not be a negative number"));
+        currentRate = initialRate;
+        rateLimiter = RateLimiter.create(initialRate);
+        windowStartMillis = System.currentTimeMillis();
+    }
+    
+    private double getDoubleValue(final Properties props, final String key, final double defaultValue) {
+        String value = props.getProperty(key);
+        if (Strings.isNullOrEmpty(value)) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (final NumberFormatException ignored) {
+            throw new JobRateLimitAlgorithmInitializationException(getType(), String.format("%s must be a number", key));
+        }
+    }
+    
+    @Override
+    public void intercept(final JobOperationType type, final Number data) {
+        rateLimiter.acquire(null != data ? data.intValue() : 1);
+    }
+    
+    @Override
+    public synchronized void feedback(final JobOperationType type, final long elapsedMillis, final boolean succeeded) {
+        windowOperationCount++;
+        windowElapsedMillis += elapsedMillis;
+        if (!succeeded) {
+            windowFailureCount++;
+        }
+        long currentTimeMillis = System.currentTimeMillis();
+        if (currentTimeMillis - windowStartMillis < windowMillis) {
+            return;
+        }
+        boolean overloaded = windowElapsedMillis / windowOperationCount > latencySLOMillis || (double) windowFailureCount / windowOperationCount > errorRateThreshold;
+        double newRate = overloaded ? Math.max(minRate, currentRate * decreaseFactor) : Math.min(maxRate, currentRate + increaseStep);
+        if (newRate != currentRate) {
+            rateLimiter.setRate(newRate);
+            currentRate = newRate;
+        }
+        windowStartMillis = currentTimeMillis;
+        windowOperationCount = 0;
+        windowFailureCount = 0;
+        windowElapsedMillis = 0L;
+    }
+    
+    @Override
+    public Optional<Double> getCurrentRate() {
+        return Optional.of(currentRate);
+    }
+    
+    @Override
+    public String getType() {
+        return "ADAPTIVE";
+    }
+}
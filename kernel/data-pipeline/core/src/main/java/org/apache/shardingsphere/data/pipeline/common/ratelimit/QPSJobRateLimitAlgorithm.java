@@ -24,6 +24,7 @@ import org.apache.shardingsphere.data.pipeline.core.exception.job.ratelimit.JobR
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -55,6 +56,11 @@ public final class QPSJobRateLimitAlgorithm implements JobRateLimitAlgorithm {
         rateLimiter.acquire(null != data ? data.intValue() : 1);
     }
     
+    @Override
+    public Optional<Double> getCurrentRate() {
+        return Optional.of(rateLimiter.getRate());
+    }
+    
     @Override
     public String getType() {
         return "QPS";
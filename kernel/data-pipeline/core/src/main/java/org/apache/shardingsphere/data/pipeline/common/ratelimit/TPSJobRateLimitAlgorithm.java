@@ -24,6 +24,7 @@ import org.apache.shardingsphere.data.pipeline.core.exception.job.ratelimit.JobR
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -59,6 +60,11 @@ public final class TPSJobRateLimitAlgorithm implements JobRateLimitAlgorithm {
         }
     }
     
+    @Override
+    public Optional<Double> getCurrentRate() {
+        return Optional.of(rateLimiter.getRate());
+    }
+    
     @Override
     public String getType() {
         return "TPS";
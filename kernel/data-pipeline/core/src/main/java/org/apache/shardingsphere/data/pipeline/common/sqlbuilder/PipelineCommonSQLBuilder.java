@@ -93,6 +93,33 @@ public final class PipelineCommonSQLBuilder {
         return String.format("SELECT MIN(%s), MAX(%s) FROM %s", escapedUniqueKey, escapedUniqueKey, sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName));
     }
     
+    /**
+     * Build unique key split boundary SQL.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @return split boundary SQL
+     */
+    public String buildUniqueKeySplitBoundarySQL(final String schemaName, final String tableName, final String uniqueKey) {
+        String escapedUniqueKey = sqlSegmentBuilder.getEscapedIdentifier(uniqueKey);
+        return String.format("SELECT %s FROM %s WHERE %s>? ORDER BY %s ASC LIMIT 1 OFFSET ?",
+                escapedUniqueKey, sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName), escapedUniqueKey, escapedUniqueKey);
+    }
+    
+    /**
+     * Build unique key maximum value before boundary SQL.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @return maximum value before boundary SQL
+     */
+    public String buildUniqueKeyMaxValueBeforeBoundarySQL(final String schemaName, final String tableName, final String uniqueKey) {
+        String escapedUniqueKey = sqlSegmentBuilder.getEscapedIdentifier(uniqueKey);
+        return String.format("SELECT MAX(%s) FROM %s WHERE %s<?", escapedUniqueKey, sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName), escapedUniqueKey);
+    }
+    
     /**
      * Build check empty SQL.
      *
@@ -128,9 +128,13 @@ public final class InventoryDumper extends AbstractLifecycleExecutor implements
                 JobRateLimitAlgorithm rateLimitAlgorithm = dumperConfig.getRateLimitAlgorithm();
                 ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
                 List<Record> dataRecords = new LinkedList<>();
+                long batchStartMillis = System.currentTimeMillis();
+                long pushMillis = 0L;
                 while (resultSet.next()) {
                     if (dataRecords.size() >= batchSize) {
+                        long pushStartMillis = System.currentTimeMillis();
                         channel.pushRecords(dataRecords);
+                        pushMillis += System.currentTimeMillis() - pushStartMillis;
                         dataRecords = new LinkedList<>();
                     }
                     dataRecords.add(loadDataRecord(resultSet, resultSetMetaData, tableMetaData));
@@ -140,7 +144,11 @@ public final class InventoryDumper extends AbstractLifecycleExecutor implements
                         break;
                     }
                     if (null != rateLimitAlgorithm && 0 == rowCount % batchSize) {
+                        // time blocked by channel is backpressure of sink, only time of fetching from source is fed back
+                        rateLimitAlgorithm.feedback(JobOperationType.SELECT, System.currentTimeMillis() - batchStartMillis - pushMillis, true);
                         rateLimitAlgorithm.intercept(JobOperationType.SELECT, 1);
+                        batchStartMillis = System.currentTimeMillis();
+                        pushMillis = 0L;
                     }
                 }
                 dataRecords.add(new FinishedRecord(new FinishedPosition()));
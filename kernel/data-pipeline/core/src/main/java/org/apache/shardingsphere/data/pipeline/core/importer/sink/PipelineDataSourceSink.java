@@ -134,6 +134,12 @@ public final class PipelineDataSourceSink implements PipelineSink {
     }
     
     private void doFlush(final DataSource dataSource, final List<DataRecord> buffer) throws SQLException {
+        JobOperationType operationType = getJobOperationType(buffer.get(0).getType());
+        if (null != rateLimitAlgorithm && null != operationType) {
+            rateLimitAlgorithm.intercept(operationType, 1);
+        }
+        long startMillis = System.currentTimeMillis();
+        boolean succeeded = false;
         try (Connection connection = dataSource.getConnection()) {
             boolean enableTransaction = buffer.size() > 1;
             if (enableTransaction) {
@@ -141,21 +147,12 @@ public final class PipelineDataSourceSink implements PipelineSink {
             }
             switch (buffer.get(0).getType()) {
                 case IngestDataChangeType.INSERT:
-                    if (null != rateLimitAlgorithm) {
-                        rateLimitAlgorithm.intercept(JobOperationType.INSERT, 1);
-                    }
                     executeBatchInsert(connection, buffer);
                     break;
                 case IngestDataChangeType.UPDATE:
-                    if (null != rateLimitAlgorithm) {
-                        rateLimitAlgorithm.intercept(JobOperationType.UPDATE, 1);
-                    }
                     executeUpdate(connection, buffer);
                     break;
                 case IngestDataChangeType.DELETE:
-                    if (null != rateLimitAlgorithm) {
-                        rateLimitAlgorithm.intercept(JobOperationType.DELETE, 1);
-                    }
                     executeBatchDelete(connection, buffer);
                     break;
                 default:
@@ -164,6 +161,24 @@ public final class PipelineDataSourceSink implements PipelineSink {
             if (enableTransaction) {
                 connection.commit();
             }
+            succeeded = true;
+        } finally {
+            if (null != rateLimitAlgorithm && null != operationType) {
+                rateLimitAlgorithm.feedback(operationType, System.currentTimeMillis() - startMillis, succeeded);
+            }
+        }
+    }
+    
+    private JobOperationType getJobOperationType(final String dataChangeType) {
+        switch (dataChangeType) {
+            case IngestDataChangeType.INSERT:
+                return JobOperationType.INSERT;
+            case IngestDataChangeType.UPDATE:
+                return JobOperationType.UPDATE;
+            case IngestDataChangeType.DELETE:
+                return JobOperationType.DELETE;
+            default:
+                return null;
         }
     }
     
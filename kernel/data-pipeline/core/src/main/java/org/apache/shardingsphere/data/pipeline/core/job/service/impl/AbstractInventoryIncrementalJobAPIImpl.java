@@ -47,6 +47,7 @@ import org.apache.shardingsphere.data.pipeline.core.job.service.InventoryIncreme
 import org.apache.shardingsphere.data.pipeline.core.job.service.PipelineAPIFactory;
 import org.apache.shardingsphere.data.pipeline.core.metadata.PipelineProcessConfigurationPersistService;
 import org.apache.shardingsphere.data.pipeline.core.task.PipelineTask;
+import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
 import org.apache.shardingsphere.elasticjob.infra.pojo.JobConfigurationPOJO;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
@@ -145,9 +146,15 @@ public abstract class AbstractInventoryIncrementalJobAPIImpl extends AbstractPip
         jobItemProgress.setInventory(getInventoryTasksProgress(context.getInventoryTasks()));
         jobItemProgress.setProcessedRecordsCount(context.getProcessedRecordsCount());
         jobItemProgress.setInventoryRecordsCount(context.getInventoryRecordsCount());
+        jobItemProgress.setReadRateLimit(getCurrentRate(context.getJobProcessContext().getReadRateLimitAlgorithm()));
+        jobItemProgress.setWriteRateLimit(getCurrentRate(context.getJobProcessContext().getWriteRateLimitAlgorithm()));
         return YamlEngine.marshal(jobItemProgressSwapper.swapToYamlConfiguration(jobItemProgress));
     }
     
+    private double getCurrentRate(final JobRateLimitAlgorithm rateLimitAlgorithm) {
+        return null == rateLimitAlgorithm ? 0D : rateLimitAlgorithm.getCurrentRate().orElse(0D);
+    }
+    
     @Override
     public void updateJobItemProgress(final PipelineJobItemContext jobItemContext) {
         PipelineAPIFactory.getGovernanceRepositoryAPI(PipelineJobIdUtils.parseContextKey(jobItemContext.getJobId()))
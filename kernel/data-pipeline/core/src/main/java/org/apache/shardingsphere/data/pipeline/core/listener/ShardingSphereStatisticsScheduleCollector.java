@@ -20,6 +20,8 @@ package org.apache.shardingsphere.data.pipeline.core.listener;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
+import org.apache.shardingsphere.infra.instance.metadata.InstanceMetaData;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
@@ -37,13 +39,14 @@ import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.data.
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.TreeSet;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -74,14 +77,34 @@ public final class ShardingSphereStatisticsScheduleCollector {
             ShardingSphereStatistics statistics = contextManager.getMetaDataContexts().getStatistics();
             ShardingSphereMetaData metaData = contextManager.getMetaDataContexts().getMetaData();
             ShardingSphereStatistics changedStatistics = new ShardingSphereStatistics();
+            String currentInstanceId = contextManager.getInstanceContext().getInstance().getMetaData().getId();
+            List<String> collectorInstanceIds = getCollectorInstanceIds();
             statistics.getDatabaseData().forEach((key, value) -> {
-                if (metaData.containsDatabase(key)) {
+                if (metaData.containsDatabase(key) && isCollectedByCurrentInstance(key, currentInstanceId, collectorInstanceIds)) {
                     collectForDatabase(key, value, metaData.getDatabases(), changedStatistics);
                 }
             });
             compareUpdateAndSendEvent(statistics, changedStatistics, metaData.getDatabases());
         }
         
+        private List<String> getCollectorInstanceIds() {
+            InstanceMetaData currentInstance = contextManager.getInstanceContext().getInstance().getMetaData();
+            Collection<String> result = new TreeSet<>();
+            for (ComputeNodeInstance each : contextManager.getInstanceContext().getAllClusterInstances()) {
+                if (currentInstance.getType() == each.getMetaData().getType()) {
+                    result.add(each.getMetaData().getId());
+                }
+            }
+            if (null != currentInstance.getId()) {
+                result.add(currentInstance.getId());
+            }
+            return new ArrayList<>(result);
+        }
+        
+        private boolean isCollectedByCurrentInstance(final String databaseName, final String currentInstanceId, final List<String> collectorInstanceIds) {
+            return collectorInstanceIds.size() <= 1 || collectorInstanceIds.get(Math.floorMod(databaseName.toLowerCase().hashCode(), collectorInstanceIds.size())).equals(currentInstanceId);
+        }
+        
         private void collectForDatabase(final String databaseName, final ShardingSphereDatabaseData databaseData,
                                         final Map<String, ShardingSphereDatabase> databases, final ShardingSphereStatistics statistics) {
             databaseData.getSchemaData().forEach((key, value) -> {
@@ -136,30 +159,28 @@ public final class ShardingSphereStatisticsScheduleCollector {
         
         private void compareUpdateAndSendEventForTable(final String databaseName, final String schemaName, final ShardingSphereTableData tableData,
                                                        final ShardingSphereTableData changedTableData, final ShardingSphereStatistics statistics, final ShardingSphereTable table) {
-            if (tableData.equals(changedTableData)) {
+            ShardingSphereSchemaDataAlteredEvent event = getShardingSphereSchemaDataAlteredEvent(databaseName, schemaName, tableData, changedTableData, table);
+            if (event.getAddedRows().isEmpty() && event.getDeletedRows().isEmpty()) {
                 return;
             }
             statistics.getDatabaseData().get(databaseName).getSchemaData().get(schemaName).getTableData().put(changedTableData.getName().toLowerCase(), changedTableData);
-            ShardingSphereSchemaDataAlteredEvent event = getShardingSphereSchemaDataAlteredEvent(databaseName, schemaName, tableData, changedTableData, table);
             contextManager.getInstanceContext().getEventBusContext().post(event);
         }
         
         private ShardingSphereSchemaDataAlteredEvent getShardingSphereSchemaDataAlteredEvent(final String databaseName, final String schemaName, final ShardingSphereTableData tableData,
                                                                                              final ShardingSphereTableData changedTableData, final ShardingSphereTable table) {
             ShardingSphereSchemaDataAlteredEvent result = new ShardingSphereSchemaDataAlteredEvent(databaseName, schemaName, tableData.getName());
-            Map<String, ShardingSphereRowData> tableDataMap = tableData.getRows().stream().collect(Collectors.toMap(ShardingSphereRowData::getUniqueKey, Function.identity()));
-            Map<String, ShardingSphereRowData> changedTableDataMap = changedTableData.getRows().stream().collect(Collectors.toMap(ShardingSphereRowData::getUniqueKey, Function.identity()));
+            Collection<String> uniqueKeys = tableData.getRows().stream().map(ShardingSphereRowData::getUniqueKey).collect(Collectors.toSet());
+            Collection<String> changedUniqueKeys = changedTableData.getRows().stream().map(ShardingSphereRowData::getUniqueKey).collect(Collectors.toSet());
             YamlShardingSphereRowDataSwapper swapper = new YamlShardingSphereRowDataSwapper(new ArrayList<>(table.getColumnValues()));
-            for (Entry<String, ShardingSphereRowData> entry : changedTableDataMap.entrySet()) {
-                if (!tableDataMap.containsKey(entry.getKey())) {
-                    result.getAddedRows().add(swapper.swapToYamlConfiguration(entry.getValue()));
-                } else if (!tableDataMap.get(entry.getKey()).equals(entry.getValue())) {
-                    result.getUpdatedRows().add(swapper.swapToYamlConfiguration(entry.getValue()));
+            for (ShardingSphereRowData each : changedTableData.getRows()) {
+                if (!uniqueKeys.contains(each.getUniqueKey())) {
+                    result.getAddedRows().add(swapper.swapToYamlConfiguration(each));
                 }
             }
-            for (Entry<String, ShardingSphereRowData> entry : tableDataMap.entrySet()) {
-                if (!changedTableDataMap.containsKey(entry.getKey())) {
-                    result.getDeletedRows().add(swapper.swapToYamlConfiguration(entry.getValue()));
+            for (ShardingSphereRowData each : tableData.getRows()) {
+                if (!changedUniqueKeys.contains(each.getUniqueKey())) {
+                    result.getDeletedRows().add(swapper.swapToYamlConfiguration(each));
                 }
             }
             return result;
@@ -50,6 +50,7 @@ import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorit
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -57,6 +58,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -169,16 +171,13 @@ public final class InventoryTaskSplitter {
         if (!dumperConfig.hasUniqueKey()) {
             return Collections.singleton(new UnsupportedKeyPosition());
         }
-        List<PipelineColumnMetaData> uniqueKeyColumns = dumperConfig.getUniqueKeyColumns();
-        if (1 == uniqueKeyColumns.size()) {
-            int firstColumnDataType = uniqueKeyColumns.get(0).getDataType();
-            if (PipelineJdbcUtils.isIntegerColumn(firstColumnDataType)) {
-                return getPositionByIntegerUniqueKeyRange(dumperConfig, tableRecordsCount, jobItemContext, dataSource);
-            }
-            if (PipelineJdbcUtils.isStringColumn(firstColumnDataType)) {
-                // TODO Support string unique key table splitting. Ascii characters ordering are different in different versions of databases.
-                return Collections.singleton(new StringPrimaryKeyPosition(null, null));
-            }
+        // Inventory dumper reads and records position by the first unique key column, so multiple columns unique key could be split by it too.
+        int firstColumnDataType = dumperConfig.getUniqueKeyColumns().get(0).getDataType();
+        if (PipelineJdbcUtils.isIntegerColumn(firstColumnDataType)) {
+            return getPositionByIntegerUniqueKeyRange(dumperConfig, tableRecordsCount, jobItemContext, dataSource);
+        }
+        if (PipelineJdbcUtils.isStringColumn(firstColumnDataType)) {
+            return getPositionByStringUniqueKeyRange(dumperConfig, tableRecordsCount, jobItemContext, dataSource);
         }
         return Collections.singleton(new UnsupportedKeyPosition());
     }
@@ -201,6 +200,52 @@ public final class InventoryTaskSplitter {
         return result;
     }
     
+    private Collection<IngestPosition> getPositionByStringUniqueKeyRange(final InventoryDumperConfiguration dumperConfig, final long tableRecordsCount,
+                                                                         final InventoryIncrementalJobItemContext jobItemContext, final PipelineDataSourceWrapper dataSource) {
+        int shardingSize = jobItemContext.getJobProcessContext().getPipelineProcessConfig().getRead().getShardingSize();
+        if (tableRecordsCount <= shardingSize) {
+            return Collections.singleton(new StringPrimaryKeyPosition(null, null));
+        }
+        String uniqueKey = dumperConfig.getUniqueKeyColumns().get(0).getName();
+        String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
+        String actualTableName = dumperConfig.getActualTableName();
+        PipelineCommonSQLBuilder pipelineSQLBuilder = new PipelineCommonSQLBuilder(jobItemContext.getJobConfig().getSourceDatabaseType());
+        Collection<IngestPosition> result = new LinkedList<>();
+        // Boundaries are probed by unique key index order of database, so ranges respect the collation used by inventory dump SQL.
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement minMaxStatement = connection.createStatement();
+                ResultSet minMaxResultSet = minMaxStatement.executeQuery(pipelineSQLBuilder.buildUniqueKeyMinMaxValuesSQL(schemaName, actualTableName, uniqueKey));
+                PreparedStatement boundaryStatement = connection.prepareStatement(pipelineSQLBuilder.buildUniqueKeySplitBoundarySQL(schemaName, actualTableName, uniqueKey));
+                PreparedStatement rangeEndStatement = connection.prepareStatement(pipelineSQLBuilder.buildUniqueKeyMaxValueBeforeBoundarySQL(schemaName, actualTableName, uniqueKey))) {
+            minMaxResultSet.next();
+            String beginValue = minMaxResultSet.getString(1);
+            if (null == beginValue) {
+                return Collections.singleton(new StringPrimaryKeyPosition(null, null));
+            }
+            Optional<String> nextBeginValue = queryStringUniqueKeyValue(boundaryStatement, beginValue, shardingSize - 1);
+            while (nextBeginValue.isPresent()) {
+                result.add(new StringPrimaryKeyPosition(beginValue, queryStringUniqueKeyValue(rangeEndStatement, nextBeginValue.get(), null).orElse(beginValue)));
+                beginValue = nextBeginValue.get();
+                nextBeginValue = queryStringUniqueKeyValue(boundaryStatement, beginValue, shardingSize - 1);
+            }
+            result.add(new StringPrimaryKeyPosition(beginValue, null));
+            return result;
+        } catch (final SQLException ex) {
+            throw new SplitPipelineJobByUniqueKeyException(actualTableName, uniqueKey, ex);
+        }
+    }
+    
+    private Optional<String> queryStringUniqueKeyValue(final PreparedStatement preparedStatement, final String boundaryValue, final Integer offset) throws SQLException {
+        preparedStatement.setString(1, boundaryValue);
+        if (null != offset) {
+            preparedStatement.setInt(2, offset);
+        }
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            return resultSet.next() ? Optional.ofNullable(resultSet.getString(1)) : Optional.empty();
+        }
+    }
+    
     private Range<Long> getUniqueKeyValuesRange(final InventoryIncrementalJobItemContext jobItemContext, final DataSource dataSource, final InventoryDumperConfiguration dumperConfig) {
         String uniqueKey = dumperConfig.getUniqueKeyColumns().get(0).getName();
         PipelineCommonSQLBuilder pipelineSQLBuilder = new PipelineCommonSQLBuilder(jobItemContext.getJobConfig().getSourceDatabaseType());
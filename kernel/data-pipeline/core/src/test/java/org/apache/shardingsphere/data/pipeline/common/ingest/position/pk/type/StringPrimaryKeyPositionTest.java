@@ -44,4 +44,22 @@ class StringPrimaryKeyPositionTest {
         assertNull(actual.getBeginValue());
         assertNull(actual.getEndValue());
     }
+    
+    @Test
+    void assertToStringWithEmptyValue() {
+        String actual = new StringPrimaryKeyPosition("", "jk").toString();
+        assertThat(actual, is("s,\\e,jk"));
+        StringPrimaryKeyPosition position = (StringPrimaryKeyPosition) PrimaryKeyPositionFactory.newInstance(actual);
+        assertThat(position.getBeginValue(), is(""));
+        assertThat(position.getEndValue(), is("jk"));
+    }
+    
+    @Test
+    void assertToStringWithEscapedValue() {
+        String actual = new StringPrimaryKeyPosition("h,i", "j\\k,").toString();
+        assertThat(actual, is("s,h\\,i,j\\\\k\\,"));
+        StringPrimaryKeyPosition position = (StringPrimaryKeyPosition) PrimaryKeyPositionFactory.newInstance(actual);
+        assertThat(position.getBeginValue(), is("h,i"));
+        assertThat(position.getEndValue(), is("j\\k,"));
+    }
 }
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.common.ratelimit;
+
+import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
+import org.apache.shardingsphere.data.pipeline.core.exception.job.ratelimit.JobRateLimitAlgorithmInitializationException;
+import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdaptiveJobRateLimitAlgorithmTest {
+    
+    @Test
+    void assertInit() {
+        assertThat(TypedSPILoader.getService(JobRateLimitAlgorithm.class, "ADAPTIVE", new Properties()), instanceOf(AdaptiveJobRateLimitAlgorithm.class));
+    }
+    
+    @Test
+    void assertInitWithInitialRateOutOfRange() {
+        Properties props = PropertiesBuilder.build(new Property("initial-rate", "200"), new Property("max-rate", "100"));
+        assertThrows(JobRateLimitAlgorithmInitializationException.class, () -> TypedSPILoader.getService(JobRateLimitAlgorithm.class, "ADAPTIVE", props));
+    }
+    
+    @Test
+    void assertInitWithWrongDecreaseFactor() {
+        Properties props = PropertiesBuilder.build(new Property("decrease-factor", "1"));
+        assertThrows(JobRateLimitAlgorithmInitializationException.class, () -> TypedSPILoader.getService(JobRateLimitAlgorithm.class, "ADAPTIVE", props));
+    }
+    
+    @Test
+    void assertIntercept() {
+        JobRateLimitAlgorithm algorithm = TypedSPILoader.getService(JobRateLimitAlgorithm.class, "ADAPTIVE", new Properties());
+        assertDoesNotThrow(() -> algorithm.intercept(JobOperationType.INSERT, 1));
+    }
+    
+    @Test
+    void assertIncreaseRateWhenLatencyWithinSLO() {
+        JobRateLimitAlgorithm algorithm = createAlgorithm();
+        algorithm.feedback(JobOperationType.SELECT, 10L, true);
+        assertThat(algorithm.getCurrentRate().orElse(0D), is(60D));
+        algorithm.feedback(JobOperationType.SELECT, 10L, true);
+        assertThat(algorithm.getCurrentRate().orElse(0D), is(70D));
+    }
+    
+    @Test
+    void assertDecreaseRateWhenLatencyExceedsSLO() {
+        JobRateLimitAlgorithm algorithm = createAlgorithm();
+        algorithm.feedback(JobOperationType.INSERT, 200L, true);
+        assertThat(algorithm.getCurrentRate().orElse(0D), is(25D));
+    }
+    
+    @Test
+    void assertDecreaseRateWhenOperationFailed() {
+        JobRateLimitAlgorithm algorithm = createAlgorithm();
+        algorithm.feedback(JobOperationType.INSERT, 10L, false);
+        assertThat(algorithm.getCurrentRate().orElse(0D), is(25D));
+    }
+    
+    @Test
+    void assertRateBoundedByMinAndMax() {
+        JobRateLimitAlgorithm algorithm = createAlgorithm();
+        for (int i = 0; i < 10; i++) {
+            algorithm.feedback(JobOperationType.DELETE, 10L, true);
+        }
+        assertThat(algorithm.getCurrentRate().orElse(0D), is(80D));
+        for (int i = 0; i < 10; i++) {
+            algorithm.feedback(JobOperationType.DELETE, 10L, false);
+        }
+        assertThat(algorithm.getCurrentRate().orElse(0D), is(20D));
+    }
+    
+    private JobRateLimitAlgorithm createAlgorithm() {
+        Properties props = PropertiesBuilder.build(new Property("initial-rate", "50"), new Property("min-rate", "20"), new Property("max-rate", "80"),
+                new Property("latency-slo-millis", "100"), new Property("increase-step", "10"), new Property("decrease-factor", "0.5"), new Property("window-millis", "0"));
+        return TypedSPILoader.getService(JobRateLimitAlgorithm.class, "ADAPTIVE", props);
+    }
+}
@@ -19,26 +19,33 @@ package org.apache.shardingsphere.data.pipeline.core.listener;
 
 import org.apache.shardingsphere.data.pipeline.core.listener.ShardingSphereStatisticsScheduleCollector.ShardingSphereDataCollectorRunnable;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
+import org.apache.shardingsphere.infra.instance.metadata.proxy.ProxyInstanceMetaData;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
 import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.data.event.ShardingSphereSchemaDataAlteredEvent;
 import org.junit.jupiter.api.Test;
 
 import java.sql.Types;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.Properties;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -46,14 +53,39 @@ class ShardingSphereDataCollectorTest {
     
     @Test
     void assertCollect() {
-        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        ContextManager contextManager = mockContextManager(mockStatistics());
+        new ShardingSphereDataCollectorRunnable(contextManager).run();
+        verify(contextManager.getInstanceContext().getEventBusContext()).post(any(ShardingSphereSchemaDataAlteredEvent.class));
+    }
+    
+    @Test
+    void assertCollectWithoutChangedRows() {
         ShardingSphereStatistics statistics = mockStatistics();
-        when(contextManager.getMetaDataContexts().getStatistics()).thenReturn(statistics);
-        ShardingSphereMetaData metaData = mockMetaData();
-        when(contextManager.getMetaDataContexts().getMetaData()).thenReturn(metaData);
-        when(contextManager.getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(new Properties()));
+        statistics.getDatabase("logic_db").getSchema("logic_schema").getTable("test_table").getRows().add(new ShardingSphereRowData(Arrays.asList("1", "2")));
+        ContextManager contextManager = mockContextManager(statistics);
         new ShardingSphereDataCollectorRunnable(contextManager).run();
-        verify(contextManager).getInstanceContext();
+        verify(contextManager.getInstanceContext().getEventBusContext(), never()).post(any());
+    }
+    
+    @Test
+    void assertCollectSkippedForDatabaseAssignedToOtherInstance() {
+        ContextManager contextManager = mockContextManager(mockStatistics());
+        ComputeNodeInstance currentInstance = new ComputeNodeInstance(new ProxyInstanceMetaData("bar_id", 3307));
+        ComputeNodeInstance otherInstance = new ComputeNodeInstance(new ProxyInstanceMetaData("foo_id", 3308));
+        when(contextManager.getInstanceContext().getInstance()).thenReturn(currentInstance);
+        when(contextManager.getInstanceContext().getAllClusterInstances()).thenReturn(Arrays.asList(currentInstance, otherInstance));
+        new ShardingSphereDataCollectorRunnable(contextManager).run();
+        verify(contextManager.getInstanceContext().getEventBusContext(), never()).post(any());
+    }
+    
+    private ContextManager mockContextManager(final ShardingSphereStatistics statistics) {
+        ContextManager result = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaDataContexts().getStatistics()).thenReturn(statistics);
+        ShardingSphereMetaData metaData = mockMetaData();
+        when(result.getMetaDataContexts().getMetaData()).thenReturn(metaData);
+        when(result.getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(new Properties()));
+        when(result.getInstanceContext().getAllClusterInstances()).thenReturn(Collections.emptyList());
+        return result;
     }
     
     private ShardingSphereStatistics mockStatistics() {
@@ -37,6 +37,7 @@ import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumn
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineTableMetaData;
 import org.apache.shardingsphere.data.pipeline.common.ingest.IngestDataChangeType;
 import org.apache.shardingsphere.data.pipeline.common.util.PipelineJdbcUtils;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalException;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogPosition;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractRowsEvent;
@@ -51,16 +52,22 @@ import org.apache.shardingsphere.infra.database.core.connector.ConnectionPropert
 import org.apache.shardingsphere.infra.database.core.connector.ConnectionPropertiesParser;
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 
 import java.io.Serializable;
 import java.nio.charset.Charset;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * MySQL incremental dumper.
@@ -68,6 +75,10 @@ import java.util.Set;
 @Slf4j
 public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor implements IncrementalDumper {
     
+    private static final int DECODE_THREAD_COUNT = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+    
+    private static final int MAX_PENDING_BATCH_COUNT = 1024;
+    
     private final DumperConfiguration dumperConfig;
     
     private final BinlogPosition binlogPosition;
@@ -80,6 +91,10 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
     
     private final String catalog;
     
+    private final Deque<Future<List<Record>>> pendingBatches = new LinkedList<>();
+    
+    private volatile ExecutorService decodeExecutor;
+    
     public MySQLIncrementalDumper(final DumperConfiguration dumperConfig, final IngestPosition binlogPosition,
                                   final PipelineChannel channel, final PipelineTableMetaDataLoader metaDataLoader) {
         Preconditions.checkArgument(dumperConfig.getDataSourceConfig() instanceof StandardPipelineDataSourceConfiguration, "MySQLBinlogDumper only support StandardPipelineDataSourceConfiguration");
@@ -92,8 +107,12 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
         ConnectionProperties connectionProps = parser.parse(jdbcConfig.getUrl(), null, null);
         ConnectInfo connectInfo = new ConnectInfo(generateServerId(), connectionProps.getHostname(), connectionProps.getPort(), jdbcConfig.getUsername(), jdbcConfig.getPassword());
         log.info("incremental dump, jdbcUrl={}, serverId={}, hostname={}, port={}", jdbcConfig.getUrl(), connectInfo.getServerId(), connectInfo.getHost(), connectInfo.getPort());
-        client = new MySQLClient(connectInfo, dumperConfig.isDecodeWithTX());
         catalog = connectionProps.getCatalog();
+        client = new MySQLClient(connectInfo, dumperConfig.isDecodeWithTX(), true, this::isSubscribedTable);
+    }
+    
+    private boolean isSubscribedTable(final String databaseName, final String tableName) {
+        return databaseName.equals(catalog) && dumperConfig.containsTable(tableName);
     }
     
     private int generateServerId() {
@@ -105,28 +124,51 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
     protected void runBlocking() {
         client.connect();
         client.subscribe(binlogPosition.getFilename(), binlogPosition.getPosition());
-        while (isRunning()) {
-            List<AbstractBinlogEvent> events = client.poll();
-            if (events.isEmpty()) {
-                continue;
+        decodeExecutor = Executors.newFixedThreadPool(DECODE_THREAD_COUNT, ExecutorThreadFactoryBuilder.build("mysql-binlog-decode-%d"));
+        try {
+            while (isRunning()) {
+                List<AbstractBinlogEvent> events = client.poll();
+                if (!events.isEmpty()) {
+                    pendingBatches.add(decodeExecutor.submit(() -> handleEvents(events)));
+                }
+                pushDecodedRecords(events.isEmpty());
+            }
+        } finally {
+            decodeExecutor.shutdownNow();
+        }
+    }
+    
+    private void pushDecodedRecords(final boolean waitAll) {
+        // Batches are pushed in the order they were polled, which keeps records sorted by binlog position and transactions intact.
+        while (!pendingBatches.isEmpty() && (waitAll || pendingBatches.size() >= MAX_PENDING_BATCH_COUNT || pendingBatches.peek().isDone())) {
+            List<Record> records = getDecodedRecords(pendingBatches.poll());
+            if (!records.isEmpty()) {
+                channel.pushRecords(records);
             }
-            handleEvents(events);
         }
     }
     
-    private void handleEvents(final List<AbstractBinlogEvent> events) {
-        List<Record> dataRecords = new LinkedList<>();
+    private List<Record> getDecodedRecords(final Future<List<Record>> batch) {
+        try {
+            return batch.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new PipelineInternalException(ex);
+        } catch (final ExecutionException ex) {
+            throw new PipelineInternalException(ex.getCause());
+        }
+    }
+    
+    private List<Record> handleEvents(final List<AbstractBinlogEvent> events) {
+        List<Record> result = new LinkedList<>();
         for (AbstractBinlogEvent each : events) {
             if (!(each instanceof AbstractRowsEvent)) {
-                dataRecords.add(createPlaceholderRecord(each));
+                result.add(createPlaceholderRecord(each));
                 continue;
             }
-            dataRecords.addAll(handleEvent(each));
-        }
-        if (dataRecords.isEmpty()) {
-            return;
+            result.addAll(handleEvent(each));
         }
-        channel.pushRecords(dataRecords);
+        return result;
     }
     
     private List<? extends Record> handleEvent(final AbstractBinlogEvent event) {
@@ -134,9 +176,10 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
             return Collections.singletonList(createPlaceholderRecord(event));
         }
         AbstractRowsEvent rowsEvent = (AbstractRowsEvent) event;
-        if (!rowsEvent.getDatabaseName().equals(catalog) || !dumperConfig.containsTable(rowsEvent.getTableName())) {
+        if (!isSubscribedTable(rowsEvent.getDatabaseName(), rowsEvent.getTableName())) {
             return Collections.singletonList(createPlaceholderRecord(event));
         }
+        rowsEvent.decodeDeferredRows();
         PipelineTableMetaData tableMetaData = getPipelineTableMetaData(rowsEvent.getTableName());
         if (event instanceof WriteRowsEvent) {
             return handleWriteRowsEvent((WriteRowsEvent) event, tableMetaData);
@@ -247,5 +290,8 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
         if (null != client) {
             client.closeChannel();
         }
+        if (null != decodeExecutor) {
+            decodeExecutor.shutdownNow();
+        }
     }
 }
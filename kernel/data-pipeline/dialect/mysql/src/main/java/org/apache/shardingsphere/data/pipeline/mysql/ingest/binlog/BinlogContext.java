@@ -17,20 +17,20 @@
 
 package org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog;
 
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlogTableMapEventPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.MySQLBinlogColumnDef;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiPredicate;
 
 /**
  * Binlog context.
  */
 @Getter
-@RequiredArgsConstructor
 public final class BinlogContext {
     
     @Setter
@@ -40,6 +40,19 @@ public final class BinlogContext {
     
     private final Map<Long, MySQLBinlogTableMapEventPacket> tableMap;
     
+    @Getter(AccessLevel.NONE)
+    private final BiPredicate<String, String> subscribedTableFilter;
+    
+    public BinlogContext(final int checksumLength, final Map<Long, MySQLBinlogTableMapEventPacket> tableMap) {
+        this(checksumLength, tableMap, (databaseName, tableName) -> true);
+    }
+    
+    public BinlogContext(final int checksumLength, final Map<Long, MySQLBinlogTableMapEventPacket> tableMap, final BiPredicate<String, String> subscribedTableFilter) {
+        this.checksumLength = checksumLength;
+        this.tableMap = tableMap;
+        this.subscribedTableFilter = subscribedTableFilter;
+    }
+    
     /**
      * Cache table map event.
      *
@@ -89,4 +102,14 @@ public final class BinlogContext {
     public List<MySQLBinlogColumnDef> getColumnDefs(final long tableId) {
         return tableMap.get(tableId).getColumnDefs();
     }
+    
+    /**
+     * Judge whether table is subscribed.
+     *
+     * @param tableId table id
+     * @return subscribed or not
+     */
+    public boolean isSubscribedTable(final long tableId) {
+        return subscribedTableFilter.test(getDatabaseName(tableId), getTableName(tableId));
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -30,4 +31,17 @@ public abstract class AbstractRowsEvent extends AbstractBinlogEvent {
     private String databaseName;
     
     private String tableName;
+    
+    @Getter(AccessLevel.NONE)
+    private Runnable deferredRowsDecoder;
+    
+    /**
+     * Decode rows if decoding was deferred by binlog event packet decoder.
+     */
+    public void decodeDeferredRows() {
+        if (null != deferredRowsDecoder) {
+            deferredRowsDecoder.run();
+            deferredRowsDecoder = null;
+        }
+    }
 }
@@ -17,8 +17,10 @@
 
 package org.apache.shardingsphere.data.pipeline.mysql.ingest.client.netty;
 
+import com.github.luben.zstd.Zstd;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
 import lombok.extern.slf4j.Slf4j;
@@ -39,12 +41,15 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.management.MySQ
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.management.MySQLBinlogRotateEventPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlogRowsEventPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlogTableMapEventPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.transaction.MySQLBinlogTransactionPayloadEventPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiPredicate;
 
 /**
  * MySQL binlog event packet decoder.
@@ -54,15 +59,28 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
     
     private static final String TX_BEGIN_SQL = "BEGIN";
     
+    private static final int EVENT_SIZE_OFFSET = 9;
+    
+    // same as the upper bound of max_allowed_packet of MySQL
+    private static final long MAX_UNCOMPRESSED_TRANSACTION_PAYLOAD_SIZE = 1024L * 1024L * 1024L;
+    
     private final BinlogContext binlogContext;
     
     private final boolean decodeWithTX;
     
+    private final boolean deferRowsDecoding;
+    
     private List<AbstractBinlogEvent> records = new LinkedList<>();
     
     public MySQLBinlogEventPacketDecoder(final int checksumLength, final Map<Long, MySQLBinlogTableMapEventPacket> tableMap, final boolean decodeWithTX) {
+        this(checksumLength, tableMap, decodeWithTX, false, (databaseName, tableName) -> true);
+    }
+    
+    public MySQLBinlogEventPacketDecoder(final int checksumLength, final Map<Long, MySQLBinlogTableMapEventPacket> tableMap, final boolean decodeWithTX, final boolean deferRowsDecoding,
+                                         final BiPredicate<String, String> subscribedTableFilter) {
         this.decodeWithTX = decodeWithTX;
-        binlogContext = new BinlogContext(checksumLength, tableMap);
+        this.deferRowsDecoding = deferRowsDecoding;
+        binlogContext = new BinlogContext(checksumLength, tableMap, subscribedTableFilter);
     }
     
     @Override
@@ -75,7 +93,13 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
             if (!checkEventIntegrity(in, binlogEventHeader)) {
                 return;
             }
-            Optional<AbstractBinlogEvent> binlogEvent = decodeEvent(binlogEventHeader, payload);
+            if (MySQLBinlogEventType.TRANSACTION_PAYLOAD_EVENT.getValue() == binlogEventHeader.getEventType()) {
+                decodeTransactionPayloadEvent(binlogEventHeader, payload, out);
+                skipChecksum(binlogEventHeader.getEventType(), in);
+                continue;
+            }
+            int eventStartIndex = in.readerIndex() - 1 - MySQLBinlogEventHeader.MYSQL_BINLOG_EVENT_HEADER_LENGTH;
+            Optional<AbstractBinlogEvent> binlogEvent = decodeEvent(binlogEventHeader, payload, eventStartIndex);
             if (!binlogEvent.isPresent()) {
                 skipChecksum(binlogEventHeader.getEventType(), in);
                 return;
@@ -85,11 +109,7 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
                 skipChecksum(binlogEventHeader.getEventType(), in);
                 return;
             }
-            if (decodeWithTX) {
-                processEventWithTX(binlogEvent.get(), out);
-            } else {
-                processEventIgnoreTX(binlogEvent.get(), out);
-            }
+            processEvent(binlogEvent.get(), out);
             skipChecksum(binlogEventHeader.getEventType(), in);
         }
     }
@@ -120,6 +140,14 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         return true;
     }
     
+    private void processEvent(final AbstractBinlogEvent binlogEvent, final List<Object> out) {
+        if (decodeWithTX) {
+            processEventWithTX(binlogEvent, out);
+        } else {
+            processEventIgnoreTX(binlogEvent, out);
+        }
+    }
+    
     private void processEventWithTX(final AbstractBinlogEvent binlogEvent, final List<Object> out) {
         if (binlogEvent instanceof QueryEvent) {
             QueryEvent queryEvent = (QueryEvent) binlogEvent;
@@ -144,7 +172,7 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         out.add(binlogEvent);
     }
     
-    private Optional<AbstractBinlogEvent> decodeEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+    private Optional<AbstractBinlogEvent> decodeEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload, final int eventStartIndex) {
         switch (MySQLBinlogEventType.valueOf(binlogEventHeader.getEventType()).orElse(MySQLBinlogEventType.UNKNOWN_EVENT)) {
             case ROTATE_EVENT:
                 decodeRotateEvent(binlogEventHeader, payload);
@@ -157,13 +185,11 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
                 return Optional.empty();
             case WRITE_ROWS_EVENT_V1:
             case WRITE_ROWS_EVENT_V2:
-                return Optional.of(decodeWriteRowsEventV2(binlogEventHeader, payload));
             case UPDATE_ROWS_EVENT_V1:
             case UPDATE_ROWS_EVENT_V2:
-                return Optional.of(decodeUpdateRowsEventV2(binlogEventHeader, payload));
             case DELETE_ROWS_EVENT_V1:
             case DELETE_ROWS_EVENT_V2:
-                return Optional.of(decodeDeleteRowsEventV2(binlogEventHeader, payload));
+                return decodeRowsEvent(binlogEventHeader, payload, eventStartIndex);
             case QUERY_EVENT:
                 return Optional.of(decodeQueryEvent(binlogEventHeader.getChecksumLength(), payload));
             case XID_EVENT:
@@ -195,34 +221,116 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         binlogContext.putTableMapEvent(packet.getTableId(), packet);
     }
     
-    private WriteRowsEvent decodeWriteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+    private void decodeTransactionPayloadEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload, final List<Object> out) {
+        MySQLBinlogTransactionPayloadEventPacket packet = new MySQLBinlogTransactionPayloadEventPacket(binlogEventHeader, payload);
+        ByteBuf events = Unpooled.wrappedBuffer(decompressTransactionPayload(packet));
+        List<AbstractBinlogEvent> binlogEvents = new LinkedList<>();
+        while (events.readableBytes() >= MySQLBinlogEventHeader.MYSQL_BINLOG_EVENT_HEADER_LENGTH) {
+            int eventSize = events.getIntLE(events.readerIndex() + EVENT_SIZE_OFFSET);
+            // events inside transaction payload have neither status code nor checksum, add status code to decode them as normal events
+            ByteBuf eventFrame = Unpooled.buffer(1 + eventSize).writeByte(0).writeBytes(events, eventSize);
+            MySQLPacketPayload eventPayload = new MySQLPacketPayload(eventFrame, payload.getCharset());
+            eventPayload.skipReserved(1);
+            Optional<AbstractBinlogEvent> binlogEvent = decodeEvent(new MySQLBinlogEventHeader(eventPayload, 0), eventPayload, 0);
+            if (binlogEvent.isPresent() && !(binlogEvent.get() instanceof PlaceholderEvent)) {
+                binlogEvents.add(binlogEvent.get());
+            }
+        }
+        // events inside transaction payload could not be resumed separately, so only the last one takes the end position of transaction payload event,
+        // the others take its start position to resume from the whole transaction payload event
+        int index = 0;
+        for (AbstractBinlogEvent each : binlogEvents) {
+            each.setPosition(++index == binlogEvents.size() ? binlogEventHeader.getLogPos() : binlogEventHeader.getLogPos() - binlogEventHeader.getEventSize());
+            processEvent(each, out);
+        }
+    }
+    
+    private byte[] decompressTransactionPayload(final MySQLBinlogTransactionPayloadEventPacket packet) {
+        switch (packet.getCompressionType()) {
+            case MySQLBinlogTransactionPayloadEventPacket.COMPRESSION_TYPE_NONE:
+                return packet.getPayload();
+            case MySQLBinlogTransactionPayloadEventPacket.COMPRESSION_TYPE_ZSTD:
+                ShardingSpherePreconditions.checkState(packet.getUncompressedSize() >= 0L && packet.getUncompressedSize() <= MAX_UNCOMPRESSED_TRANSACTION_PAYLOAD_SIZE,
+                        () -> new PipelineInternalException("Transaction payload uncompressed size %d exceeds the limit %d", packet.getUncompressedSize(), MAX_UNCOMPRESSED_TRANSACTION_PAYLOAD_SIZE));
+                return Zstd.decompress(packet.getPayload(), (int) packet.getUncompressedSize());
+            default:
+                throw new PipelineInternalException("Unsupported transaction payload compression type: %d", packet.getCompressionType());
+        }
+    }
+    
+    private Optional<AbstractBinlogEvent> decodeRowsEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload, final int eventStartIndex) {
         MySQLBinlogRowsEventPacket packet = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        packet.readRows(binlogContext.getTableMapEvent(packet.getTableId()), payload);
+        if (!binlogContext.isSubscribedTable(packet.getTableId())) {
+            payload.getByteBuf().readerIndex(getEventEndIndex(binlogEventHeader, eventStartIndex));
+            return Optional.empty();
+        }
+        switch (MySQLBinlogEventType.valueOf(binlogEventHeader.getEventType()).orElse(MySQLBinlogEventType.UNKNOWN_EVENT)) {
+            case WRITE_ROWS_EVENT_V1:
+            case WRITE_ROWS_EVENT_V2:
+                return Optional.of(decodeWriteRowsEventV2(binlogEventHeader, packet, payload, eventStartIndex));
+            case UPDATE_ROWS_EVENT_V1:
+            case UPDATE_ROWS_EVENT_V2:
+                return Optional.of(decodeUpdateRowsEventV2(binlogEventHeader, packet, payload, eventStartIndex));
+            default:
+                return Optional.of(decodeDeleteRowsEventV2(binlogEventHeader, packet, payload, eventStartIndex));
+        }
+    }
+    
+    private WriteRowsEvent decodeWriteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLBinlogRowsEventPacket packet, final MySQLPacketPayload payload,
+                                                  final int eventStartIndex) {
         WriteRowsEvent result = new WriteRowsEvent();
         initRowsEvent(result, binlogEventHeader, packet.getTableId());
-        result.setAfterRows(packet.getRows());
+        readRows(result, packet, payload, eventStartIndex, () -> result.setAfterRows(packet.getRows()));
         return result;
     }
     
-    private UpdateRowsEvent decodeUpdateRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket packet = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        packet.readRows(binlogContext.getTableMapEvent(packet.getTableId()), payload);
+    private UpdateRowsEvent decodeUpdateRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLBinlogRowsEventPacket packet, final MySQLPacketPayload payload,
+                                                    final int eventStartIndex) {
         UpdateRowsEvent result = new UpdateRowsEvent();
         initRowsEvent(result, binlogEventHeader, packet.getTableId());
-        result.setBeforeRows(packet.getRows());
-        result.setAfterRows(packet.getRows2());
+        readRows(result, packet, payload, eventStartIndex, () -> {
+            result.setBeforeRows(packet.getRows());
+            result.setAfterRows(packet.getRows2());
+        });
         return result;
     }
     
-    private DeleteRowsEvent decodeDeleteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket packet = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        packet.readRows(binlogContext.getTableMapEvent(packet.getTableId()), payload);
+    private DeleteRowsEvent decodeDeleteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLBinlogRowsEventPacket packet, final MySQLPacketPayload payload,
+                                                    final int eventStartIndex) {
         DeleteRowsEvent result = new DeleteRowsEvent();
         initRowsEvent(result, binlogEventHeader, packet.getTableId());
-        result.setBeforeRows(packet.getRows());
+        readRows(result, packet, payload, eventStartIndex, () -> result.setBeforeRows(packet.getRows()));
         return result;
     }
     
+    private void readRows(final AbstractRowsEvent rowsEvent, final MySQLBinlogRowsEventPacket packet, final MySQLPacketPayload payload, final int eventStartIndex, final Runnable rowsSetter) {
+        MySQLBinlogTableMapEventPacket tableMapEventPacket = binlogContext.getTableMapEvent(packet.getTableId());
+        if (!deferRowsDecoding) {
+            packet.readRows(tableMapEventPacket, payload);
+            rowsSetter.run();
+            return;
+        }
+        MySQLPacketPayload rowsPayload = sliceRowsPayload(packet.getBinlogEventHeader(), payload, eventStartIndex);
+        rowsEvent.setDeferredRowsDecoder(() -> {
+            packet.readRows(tableMapEventPacket, rowsPayload);
+            rowsSetter.run();
+        });
+    }
+    
+    private MySQLPacketPayload sliceRowsPayload(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload, final int eventStartIndex) {
+        ByteBuf in = payload.getByteBuf();
+        int eventEndIndex = getEventEndIndex(binlogEventHeader, eventStartIndex);
+        ByteBuf eventFrame = Unpooled.copiedBuffer(in.slice(eventStartIndex, eventEndIndex - eventStartIndex));
+        eventFrame.readerIndex(in.readerIndex() - eventStartIndex);
+        in.readerIndex(eventEndIndex);
+        return new MySQLPacketPayload(eventFrame, payload.getCharset());
+    }
+    
+    private int getEventEndIndex(final MySQLBinlogEventHeader binlogEventHeader, final int eventStartIndex) {
+        // status code 1 byte is not included in event size, checksum bytes are skipped after decoding
+        return eventStartIndex + binlogEventHeader.getEventSize() + 1 - binlogEventHeader.getChecksumLength();
+    }
+    
     private void initRowsEvent(final AbstractRowsEvent rowsEvent, final MySQLBinlogEventHeader binlogEventHeader, final long tableId) {
         rowsEvent.setDatabaseName(binlogContext.getDatabaseName(tableId));
         rowsEvent.setTableName(binlogContext.getTableName(tableId));
@@ -17,12 +17,14 @@
 
 package org.apache.shardingsphere.data.pipeline.mysql.ingest.client.netty;
 
+import com.github.luben.zstd.Zstd;
 import com.google.common.collect.Lists;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.util.internal.StringUtil;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalException;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogContext;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.DeleteRowsEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.UpdateRowsEvent;
@@ -30,9 +32,13 @@ import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.WriteRo
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.XidEvent;
 import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinlogEventType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.MySQLBinlogEventHeader;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlogTableMapEventPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.MySQLBinlogColumnDef;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.value.string.MySQLBinaryString;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.transaction.MySQLBinlogTransactionPayloadEventPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -50,6 +56,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
@@ -57,6 +64,11 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class MySQLBinlogEventPacketDecoderTest {
     
+    // events inside transaction payload have neither status code nor checksum, so event size is 4 bytes less than the write rows event and xid event below
+    private static final String WRITE_ROWS_EVENT_IN_TRANSACTION_PAYLOAD = "7a36a9621e0100000034000000bb7c000000007b00000000000100020004ff080100000000000000010000000753554343455353";
+    
+    private static final String XID_EVENT_IN_TRANSACTION_PAYLOAD = "6acb656410010000001b000000fa29000000001643000000000000";
+    
     @Mock(answer = Answers.RETURNS_DEEP_STUBS)
     private ChannelHandlerContext channelHandlerContext;
     
@@ -137,6 +149,112 @@ class MySQLBinlogEventPacketDecoderTest {
         assertThat(actual.getAfterRows().get(0), is(new Serializable[]{1L, 1, new MySQLBinaryString("SUCCESS".getBytes()), null}));
     }
     
+    @Test
+    void assertDecodeWriteRowEventWithDeferredRowsDecoding() throws NoSuchFieldException, IllegalAccessException {
+        MySQLBinlogEventPacketDecoder decoder = new MySQLBinlogEventPacketDecoder(4, new ConcurrentHashMap<>(), true, true, (databaseName, tableName) -> true);
+        BinlogContext deferredBinlogContext = (BinlogContext) Plugins.getMemberAccessor().get(MySQLBinlogEventPacketDecoder.class.getDeclaredField("binlogContext"), decoder);
+        ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer();
+        byteBuf.writeBytes(StringUtil.decodeHexDump("007a36a9621e0100000038000000bb7c000000007b00000000000100020004ff08010000000000000001000000075355434345535365eff9ff"));
+        byteBuf.writeBytes(StringUtil.decodeHexDump("006acb656410010000001f000000fa29000000001643000000000000b13f8340"));
+        deferredBinlogContext.getTableMap().put(123L, tableMapEventPacket);
+        when(tableMapEventPacket.getColumnDefs()).thenReturn(columnDefs);
+        List<Object> decodedEvents = new LinkedList<>();
+        decoder.decode(channelHandlerContext, byteBuf, decodedEvents);
+        assertThat(decodedEvents.size(), is(1));
+        LinkedList<?> actualEventList = (LinkedList<?>) decodedEvents.get(0);
+        assertThat(actualEventList.size(), is(2));
+        WriteRowsEvent actual = (WriteRowsEvent) actualEventList.get(0);
+        assertNull(actual.getAfterRows());
+        actual.decodeDeferredRows();
+        assertThat(actual.getAfterRows().get(0), is(new Serializable[]{1L, 1, new MySQLBinaryString("SUCCESS".getBytes()), null}));
+    }
+    
+    @Test
+    void assertDecodeWriteRowEventOfUnsubscribedTable() throws NoSuchFieldException, IllegalAccessException {
+        MySQLBinlogEventPacketDecoder decoder = new MySQLBinlogEventPacketDecoder(4, new ConcurrentHashMap<>(), true, false, (databaseName, tableName) -> !"t_order".equals(tableName));
+        BinlogContext filteredBinlogContext = (BinlogContext) Plugins.getMemberAccessor().get(MySQLBinlogEventPacketDecoder.class.getDeclaredField("binlogContext"), decoder);
+        ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer();
+        byteBuf.writeBytes(StringUtil.decodeHexDump("007a36a9621e0100000038000000bb7c000000007b00000000000100020004ff08010000000000000001000000075355434345535365eff9ff"));
+        byteBuf.writeBytes(StringUtil.decodeHexDump("006acb656410010000001f000000fa29000000001643000000000000b13f8340"));
+        filteredBinlogContext.getTableMap().put(123L, tableMapEventPacket);
+        when(tableMapEventPacket.getSchemaName()).thenReturn("ds_0");
+        when(tableMapEventPacket.getTableName()).thenReturn("t_order");
+        List<Object> decodedEvents = new LinkedList<>();
+        decoder.decode(channelHandlerContext, byteBuf, decodedEvents);
+        assertTrue(decodedEvents.isEmpty());
+        decoder.decode(channelHandlerContext, byteBuf, decodedEvents);
+        assertThat(decodedEvents.size(), is(1));
+        LinkedList<?> actualEventList = (LinkedList<?>) decodedEvents.get(0);
+        assertThat(actualEventList.size(), is(1));
+        assertThat(actualEventList.get(0), instanceOf(XidEvent.class));
+    }
+    
+    @Test
+    void assertDecodeTransactionPayloadEventWithoutCompression() {
+        byte[] events = getTransactionPayloadEvents();
+        assertDecodeTransactionPayloadEvent(MySQLBinlogTransactionPayloadEventPacket.COMPRESSION_TYPE_NONE, events.length, events);
+    }
+    
+    @Test
+    void assertDecodeTransactionPayloadEventWithZstdCompression() {
+        byte[] events = getTransactionPayloadEvents();
+        assertDecodeTransactionPayloadEvent(MySQLBinlogTransactionPayloadEventPacket.COMPRESSION_TYPE_ZSTD, events.length, Zstd.compress(events));
+    }
+    
+    @Test
+    void assertDecodeTransactionPayloadEventWithOversizedUncompressedSize() {
+        byte[] events = getTransactionPayloadEvents();
+        ByteBuf byteBuf = createTransactionPayloadEvent(MySQLBinlogTransactionPayloadEventPacket.COMPRESSION_TYPE_ZSTD, Integer.MAX_VALUE + 1L, Zstd.compress(events));
+        assertThrows(PipelineInternalException.class, () -> binlogEventPacketDecoder.decode(channelHandlerContext, byteBuf, new LinkedList<>()));
+    }
+    
+    @Test
+    void assertDecodeTransactionPayloadEventWithRestartPosition() {
+        binlogEventPacketDecoder = new MySQLBinlogEventPacketDecoder(4, binlogContext.getTableMap(), false);
+        byte[] events = StringUtil.decodeHexDump(WRITE_ROWS_EVENT_IN_TRANSACTION_PAYLOAD + WRITE_ROWS_EVENT_IN_TRANSACTION_PAYLOAD + XID_EVENT_IN_TRANSACTION_PAYLOAD);
+        ByteBuf byteBuf = createTransactionPayloadEvent(MySQLBinlogTransactionPayloadEventPacket.COMPRESSION_TYPE_ZSTD, events.length, Zstd.compress(events));
+        long startPosition = 12345L - (byteBuf.writerIndex() - 1);
+        binlogContext.getTableMap().put(123L, tableMapEventPacket);
+        when(tableMapEventPacket.getColumnDefs()).thenReturn(columnDefs);
+        List<Object> decodedEvents = new LinkedList<>();
+        binlogEventPacketDecoder.decode(channelHandlerContext, byteBuf, decodedEvents);
+        assertThat(decodedEvents.size(), is(3));
+        assertThat(((WriteRowsEvent) decodedEvents.get(0)).getPosition(), is(startPosition));
+        assertThat(((WriteRowsEvent) decodedEvents.get(1)).getPosition(), is(startPosition));
+        assertThat(((XidEvent) decodedEvents.get(2)).getPosition(), is(12345L));
+    }
+    
+    private byte[] getTransactionPayloadEvents() {
+        return StringUtil.decodeHexDump(WRITE_ROWS_EVENT_IN_TRANSACTION_PAYLOAD + XID_EVENT_IN_TRANSACTION_PAYLOAD);
+    }
+    
+    private ByteBuf createTransactionPayloadEvent(final int compressionType, final long uncompressedSize, final byte[] payload) {
+        ByteBuf result = ByteBufAllocator.DEFAULT.buffer();
+        result.writeByte(0);
+        MySQLBinlogEventHeader binlogEventHeader = new MySQLBinlogEventHeader(1654191994, MySQLBinlogEventType.TRANSACTION_PAYLOAD_EVENT.getValue(), 1, 0, 12345, 0, 4);
+        new MySQLBinlogTransactionPayloadEventPacket(binlogEventHeader, compressionType, uncompressedSize, payload).write(new MySQLPacketPayload(result, StandardCharsets.UTF_8));
+        result.writeIntLE(0);
+        result.setIntLE(1 + 9, result.writerIndex() - 1);
+        return result;
+    }
+    
+    private void assertDecodeTransactionPayloadEvent(final int compressionType, final long uncompressedSize, final byte[] payload) {
+        ByteBuf byteBuf = createTransactionPayloadEvent(compressionType, uncompressedSize, payload);
+        long startPosition = 12345L - (byteBuf.writerIndex() - 1);
+        binlogContext.getTableMap().put(123L, tableMapEventPacket);
+        when(tableMapEventPacket.getColumnDefs()).thenReturn(columnDefs);
+        List<Object> decodedEvents = new LinkedList<>();
+        binlogEventPacketDecoder.decode(channelHandlerContext, byteBuf, decodedEvents);
+        assertThat(decodedEvents.size(), is(1));
+        LinkedList<?> actualEventList = (LinkedList<?>) decodedEvents.get(0);
+        assertThat(actualEventList.size(), is(2));
+        WriteRowsEvent actual = (WriteRowsEvent) actualEventList.get(0);
+        assertThat(actual.getPosition(), is(startPosition));
+        assertThat(actual.getAfterRows().get(0), is(new Serializable[]{1L, 1, new MySQLBinaryString("SUCCESS".getBytes()), null}));
+        assertThat(actualEventList.get(1), instanceOf(XidEvent.class));
+        assertThat(((XidEvent) actualEventList.get(1)).getPosition(), is(12345L));
+    }
+    
     @Test
     void assertDecodeUpdateRowEvent() {
         ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer();
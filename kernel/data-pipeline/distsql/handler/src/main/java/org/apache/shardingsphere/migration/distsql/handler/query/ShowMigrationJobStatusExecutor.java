@@ -48,7 +48,7 @@ public final class ShowMigrationJobStatusExecutor implements QueryableRALExecuto
     private LocalDataQueryResultRow generateResultRow(final InventoryIncrementalJobItemInfo jobItemInfo, final long currentTimeMillis) {
         InventoryIncrementalJobItemProgress jobItemProgress = jobItemInfo.getJobItemProgress();
         if (null == jobItemProgress) {
-            return new LocalDataQueryResultRow(jobItemInfo.getShardingItem(), "", "", "", "", "", "", "", jobItemInfo.getErrorMessage());
+            return new LocalDataQueryResultRow(jobItemInfo.getShardingItem(), "", "", "", "", "", "", "", "", "", jobItemInfo.getErrorMessage());
         }
         String incrementalIdleSeconds = "";
         if (jobItemProgress.getIncremental().getIncrementalLatestActiveTimeMillis() > 0) {
@@ -57,12 +57,17 @@ public final class ShowMigrationJobStatusExecutor implements QueryableRALExecuto
         }
         return new LocalDataQueryResultRow(jobItemInfo.getShardingItem(), jobItemProgress.getDataSourceName(), jobItemInfo.getTableNames(), jobItemProgress.getStatus(),
                 jobItemProgress.isActive() ? Boolean.TRUE.toString() : Boolean.FALSE.toString(), jobItemProgress.getProcessedRecordsCount(), jobItemInfo.getInventoryFinishedPercentage(),
-                incrementalIdleSeconds, jobItemInfo.getErrorMessage());
+                incrementalIdleSeconds, getRateLimit(jobItemProgress.getReadRateLimit()), getRateLimit(jobItemProgress.getWriteRateLimit()), jobItemInfo.getErrorMessage());
+    }
+    
+    private String getRateLimit(final double rateLimit) {
+        return rateLimit > 0D ? String.valueOf(rateLimit) : "";
     }
     
     @Override
     public Collection<String> getColumnNames() {
-        return Arrays.asList("item", "data_source", "tables", "status", "active", "processed_records_count", "inventory_finished_percentage", "incremental_idle_seconds", "error_message");
+        return Arrays.asList("item", "data_source", "tables", "status", "active", "processed_records_count", "inventory_finished_percentage", "incremental_idle_seconds",
+                "read_rate_limit", "write_rate_limit", "error_message");
     }
     
     @Override
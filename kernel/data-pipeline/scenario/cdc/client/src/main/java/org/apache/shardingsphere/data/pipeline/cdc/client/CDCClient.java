@@ -41,6 +41,7 @@ import org.apache.shardingsphere.data.pipeline.cdc.client.util.RequestIdUtils;
 import org.apache.shardingsphere.data.pipeline.cdc.client.util.ResponseFuture;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest.Type;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.GrantCreditRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody.BasicBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody.LoginType;
@@ -94,7 +95,7 @@ public final class CDCClient implements AutoCloseable {
                         channel.pipeline().addLast(new ProtobufDecoder(CDCResponse.getDefaultInstance()));
                         channel.pipeline().addLast(new ProtobufVarint32LengthFieldPrepender());
                         channel.pipeline().addLast(new ProtobufEncoder());
-                        channel.pipeline().addLast(new CDCRequestHandler(config.getDataConsumer(), config.getExceptionHandler()));
+                        channel.pipeline().addLast(new CDCRequestHandler(config.getDataConsumer(), config.getExceptionHandler(), config.getCreditRecords() > 0));
                     }
                 });
         channel = bootstrap.connect(config.getAddress(), config.getPort()).sync().channel();
@@ -155,6 +156,7 @@ public final class CDCClient implements AutoCloseable {
         channel.writeAndFlush(request);
         String result = responseFuture.waitResponseResult(config.getTimeoutMills(), connectionContext).toString();
         log.info("Start streaming success, streaming id: {}", result);
+        grantInitialCredit();
         return result;
     }
     
@@ -176,6 +178,24 @@ public final class CDCClient implements AutoCloseable {
         channel.writeAndFlush(request);
         responseFuture.waitResponseResult(config.getTimeoutMills(), connectionContext);
         log.info("Restart streaming success, streaming id: {}", streamingId);
+        grantInitialCredit();
+    }
+    
+    private void grantInitialCredit() {
+        if (config.getCreditRecords() > 0) {
+            grantCredit(config.getCreditRecords());
+        }
+    }
+    
+    /**
+     * Grant credit, server will stop pushing records of current streaming when credit is used up.
+     *
+     * @param recordCount record count
+     */
+    public void grantCredit(final int recordCount) {
+        checkChannelActive();
+        GrantCreditRequestBody body = GrantCreditRequestBody.newBuilder().setRecordCount(recordCount).build();
+        channel.writeAndFlush(CDCRequest.newBuilder().setRequestId(RequestIdUtils.generateRequestId()).setType(Type.GRANT_CREDIT).setGrantCreditRequestBody(body).build());
     }
     
     private boolean checkStreamingIdExist(final String streamingId) {
@@ -42,11 +42,18 @@ public final class CDCClientConfiguration {
     
     private final int timeoutMills;
     
+    private final int creditRecords;
+    
     public CDCClientConfiguration(final String address, final int port, final Consumer<List<Record>> dataConsumer, final ExceptionHandler exceptionHandler) {
         this.address = address;
         this.port = port;
         this.dataConsumer = dataConsumer;
         this.exceptionHandler = exceptionHandler;
         this.timeoutMills = 5000;
+        this.creditRecords = 0;
+    }
+    
+    public CDCClientConfiguration(final String address, final int port, final Consumer<List<Record>> dataConsumer, final ExceptionHandler exceptionHandler, final int timeoutMills) {
+        this(address, port, dataConsumer, exceptionHandler, timeoutMills, 0);
     }
 }
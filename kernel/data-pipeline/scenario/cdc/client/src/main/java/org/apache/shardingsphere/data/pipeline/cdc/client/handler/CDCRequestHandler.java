@@ -28,6 +28,7 @@ import org.apache.shardingsphere.data.pipeline.cdc.client.util.ServerErrorResult
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.AckStreamingRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest.Type;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.GrantCreditRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.Status;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
@@ -50,6 +51,8 @@ public final class CDCRequestHandler extends ChannelInboundHandlerAdapter {
     
     private final ExceptionHandler exceptionHandler;
     
+    private final boolean creditEnabled;
+    
     @Override
     public void channelRegistered(final ChannelHandlerContext ctx) {
         ClientConnectionContext context = new ClientConnectionContext();
@@ -108,7 +111,12 @@ public final class CDCRequestHandler extends ChannelInboundHandlerAdapter {
     
     private void processDataRecords(final ChannelHandlerContext ctx, final DataRecordResult result) {
         consumer.accept(result.getRecordList());
-        ctx.channel().writeAndFlush(CDCRequest.newBuilder().setType(Type.ACK_STREAMING).setAckStreamingRequestBody(AckStreamingRequestBody.newBuilder().setAckId(result.getAckId()).build()).build());
+        ctx.channel().write(CDCRequest.newBuilder().setType(Type.ACK_STREAMING).setAckStreamingRequestBody(AckStreamingRequestBody.newBuilder().setAckId(result.getAckId()).build()).build());
+        if (creditEnabled && result.getRecordCount() > 0) {
+            GrantCreditRequestBody grantCreditRequestBody = GrantCreditRequestBody.newBuilder().setRecordCount(result.getRecordCount()).build();
+            ctx.channel().write(CDCRequest.newBuilder().setType(Type.GRANT_CREDIT).setGrantCreditRequestBody(grantCreditRequestBody).build());
+        }
+        ctx.channel().flush();
     }
     
     @Override
@@ -20,7 +20,6 @@ package org.apache.shardingsphere.data.pipeline.cdc.core.ack;
 import com.google.common.base.Splitter;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.lang3.RandomStringUtils;
 
 import java.util.List;
 
@@ -33,16 +32,17 @@ public final class CDCAckId {
     
     private final String importerId;
     
-    private final String random;
+    private final long sequence;
     
     /**
      * Build ack id.
      *
      * @param importerId importer id
+     * @param sequence ack sequence
      * @return ack id
      */
-    public static CDCAckId build(final String importerId) {
-        return new CDCAckId(importerId, RandomStringUtils.randomAlphanumeric(16));
+    public static CDCAckId build(final String importerId, final long sequence) {
+        return new CDCAckId(importerId, sequence);
     }
     
     /**
@@ -51,7 +51,7 @@ public final class CDCAckId {
      * @return ack id
      */
     public String marshal() {
-        return importerId + "_" + random;
+        return importerId + "_" + sequence;
     }
     
     /**
@@ -62,6 +62,6 @@ public final class CDCAckId {
      */
     public static CDCAckId unmarshal(final String text) {
         List<String> parts = Splitter.on('_').trimResults().omitEmptyStrings().splitToList(text);
-        return new CDCAckId(parts.get(0), parts.get(1));
+        return new CDCAckId(parts.get(0), Long.parseLong(parts.get(1)));
     }
 }
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.ack;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+
+import java.util.Arrays;
+
+/**
+ * CDC ack ring buffer.
+ *
+ * <p>Ack positions of the latest ack sequences are kept in primitive arrays, one ack sequence might have several ack items.
+ * Slots are reused only after they are acked, adding to a full ring buffer blocks until older ack sequences are acked or the ring buffer is closed.</p>
+ */
+public final class CDCAckRingBuffer {
+    
+    private static final long EMPTY_SEQUENCE = -1L;
+    
+    private final long[] ackSequences;
+    
+    private final int[] itemOffsets;
+    
+    private final int[] itemCounts;
+    
+    private final long[] itemAckSequences;
+    
+    private final int[] itemChannelIndexes;
+    
+    private final Record[] itemLastRecords;
+    
+    private final int[] itemDataRecordCounts;
+    
+    private long nextAckSequence;
+    
+    private long nextItemIndex;
+    
+    private boolean closed;
+    
+    public CDCAckRingBuffer(final int capacity, final int itemCapacity) {
+        ackSequences = new long[capacity];
+        Arrays.fill(ackSequences, EMPTY_SEQUENCE);
+        itemOffsets = new int[capacity];
+        itemCounts = new int[capacity];
+        itemAckSequences = new long[itemCapacity];
+        Arrays.fill(itemAckSequences, EMPTY_SEQUENCE);
+        itemChannelIndexes = new int[itemCapacity];
+        itemLastRecords = new Record[itemCapacity];
+        itemDataRecordCounts = new int[itemCapacity];
+    }
+    
+    /**
+     * Start next ack sequence, ack items added later belong to it.
+     *
+     * @return ack sequence, -1 if ring buffer is closed
+     * @throws InterruptedException interrupted exception
+     */
+    public synchronized long startAckSequence() throws InterruptedException {
+        int index = (int) (nextAckSequence % ackSequences.length);
+        while (!closed && EMPTY_SEQUENCE != ackSequences[index]) {
+            wait();
+        }
+        if (closed) {
+            return EMPTY_SEQUENCE;
+        }
+        long result = nextAckSequence++;
+        ackSequences[index] = result;
+        itemOffsets[index] = (int) (nextItemIndex % itemAckSequences.length);
+        itemCounts[index] = 0;
+        return result;
+    }
+    
+    /**
+     * Add ack item to ack sequence.
+     *
+     * @param ackSequence ack sequence, which should be the latest started one
+     * @param channelIndex channel index
+     * @param lastRecord last record
+     * @param dataRecordCount data record count
+     * @return added or not, false if ring buffer is closed
+     * @throws InterruptedException interrupted exception
+     */
+    public synchronized boolean addAckItem(final long ackSequence, final int channelIndex, final Record lastRecord, final int dataRecordCount) throws InterruptedException {
+        int itemIndex = (int) (nextItemIndex % itemAckSequences.length);
+        while (!closed && EMPTY_SEQUENCE != itemAckSequences[itemIndex]) {
+            wait();
+        }
+        if (closed) {
+            return false;
+        }
+        nextItemIndex++;
+        itemAckSequences[itemIndex] = ackSequence;
+        itemChannelIndexes[itemIndex] = channelIndex;
+        itemLastRecords[itemIndex] = lastRecord;
+        itemDataRecordCounts[itemIndex] = dataRecordCount;
+        itemCounts[(int) (ackSequence % ackSequences.length)]++;
+        return true;
+    }
+    
+    /**
+     * Ack, ack items are consumed after slots are released.
+     *
+     * @param ackSequence ack sequence
+     * @param consumer ack item consumer
+     * @return acked or not, false if ack sequence is not found
+     */
+    public boolean ack(final long ackSequence, final AckItemConsumer consumer) {
+        int[] channelIndexes;
+        Record[] lastRecords;
+        int[] dataRecordCounts;
+        synchronized (this) {
+            if (ackSequence < 0L) {
+                return false;
+            }
+            int index = (int) (ackSequence % ackSequences.length);
+            if (ackSequences[index] != ackSequence) {
+                return false;
+            }
+            int itemCount = itemCounts[index];
+            channelIndexes = new int[itemCount];
+            lastRecords = new Record[itemCount];
+            dataRecordCounts = new int[itemCount];
+            for (int i = 0; i < itemCount; i++) {
+                int itemIndex = (itemOffsets[index] + i) % itemAckSequences.length;
+                channelIndexes[i] = itemChannelIndexes[itemIndex];
+                lastRecords[i] = itemLastRecords[itemIndex];
+                dataRecordCounts[i] = itemDataRecordCounts[itemIndex];
+                itemAckSequences[itemIndex] = EMPTY_SEQUENCE;
+                itemLastRecords[itemIndex] = null;
+            }
+            ackSequences[index] = EMPTY_SEQUENCE;
+            notifyAll();
+        }
+        for (int i = 0; i < channelIndexes.length; i++) {
+            consumer.accept(channelIndexes[i], lastRecords[i], dataRecordCounts[i]);
+        }
+        return true;
+    }
+    
+    /**
+     * Close, threads blocked by full ring buffer are woken up.
+     */
+    public synchronized void close() {
+        closed = true;
+        notifyAll();
+    }
+    
+    /**
+     * Ack item consumer.
+     */
+    @FunctionalInterface
+    public interface AckItemConsumer {
+        
+        /**
+         * Accept ack item.
+         *
+         * @param channelIndex channel index
+         * @param lastRecord last record
+         * @param dataRecordCount data record count
+         */
+        void accept(int channelIndex, Record lastRecord, int dataRecordCount);
+    }
+}
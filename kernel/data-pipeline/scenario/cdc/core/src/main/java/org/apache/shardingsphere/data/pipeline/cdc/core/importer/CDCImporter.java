@@ -17,14 +17,11 @@
 
 package org.apache.shardingsphere.data.pipeline.cdc.core.importer;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.RandomStringUtils;
-import org.apache.commons.lang3.tuple.Pair;
 import org.apache.shardingsphere.data.pipeline.api.executor.AbstractLifecycleExecutor;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
@@ -33,7 +30,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderReco
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
 import org.apache.shardingsphere.data.pipeline.cdc.core.ack.CDCAckId;
-import org.apache.shardingsphere.data.pipeline.cdc.core.ack.CDCAckPosition;
+import org.apache.shardingsphere.data.pipeline.cdc.core.ack.CDCAckRingBuffer;
 import org.apache.shardingsphere.data.pipeline.common.job.progress.listener.PipelineJobProgressUpdatedParameter;
 import org.apache.shardingsphere.data.pipeline.core.importer.Importer;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
@@ -41,12 +38,8 @@ import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorit
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.PriorityQueue;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 /**
  * CDC importer.
@@ -55,6 +48,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public final class CDCImporter extends AbstractLifecycleExecutor implements Importer {
     
+    private static final int ACK_CAPACITY = 10000;
+    
     @Getter
     private final String importerId = RandomStringUtils.randomAlphanumeric(8);
     
@@ -72,128 +67,182 @@ public final class CDCImporter extends AbstractLifecycleExecutor implements Impo
     
     private final JobRateLimitAlgorithm rateLimitAlgorithm;
     
-    private final PriorityQueue<CSNRecords> csnRecordsQueue = new PriorityQueue<>(new CSNRecordsComparator());
+    private final CDCRecordsArrivalSignal recordsArrivalSignal;
+    
+    private final CDCAckRingBuffer ackRingBuffer = new CDCAckRingBuffer(ACK_CAPACITY, ACK_CAPACITY * 2);
+    
+    private volatile CDCChannelProgressPair[] channelProgressPairs;
+    
+    private int[] activeChannelIndexes;
+    
+    private int activeChannelCount;
     
-    private final Cache<String, List<Pair<CDCChannelProgressPair, CDCAckPosition>>> ackCache = Caffeine.newBuilder().maximumSize(10000).expireAfterAccess(5, TimeUnit.MINUTES).build();
+    private List<List<Record>> headRecords;
+    
+    private long[] headCSNs;
+    
+    private int[] csnHeap;
+    
+    private int csnHeapSize;
+    
+    private int[] mergedChannelIndexes;
     
     @Override
     protected void runBlocking() {
+        channelProgressPairs = originalChannelProgressPairs.toArray(new CDCChannelProgressPair[0]);
         CDCImporterManager.putImporter(this);
-        List<CDCChannelProgressPair> channelProgressPairs = new ArrayList<>(originalChannelProgressPairs);
+        int channelCount = channelProgressPairs.length;
+        activeChannelIndexes = new int[channelCount];
+        for (int i = 0; i < channelCount; i++) {
+            activeChannelIndexes[i] = i;
+        }
+        activeChannelCount = channelCount;
+        headRecords = new ArrayList<>(Collections.nCopies(channelCount, null));
+        headCSNs = new long[channelCount];
+        csnHeap = new int[channelCount];
+        mergedChannelIndexes = new int[channelCount];
         while (isRunning()) {
-            if (needSorting) {
-                doWithSorting(channelProgressPairs);
-            } else {
-                doWithoutSorting(channelProgressPairs);
-            }
-            if (channelProgressPairs.isEmpty()) {
+            boolean imported = needSorting ? doWithSorting() : doWithoutSorting();
+            if (0 == activeChannelCount) {
                 break;
             }
+            if (!imported) {
+                recordsArrivalSignal.await(timeout, timeUnit);
+            }
         }
     }
     
-    private void doWithoutSorting(final List<CDCChannelProgressPair> channelProgressPairs) {
-        Iterator<CDCChannelProgressPair> channelProgressPairsIterator = channelProgressPairs.iterator();
-        while (channelProgressPairsIterator.hasNext()) {
-            CDCChannelProgressPair channelProgressPair = channelProgressPairsIterator.next();
+    @SneakyThrows(InterruptedException.class)
+    private boolean doWithoutSorting() {
+        boolean result = false;
+        int i = 0;
+        while (i < activeChannelCount) {
+            int channelIndex = activeChannelIndexes[i];
+            CDCChannelProgressPair channelProgressPair = channelProgressPairs[channelIndex];
             PipelineChannel channel = channelProgressPair.getChannel();
-            List<Record> records = channel.fetchRecords(batchSize, timeout, timeUnit).stream().filter(each -> !(each instanceof PlaceholderRecord)).collect(Collectors.toList());
+            List<Record> records = pollRecords(channel);
             if (records.isEmpty()) {
+                i++;
                 continue;
             }
+            result = true;
             if (null != rateLimitAlgorithm) {
                 rateLimitAlgorithm.intercept(JobOperationType.INSERT, 1);
             }
-            String ackId = CDCAckId.build(importerId).marshal();
-            ackCache.put(ackId, Collections.singletonList(Pair.of(channelProgressPair, new CDCAckPosition(records.get(records.size() - 1), getDataRecordsCount(records)))));
-            sink.write(ackId, records);
             Record lastRecord = records.get(records.size() - 1);
-            if (lastRecord instanceof FinishedRecord) {
-                channelProgressPairsIterator.remove();
+            long ackSequence = ackRingBuffer.startAckSequence();
+            if (ackSequence < 0L || !ackRingBuffer.addAckItem(ackSequence, channelIndex, lastRecord, getDataRecordsCount(records))) {
+                return false;
+            }
+            sink.write(CDCAckId.build(importerId, ackSequence).marshal(), records);
+            if (!(lastRecord instanceof FinishedRecord)) {
+                i++;
+                continue;
             }
-            if (lastRecord instanceof FinishedRecord && records.stream().noneMatch(DataRecord.class::isInstance)) {
+            activeChannelIndexes[i] = activeChannelIndexes[--activeChannelCount];
+            if (records.stream().noneMatch(DataRecord.class::isInstance)) {
                 channel.ack(records);
                 channelProgressPair.getJobProgressListener().onProgressUpdated(new PipelineJobProgressUpdatedParameter(0));
             }
         }
+        return result;
     }
     
-    @SneakyThrows(InterruptedException.class)
-    private void doWithSorting(final List<CDCChannelProgressPair> channelProgressPairs) {
-        if (null != rateLimitAlgorithm) {
-            rateLimitAlgorithm.intercept(JobOperationType.INSERT, 1);
-        }
-        CSNRecords firstCsnRecords = null;
-        List<CSNRecords> csnRecordsList = new LinkedList<>();
-        for (int i = 0, count = channelProgressPairs.size(); i < count; i++) {
-            prepareTransactionRecords(channelProgressPairs);
-            CSNRecords csnRecords = csnRecordsQueue.peek();
-            if (null == csnRecords) {
-                continue;
+    private List<Record> pollRecords(final PipelineChannel channel) {
+        List<Record> result = Collections.emptyList();
+        while (result.size() < batchSize) {
+            List<Record> records = channel.pollRecords();
+            if (records.isEmpty()) {
+                break;
             }
-            if (null == firstCsnRecords) {
-                csnRecords = csnRecordsQueue.poll();
-                firstCsnRecords = csnRecords;
-                csnRecordsList.add(csnRecords);
-            } else if (csnRecords.getCsn() == firstCsnRecords.getCsn()) {
-                csnRecords = csnRecordsQueue.poll();
-                csnRecordsList.add(csnRecords);
+            if (result.isEmpty()) {
+                result = new ArrayList<>(Math.max(batchSize, records.size()));
+            }
+            for (Record each : records) {
+                if (!(each instanceof PlaceholderRecord)) {
+                    result.add(each);
+                }
+            }
+            if (records.get(records.size() - 1) instanceof FinishedRecord) {
+                break;
             }
         }
-        if (csnRecordsList.isEmpty()) {
-            timeUnit.sleep(timeout);
-            return;
-        }
-        // TODO Combine small transactions into a large transaction, to improve transformation performance.
-        String ackId = CDCAckId.build(importerId).marshal();
-        if (1 == csnRecordsList.size()) {
-            CSNRecords csnRecords = csnRecordsList.get(0);
-            List<Record> records = csnRecords.getRecords();
-            ackCache.put(ackId, Collections.singletonList(Pair.of(csnRecords.getChannelProgressPair(), new CDCAckPosition(records.get(records.size() - 1), getDataRecordsCount(records)))));
-            sink.write(ackId, filterDataRecords(records));
-            return;
-        }
-        List<Pair<CDCChannelProgressPair, CDCAckPosition>> ackValue = csnRecordsList.stream().map(each -> Pair.of(each.getChannelProgressPair(),
-                new CDCAckPosition(each.getRecords().get(each.getRecords().size() - 1), getDataRecordsCount(each.getRecords())))).collect(Collectors.toList());
-        ackCache.put(ackId, ackValue);
-        List<Record> records = new ArrayList<>(ackValue.stream().mapToInt(each -> each.getRight().getDataRecordCount()).sum());
-        csnRecordsList.forEach(each -> records.addAll(filterDataRecords(each.getRecords())));
-        sink.write(ackId, filterDataRecords(records));
-    }
-    
-    private int getDataRecordsCount(final List<Record> records) {
-        return (int) records.stream().filter(DataRecord.class::isInstance).count();
-    }
-    
-    private List<Record> filterDataRecords(final List<Record> records) {
-        return records.stream().filter(DataRecord.class::isInstance).map(DataRecord.class::cast).collect(Collectors.toList());
+        return result;
     }
     
     // TODO openGauss CSN should be incremented for every transaction. Currently, CSN might be duplicated in transactions.
     // TODO Use channels watermark depth to improve performance.
-    private void prepareTransactionRecords(final List<CDCChannelProgressPair> channelProgressPairs) {
-        if (csnRecordsQueue.isEmpty()) {
-            prepareWhenQueueIsEmpty(channelProgressPairs);
-        } else {
-            prepareWhenQueueIsNotEmpty(channelProgressPairs, csnRecordsQueue.peek().getCsn());
+    @SneakyThrows(InterruptedException.class)
+    private boolean doWithSorting() {
+        prepareHeadRecords();
+        if (0 == csnHeapSize) {
+            return false;
+        }
+        if (null != rateLimitAlgorithm) {
+            rateLimitAlgorithm.intercept(JobOperationType.INSERT, 1);
+        }
+        int mergedCount = 0;
+        mergedChannelIndexes[mergedCount++] = pollCSNHeap();
+        long csn = headCSNs[mergedChannelIndexes[0]];
+        int dataRecordsCount = getDataRecordsCount(headRecords.get(mergedChannelIndexes[0]));
+        while (csnHeapSize > 0 && headCSNs[csnHeap[0]] == csn) {
+            int channelIndex = pollCSNHeap();
+            mergedChannelIndexes[mergedCount++] = channelIndex;
+            dataRecordsCount += getDataRecordsCount(headRecords.get(channelIndex));
         }
+        // TODO Combine small transactions into a large transaction, to improve transformation performance.
+        long ackSequence = ackRingBuffer.startAckSequence();
+        if (ackSequence < 0L) {
+            return false;
+        }
+        List<Record> records = new ArrayList<>(dataRecordsCount);
+        for (int i = 0; i < mergedCount; i++) {
+            int channelIndex = mergedChannelIndexes[i];
+            List<Record> transactionRecords = headRecords.get(channelIndex);
+            headRecords.set(channelIndex, null);
+            if (!ackRingBuffer.addAckItem(ackSequence, channelIndex, transactionRecords.get(transactionRecords.size() - 1), getDataRecordsCount(transactionRecords))) {
+                return false;
+            }
+            for (Record each : transactionRecords) {
+                if (each instanceof DataRecord) {
+                    records.add(each);
+                }
+            }
+        }
+        sink.write(CDCAckId.build(importerId, ackSequence).marshal(), records);
+        return true;
     }
     
-    private void prepareWhenQueueIsEmpty(final List<CDCChannelProgressPair> channelProgressPairs) {
-        for (CDCChannelProgressPair each : channelProgressPairs) {
-            PipelineChannel channel = each.getChannel();
-            List<Record> records = channel.pollRecords();
-            if (records.isEmpty()) {
+    private void prepareHeadRecords() {
+        for (int i = 0; i < channelProgressPairs.length; i++) {
+            if (null != headRecords.get(i)) {
                 continue;
             }
-            if (0 == getDataRecordsCount(records)) {
+            PipelineChannel channel = channelProgressPairs[i].getChannel();
+            List<Record> records = channel.pollRecords();
+            while (!records.isEmpty() && 0 == getDataRecordsCount(records)) {
                 channel.ack(records);
+                records = channel.pollRecords();
+            }
+            if (records.isEmpty()) {
                 continue;
             }
-            csnRecordsQueue.add(new CSNRecords(findFirstDataRecord(records).getCsn(), each, records));
+            headRecords.set(i, records);
+            headCSNs[i] = findFirstDataRecord(records).getCsn();
+            offerCSNHeap(i);
         }
     }
     
+    private int getDataRecordsCount(final List<Record> records) {
+        int result = 0;
+        for (Record each : records) {
+            if (each instanceof DataRecord) {
+                result++;
+            }
+        }
+        return result;
+    }
+    
     private DataRecord findFirstDataRecord(final List<Record> records) {
         for (Record each : records) {
             if (each instanceof DataRecord) {
@@ -203,24 +252,45 @@ public final class CDCImporter extends AbstractLifecycleExecutor implements Impo
         throw new IllegalStateException("No data record found");
     }
     
-    private void prepareWhenQueueIsNotEmpty(final List<CDCChannelProgressPair> channelProgressPairs, final long oldestCSN) {
-        for (CDCChannelProgressPair each : channelProgressPairs) {
-            PipelineChannel channel = each.getChannel();
-            List<Record> records = channel.peekRecords();
-            if (records.isEmpty()) {
-                continue;
+    private void offerCSNHeap(final int channelIndex) {
+        int index = csnHeapSize++;
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> 1;
+            if (!isCSNLess(channelIndex, csnHeap[parentIndex])) {
+                break;
             }
-            if (0 == getDataRecordsCount(records)) {
-                records = channel.pollRecords();
-                channel.ack(records);
-                continue;
+            csnHeap[index] = csnHeap[parentIndex];
+            index = parentIndex;
+        }
+        csnHeap[index] = channelIndex;
+    }
+    
+    private int pollCSNHeap() {
+        int result = csnHeap[0];
+        int lastChannelIndex = csnHeap[--csnHeapSize];
+        int index = 0;
+        while (true) {
+            int childIndex = (index << 1) + 1;
+            if (childIndex >= csnHeapSize) {
+                break;
             }
-            long csn = findFirstDataRecord(records).getCsn();
-            if (csn <= oldestCSN) {
-                records = channel.pollRecords();
-                csnRecordsQueue.add(new CSNRecords(csn, each, records));
+            if (childIndex + 1 < csnHeapSize && isCSNLess(csnHeap[childIndex + 1], csnHeap[childIndex])) {
+                childIndex++;
+            }
+            if (!isCSNLess(csnHeap[childIndex], lastChannelIndex)) {
+                break;
             }
+            csnHeap[index] = csnHeap[childIndex];
+            index = childIndex;
         }
+        if (csnHeapSize > 0) {
+            csnHeap[index] = lastChannelIndex;
+        }
+        return result;
+    }
+    
+    private boolean isCSNLess(final int channelIndex, final int otherChannelIndex) {
+        return headCSNs[channelIndex] < headCSNs[otherChannelIndex] || headCSNs[channelIndex] == headCSNs[otherChannelIndex] && channelIndex < otherChannelIndex;
     }
     
     /**
@@ -229,20 +299,21 @@ public final class CDCImporter extends AbstractLifecycleExecutor implements Impo
      * @param ackId ack id
      */
     public void ack(final String ackId) {
-        List<Pair<CDCChannelProgressPair, CDCAckPosition>> channelPositionPairList = ackCache.getIfPresent(ackId);
-        if (null == channelPositionPairList) {
+        if (!ackRingBuffer.ack(CDCAckId.unmarshal(ackId).getSequence(), this::ackChannel)) {
             log.warn("Could not find cached ack info, ack id: {}", ackId);
-            return;
-        }
-        for (Pair<CDCChannelProgressPair, CDCAckPosition> each : channelPositionPairList) {
-            CDCAckPosition ackPosition = each.getRight();
-            each.getLeft().getChannel().ack(Collections.singletonList(ackPosition.getLastRecord()));
-            each.getLeft().getJobProgressListener().onProgressUpdated(new PipelineJobProgressUpdatedParameter(ackPosition.getDataRecordCount()));
         }
     }
     
+    private void ackChannel(final int channelIndex, final Record lastRecord, final int dataRecordCount) {
+        CDCChannelProgressPair channelProgressPair = channelProgressPairs[channelIndex];
+        channelProgressPair.getChannel().ack(Collections.singletonList(lastRecord));
+        channelProgressPair.getJobProgressListener().onProgressUpdated(new PipelineJobProgressUpdatedParameter(dataRecordCount));
+    }
+    
     @Override
     protected void doStop() {
         CDCImporterManager.removeImporter(importerId);
+        ackRingBuffer.close();
+        recordsArrivalSignal.signal();
     }
 }
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.importer;
+
+import lombok.SneakyThrows;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * CDC records arrival signal, it's used to wake up importer when records are pushed into channels.
+ */
+public final class CDCRecordsArrivalSignal {
+    
+    private final Lock lock = new ReentrantLock();
+    
+    private final Condition condition = lock.newCondition();
+    
+    private boolean arrived;
+    
+    /**
+     * Signal records arrived.
+     */
+    public void signal() {
+        lock.lock();
+        try {
+            arrived = true;
+            condition.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Await records arrival, return immediately if records arrived after last awaiting.
+     *
+     * @param timeout timeout
+     * @param timeUnit time unit
+     */
+    @SneakyThrows(InterruptedException.class)
+    public void await(final long timeout, final TimeUnit timeUnit) {
+        lock.lock();
+        try {
+            if (!arrived) {
+                condition.await(timeout, timeUnit);
+            }
+            arrived = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
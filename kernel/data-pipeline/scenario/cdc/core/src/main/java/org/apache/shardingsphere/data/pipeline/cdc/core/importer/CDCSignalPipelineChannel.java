@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.importer;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CDC signal pipeline channel, it signals importer after records pushed.
+ */
+@RequiredArgsConstructor
+public final class CDCSignalPipelineChannel implements PipelineChannel {
+    
+    private final PipelineChannel delegate;
+    
+    private final CDCRecordsArrivalSignal signal;
+    
+    @Override
+    public void pushRecords(final List<Record> records) {
+        delegate.pushRecords(records);
+        signal.signal();
+    }
+    
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final long timeout, final TimeUnit timeUnit) {
+        return delegate.fetchRecords(batchSize, timeout, timeUnit);
+    }
+    
+    @Override
+    public List<Record> peekRecords() {
+        return delegate.peekRecords();
+    }
+    
+    @Override
+    public List<Record> pollRecords() {
+        return delegate.pollRecords();
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        delegate.ack(records);
+    }
+    
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
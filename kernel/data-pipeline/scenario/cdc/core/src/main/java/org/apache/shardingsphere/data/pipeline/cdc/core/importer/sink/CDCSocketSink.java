@@ -17,26 +17,33 @@
 
 package org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink;
 
+import com.google.protobuf.CodedOutputStream;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.protobuf.ProtobufVarint32LengthFieldPrepender;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.cdc.generator.CDCResponseUtils;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.ResponseCase;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
 import org.apache.shardingsphere.data.pipeline.cdc.util.DataRecordResultConvertUtils;
 import org.apache.shardingsphere.data.pipeline.common.job.progress.listener.PipelineJobProgressUpdatedParameter;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalException;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -49,6 +56,10 @@ public final class CDCSocketSink implements PipelineSink {
     
     private static final long DEFAULT_TIMEOUT_MILLISECONDS = 200L;
     
+    private static final int FLUSH_THRESHOLD_BYTES = 64 * 1024;
+    
+    private static final long FLUSH_DELAY_MILLISECONDS = 10L;
+    
     private final Lock lock = new ReentrantLock();
     
     private final Condition condition = lock.newCondition();
@@ -59,6 +70,16 @@ public final class CDCSocketSink implements PipelineSink {
     
     private final Map<String, String> tableNameSchemaMap = new HashMap<>();
     
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    
+    private volatile boolean closed;
+    
+    private boolean creditEnabled;
+    
+    private long credit;
+    
+    private int unflushedBytes;
+    
     public CDCSocketSink(final Channel channel, final ShardingSphereDatabase database, final Collection<String> schemaTableNames) {
         this.channel = channel;
         this.database = database;
@@ -78,13 +99,7 @@ public final class CDCSocketSink implements PipelineSink {
         if (records.isEmpty()) {
             return new PipelineJobProgressUpdatedParameter(0);
         }
-        while (!channel.isWritable() && channel.isActive()) {
-            doAwait();
-        }
-        if (!channel.isActive()) {
-            return new PipelineJobProgressUpdatedParameter(0);
-        }
-        List<DataRecordResult.Record> resultRecords = new LinkedList<>();
+        List<DataRecordResult.Record> resultRecords = new ArrayList<>(records.size());
         for (Record each : records) {
             if (!(each instanceof DataRecord)) {
                 continue;
@@ -92,22 +107,103 @@ public final class CDCSocketSink implements PipelineSink {
             DataRecord dataRecord = (DataRecord) each;
             resultRecords.add(DataRecordResultConvertUtils.convertDataRecordToRecord(database.getName(), tableNameSchemaMap.get(dataRecord.getTableName()), dataRecord));
         }
-        DataRecordResult dataRecordResult = DataRecordResult.newBuilder().addAllRecord(resultRecords).setAckId(ackId).build();
-        channel.writeAndFlush(CDCResponseUtils.succeed("", ResponseCase.DATA_RECORD_RESULT, dataRecordResult));
+        lock.lock();
+        try {
+            while (!closed && channel.isActive() && !isWritable()) {
+                doAwait();
+            }
+            if (closed || !channel.isActive()) {
+                return new PipelineJobProgressUpdatedParameter(0);
+            }
+            if (creditEnabled) {
+                credit -= resultRecords.size();
+            }
+            writeDataRecordResult(ackId, resultRecords);
+        } finally {
+            lock.unlock();
+        }
         return new PipelineJobProgressUpdatedParameter(resultRecords.size());
     }
     
+    private boolean isWritable() {
+        return channel.isWritable() && (!creditEnabled || credit > 0L);
+    }
+    
     @SneakyThrows(InterruptedException.class)
     private void doAwait() {
+        condition.await(DEFAULT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
+    }
+    
+    private void writeDataRecordResult(final String ackId, final List<DataRecordResult.Record> records) {
+        CDCResponse response = CDCResponseUtils.succeed("", ResponseCase.DATA_RECORD_RESULT, DataRecordResult.newBuilder().setAckId(ackId).addAllRecord(records).build());
+        ChannelHandlerContext lengthFieldPrependerContext = channel.pipeline().context(ProtobufVarint32LengthFieldPrepender.class);
+        if (null == lengthFieldPrependerContext) {
+            channel.write(response);
+            unflushedBytes += response.getSerializedSize();
+        } else {
+            // encode the frame into one pooled buffer and write it below the encoders, so the response is neither copied to byte array nor copied again for length field
+            ByteBuf frame = encodeFrame(response);
+            unflushedBytes += frame.readableBytes();
+            lengthFieldPrependerContext.write(frame);
+        }
+        if (unflushedBytes >= FLUSH_THRESHOLD_BYTES) {
+            unflushedBytes = 0;
+            channel.flush();
+        } else if (flushScheduled.compareAndSet(false, true)) {
+            channel.eventLoop().schedule(this::flush, FLUSH_DELAY_MILLISECONDS, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    private ByteBuf encodeFrame(final CDCResponse response) {
+        int responseSize = response.getSerializedSize();
+        int frameSize = CodedOutputStream.computeUInt32SizeNoTag(responseSize) + responseSize;
+        ByteBuf result = channel.alloc().buffer(frameSize);
+        try {
+            CodedOutputStream output = CodedOutputStream.newInstance(result.nioBuffer(result.writerIndex(), frameSize));
+            output.writeUInt32NoTag(responseSize);
+            response.writeTo(output);
+            output.checkNoSpaceLeft();
+        } catch (final IOException ex) {
+            result.release();
+            throw new PipelineInternalException("Encode data record result failed", ex);
+        }
+        return result.writerIndex(result.writerIndex() + frameSize);
+    }
+    
+    private void flush() {
+        flushScheduled.set(false);
+        lock.lock();
+        try {
+            unflushedBytes = 0;
+        } finally {
+            lock.unlock();
+        }
+        channel.flush();
+    }
+    
+    /**
+     * Grant credit, records will be written only if there is remaining credit after the first credit granted.
+     *
+     * @param recordCount record count
+     */
+    public void grantCredit(final int recordCount) {
+        lock.lock();
+        try {
+            creditEnabled = true;
+            credit += recordCount;
+            condition.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Notify channel writability changed.
+     */
+    public void notifyWritabilityChanged() {
         lock.lock();
-        long startMillis = System.currentTimeMillis();
-        long endMillis = startMillis;
-        boolean awaitResult;
         try {
-            do {
-                awaitResult = condition.await(DEFAULT_TIMEOUT_MILLISECONDS - (endMillis - startMillis), TimeUnit.MILLISECONDS);
-                endMillis = System.currentTimeMillis();
-            } while (!awaitResult && DEFAULT_TIMEOUT_MILLISECONDS > endMillis - startMillis);
+            condition.signalAll();
         } finally {
             lock.unlock();
         }
@@ -115,5 +211,7 @@ public final class CDCSocketSink implements PipelineSink {
     
     @Override
     public void close() throws IOException {
+        closed = true;
+        notifyWritabilityChanged();
     }
 }
@@ -29,6 +29,8 @@ import org.apache.shardingsphere.data.pipeline.cdc.context.CDCJobItemContext;
 import org.apache.shardingsphere.data.pipeline.cdc.context.CDCProcessContext;
 import org.apache.shardingsphere.data.pipeline.cdc.core.importer.CDCChannelProgressPair;
 import org.apache.shardingsphere.data.pipeline.cdc.core.importer.CDCImporter;
+import org.apache.shardingsphere.data.pipeline.cdc.core.importer.CDCRecordsArrivalSignal;
+import org.apache.shardingsphere.data.pipeline.cdc.core.importer.CDCSignalPipelineChannel;
 import org.apache.shardingsphere.data.pipeline.cdc.core.task.CDCIncrementalTask;
 import org.apache.shardingsphere.data.pipeline.cdc.core.task.CDCInventoryTask;
 import org.apache.shardingsphere.data.pipeline.common.config.ImporterConfiguration;
@@ -76,15 +78,19 @@ public final class CDCJobPreparer {
         // TODO Use pipeline tree to build it
         AtomicBoolean inventoryImporterUsed = new AtomicBoolean();
         List<CDCChannelProgressPair> inventoryChannelProgressPairs = new LinkedList<>();
+        CDCRecordsArrivalSignal inventoryRecordsArrivalSignal = new CDCRecordsArrivalSignal();
         AtomicBoolean incrementalImporterUsed = new AtomicBoolean();
         List<CDCChannelProgressPair> incrementalChannelProgressPairs = new LinkedList<>();
+        CDCRecordsArrivalSignal incrementalRecordsArrivalSignal = new CDCRecordsArrivalSignal();
         for (CDCJobItemContext each : jobItemContexts) {
-            initTasks0(each, inventoryImporterUsed, inventoryChannelProgressPairs, incrementalImporterUsed, incrementalChannelProgressPairs);
+            initTasks0(each, inventoryImporterUsed, inventoryChannelProgressPairs, inventoryRecordsArrivalSignal, incrementalImporterUsed, incrementalChannelProgressPairs,
+                    incrementalRecordsArrivalSignal);
         }
     }
     
     private void initTasks0(final CDCJobItemContext jobItemContext, final AtomicBoolean inventoryImporterUsed, final List<CDCChannelProgressPair> inventoryChannelProgressPairs,
-                            final AtomicBoolean incrementalImporterUsed, final List<CDCChannelProgressPair> incrementalChannelProgressPairs) {
+                            final CDCRecordsArrivalSignal inventoryRecordsArrivalSignal, final AtomicBoolean incrementalImporterUsed,
+                            final List<CDCChannelProgressPair> incrementalChannelProgressPairs, final CDCRecordsArrivalSignal incrementalRecordsArrivalSignal) {
         Optional<InventoryIncrementalJobItemProgress> jobItemProgress = jobAPI.getJobItemProgress(jobItemContext.getJobId(), jobItemContext.getShardingItem());
         if (!jobItemProgress.isPresent()) {
             jobAPI.persistJobItemProgress(jobItemContext);
@@ -95,9 +101,9 @@ public final class CDCJobPreparer {
         }
         initIncrementalPosition(jobItemContext);
         if (jobItemContext.getJobConfig().isFull()) {
-            initInventoryTasks(jobItemContext, inventoryImporterUsed, inventoryChannelProgressPairs);
+            initInventoryTasks(jobItemContext, inventoryImporterUsed, inventoryChannelProgressPairs, inventoryRecordsArrivalSignal);
         }
-        initIncrementalTask(jobItemContext, incrementalImporterUsed, incrementalChannelProgressPairs);
+        initIncrementalTask(jobItemContext, incrementalImporterUsed, incrementalChannelProgressPairs, incrementalRecordsArrivalSignal);
     }
     
     private void initIncrementalPosition(final CDCJobItemContext jobItemContext) {
@@ -110,7 +116,8 @@ public final class CDCJobPreparer {
         }
     }
     
-    private void initInventoryTasks(final CDCJobItemContext jobItemContext, final AtomicBoolean importerUsed, final List<CDCChannelProgressPair> channelProgressPairs) {
+    private void initInventoryTasks(final CDCJobItemContext jobItemContext, final AtomicBoolean importerUsed, final List<CDCChannelProgressPair> channelProgressPairs,
+                                    final CDCRecordsArrivalSignal recordsArrivalSignal) {
         long startTimeMillis = System.currentTimeMillis();
         CDCTaskConfiguration taskConfig = jobItemContext.getTaskConfig();
         ImporterConfiguration importerConfig = taskConfig.getImporterConfig();
@@ -118,13 +125,14 @@ public final class CDCJobPreparer {
         for (InventoryDumperConfiguration each : new InventoryTaskSplitter(jobItemContext.getSourceDataSource(), new InventoryDumperConfiguration(taskConfig.getDumperConfig()), importerConfig)
                 .splitInventoryDumperConfig(jobItemContext)) {
             AtomicReference<IngestPosition> position = new AtomicReference<>(each.getPosition());
-            PipelineChannel channel = PipelineTaskUtils.createInventoryChannel(processContext.getPipelineChannelCreator(), importerConfig.getBatchSize(), position);
+            PipelineChannel channel = new CDCSignalPipelineChannel(
+                    PipelineTaskUtils.createInventoryChannel(processContext.getPipelineChannelCreator(), importerConfig.getBatchSize(), position), recordsArrivalSignal);
             channelProgressPairs.add(new CDCChannelProgressPair(channel, jobItemContext));
             Dumper dumper = new InventoryDumper(each, channel, jobItemContext.getSourceDataSource(), jobItemContext.getSourceMetaDataLoader());
             Importer importer = importerUsed.get() ? null
                     : new CDCImporter(channelProgressPairs, importerConfig.getBatchSize(), 3, TimeUnit.SECONDS, jobItemContext.getSink(),
                             needSorting(ImporterType.INVENTORY, hasGlobalCSN(taskConfig.getDumperConfig().getDataSourceConfig().getDatabaseType())),
-                            importerConfig.getRateLimitAlgorithm());
+                            importerConfig.getRateLimitAlgorithm(), recordsArrivalSignal);
             jobItemContext.getInventoryTasks().add(new CDCInventoryTask(PipelineTaskUtils.generateInventoryTaskId(each), processContext.getInventoryDumperExecuteEngine(),
                     processContext.getInventoryImporterExecuteEngine(), dumper, importer, position));
             if (!(each.getPosition() instanceof FinishedPosition)) {
@@ -142,19 +150,21 @@ public final class CDCJobPreparer {
         return databaseType instanceof OpenGaussDatabaseType;
     }
     
-    private void initIncrementalTask(final CDCJobItemContext jobItemContext, final AtomicBoolean importerUsed, final List<CDCChannelProgressPair> channelProgressPairs) {
+    private void initIncrementalTask(final CDCJobItemContext jobItemContext, final AtomicBoolean importerUsed, final List<CDCChannelProgressPair> channelProgressPairs,
+                                     final CDCRecordsArrivalSignal recordsArrivalSignal) {
         CDCTaskConfiguration taskConfig = jobItemContext.getTaskConfig();
         DumperConfiguration dumperConfig = taskConfig.getDumperConfig();
         ImporterConfiguration importerConfig = taskConfig.getImporterConfig();
         IncrementalTaskProgress taskProgress = PipelineTaskUtils.createIncrementalTaskProgress(dumperConfig.getPosition(), jobItemContext.getInitProgress());
-        PipelineChannel channel = PipelineTaskUtils.createIncrementalChannel(importerConfig.getConcurrency(), jobItemContext.getJobProcessContext().getPipelineChannelCreator(), taskProgress);
+        PipelineChannel channel = new CDCSignalPipelineChannel(
+                PipelineTaskUtils.createIncrementalChannel(importerConfig.getConcurrency(), jobItemContext.getJobProcessContext().getPipelineChannelCreator(), taskProgress), recordsArrivalSignal);
         channelProgressPairs.add(new CDCChannelProgressPair(channel, jobItemContext));
         Dumper dumper = DatabaseTypedSPILoader.getService(IncrementalDumperCreator.class, dumperConfig.getDataSourceConfig().getDatabaseType())
                 .createIncrementalDumper(dumperConfig, dumperConfig.getPosition(), channel, jobItemContext.getSourceMetaDataLoader());
         boolean needSorting = needSorting(ImporterType.INCREMENTAL, hasGlobalCSN(importerConfig.getDataSourceConfig().getDatabaseType()));
         Importer importer = importerUsed.get() ? null
                 : new CDCImporter(channelProgressPairs, importerConfig.getBatchSize(), 300, TimeUnit.MILLISECONDS,
-                        jobItemContext.getSink(), needSorting, importerConfig.getRateLimitAlgorithm());
+                        jobItemContext.getSink(), needSorting, importerConfig.getRateLimitAlgorithm(), recordsArrivalSignal);
         PipelineTask incrementalTask = new CDCIncrementalTask(dumperConfig.getDataSourceName(), jobItemContext.getJobProcessContext().getIncrementalExecuteEngine(), dumper, importer, taskProgress);
         jobItemContext.getIncrementalTasks().add(incrementalTask);
         importerUsed.set(true);
@@ -36,6 +36,7 @@ import org.apache.shardingsphere.data.pipeline.cdc.exception.CDCServerException;
 import org.apache.shardingsphere.data.pipeline.cdc.exception.NotFindStreamDataSourceTableException;
 import org.apache.shardingsphere.data.pipeline.cdc.generator.CDCResponseUtils;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.AckStreamingRequestBody;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.GrantCreditRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StreamDataRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StreamDataRequestBody.SchemaTable;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
@@ -59,6 +60,7 @@ import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -181,4 +183,36 @@ public final class CDCBackendHandler {
         }
         importer.ack(ackId.marshal());
     }
+    
+    /**
+     * Grant credit.
+     *
+     * @param jobId job ID
+     * @param channelId channel ID
+     * @param requestBody request body
+     */
+    public void grantCredit(final String jobId, final ChannelId channelId, final GrantCreditRequestBody requestBody) {
+        findSocketSink(jobId, channelId).ifPresent(each -> each.grantCredit(requestBody.getRecordCount()));
+    }
+    
+    /**
+     * Notify channel writability changed.
+     *
+     * @param jobId job ID
+     * @param channelId channel ID
+     */
+    public void notifyWritabilityChanged(final String jobId, final ChannelId channelId) {
+        findSocketSink(jobId, channelId).ifPresent(CDCSocketSink::notifyWritabilityChanged);
+    }
+    
+    private Optional<CDCSocketSink> findSocketSink(final String jobId, final ChannelId channelId) {
+        if (Strings.isNullOrEmpty(jobId)) {
+            return Optional.empty();
+        }
+        CDCJob job = (CDCJob) PipelineJobCenter.getJob(jobId);
+        if (null == job || !(job.getSink() instanceof CDCSocketSink) || !job.getSink().identifierMatched(channelId)) {
+            return Optional.empty();
+        }
+        return Optional.of((CDCSocketSink) job.getSink());
+    }
 }
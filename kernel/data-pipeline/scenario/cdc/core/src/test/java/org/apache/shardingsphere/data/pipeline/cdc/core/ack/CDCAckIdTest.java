@@ -26,10 +26,10 @@ class CDCAckIdTest {
     
     @Test
     void assertBuild() {
-        CDCAckId expected = CDCAckId.build("importer1");
+        CDCAckId expected = CDCAckId.build("importer1", 10L);
         String text = expected.marshal();
         CDCAckId actual = CDCAckId.unmarshal(text);
         assertThat(actual.getImporterId(), is(expected.getImporterId()));
-        assertThat(actual.getRandom(), is(expected.getRandom()));
+        assertThat(actual.getSequence(), is(10L));
     }
 }
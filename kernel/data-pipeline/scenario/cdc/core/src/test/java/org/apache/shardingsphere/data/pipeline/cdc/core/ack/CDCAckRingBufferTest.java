@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.ack;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class CDCAckRingBufferTest {
+    
+    @Test
+    void assertAckWithMultipleItems() throws InterruptedException {
+        CDCAckRingBuffer ringBuffer = new CDCAckRingBuffer(4, 8);
+        Record firstRecord = mock(Record.class);
+        Record secondRecord = mock(Record.class);
+        long ackSequence = ringBuffer.startAckSequence();
+        ringBuffer.addAckItem(ackSequence, 0, firstRecord, 1);
+        ringBuffer.addAckItem(ackSequence, 2, secondRecord, 3);
+        List<Integer> actualChannelIndexes = new LinkedList<>();
+        List<Integer> actualDataRecordCounts = new LinkedList<>();
+        assertTrue(ringBuffer.ack(ackSequence, (channelIndex, lastRecord, dataRecordCount) -> {
+            actualChannelIndexes.add(channelIndex);
+            actualDataRecordCounts.add(dataRecordCount);
+        }));
+        assertThat(actualChannelIndexes.size(), is(2));
+        assertThat(actualChannelIndexes.get(0), is(0));
+        assertThat(actualChannelIndexes.get(1), is(2));
+        assertThat(actualDataRecordCounts.get(1), is(3));
+        assertFalse(ringBuffer.ack(ackSequence, (channelIndex, lastRecord, dataRecordCount) -> {
+        }));
+    }
+    
+    @Test
+    void assertStartAckSequenceBlockedUntilAcked() throws InterruptedException, ExecutionException, TimeoutException {
+        CDCAckRingBuffer ringBuffer = new CDCAckRingBuffer(1, 2);
+        long firstAckSequence = ringBuffer.startAckSequence();
+        ringBuffer.addAckItem(firstAckSequence, 0, mock(Record.class), 1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<Long> future = executorService.submit(ringBuffer::startAckSequence);
+            assertThrows(TimeoutException.class, () -> future.get(100L, TimeUnit.MILLISECONDS));
+            List<Integer> actualChannelIndexes = new LinkedList<>();
+            assertTrue(ringBuffer.ack(firstAckSequence, (channelIndex, lastRecord, dataRecordCount) -> actualChannelIndexes.add(channelIndex)));
+            assertThat(future.get(10L, TimeUnit.SECONDS), is(1L));
+            assertThat(actualChannelIndexes, is(Collections.singletonList(0)));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+    
+    @Test
+    void assertCloseWhileFull() throws InterruptedException, ExecutionException, TimeoutException {
+        CDCAckRingBuffer ringBuffer = new CDCAckRingBuffer(1, 2);
+        ringBuffer.startAckSequence();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<Long> future = executorService.submit(ringBuffer::startAckSequence);
+            assertThrows(TimeoutException.class, () -> future.get(100L, TimeUnit.MILLISECONDS));
+            ringBuffer.close();
+            assertThat(future.get(10L, TimeUnit.SECONDS), is(-1L));
+            assertFalse(ringBuffer.addAckItem(0L, 0, mock(Record.class), 1));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+    
+    @Test
+    void assertAckNotFoundSequence() throws InterruptedException {
+        CDCAckRingBuffer ringBuffer = new CDCAckRingBuffer(2, 4);
+        ringBuffer.addAckItem(ringBuffer.startAckSequence(), 0, mock(Record.class), 1);
+        assertFalse(ringBuffer.ack(1L, (channelIndex, lastRecord, dataRecordCount) -> {
+        }));
+        assertFalse(ringBuffer.ack(-1L, (channelIndex, lastRecord, dataRecordCount) -> {
+        }));
+    }
+}
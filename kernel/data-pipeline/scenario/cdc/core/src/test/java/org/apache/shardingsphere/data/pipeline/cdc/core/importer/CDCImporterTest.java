@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.importer;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.type.IntegerPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.common.job.progress.listener.PipelineJobProgressListener;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CDCImporterTest {
+    
+    @Test
+    void assertImportWithSorting() {
+        PipelineChannel firstChannel = mockChannel(createRecords(1L), createRecords(3L));
+        PipelineChannel secondChannel = mockChannel(createRecords(2L), createRecords(3L));
+        PipelineChannel thirdChannel = mockChannel(createRecords(4L));
+        List<String> actualAckIds = new LinkedList<>();
+        List<List<Long>> actualCSNs = new LinkedList<>();
+        PipelineSink sink = mock(PipelineSink.class);
+        CDCImporter importer = new CDCImporter(Arrays.asList(createChannelProgressPair(firstChannel), createChannelProgressPair(secondChannel), createChannelProgressPair(thirdChannel)),
+                10, 10L, TimeUnit.MILLISECONDS, sink, true, null, new CDCRecordsArrivalSignal());
+        when(sink.write(anyString(), anyList())).thenAnswer(invocation -> {
+            actualAckIds.add(invocation.getArgument(0));
+            List<Record> records = invocation.getArgument(1);
+            actualCSNs.add(records.stream().map(each -> ((DataRecord) each).getCsn()).collect(Collectors.toList()));
+            if (4 == actualCSNs.size()) {
+                importer.stop();
+            }
+            return null;
+        });
+        assertTimeoutPreemptively(Duration.ofSeconds(10L), importer::start);
+        assertThat(actualCSNs, is(Arrays.asList(Collections.singletonList(1L), Collections.singletonList(2L), Arrays.asList(3L, 3L), Collections.singletonList(4L))));
+        importer.ack(actualAckIds.get(2));
+        verify(firstChannel).ack(anyList());
+        verify(secondChannel).ack(anyList());
+        verify(thirdChannel, never()).ack(anyList());
+    }
+    
+    @Test
+    void assertAwaitWakenUpBySignal() {
+        CDCRecordsArrivalSignal signal = new CDCRecordsArrivalSignal();
+        Thread signalThread = new Thread(() -> {
+            try {
+                Thread.sleep(100L);
+            } catch (final InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            signal.signal();
+        });
+        signalThread.start();
+        assertTimeoutPreemptively(Duration.ofSeconds(10L), () -> signal.await(1L, TimeUnit.HOURS));
+    }
+    
+    @Test
+    void assertAwaitReturnedAfterSignalled() {
+        CDCRecordsArrivalSignal signal = new CDCRecordsArrivalSignal();
+        signal.signal();
+        assertTimeoutPreemptively(Duration.ofSeconds(10L), () -> signal.await(1L, TimeUnit.HOURS));
+    }
+    
+    private PipelineChannel mockChannel(final List<Record> firstRecords, final List<Record> secondRecords) {
+        PipelineChannel result = mock(PipelineChannel.class);
+        when(result.pollRecords()).thenReturn(firstRecords, secondRecords, Collections.emptyList());
+        return result;
+    }
+    
+    private PipelineChannel mockChannel(final List<Record> records) {
+        PipelineChannel result = mock(PipelineChannel.class);
+        when(result.pollRecords()).thenReturn(records, Collections.emptyList());
+        return result;
+    }
+    
+    private CDCChannelProgressPair createChannelProgressPair(final PipelineChannel channel) {
+        return new CDCChannelProgressPair(channel, mock(PipelineJobProgressListener.class));
+    }
+    
+    private List<Record> createRecords(final long csn) {
+        DataRecord result = new DataRecord("INSERT", "t_order", new IntegerPrimaryKeyPosition(0, 1), 1);
+        result.setCsn(csn);
+        return Collections.singletonList(result);
+    }
+}
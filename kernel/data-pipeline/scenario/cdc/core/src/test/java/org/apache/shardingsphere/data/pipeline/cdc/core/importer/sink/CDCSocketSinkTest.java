@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink;
+
+import com.google.protobuf.CodedInputStream;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.protobuf.ProtobufEncoder;
+import io.netty.handler.codec.protobuf.ProtobufVarint32LengthFieldPrepender;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.Status;
+import org.apache.shardingsphere.data.pipeline.cdc.util.DataRecordResultConvertUtils;
+import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.type.IntegerPrimaryKeyPosition;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CDCSocketSinkTest {
+    
+    @Test
+    void assertWriteWithLengthFieldPrepender() throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel(new ProtobufVarint32LengthFieldPrepender(), new ProtobufEncoder());
+        CDCSocketSink sink = new CDCSocketSink(channel, mockDatabase(), Collections.singleton("public.t_order"));
+        DataRecord dataRecord = createDataRecord();
+        assertThat(sink.write("ack_1", Collections.singletonList(dataRecord)).getProcessedRecordsCount(), is(1));
+        channel.flushOutbound();
+        ByteBuf frame = channel.readOutbound();
+        CodedInputStream input = CodedInputStream.newInstance(frame.nioBuffer());
+        CDCResponse actual = CDCResponse.parseFrom(input.readByteArray());
+        frame.release();
+        assertThat(actual.getStatus(), is(Status.SUCCEED));
+        assertThat(actual.getDataRecordResult().getAckId(), is("ack_1"));
+        assertThat(actual.getDataRecordResult().getRecordList(), is(Collections.singletonList(DataRecordResultConvertUtils.convertDataRecordToRecord("foo_db", "public", dataRecord))));
+    }
+    
+    @Test
+    void assertWriteWithoutEncoder() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        CDCSocketSink sink = new CDCSocketSink(channel, mockDatabase(), Collections.emptyList());
+        sink.write("ack_1", Collections.singletonList(createDataRecord()));
+        channel.flushOutbound();
+        CDCResponse actual = channel.readOutbound();
+        assertThat(actual.getDataRecordResult().getRecordCount(), is(1));
+    }
+    
+    @Test
+    void assertWriteWaitForCredit() throws ExecutionException, InterruptedException, TimeoutException {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        CDCSocketSink sink = new CDCSocketSink(channel, mockDatabase(), Collections.emptyList());
+        List<Record> records = Collections.singletonList(createDataRecord());
+        sink.grantCredit(1);
+        assertThat(sink.write("ack_1", records).getProcessedRecordsCount(), is(1));
+        CompletableFuture<Integer> future = CompletableFuture.supplyAsync(() -> sink.write("ack_2", records).getProcessedRecordsCount());
+        assertThrows(TimeoutException.class, () -> future.get(100L, TimeUnit.MILLISECONDS));
+        assertFalse(future.isDone());
+        sink.grantCredit(1);
+        assertThat(future.get(5L, TimeUnit.SECONDS), is(1));
+    }
+    
+    @Test
+    void assertCloseWhileWaitingForCredit() throws ExecutionException, InterruptedException, TimeoutException, IOException {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        CDCSocketSink sink = new CDCSocketSink(channel, mockDatabase(), Collections.emptyList());
+        List<Record> records = Collections.singletonList(createDataRecord());
+        sink.grantCredit(0);
+        CompletableFuture<Integer> future = CompletableFuture.supplyAsync(() -> sink.write("ack_1", records).getProcessedRecordsCount());
+        assertThrows(TimeoutException.class, () -> future.get(100L, TimeUnit.MILLISECONDS));
+        sink.close();
+        assertThat(future.get(5L, TimeUnit.SECONDS), is(0));
+    }
+    
+    private ShardingSphereDatabase mockDatabase() {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class);
+        when(result.getName()).thenReturn("foo_db");
+        return result;
+    }
+    
+    private DataRecord createDataRecord() {
+        DataRecord result = new DataRecord("INSERT", "t_order", new IntegerPrimaryKeyPosition(0, 1), 2);
+        result.addColumn(new Column("order_id", 1, false, true));
+        result.addColumn(new Column("status", "ok", false, false));
+        return result;
+    }
+}
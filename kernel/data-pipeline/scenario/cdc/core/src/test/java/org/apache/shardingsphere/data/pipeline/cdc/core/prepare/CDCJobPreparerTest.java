@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.prepare;
+
+import org.apache.shardingsphere.data.pipeline.cdc.api.impl.CDCJobAPI;
+import org.apache.shardingsphere.data.pipeline.cdc.context.CDCJobItemContext;
+import org.apache.shardingsphere.data.pipeline.cdc.core.importer.CDCChannelProgressPair;
+import org.apache.shardingsphere.data.pipeline.cdc.core.importer.CDCImporter;
+import org.apache.shardingsphere.data.pipeline.cdc.core.importer.CDCRecordsArrivalSignal;
+import org.apache.shardingsphere.data.pipeline.core.preparer.PipelineJobPreparerUtils;
+import org.apache.shardingsphere.data.pipeline.core.task.PipelineTask;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.dumper.IncrementalDumperCreator;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPI;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings({PipelineJobPreparerUtils.class, DatabaseTypedSPILoader.class})
+class CDCJobPreparerTest {
+    
+    @Test
+    void assertInitIncrementalTasksShareRecordsArrivalSignal() throws ReflectiveOperationException {
+        when(DatabaseTypedSPILoader.<DatabaseTypedSPI>getService(any(), any())).thenReturn(mock(IncrementalDumperCreator.class));
+        CDCJobPreparer preparer = new CDCJobPreparer();
+        Plugins.getMemberAccessor().set(CDCJobPreparer.class.getDeclaredField("jobAPI"), preparer, mock(CDCJobAPI.class));
+        Collection<PipelineTask> firstIncrementalTasks = new LinkedList<>();
+        Collection<PipelineTask> secondIncrementalTasks = new LinkedList<>();
+        preparer.initTasks(Arrays.asList(mockJobItemContext(0, firstIncrementalTasks), mockJobItemContext(1, secondIncrementalTasks)));
+        assertThat(firstIncrementalTasks.size(), is(1));
+        assertThat(secondIncrementalTasks.size(), is(1));
+        Object importer = getFieldValue(firstIncrementalTasks.iterator().next(), "importer");
+        assertThat(importer, instanceOf(CDCImporter.class));
+        assertThat(getFieldValue(secondIncrementalTasks.iterator().next(), "importer"), nullValue());
+        CDCRecordsArrivalSignal importerSignal = (CDCRecordsArrivalSignal) getFieldValue(importer, "recordsArrivalSignal");
+        @SuppressWarnings("unchecked")
+        List<CDCChannelProgressPair> channelProgressPairs = (List<CDCChannelProgressPair>) getFieldValue(importer, "originalChannelProgressPairs");
+        assertThat(channelProgressPairs.size(), is(2));
+        for (CDCChannelProgressPair each : channelProgressPairs) {
+            assertThat(getFieldValue(each.getChannel(), "signal"), sameInstance(importerSignal));
+        }
+    }
+    
+    private CDCJobItemContext mockJobItemContext(final int shardingItem, final Collection<PipelineTask> incrementalTasks) {
+        CDCJobItemContext result = mock(CDCJobItemContext.class, RETURNS_DEEP_STUBS);
+        when(result.getJobId()).thenReturn("foo_job");
+        when(result.getShardingItem()).thenReturn(shardingItem);
+        when(result.isStopping()).thenReturn(false);
+        when(result.getJobConfig().isFull()).thenReturn(false);
+        when(result.getInitProgress()).thenReturn(null);
+        when(result.getIncrementalTasks()).thenReturn(incrementalTasks);
+        return result;
+    }
+    
+    private Object getFieldValue(final Object target, final String fieldName) throws ReflectiveOperationException {
+        return Plugins.getMemberAccessor().get(target.getClass().getDeclaredField(fieldName), target);
+    }
+}
@@ -46,6 +46,8 @@ public final class DatabaseMetaDataNode {
     
     private static final String VIEWS_NODE = "views";
     
+    private static final String CHECKSUMS_NODE = "checksums";
+    
     private static final String ACTIVE_VERSION = "active_version";
     
     private static final String VERSIONS = "versions";
@@ -169,6 +171,17 @@ public final class DatabaseMetaDataNode {
         return String.join("/", getMetaDataViewsPath(databaseName, schemaName), view);
     }
     
+    /**
+     * Get meta data checksum path.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return meta data checksum path
+     */
+    public static String getMetaDataChecksumPath(final String databaseName, final String dataSourceName) {
+        return String.join("/", getFullMetaDataPath(databaseName, CHECKSUMS_NODE), dataSourceName);
+    }
+    
     private static String getFullMetaDataPath(final String databaseName, final String node) {
         return String.join("/", "", ROOT_NODE, databaseName, node);
     }
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metadata.persist.service.database;
+
+import com.google.common.base.Strings;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+import org.apache.shardingsphere.metadata.persist.node.DatabaseMetaDataNode;
+import org.apache.shardingsphere.mode.spi.PersistRepository;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Meta data checksum persist service.
+ */
+@RequiredArgsConstructor
+public final class MetaDataChecksumPersistService {
+    
+    private final PersistRepository repository;
+    
+    /**
+     * Persist schema checksums of data source.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @param checksums schema name and checksum map
+     */
+    public void persist(final String databaseName, final String dataSourceName, final Map<String, String> checksums) {
+        repository.persist(DatabaseMetaDataNode.getMetaDataChecksumPath(databaseName, dataSourceName), YamlEngine.marshal(new LinkedHashMap<>(checksums)));
+    }
+    
+    /**
+     * Load schema checksums of data source.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return schema name and checksum map, empty if not persisted
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, String> load(final String databaseName, final String dataSourceName) {
+        String yamlContent = repository.getDirectly(DatabaseMetaDataNode.getMetaDataChecksumPath(databaseName, dataSourceName));
+        if (Strings.isNullOrEmpty(yamlContent)) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> result = new LinkedHashMap<>();
+        ((Map<Object, Object>) YamlEngine.unmarshal(yamlContent, LinkedHashMap.class)).forEach((key, value) -> result.put(String.valueOf(key), String.valueOf(value)));
+        return result;
+    }
+}
@@ -29,6 +29,9 @@ import org.apache.shardingsphere.mode.spi.PersistRepository;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * ShardingSphere table row data persist service.
@@ -51,7 +54,9 @@ public final class ShardingSphereTableRowDataPersistService implements TableRowD
         if (rows.isEmpty()) {
             persistTable(databaseName, schemaName, tableName);
         }
-        rows.forEach(each -> repository.persist(ShardingSphereDataNode.getTableRowPath(databaseName, schemaName, tableName.toLowerCase(), each.getUniqueKey()), YamlEngine.marshal(each)));
+        Map<String, String> keyValues = new LinkedHashMap<>(rows.size(), 1F);
+        rows.forEach(each -> keyValues.put(ShardingSphereDataNode.getTableRowPath(databaseName, schemaName, tableName.toLowerCase(), each.getUniqueKey()), YamlEngine.marshalCompact(each)));
+        repository.batchPersist(keyValues);
     }
     
     private void persistTable(final String databaseName, final String schemaName, final String tableName) {
@@ -68,7 +73,7 @@ public final class ShardingSphereTableRowDataPersistService implements TableRowD
      */
     @Override
     public void delete(final String databaseName, final String schemaName, final String tableName, final Collection<YamlShardingSphereRowData> rows) {
-        rows.forEach(each -> repository.delete(ShardingSphereDataNode.getTableRowPath(databaseName, schemaName, tableName.toLowerCase(), each.getUniqueKey())));
+        repository.batchDelete(rows.stream().map(each -> ShardingSphereDataNode.getTableRowPath(databaseName, schemaName, tableName.toLowerCase(), each.getUniqueKey())).collect(Collectors.toList()));
     }
     
     /**
@@ -42,8 +42,10 @@ public final class TableMetaDataPersistService implements SchemaMetaDataPersistS
     
     @Override
     public void persist(final String databaseName, final String schemaName, final Map<String, ShardingSphereTable> tables) {
-        tables.forEach((key, value) -> repository.persist(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, key.toLowerCase()),
+        Map<String, String> keyValues = new LinkedHashMap<>(tables.size(), 1F);
+        tables.forEach((key, value) -> keyValues.put(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, key.toLowerCase()),
                 YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(value))));
+        repository.batchPersist(keyValues);
     }
     
     // TODO Remove this when metadata structure adjustment completed. #25485
@@ -42,8 +42,10 @@ public final class ViewMetaDataPersistService implements SchemaMetaDataPersistSe
     
     @Override
     public void persist(final String databaseName, final String schemaName, final Map<String, ShardingSphereView> views) {
-        views.forEach((key, value) -> repository.persist(DatabaseMetaDataNode.getViewMetaDataPath(databaseName, schemaName, key.toLowerCase()),
+        Map<String, String> keyValues = new LinkedHashMap<>(views.size(), 1F);
+        views.forEach((key, value) -> keyValues.put(DatabaseMetaDataNode.getViewMetaDataPath(databaseName, schemaName, key.toLowerCase()),
                 YamlEngine.marshal(new YamlViewSwapper().swapToYamlConfiguration(value))));
+        repository.batchPersist(keyValues);
     }
     
     // TODO Remove this when metadata structure adjustment completed. #25485
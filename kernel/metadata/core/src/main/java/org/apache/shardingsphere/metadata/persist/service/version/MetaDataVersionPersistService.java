@@ -23,6 +23,9 @@ import org.apache.shardingsphere.metadata.persist.node.NewDatabaseMetaDataNode;
 import org.apache.shardingsphere.mode.spi.PersistRepository;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
 
 /**
  * Meta data version persist service.
@@ -36,16 +39,19 @@ public final class MetaDataVersionPersistService implements MetaDataVersionBased
     
     private final PersistRepository repository;
     
-    // TODO Need to use transaction operation
     @Override
     public void switchActiveVersion(final Collection<MetaDataVersion> metaDataVersions) {
+        Map<String, String> activeVersions = new LinkedHashMap<>(metaDataVersions.size(), 1F);
+        Collection<String> previousVersionKeys = new LinkedList<>();
         for (MetaDataVersion each : metaDataVersions) {
             if (each.getNextActiveVersion().equals(each.getCurrentActiveVersion())) {
                 continue;
             }
-            repository.persist(each.getKey() + "/" + ACTIVE_VERSION, each.getNextActiveVersion());
-            repository.delete(String.join("/", each.getKey(), VERSIONS, each.getCurrentActiveVersion()));
+            activeVersions.put(each.getKey() + "/" + ACTIVE_VERSION, each.getNextActiveVersion());
+            previousVersionKeys.add(String.join("/", each.getKey(), VERSIONS, each.getCurrentActiveVersion()));
         }
+        repository.batchPersist(activeVersions);
+        repository.batchDelete(previousVersionKeys);
     }
     
     @Override
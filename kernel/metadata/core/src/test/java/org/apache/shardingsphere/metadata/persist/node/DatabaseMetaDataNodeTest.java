@@ -131,6 +131,11 @@ class DatabaseMetaDataNodeTest {
         assertThat(DatabaseMetaDataNode.getViewMetaDataPath("logic_db", "logic_schema", "order_view"), is("/metadata/logic_db/schemas/logic_schema/views/order_view"));
     }
     
+    @Test
+    void assertGetMetaDataChecksumPath() {
+        assertThat(DatabaseMetaDataNode.getMetaDataChecksumPath("logic_db", "ds_0"), is("/metadata/logic_db/checksums/ds_0"));
+    }
+    
     @Test
     void assertGetMetaDataNodePath() {
         assertThat(DatabaseMetaDataNode.getMetaDataNodePath(), is("/metadata"));
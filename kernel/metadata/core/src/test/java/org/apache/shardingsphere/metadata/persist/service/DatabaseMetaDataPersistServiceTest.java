@@ -45,6 +45,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -73,7 +74,7 @@ class DatabaseMetaDataPersistServiceTest {
         ShardingSphereSchema schema = new ShardingSphereSchema();
         schema.getTables().put("t_order", table);
         new DatabaseMetaDataPersistService(repository).persist("foo_db", "foo_schema", schema);
-        verify(repository).persist(eq("/metadata/foo_db/schemas/foo_schema/tables/t_order"), anyString());
+        verify(repository).batchPersist(argThat(keyValues -> keyValues.containsKey("/metadata/foo_db/schemas/foo_schema/tables/t_order")));
     }
     
     @Test
@@ -114,7 +115,7 @@ class DatabaseMetaDataPersistServiceTest {
         ShardingSphereView view = new ShardingSphereView("FOO_VIEW", "select id from foo_table");
         new DatabaseMetaDataPersistService(repository).persist("foo_db", "foo_schema",
                 new ShardingSphereSchema(Collections.singletonMap("FOO_TABLE", table), Collections.singletonMap("FOO_VIEW", view)));
-        verify(repository).persist(eq("/metadata/foo_db/schemas/foo_schema/tables/foo_table"), anyString());
+        verify(repository).batchPersist(argThat(keyValues -> keyValues.containsKey("/metadata/foo_db/schemas/foo_schema/tables/foo_table")));
     }
     
     @Test
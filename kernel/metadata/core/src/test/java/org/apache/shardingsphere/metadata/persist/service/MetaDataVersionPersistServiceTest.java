@@ -43,6 +43,7 @@ class MetaDataVersionPersistServiceTest {
     @Test
     void assertSwitchActiveVersion() {
         metaDataVersionPersistService.switchActiveVersion(Collections.singletonList(new MetaDataVersion("foo_key", "0", "1")));
-        verify(repository).persist("foo_key/active_version", "1");
+        verify(repository).batchPersist(Collections.singletonMap("foo_key/active_version", "1"));
+        verify(repository).batchDelete(Collections.singletonList("foo_key/versions/0"));
     }
 }
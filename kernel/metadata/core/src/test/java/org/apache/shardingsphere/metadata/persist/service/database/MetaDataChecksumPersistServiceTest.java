@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metadata.persist.service.database;
+
+import org.apache.shardingsphere.mode.spi.PersistRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MetaDataChecksumPersistServiceTest {
+    
+    @Mock
+    private PersistRepository repository;
+    
+    @Test
+    void assertPersist() {
+        new MetaDataChecksumPersistService(repository).persist("foo_db", "foo_ds", Collections.singletonMap("foo_schema", "3-123:1-456"));
+        verify(repository).persist("/metadata/foo_db/checksums/foo_ds", "foo_schema: 3-123:1-456" + System.lineSeparator());
+    }
+    
+    @Test
+    void assertLoad() {
+        when(repository.getDirectly("/metadata/foo_db/checksums/foo_ds")).thenReturn("foo_schema: 3-123:1-456" + System.lineSeparator());
+        Map<String, String> actual = new MetaDataChecksumPersistService(repository).load("foo_db", "foo_ds");
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("foo_schema"), is("3-123:1-456"));
+    }
+    
+    @Test
+    void assertLoadWithoutChecksum() {
+        assertTrue(new MetaDataChecksumPersistService(repository).load("foo_db", "foo_ds").isEmpty());
+    }
+}
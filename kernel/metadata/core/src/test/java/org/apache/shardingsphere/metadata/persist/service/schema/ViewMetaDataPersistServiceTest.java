@@ -48,9 +48,9 @@ class ViewMetaDataPersistServiceTest {
     void assertPersist() {
         ShardingSphereView view = new ShardingSphereView("foo_view", "select `db`.`db`.`id` AS `id`,`db`.`db`.`order_id` AS `order_id` from `db`.`db`");
         new ViewMetaDataPersistService(repository).persist("foo_db", "foo_schema", Collections.singletonMap("foo_view", view));
-        verify(repository).persist("/metadata/foo_db/schemas/foo_schema/views/foo_view", "name: foo_view" + System.lineSeparator()
+        verify(repository).batchPersist(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/views/foo_view", "name: foo_view" + System.lineSeparator()
                 + "viewDefinition: select `db`.`db`.`id` AS `id`,`db`.`db`.`order_id` AS `order_id` from" + System.lineSeparator()
-                + "  `db`.`db`" + System.lineSeparator());
+                + "  `db`.`db`" + System.lineSeparator()));
     }
     
     @Test
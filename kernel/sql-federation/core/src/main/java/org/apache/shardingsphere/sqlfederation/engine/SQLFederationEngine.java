@@ -23,9 +23,12 @@ import org.apache.calcite.adapter.enumerable.EnumerableRel;
 import org.apache.calcite.linq4j.Enumerator;
 import org.apache.calcite.runtime.Bindable;
 import org.apache.calcite.schema.Schema;
+import org.apache.calcite.schema.SchemaPlus;
 import org.apache.calcite.schema.Table;
+import org.apache.calcite.sql.SqlNode;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.table.NoSuchTableException;
@@ -51,8 +54,12 @@ import org.apache.shardingsphere.sqlfederation.optimizer.SQLFederationCompilerEn
 import org.apache.shardingsphere.sqlfederation.optimizer.SQLFederationExecutionPlan;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.planner.OptimizerPlannerContext;
+import org.apache.shardingsphere.sqlfederation.optimizer.converter.SQLNodeConverterEngine;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationSchema;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.RuntimeFilterContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.cache.ExecutionPlanCacheKey;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.cache.LiteralParameterizer;
 import org.apache.shardingsphere.sqlfederation.optimizer.statement.SQLStatementCompiler;
 import org.apache.shardingsphere.sqlfederation.resultset.SQLFederationResultSet;
 import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
@@ -65,6 +72,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -75,8 +83,6 @@ import java.util.Map.Entry;
 @Getter
 public final class SQLFederationEngine implements AutoCloseable {
     
-    private static final int DEFAULT_METADATA_VERSION = 0;
-    
     @SuppressWarnings("rawtypes")
     private final Map<ShardingSphereRule, SQLFederationDecider> deciders;
     
@@ -92,6 +98,8 @@ public final class SQLFederationEngine implements AutoCloseable {
     
     private final SQLFederationRule sqlFederationRule;
     
+    private TableScanExecutorContext tableScanExecutorContext;
+    
     private ResultSet resultSet;
     
     public SQLFederationEngine(final String databaseName, final String schemaName, final ShardingSphereMetaData metaData, final ShardingSphereStatistics statistics, final JDBCExecutor jdbcExecutor) {
@@ -155,9 +163,12 @@ public final class SQLFederationEngine implements AutoCloseable {
                                   final JDBCExecutorCallback<? extends ExecuteResult> callback, final SQLFederationExecutorContext federationContext) {
         String databaseName = federationContext.getQueryContext().getDatabaseNameFromSQLStatement().orElse(this.databaseName);
         String schemaName = federationContext.getQueryContext().getSchemaNameFromSQLStatement().orElse(this.schemaName);
-        SQLFederationExecutionPlan executionPlan = compileQuery(prepareEngine, callback, federationContext, databaseName, schemaName);
+        Collection<ShardingSphereTable> tables = getTables(federationContext, databaseName, schemaName);
+        DatabaseType protocolType = federationContext.getMetaData().getDatabase(databaseName).getProtocolType();
+        LiteralParameterizer parameterizer = new LiteralParameterizer(tables, protocolType, federationContext.getQueryContext().getParameters().size());
+        SQLFederationExecutionPlan executionPlan = compileQuery(prepareEngine, callback, federationContext, databaseName, schemaName, parameterizer);
         Bindable<Object> executablePlan = EnumerableInterpretable.toBindable(Collections.emptyMap(), null, (EnumerableRel) executionPlan.getPhysicalPlan(), EnumerableRel.Prefer.ARRAY);
-        Map<String, Object> params = createParameters(federationContext.getQueryContext().getParameters());
+        Map<String, Object> params = createParameters(federationContext.getQueryContext().getParameters(), parameterizer.getHoistedParams(), federationContext.isPreview());
         OptimizerPlannerContext plannerContext = sqlFederationRule.getOptimizerContext().getPlannerContext(databaseName);
         Enumerator<Object> enumerator = executablePlan.bind(new SQLFederationDataContext(plannerContext.getValidator(schemaName), plannerContext.getConverter(schemaName), params)).enumerator();
         ShardingSphereSchema schema = federationContext.getMetaData().getDatabase(databaseName).getSchema(schemaName);
@@ -167,34 +178,37 @@ public final class SQLFederationEngine implements AutoCloseable {
         return resultSet;
     }
     
-    private SQLFederationExecutionPlan compileQuery(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine,
-                                                    final JDBCExecutorCallback<? extends ExecuteResult> callback, final SQLFederationExecutorContext federationContext, final String databaseName,
-                                                    final String schemaName) {
+    private Collection<ShardingSphereTable> getTables(final SQLFederationExecutorContext federationContext, final String databaseName, final String schemaName) {
         SQLStatementContext sqlStatementContext = federationContext.getQueryContext().getSqlStatementContext();
         ShardingSpherePreconditions.checkState(sqlStatementContext instanceof SelectStatementContext, () -> new IllegalArgumentException("SQL statement context must be select statement context."));
+        ShardingSphereSchema schema = federationContext.getMetaData().getDatabase(databaseName).getSchema(schemaName);
+        Collection<ShardingSphereTable> result = new LinkedList<>();
+        for (String each : ((SelectStatementContext) sqlStatementContext).getTablesContext().getTableNames()) {
+            ShardingSphereTable table = schema.getTable(each);
+            ShardingSpherePreconditions.checkState(null != table, () -> new NoSuchTableException(each));
+            result.add(table);
+        }
+        return result;
+    }
+    
+    private SQLFederationExecutionPlan compileQuery(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine,
+                                                    final JDBCExecutorCallback<? extends ExecuteResult> callback, final SQLFederationExecutorContext federationContext, final String databaseName,
+                                                    final String schemaName, final LiteralParameterizer parameterizer) {
         OptimizerPlannerContext plannerContext = sqlFederationRule.getOptimizerContext().getPlannerContext(databaseName);
         Schema sqlFederationSchema = plannerContext.getValidator(schemaName).getCatalogReader().getRootSchema().plus().getSubSchema(schemaName);
         registerTableScanExecutor(sqlFederationSchema, prepareEngine, callback, federationContext, sqlFederationRule.getOptimizerContext(), databaseName, schemaName);
+        long statisticsVersion = refreshTableStatistics(sqlFederationSchema, databaseName);
         SQLStatementCompiler sqlStatementCompiler = new SQLStatementCompiler(plannerContext.getConverter(schemaName));
         SQLFederationCompilerEngine compilerEngine = new SQLFederationCompilerEngine(databaseName, schemaName, sqlFederationRule.getConfiguration().getExecutionPlanCache());
-        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
-        // TODO open useCache flag when ShardingSphereTable contains version
-        return compilerEngine.compile(buildCacheKey(federationContext, selectStatementContext, sqlStatementCompiler, databaseName, schemaName), false);
+        SelectStatementContext selectStatementContext = (SelectStatementContext) federationContext.getQueryContext().getSqlStatementContext();
+        return compilerEngine.compile(buildCacheKey(selectStatementContext, sqlStatementCompiler, parameterizer, statisticsVersion), true);
     }
     
-    private ExecutionPlanCacheKey buildCacheKey(final SQLFederationExecutorContext federationContext, final SelectStatementContext selectStatementContext,
-                                                final SQLStatementCompiler sqlStatementCompiler, final String databaseName, final String schemaName) {
-        ShardingSphereSchema schema = federationContext.getMetaData().getDatabase(databaseName).getSchema(schemaName);
-        ExecutionPlanCacheKey result =
-                new ExecutionPlanCacheKey(federationContext.getQueryContext().getSql(), selectStatementContext.getSqlStatement(), selectStatementContext.getDatabaseType().getType(),
-                        sqlStatementCompiler);
-        for (String each : selectStatementContext.getTablesContext().getTableNames()) {
-            ShardingSphereTable table = schema.getTable(each);
-            ShardingSpherePreconditions.checkState(null != table, () -> new NoSuchTableException(each));
-            // TODO replace DEFAULT_METADATA_VERSION with actual version in ShardingSphereTable
-            result.getTableMetaDataVersions().put(table.getName(), DEFAULT_METADATA_VERSION);
-        }
-        return result;
+    private ExecutionPlanCacheKey buildCacheKey(final SelectStatementContext selectStatementContext, final SQLStatementCompiler sqlStatementCompiler, final LiteralParameterizer parameterizer,
+                                                final long statisticsVersion) {
+        SqlNode sqlNode = SQLNodeConverterEngine.convert(selectStatementContext.getSqlStatement()).accept(parameterizer);
+        return new ExecutionPlanCacheKey(sqlNode.toString(), sqlNode, parameterizer.getParamIndexes(), selectStatementContext.getDatabaseType().getType(), sqlStatementCompiler,
+                statisticsVersion);
     }
     
     private void registerTableScanExecutor(final Schema sqlFederationSchema, final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine,
@@ -203,8 +217,10 @@ public final class SQLFederationEngine implements AutoCloseable {
         if (null == sqlFederationSchema) {
             return;
         }
-        TableScanExecutorContext executorContext = new TableScanExecutorContext(databaseName, schemaName, metaData.getProps(), federationContext);
-        EnumerableScanExecutor scanExecutor = new EnumerableScanExecutor(prepareEngine, jdbcExecutor, callback, optimizerContext, metaData.getGlobalRuleMetaData(), executorContext, statistics);
+        closePrefetchRowEnumerators();
+        tableScanExecutorContext = new TableScanExecutorContext(databaseName, schemaName, metaData.getProps(), federationContext, sqlFederationRule.getScanExecutorService());
+        EnumerableScanExecutor scanExecutor =
+                new EnumerableScanExecutor(prepareEngine, jdbcExecutor, callback, optimizerContext, metaData.getGlobalRuleMetaData(), tableScanExecutorContext, statistics);
         // TODO register only the required tables
         for (String each : metaData.getDatabase(databaseName).getSchema(schemaName).getAllTableNames()) {
             Table table = sqlFederationSchema.getTable(each);
@@ -214,19 +230,48 @@ public final class SQLFederationEngine implements AutoCloseable {
         }
     }
     
-    private Map<String, Object> createParameters(final List<Object> params) {
-        Map<String, Object> result = new HashMap<>(params.size(), 1F);
+    private long refreshTableStatistics(final Schema sqlFederationSchema, final String databaseName) {
+        if (!(sqlFederationSchema instanceof SchemaPlus)) {
+            return 0L;
+        }
+        SQLFederationSchema schema = ((SchemaPlus) sqlFederationSchema).unwrap(SQLFederationSchema.class);
+        if (null == schema) {
+            return 0L;
+        }
+        schema.refreshStatistics(databaseName, statistics);
+        return schema.getStatisticsVersion();
+    }
+    
+    private Map<String, Object> createParameters(final List<Object> params, final List<Object> hoistedParams, final boolean isPreview) {
+        Map<String, Object> result = new HashMap<>(params.size() + hoistedParams.size() + 1, 1F);
         int index = 0;
         for (Object each : params) {
             result.put("?" + index++, each);
         }
+        for (Object each : hoistedParams) {
+            result.put("?" + index++, each);
+        }
+        if (!isPreview) {
+            result.put(RuntimeFilterContext.DATA_CONTEXT_NAME, new RuntimeFilterContext());
+        }
         return result;
     }
     
+    private void closePrefetchRowEnumerators() {
+        if (null == tableScanExecutorContext) {
+            return;
+        }
+        for (Enumerator<Object> each : tableScanExecutorContext.getPrefetchRowEnumerators()) {
+            each.close();
+        }
+        tableScanExecutorContext.getPrefetchRowEnumerators().clear();
+    }
+    
     @Override
     public void close() throws SQLException {
         if (null != resultSet) {
             resultSet.close();
         }
+        closePrefetchRowEnumerators();
     }
 }
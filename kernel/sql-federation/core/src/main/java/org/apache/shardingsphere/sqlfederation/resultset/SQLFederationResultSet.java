@@ -69,6 +69,8 @@ public final class SQLFederationResultSet extends AbstractUnsupportedOperationRe
     
     private final SQLFederationResultSetMetaData resultSetMetaData;
     
+    private final boolean singleColumn;
+    
     private Object[] currentRows;
     
     private boolean wasNull;
@@ -82,6 +84,7 @@ public final class SQLFederationResultSet extends AbstractUnsupportedOperationRe
         Map<Integer, String> indexAndColumnLabels = new HashMap<>(selectStatementContext.getProjectionsContext().getExpandProjections().size(), 1F);
         handleColumnLabelAndIndex(columnLabelAndIndexes, indexAndColumnLabels, selectStatementContext);
         resultSetMetaData = new SQLFederationResultSetMetaData(schema, sqlFederationSchema, selectStatementContext, resultColumnType, indexAndColumnLabels);
+        singleColumn = 1 == resultColumnType.getFieldCount();
     }
     
     private void handleColumnLabelAndIndex(final Map<String, Integer> columnLabelAndIndexes, final Map<Integer, String> indexAndColumnLabels, final SelectStatementContext selectStatementContext) {
@@ -98,7 +101,7 @@ public final class SQLFederationResultSet extends AbstractUnsupportedOperationRe
     public boolean next() {
         boolean result = enumerator.moveNext();
         if (result) {
-            currentRows = enumerator.current().getClass().isArray() ? (Object[]) enumerator.current() : new Object[]{enumerator.current()};
+            currentRows = singleColumn ? new Object[]{enumerator.current()} : (Object[]) enumerator.current();
         } else {
             currentRows = new Object[]{};
         }
@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.sqlfederation.rule;
 
+import com.alibaba.ttl.threadpool.TtlExecutors;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rule.identifier.scope.GlobalRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.MetaDataHeldRule;
@@ -30,8 +32,13 @@ import org.apache.shardingsphere.sqlfederation.optimizer.context.parser.Optimize
 import org.apache.shardingsphere.sqlfederation.optimizer.context.parser.dialect.OptimizerSQLPropertiesBuilder;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.planner.OptimizerPlannerContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.planner.OptimizerPlannerContextFactory;
+import org.apache.shardingsphere.sqlfederation.optimizer.statement.SQLStatementCompilerEngineFactory;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * SQL federation rule.
@@ -39,13 +46,29 @@ import java.util.Map;
 @Getter
 public final class SQLFederationRule implements GlobalRule, MetaDataHeldRule {
     
+    private static final int SCAN_EXECUTOR_SIZE = Runtime.getRuntime().availableProcessors();
+    
+    private static final long SCAN_EXECUTOR_KEEP_ALIVE_SECONDS = 60L;
+    
     private final SQLFederationRuleConfiguration configuration;
     
     private final OptimizerContext optimizerContext;
     
+    private final ExecutorService scanExecutorService;
+    
     public SQLFederationRule(final SQLFederationRuleConfiguration ruleConfig, final Map<String, ShardingSphereDatabase> databases, final ConfigurationProperties props) {
         configuration = ruleConfig;
         optimizerContext = OptimizerContextFactory.create(databases, props);
+        scanExecutorService = createScanExecutorService();
+        databases.keySet().forEach(SQLStatementCompilerEngineFactory::invalidate);
+    }
+    
+    private ExecutorService createScanExecutorService() {
+        // Idle threads time out, so that the pool of a replaced rule does not need to be shut down by its last query.
+        ThreadPoolExecutor result = new ThreadPoolExecutor(SCAN_EXECUTOR_SIZE, SCAN_EXECUTOR_SIZE, SCAN_EXECUTOR_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), ExecutorThreadFactoryBuilder.build("SQLFederation-Scan-%d"));
+        result.allowCoreThreadTimeOut(true);
+        return TtlExecutors.getTtlExecutorService(result);
     }
     
     @Override
@@ -55,11 +78,13 @@ public final class SQLFederationRule implements GlobalRule, MetaDataHeldRule {
         optimizerContext.putParserContext(database.getName(), parserContext);
         OptimizerPlannerContext plannerContext = OptimizerPlannerContextFactory.create(database, parserContext, optimizerContext.getSqlParserRule());
         optimizerContext.putPlannerContext(database.getName(), plannerContext);
+        SQLStatementCompilerEngineFactory.invalidate(database.getName());
     }
     
     @Override
     public void dropDatabase(final String databaseName) {
         optimizerContext.removeParserContext(databaseName);
         optimizerContext.removePlannerContext(databaseName);
+        SQLStatementCompilerEngineFactory.invalidate(databaseName);
     }
 }
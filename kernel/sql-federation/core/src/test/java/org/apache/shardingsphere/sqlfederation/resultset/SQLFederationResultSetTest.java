@@ -53,6 +53,7 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
@@ -107,6 +108,18 @@ class SQLFederationResultSetTest {
         assertFalse(federationResultSet.wasNull());
     }
     
+    @Test
+    void assertGetNullValueWithSingleColumn() throws SQLException {
+        RelDataType resultColumnType = mock(RelDataType.class);
+        when(resultColumnType.getFieldCount()).thenReturn(1);
+        when(enumerator.current()).thenReturn(null);
+        try (SQLFederationResultSet actual = new SQLFederationResultSet(enumerator, mock(ShardingSphereSchema.class), mock(SQLFederationSchema.class), createSelectStatementContext(), resultColumnType)) {
+            assertTrue(actual.next());
+            assertNull(actual.getObject(1));
+            assertTrue(actual.wasNull());
+        }
+    }
+    
     @Test
     void assertGetBooleanWithColumnIndex() throws SQLException {
         when(enumerator.current()).thenReturn(new Object[]{1, 1, true, 1});
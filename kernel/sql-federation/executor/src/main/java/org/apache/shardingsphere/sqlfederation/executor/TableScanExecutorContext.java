@@ -19,10 +19,14 @@ package org.apache.shardingsphere.sqlfederation.executor;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.calcite.linq4j.Enumerator;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 
+import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Table scan executor context.
@@ -39,5 +43,9 @@ public final class TableScanExecutorContext {
     
     private final SQLFederationExecutorContext federationContext;
     
+    private final ExecutorService prefetchExecutorService;
+    
     private final Map<String, Integer> connectionOffsets = new LinkedHashMap<>();
+    
+    private final Collection<Enumerator<Object>> prefetchRowEnumerators = new LinkedList<>();
 }
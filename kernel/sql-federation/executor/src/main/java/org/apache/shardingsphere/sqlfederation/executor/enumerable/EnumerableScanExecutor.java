@@ -62,6 +62,7 @@ import org.apache.shardingsphere.sqlfederation.executor.SQLFederationExecutorCon
 import org.apache.shardingsphere.sqlfederation.executor.TableScanExecutorContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.EmptyRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.executor.row.MemoryEnumerator;
+import org.apache.shardingsphere.sqlfederation.executor.row.PrefetchRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.executor.row.SQLFederationRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutor;
@@ -99,6 +100,8 @@ public final class EnumerableScanExecutor implements ScanExecutor {
     
     private static final String PG_ROLES = "pg_roles";
     
+    private static final int PREFETCH_BUFFER_SIZE = 1024;
+    
     private final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine;
     
     private final JDBCExecutor jdbcExecutor;
@@ -145,25 +148,51 @@ public final class EnumerableScanExecutor implements ScanExecutor {
     }
     
     private AbstractEnumerable<Object> createEnumerable(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context) {
+        Enumerator<Object> prefetchRowEnumerator = createPrefetchRowEnumerator(queryContext, database, context);
         return new AbstractEnumerable<Object>() {
             
+            private Enumerator<Object> unclaimedRowEnumerator = prefetchRowEnumerator;
+            
             @SneakyThrows
             @Override
             public Enumerator<Object> enumerator() {
-                computeConnectionOffsets(context);
-                ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext =
-                        prepareEngine.prepare(context.getRouteContext(), executorContext.getConnectionOffsets(), context.getExecutionUnits(), new ExecutionGroupReportContext(database.getName()));
-                setParameters(executionGroupContext.getInputGroups());
-                processEngine.executeSQL(executionGroupContext, context.getQueryContext());
-                List<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(QueryResult.class::cast).collect(Collectors.toList());
-                MergeEngine mergeEngine = new MergeEngine(database, executorContext.getProps(), new ConnectionContext());
-                MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext.getSqlStatementContext());
-                Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
-                return new SQLFederationRowEnumerator(mergedResult, queryResults.get(0).getMetaData(), statements);
+                if (null == unclaimedRowEnumerator) {
+                    return createRowEnumerator(prepare(database, context), queryContext, database);
+                }
+                Enumerator<Object> result = unclaimedRowEnumerator;
+                unclaimedRowEnumerator = null;
+                return result;
             }
         };
     }
     
+    private Enumerator<Object> createPrefetchRowEnumerator(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context) {
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepare(database, context);
+        Enumerator<Object> result =
+                new PrefetchRowEnumerator(() -> createRowEnumerator(executionGroupContext, queryContext, database), executorContext.getPrefetchExecutorService(), PREFETCH_BUFFER_SIZE);
+        executorContext.getPrefetchRowEnumerators().add(result);
+        return result;
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private ExecutionGroupContext<JDBCExecutionUnit> prepare(final ShardingSphereDatabase database, final ExecutionContext context) {
+        computeConnectionOffsets(context);
+        ExecutionGroupContext<JDBCExecutionUnit> result =
+                prepareEngine.prepare(context.getRouteContext(), executorContext.getConnectionOffsets(), context.getExecutionUnits(), new ExecutionGroupReportContext(database.getName()));
+        setParameters(result.getInputGroups());
+        return result;
+    }
+    
+    private Enumerator<Object> createRowEnumerator(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final QueryContext queryContext,
+                                                   final ShardingSphereDatabase database) throws SQLException {
+        processEngine.executeSQL(executionGroupContext, queryContext);
+        List<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(QueryResult.class::cast).collect(Collectors.toList());
+        MergeEngine mergeEngine = new MergeEngine(database, executorContext.getProps(), new ConnectionContext());
+        MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext.getSqlStatementContext());
+        Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
+        return new SQLFederationRowEnumerator(mergedResult, queryResults.get(0).getMetaData(), statements);
+    }
+    
     private void computeConnectionOffsets(final ExecutionContext context) {
         for (ExecutionUnit each : context.getExecutionUnits()) {
             if (executorContext.getConnectionOffsets().containsKey(each.getDataSourceName())) {
@@ -271,19 +300,21 @@ public final class EnumerableScanExecutor implements ScanExecutor {
         SQLStatement sqlStatement = new SQLStatementParserEngine(databaseType,
                 optimizerContext.getSqlParserRule().getSqlStatementCache(), optimizerContext.getSqlParserRule().getParseTreeCache(),
                 optimizerContext.getSqlParserRule().isSqlCommentParseEnabled()).parse(sql, useCache);
-        List<Object> params = getParameters(sqlString.getParamIndexes());
+        List<Object> params = getParameters(sqlString);
         HintValueContext hintValueContext = new HintValueContext();
         SQLStatementContext sqlStatementContext = new SQLBindEngine(metaData, executorContext.getDatabaseName(), hintValueContext).bind(sqlStatement, params);
         return new QueryContext(sqlStatementContext, sql, params, hintValueContext, useCache);
     }
     
-    private List<Object> getParameters(final int[] paramIndexes) {
-        if (null == paramIndexes) {
+    private List<Object> getParameters(final ScanExecutorContext scanContext) {
+        if (null == scanContext.getParamIndexes()) {
             return Collections.emptyList();
         }
         List<Object> result = new ArrayList<>();
-        for (int each : paramIndexes) {
-            result.add(executorContext.getFederationContext().getQueryContext().getParameters().get(each));
+        for (int each : scanContext.getParamIndexes()) {
+            result.add(each < ScanExecutorContext.RUNTIME_FILTER_PARAMETER_INDEX_OFFSET
+                    ? scanContext.getRoot().get("?" + each)
+                    : scanContext.getRuntimeFilterValues().get(each - ScanExecutorContext.RUNTIME_FILTER_PARAMETER_INDEX_OFFSET));
         }
         return result;
     }
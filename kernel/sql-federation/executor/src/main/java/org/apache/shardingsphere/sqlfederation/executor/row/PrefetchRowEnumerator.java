@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.row;
+
+import lombok.SneakyThrows;
+import org.apache.calcite.linq4j.Enumerator;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Prefetch row enumerator, which opens the delegate enumerator on another thread and reads its rows into a bounded buffer.
+ *
+ * <p>If prefetching has not been started by executor service when rows are requested, the delegate enumerator is opened and read on the calling thread,
+ * and prefetching which has not been started is cancelled when closing.</p>
+ */
+public final class PrefetchRowEnumerator implements Enumerator<Object> {
+    
+    private static final Object NULL_ROW = new Object();
+    
+    private static final Object END_ROW = new Object();
+    
+    private static final long OFFER_TIMEOUT_MILLIS = 100L;
+    
+    private static final int NEW = 0;
+    
+    private static final int PREFETCHING = 1;
+    
+    private static final int DIRECT = 2;
+    
+    private static final int CANCELLED = 3;
+    
+    private final Callable<Enumerator<Object>> delegateOpener;
+    
+    private final BlockingQueue<Object> buffer;
+    
+    private final AtomicInteger state = new AtomicInteger(NEW);
+    
+    private final Future<?> future;
+    
+    private volatile boolean closed;
+    
+    private volatile Exception failure;
+    
+    private Enumerator<Object> directDelegate;
+    
+    private Object currentRow;
+    
+    private boolean finished;
+    
+    public PrefetchRowEnumerator(final Callable<Enumerator<Object>> delegateOpener, final ExecutorService executorService, final int bufferSize) {
+        this.delegateOpener = delegateOpener;
+        buffer = new ArrayBlockingQueue<>(bufferSize);
+        future = executorService.submit(this::prefetch);
+    }
+    
+    private void prefetch() {
+        if (!state.compareAndSet(NEW, PREFETCHING)) {
+            return;
+        }
+        try {
+            Enumerator<Object> delegate = delegateOpener.call();
+            try {
+                while (!closed && delegate.moveNext()) {
+                    Object row = delegate.current();
+                    offer(null == row ? NULL_ROW : row);
+                }
+            } finally {
+                delegate.close();
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            failure = ex;
+        } finally {
+            offer(END_ROW);
+        }
+    }
+    
+    private void offer(final Object row) {
+        boolean offered = false;
+        try {
+            while (!closed && !offered) {
+                offered = buffer.offer(row, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+            closed = true;
+        }
+    }
+    
+    @Override
+    public Object current() {
+        return currentRow;
+    }
+    
+    @SneakyThrows
+    @Override
+    public boolean moveNext() {
+        if (finished) {
+            return false;
+        }
+        if (state.compareAndSet(NEW, DIRECT)) {
+            future.cancel(false);
+            directDelegate = delegateOpener.call();
+        }
+        if (DIRECT == state.get()) {
+            return moveNextDirectly();
+        }
+        Object row = buffer.take();
+        if (END_ROW == row) {
+            finished = true;
+            currentRow = null;
+            if (null != failure) {
+                throw failure;
+            }
+            return false;
+        }
+        currentRow = NULL_ROW == row ? null : row;
+        return true;
+    }
+    
+    private boolean moveNextDirectly() {
+        if (directDelegate.moveNext()) {
+            currentRow = directDelegate.current();
+            return true;
+        }
+        finished = true;
+        currentRow = null;
+        return false;
+    }
+    
+    @Override
+    public void reset() {
+    }
+    
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public void close() {
+        closed = true;
+        currentRow = null;
+        if (state.compareAndSet(NEW, CANCELLED)) {
+            future.cancel(false);
+            return;
+        }
+        if (DIRECT == state.get()) {
+            if (null != directDelegate) {
+                directDelegate.close();
+            }
+            return;
+        }
+        buffer.clear();
+        future.get();
+    }
+}
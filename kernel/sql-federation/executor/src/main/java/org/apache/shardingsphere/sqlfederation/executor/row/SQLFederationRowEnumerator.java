@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.sqlfederation.executor.row;
 
-import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.calcite.linq4j.Enumerator;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
@@ -31,17 +30,23 @@ import java.util.Collection;
 /**
  * SQL federation row enumerator.
  */
-@RequiredArgsConstructor
 public final class SQLFederationRowEnumerator implements Enumerator<Object> {
     
     private final MergedResult queryResult;
     
-    private final QueryResultMetaData metaData;
+    private final int columnCount;
     
     private final Collection<Statement> statements;
     
     private Object currentRow;
     
+    @SneakyThrows(SQLException.class)
+    public SQLFederationRowEnumerator(final MergedResult queryResult, final QueryResultMetaData metaData, final Collection<Statement> statements) {
+        this.queryResult = queryResult;
+        columnCount = metaData.getColumnCount();
+        this.statements = statements;
+    }
+    
     @Override
     public Object current() {
         return currentRow;
@@ -62,11 +67,15 @@ public final class SQLFederationRowEnumerator implements Enumerator<Object> {
     }
     
     private void setCurrentRow() throws SQLException {
-        Object[] rowValues = new Object[metaData.getColumnCount()];
-        for (int i = 0; i < metaData.getColumnCount(); i++) {
+        if (1 == columnCount) {
+            currentRow = queryResult.getValue(1, Object.class);
+            return;
+        }
+        Object[] rowValues = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
             rowValues[i] = queryResult.getValue(i + 1, Object.class);
         }
-        this.currentRow = 1 == metaData.getColumnCount() ? rowValues[0] : rowValues;
+        currentRow = rowValues;
     }
     
     @Override
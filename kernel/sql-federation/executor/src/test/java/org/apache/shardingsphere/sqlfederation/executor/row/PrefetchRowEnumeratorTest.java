@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.row;
+
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PrefetchRowEnumeratorTest {
+    
+    private static final ExecutorService EXECUTOR_SERVICE = Executors.newCachedThreadPool();
+    
+    @AfterAll
+    static void shutdown() {
+        EXECUTOR_SERVICE.shutdown();
+    }
+    
+    @Test
+    void assertMoveNext() {
+        Enumerator<Object> actual = new PrefetchRowEnumerator(() -> Linq4j.enumerator(Arrays.asList(1, null, new Object[]{3, "foo"})), EXECUTOR_SERVICE, 1);
+        assertTrue(actual.moveNext());
+        assertThat(actual.current(), is(1));
+        assertTrue(actual.moveNext());
+        assertNull(actual.current());
+        assertTrue(actual.moveNext());
+        assertThat(actual.current(), is(new Object[]{3, "foo"}));
+        assertFalse(actual.moveNext());
+        assertFalse(actual.moveNext());
+        actual.close();
+    }
+    
+    @Test
+    void assertMoveNextWhenOpenFailed() {
+        Enumerator<Object> actual = new PrefetchRowEnumerator(() -> {
+            throw new SQLException("open failed");
+        }, EXECUTOR_SERVICE, 1);
+        assertThrows(SQLException.class, actual::moveNext);
+        actual.close();
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertCloseBeforeExhausted() {
+        Enumerator<Object> delegate = mock(Enumerator.class);
+        when(delegate.moveNext()).thenReturn(true);
+        when(delegate.current()).thenReturn(1);
+        Enumerator<Object> actual = new PrefetchRowEnumerator(() -> delegate, EXECUTOR_SERVICE, 2);
+        assertTrue(actual.moveNext());
+        actual.close();
+        verify(delegate).close();
+    }
+    
+    @Test
+    void assertMoveNextDirectlyWhenPrefetchNotStarted() throws InterruptedException {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            executorService.submit(() -> {
+                latch.await();
+                return null;
+            });
+            Enumerator<Object> actual = new PrefetchRowEnumerator(() -> Linq4j.enumerator(Arrays.asList(1, 2)), executorService, 1);
+            assertTrue(actual.moveNext());
+            assertThat(actual.current(), is(1));
+            assertTrue(actual.moveNext());
+            assertThat(actual.current(), is(2));
+            assertFalse(actual.moveNext());
+            actual.close();
+        } finally {
+            latch.countDown();
+            executorService.shutdown();
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertCloseWhenPrefetchNotStarted() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        CountDownLatch latch = new CountDownLatch(1);
+        Callable<Enumerator<Object>> delegateOpener = mock(Callable.class);
+        try {
+            executorService.submit(() -> {
+                latch.await();
+                return null;
+            });
+            new PrefetchRowEnumerator(delegateOpener, executorService, 1).close();
+        } finally {
+            latch.countDown();
+            executorService.shutdown();
+        }
+        assertTrue(executorService.awaitTermination(10L, TimeUnit.SECONDS));
+        verify(delegateOpener, never()).call();
+    }
+}
@@ -24,19 +24,25 @@ import org.apache.calcite.config.CalciteConnectionConfig;
 import org.apache.calcite.config.CalciteConnectionConfigImpl;
 import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
 import org.apache.calcite.prepare.CalciteCatalogReader;
-import org.apache.calcite.schema.Schema;
+import org.apache.calcite.schema.Table;
 import org.apache.calcite.sql.validate.SqlValidator;
 import org.apache.calcite.sql2rel.SqlToRelConverter;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.parser.OptimizerParserContext;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.colocation.TableColocation;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.colocation.TableColocationProvider;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationSchema;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.util.SQLFederationPlannerUtils;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -72,12 +78,15 @@ public final class OptimizerPlannerContextFactory {
      * @param sqlParserRule sql parser rule
      * @return created optimizer planner context
      */
+    @SuppressWarnings("rawtypes")
     public static OptimizerPlannerContext create(final ShardingSphereDatabase database, final OptimizerParserContext parserContext, final SQLParserRule sqlParserRule) {
         Map<String, SqlValidator> validators = new LinkedHashMap<>();
         Map<String, SqlToRelConverter> converters = new LinkedHashMap<>();
+        Map<ShardingSphereRule, TableColocationProvider> colocationProviders = OrderedSPILoader.getServices(TableColocationProvider.class, database.getRuleMetaData().getRules());
         for (Entry<String, ShardingSphereSchema> entry : database.getSchemas().entrySet()) {
             CalciteConnectionConfig connectionConfig = new CalciteConnectionConfigImpl(parserContext.getDialectProps());
-            Schema sqlFederationSchema = new SQLFederationSchema(entry.getKey(), entry.getValue(), database.getProtocolType(), DEFAULT_DATA_TYPE_FACTORY);
+            SQLFederationSchema sqlFederationSchema = new SQLFederationSchema(entry.getKey(), entry.getValue(), database.getProtocolType(), DEFAULT_DATA_TYPE_FACTORY);
+            registerTableColocations(sqlFederationSchema, colocationProviders);
             CalciteCatalogReader catalogReader = SQLFederationPlannerUtils.createCatalogReader(entry.getKey(), sqlFederationSchema, DEFAULT_DATA_TYPE_FACTORY, connectionConfig);
             SqlValidator validator = SQLFederationPlannerUtils.createSqlValidator(catalogReader, DEFAULT_DATA_TYPE_FACTORY, parserContext.getDatabaseType(), connectionConfig);
             SqlToRelConverter converter = SQLFederationPlannerUtils.createSqlToRelConverter(catalogReader, validator, SQLFederationPlannerUtils.createRelOptCluster(DEFAULT_DATA_TYPE_FACTORY),
@@ -87,4 +96,27 @@ public final class OptimizerPlannerContextFactory {
         }
         return new OptimizerPlannerContext(validators, converters);
     }
+    
+    @SuppressWarnings("rawtypes")
+    private static void registerTableColocations(final SQLFederationSchema sqlFederationSchema, final Map<ShardingSphereRule, TableColocationProvider> colocationProviders) {
+        if (colocationProviders.isEmpty()) {
+            return;
+        }
+        for (Entry<String, Table> entry : sqlFederationSchema.getTableMap().entrySet()) {
+            if (entry.getValue() instanceof SQLFederationTable) {
+                findTableColocation(entry.getKey(), colocationProviders).ifPresent(((SQLFederationTable) entry.getValue())::setColocation);
+            }
+        }
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Optional<TableColocation> findTableColocation(final String tableName, final Map<ShardingSphereRule, TableColocationProvider> colocationProviders) {
+        for (Entry<ShardingSphereRule, TableColocationProvider> entry : colocationProviders.entrySet()) {
+            Optional<TableColocation> result = entry.getValue().findTableColocation(tableName, entry.getKey());
+            if (result.isPresent()) {
+                return result;
+            }
+        }
+        return Optional.empty();
+    }
 }
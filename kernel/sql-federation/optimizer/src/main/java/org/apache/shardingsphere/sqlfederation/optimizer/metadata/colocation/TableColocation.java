@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.colocation;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Table colocation.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class TableColocation {
+    
+    private final TableColocationType type;
+    
+    private final String colocationGroup;
+    
+    private final String databaseShardingColumn;
+    
+    private final String tableShardingColumn;
+    
+    /**
+     * Create broadcast table colocation.
+     *
+     * @return broadcast table colocation
+     */
+    public static TableColocation broadcast() {
+        return new TableColocation(TableColocationType.BROADCAST, null, null, null);
+    }
+    
+    /**
+     * Create sharding table colocation.
+     *
+     * @param colocationGroup colocation group, tables in same group share data nodes and sharding algorithms
+     * @param databaseShardingColumn database sharding column, null means join condition on it is not required
+     * @param tableShardingColumn table sharding column, null means join condition on it is not required
+     * @return sharding table colocation
+     */
+    public static TableColocation sharding(final String colocationGroup, final String databaseShardingColumn, final String tableShardingColumn) {
+        return new TableColocation(TableColocationType.SHARDING, colocationGroup, databaseShardingColumn, tableShardingColumn);
+    }
+}
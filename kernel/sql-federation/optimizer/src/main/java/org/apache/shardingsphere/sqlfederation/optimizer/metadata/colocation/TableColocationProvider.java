@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.colocation;
+
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
+import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPI;
+
+import java.util.Optional;
+
+/**
+ * Table colocation provider.
+ *
+ * @param <T> type of rule
+ */
+@SingletonSPI
+public interface TableColocationProvider<T extends ShardingSphereRule> extends OrderedSPI<T> {
+    
+    /**
+     * Find table colocation.
+     *
+     * @param tableName table name
+     * @param rule rule
+     * @return table colocation
+     */
+    Optional<TableColocation> findTableColocation(String tableName, T rule);
+}
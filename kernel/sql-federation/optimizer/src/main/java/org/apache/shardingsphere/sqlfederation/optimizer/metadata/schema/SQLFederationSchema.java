@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.calcite.adapter.java.JavaTypeFactory;
 import org.apache.calcite.rel.type.RelDataType;
@@ -28,12 +29,16 @@ import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.util.SQLFederationDataTypeUtils;
 import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatistic;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatisticsLoader;
 
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * SQL federation schema.
@@ -41,10 +46,21 @@ import java.util.Map;
 @Getter
 public final class SQLFederationSchema extends AbstractSchema {
     
+    private static final long STATISTICS_REFRESH_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(30L);
+    
     private final String name;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, SQLFederationStatistic> tableStatistics = new LinkedHashMap<>();
+    
     private final Map<String, Table> tableMap;
     
+    @Getter(AccessLevel.NONE)
+    private volatile long statisticsRefreshedMillis;
+    
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong statisticsVersion = new AtomicLong();
+    
     public SQLFederationSchema(final String schemaName, final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
         name = schemaName;
         tableMap = createTableMap(schema, protocolType, javaTypeFactory);
@@ -56,8 +72,9 @@ public final class SQLFederationSchema extends AbstractSchema {
             if (schema.containsView(each.getName())) {
                 result.put(each.getName().toLowerCase(), getViewTable(schema, each, protocolType, javaTypeFactory));
             } else {
-                // TODO implement table statistic logic after using custom operators
-                result.put(each.getName().toLowerCase(), new SQLFederationTable(each, new SQLFederationStatistic(), protocolType));
+                SQLFederationStatistic statistic = new SQLFederationStatistic();
+                tableStatistics.put(each.getName().toLowerCase(), statistic);
+                result.put(each.getName().toLowerCase(), new SQLFederationTable(each, statistic, protocolType));
             }
         }
         return result;
@@ -68,4 +85,30 @@ public final class SQLFederationSchema extends AbstractSchema {
         ShardingSphereView view = schema.getView(table.getName());
         return new ViewTable(javaTypeFactory.getJavaClass(relDataType), RelDataTypeImpl.proto(relDataType), view.getViewDefinition(), Collections.emptyList(), Collections.emptyList());
     }
+    
+    /**
+     * Refresh table statistics with collected ShardingSphere statistics, statistics are refreshed at most once per collecting interval.
+     *
+     * @param databaseName database name
+     * @param statistics ShardingSphere statistics
+     */
+    public void refreshStatistics(final String databaseName, final ShardingSphereStatistics statistics) {
+        long currentMillis = System.currentTimeMillis();
+        if (null == statistics || currentMillis - statisticsRefreshedMillis < STATISTICS_REFRESH_INTERVAL_MILLIS) {
+            return;
+        }
+        statisticsRefreshedMillis = currentMillis;
+        if (SQLFederationStatisticsLoader.load(statistics, databaseName, tableStatistics)) {
+            statisticsVersion.incrementAndGet();
+        }
+    }
+    
+    /**
+     * Get statistics version, which is increased whenever refreshed table statistics are changed.
+     *
+     * @return statistics version
+     */
+    public long getStatisticsVersion() {
+        return statisticsVersion.get();
+    }
 }
@@ -47,8 +47,15 @@ import org.apache.calcite.schema.impl.AbstractTable;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.colocation.TableColocation;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.util.SQLFederationDataTypeUtils;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ColumnTypeConvertedRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.EmptyRowEnumerator;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.RuntimeFilterCollectingEnumerator;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.RuntimeFilterConsumer;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.RuntimeFilterContext;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.RuntimeFilterKeys;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.RuntimeFilterProducer;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutor;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutorContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatistic;
@@ -57,6 +64,7 @@ import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * SQL federation table.
@@ -73,6 +81,9 @@ public final class SQLFederationTable extends AbstractTable implements Modifiabl
     @Setter
     private ScanExecutor scanExecutor;
     
+    @Setter
+    private TableColocation colocation;
+    
     @Override
     public RelDataType getRowType(final RelDataTypeFactory typeFactory) {
         return SQLFederationDataTypeUtils.createRelDataType(table, protocolType, typeFactory);
@@ -104,13 +115,91 @@ public final class SQLFederationTable extends AbstractTable implements Modifiabl
      * @param root data context
      * @param sql sql
      * @param paramIndexes param indexes
+     * @param columnTypes column types of result, values are {@link java.sql.Types}
      * @return enumerable result
      */
-    public Enumerable<Object> execute(final DataContext root, final String sql, final int[] paramIndexes) {
+    public Enumerable<Object> execute(final DataContext root, final String sql, final int[] paramIndexes, final int[] columnTypes) {
         if (null == scanExecutor) {
             return createEmptyEnumerable();
         }
-        return scanExecutor.execute(table, new ScanExecutorContext(root, sql, paramIndexes));
+        Enumerable<Object> result = scanExecutor.execute(table, new ScanExecutorContext(root, sql, paramIndexes));
+        return new AbstractEnumerable<Object>() {
+            
+            @Override
+            public Enumerator<Object> enumerator() {
+                return new ColumnTypeConvertedRowEnumerator(result.enumerator(), columnTypes);
+            }
+        };
+    }
+    
+    /**
+     * Execute and collect join keys of rows for runtime filter.
+     *
+     * @param root data context
+     * @param sql sql
+     * @param paramIndexes param indexes
+     * @param columnTypes column types of result, values are {@link java.sql.Types}
+     * @param producer runtime filter producer
+     * @return enumerable result
+     */
+    public Enumerable<Object> execute(final DataContext root, final String sql, final int[] paramIndexes, final int[] columnTypes, final RuntimeFilterProducer producer) {
+        Enumerable<Object> result = execute(root, sql, paramIndexes, columnTypes);
+        RuntimeFilterContext runtimeFilterContext = (RuntimeFilterContext) root.get(RuntimeFilterContext.DATA_CONTEXT_NAME);
+        if (null == runtimeFilterContext) {
+            return result;
+        }
+        return new AbstractEnumerable<Object>() {
+            
+            @Override
+            public Enumerator<Object> enumerator() {
+                RuntimeFilterKeys keys = runtimeFilterContext.start(producer.getFilterId(), producer.getMaxDistinctKeySize());
+                return new RuntimeFilterCollectingEnumerator(result.enumerator(), producer.getKeyIndex(), 1 == columnTypes.length, keys);
+            }
+        };
+    }
+    
+    /**
+     * Execute with rows filtered by join keys of runtime filter.
+     * 
+     * <p>Execution is deferred to enumerator, so that join keys of build side can be collected completely before.
+     * Original sql is executed when join keys are not available.</p>
+     *
+     * @param root data context
+     * @param sql sql
+     * @param paramIndexes param indexes
+     * @param columnTypes column types of result, values are {@link java.sql.Types}
+     * @param consumer runtime filter consumer
+     * @return enumerable result
+     */
+    public Enumerable<Object> execute(final DataContext root, final String sql, final int[] paramIndexes, final int[] columnTypes, final RuntimeFilterConsumer consumer) {
+        RuntimeFilterContext runtimeFilterContext = (RuntimeFilterContext) root.get(RuntimeFilterContext.DATA_CONTEXT_NAME);
+        if (null == scanExecutor || null == runtimeFilterContext) {
+            return execute(root, sql, paramIndexes, columnTypes);
+        }
+        return new AbstractEnumerable<Object>() {
+            
+            @Override
+            public Enumerator<Object> enumerator() {
+                Optional<RuntimeFilterKeys> keys = runtimeFilterContext.findCompletedKeys(consumer.getFilterId());
+                if (!keys.isPresent()) {
+                    return execute(root, sql, paramIndexes, columnTypes).enumerator();
+                }
+                if (keys.get().isEmpty()) {
+                    return new EmptyRowEnumerator();
+                }
+                ScanExecutorContext scanContext = consumer.createScanExecutorContext(root, keys.get()).orElseGet(() -> new ScanExecutorContext(root, sql, paramIndexes));
+                return new ColumnTypeConvertedRowEnumerator(scanExecutor.execute(table, scanContext).enumerator(), columnTypes);
+            }
+        };
+    }
+    
+    /**
+     * Find table colocation.
+     *
+     * @return table colocation
+     */
+    public Optional<TableColocation> findColocation() {
+        return Optional.ofNullable(colocation);
     }
     
     private AbstractEnumerable<Object> createEmptyEnumerable() {
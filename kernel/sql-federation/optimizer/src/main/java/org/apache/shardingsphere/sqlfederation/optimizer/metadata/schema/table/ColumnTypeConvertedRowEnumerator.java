@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.linq4j.Enumerator;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.Arrays;
+
+/**
+ * Column type converted row enumerator.
+ * 
+ * <p>Values returned by storage units or merge engine may differ from java types expected by calcite, such as decimal value for merged count,
+ * and derived columns may be appended. Rows are trimmed to expected columns and numeric values are converted to expected java types.</p>
+ */
+@RequiredArgsConstructor
+public final class ColumnTypeConvertedRowEnumerator implements Enumerator<Object> {
+    
+    private final Enumerator<Object> delegate;
+    
+    private final int[] columnTypes;
+    
+    @Override
+    public Object current() {
+        Object current = delegate.current();
+        if (1 == columnTypes.length) {
+            return convert(current instanceof Object[] ? ((Object[]) current)[0] : current, columnTypes[0]);
+        }
+        if (!(current instanceof Object[])) {
+            return current;
+        }
+        Object[] result = columnTypes.length == ((Object[]) current).length ? (Object[]) current : Arrays.copyOf((Object[]) current, columnTypes.length);
+        for (int i = 0; i < columnTypes.length; i++) {
+            result[i] = convert(result[i], columnTypes[i]);
+        }
+        return result;
+    }
+    
+    private Object convert(final Object value, final int columnType) {
+        if (!(value instanceof Number)) {
+            return value;
+        }
+        Number number = (Number) value;
+        switch (columnType) {
+            case Types.TINYINT:
+                return value instanceof Byte ? value : number.byteValue();
+            case Types.SMALLINT:
+                return value instanceof Short ? value : number.shortValue();
+            case Types.INTEGER:
+                return value instanceof Integer ? value : number.intValue();
+            case Types.BIGINT:
+                return value instanceof Long ? value : number.longValue();
+            case Types.REAL:
+                return value instanceof Float ? value : number.floatValue();
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return value instanceof Double ? value : number.doubleValue();
+            case Types.DECIMAL:
+                return value instanceof BigDecimal ? value : new BigDecimal(value.toString());
+            default:
+                return value;
+        }
+    }
+    
+    @Override
+    public boolean moveNext() {
+        return delegate.moveNext();
+    }
+    
+    @Override
+    public void reset() {
+        delegate.reset();
+    }
+    
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
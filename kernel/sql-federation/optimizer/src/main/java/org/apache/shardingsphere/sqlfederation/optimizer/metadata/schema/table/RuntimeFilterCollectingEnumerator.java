@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.linq4j.Enumerator;
+
+/**
+ * Runtime filter collecting enumerator, keys are completely collected only when delegate enumerator is exhausted.
+ */
+@RequiredArgsConstructor
+public final class RuntimeFilterCollectingEnumerator implements Enumerator<Object> {
+    
+    private final Enumerator<Object> delegate;
+    
+    private final int keyIndex;
+    
+    private final boolean singleColumn;
+    
+    private final RuntimeFilterKeys keys;
+    
+    @Override
+    public Object current() {
+        return delegate.current();
+    }
+    
+    @Override
+    public boolean moveNext() {
+        if (delegate.moveNext()) {
+            Object row = delegate.current();
+            keys.add(singleColumn ? row : ((Object[]) row)[keyIndex]);
+            return true;
+        }
+        keys.complete();
+        return false;
+    }
+    
+    @Override
+    public void reset() {
+        delegate.reset();
+    }
+    
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.DataContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Runtime filter consumer, which filters rows of probe side by join keys collected from build side.
+ * 
+ * <p>The i-th IN list SQL contains 2^i runtime filter parameters, keys are padded with the last key to reuse SQL.
+ * Range SQL contains min key and max key parameters, and is used when keys exceed the largest IN list.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class RuntimeFilterConsumer {
+    
+    private final int filterId;
+    
+    private final String columnName;
+    
+    private final String[] inListSQLs;
+    
+    private final int[][] inListParamIndexes;
+    
+    private final String rangeSQL;
+    
+    private final int[] rangeParamIndexes;
+    
+    /**
+     * Create scan executor context with runtime filter.
+     *
+     * @param root data context
+     * @param keys runtime filter keys
+     * @return scan executor context, empty when keys can not be used to filter rows
+     */
+    public Optional<ScanExecutorContext> createScanExecutorContext(final DataContext root, final RuntimeFilterKeys keys) {
+        if (keys.isEmpty()) {
+            return Optional.empty();
+        }
+        if (!keys.isOverflowed()) {
+            List<Object> values = new ArrayList<>(keys.getDistinctKeys());
+            for (int i = 0; i < inListSQLs.length; i++) {
+                if (values.size() <= 1 << i) {
+                    padValues(values, 1 << i);
+                    return Optional.of(new ScanExecutorContext(root, inListSQLs[i], inListParamIndexes[i], values));
+                }
+            }
+        }
+        return keys.findRange().map(optional -> new ScanExecutorContext(root, rangeSQL, rangeParamIndexes, Arrays.asList(optional)));
+    }
+    
+    private void padValues(final List<Object> values, final int size) {
+        Object lastValue = values.get(values.size() - 1);
+        while (values.size() < size) {
+            values.add(lastValue);
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return "#" + filterId + " on " + columnName;
+    }
+}
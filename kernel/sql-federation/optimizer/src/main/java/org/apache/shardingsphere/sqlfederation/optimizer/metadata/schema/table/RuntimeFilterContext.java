@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runtime filter context of one federation query execution.
+ */
+public final class RuntimeFilterContext {
+    
+    /**
+     * Name of runtime filter context in data context.
+     */
+    public static final String DATA_CONTEXT_NAME = "runtimeFilterContext";
+    
+    private final Map<Integer, RuntimeFilterKeys> filterKeys = new ConcurrentHashMap<>();
+    
+    /**
+     * Start collecting runtime filter keys, keys collected before are discarded.
+     *
+     * @param filterId runtime filter id
+     * @param maxDistinctKeySize max distinct key size
+     * @return runtime filter keys
+     */
+    public RuntimeFilterKeys start(final int filterId, final int maxDistinctKeySize) {
+        RuntimeFilterKeys result = new RuntimeFilterKeys(maxDistinctKeySize);
+        filterKeys.put(filterId, result);
+        return result;
+    }
+    
+    /**
+     * Find runtime filter keys which are completely collected.
+     *
+     * @param filterId runtime filter id
+     * @return runtime filter keys
+     */
+    public Optional<RuntimeFilterKeys> findCompletedKeys(final int filterId) {
+        return Optional.ofNullable(filterKeys.get(filterId)).filter(RuntimeFilterKeys::isCompleted);
+    }
+}
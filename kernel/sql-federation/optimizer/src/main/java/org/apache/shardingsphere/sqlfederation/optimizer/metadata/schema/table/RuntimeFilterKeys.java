@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+
+/**
+ * Runtime filter keys collected from build side.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class RuntimeFilterKeys {
+    
+    private final int maxDistinctKeySize;
+    
+    private final Collection<Object> distinctKeys = new LinkedHashSet<>();
+    
+    @Getter
+    private boolean overflowed;
+    
+    private boolean rangeAvailable = true;
+    
+    private Comparable<Object> minKey;
+    
+    private Comparable<Object> maxKey;
+    
+    @Getter
+    private volatile boolean completed;
+    
+    void add(final Object key) {
+        if (null == key) {
+            return;
+        }
+        updateRange(key);
+        if (overflowed) {
+            return;
+        }
+        distinctKeys.add(key);
+        if (distinctKeys.size() > maxDistinctKeySize) {
+            overflowed = true;
+            distinctKeys.clear();
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void updateRange(final Object key) {
+        if (!rangeAvailable) {
+            return;
+        }
+        if (!isRangeSupported(key) || null != minKey && minKey.getClass() != key.getClass()) {
+            rangeAvailable = false;
+            minKey = null;
+            maxKey = null;
+            return;
+        }
+        Comparable<Object> comparableKey = (Comparable<Object>) key;
+        if (null == minKey || comparableKey.compareTo(minKey) < 0) {
+            minKey = comparableKey;
+        }
+        if (null == maxKey || comparableKey.compareTo(maxKey) > 0) {
+            maxKey = comparableKey;
+        }
+    }
+    
+    private boolean isRangeSupported(final Object key) {
+        return key instanceof Number && key instanceof Comparable || key instanceof Date;
+    }
+    
+    void complete() {
+        completed = true;
+    }
+    
+    /**
+     * Judge whether no key is collected.
+     *
+     * @return no key is collected or not
+     */
+    public boolean isEmpty() {
+        return !overflowed && distinctKeys.isEmpty();
+    }
+    
+    /**
+     * Get distinct keys, which is empty when distinct key size exceeds max distinct key size.
+     *
+     * @return distinct keys
+     */
+    public Collection<Object> getDistinctKeys() {
+        return Collections.unmodifiableCollection(distinctKeys);
+    }
+    
+    /**
+     * Find range of keys.
+     *
+     * <p>Range is only available for numeric and date keys. String keys never have a range,
+     * because java ordering of strings may differ from collation of storage unit, and a wrong range would filter out matched rows.</p>
+     *
+     * @return min key and max key
+     */
+    public Optional<Object[]> findRange() {
+        return rangeAvailable && null != minKey ? Optional.of(new Object[]{minKey, maxKey}) : Optional.empty();
+    }
+}
@@ -15,22 +15,26 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.data.pipeline.cdc.core.importer;
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
-import java.util.Comparator;
-
 /**
- * CSN records comparator.
+ * Runtime filter producer, which collects join keys from rows of build side.
  */
 @RequiredArgsConstructor
 @Getter
-public final class CSNRecordsComparator implements Comparator<CSNRecords> {
+public final class RuntimeFilterProducer {
+    
+    private final int filterId;
+    
+    private final int keyIndex;
+    
+    private final int maxDistinctKeySize;
     
     @Override
-    public int compare(final CSNRecords o1, final CSNRecords o2) {
-        return Long.compare(o1.getCsn(), o2.getCsn());
+    public String toString() {
+        return "#" + filterId + " on $" + keyIndex;
     }
 }
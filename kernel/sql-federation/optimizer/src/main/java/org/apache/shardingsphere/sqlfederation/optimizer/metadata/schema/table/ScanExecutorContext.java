@@ -21,6 +21,9 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.DataContext;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Scan executor context.
  */
@@ -28,9 +31,20 @@ import org.apache.calcite.DataContext;
 @Getter
 public final class ScanExecutorContext {
     
+    /**
+     * Parameter indexes not less than this offset refer to runtime filter values instead of query parameters.
+     */
+    public static final int RUNTIME_FILTER_PARAMETER_INDEX_OFFSET = 1 << 20;
+    
     private final DataContext root;
     
     private final String sql;
     
     private final int[] paramIndexes;
+    
+    private final List<Object> runtimeFilterValues;
+    
+    public ScanExecutorContext(final DataContext root, final String sql, final int[] paramIndexes) {
+        this(root, sql, paramIndexes, Collections.emptyList());
+    }
 }
@@ -21,9 +21,13 @@ import lombok.Getter;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelWriter;
 import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.logical.LogicalAggregate;
 import org.apache.calcite.rel.logical.LogicalFilter;
+import org.apache.calcite.rel.logical.LogicalJoin;
 import org.apache.calcite.rel.logical.LogicalProject;
+import org.apache.calcite.rel.logical.LogicalSort;
 import org.apache.calcite.rel.logical.LogicalTableScan;
+import org.apache.calcite.rex.RexNode;
 import org.apache.shardingsphere.sqlfederation.optimizer.operator.util.LogicalScanPushDownRelBuilder;
 
 import java.util.Collections;
@@ -71,6 +75,62 @@ public final class LogicalScan extends TableScan {
         resetRowType(logicalProject);
     }
     
+    /**
+     * Push down logical aggregate.
+     *
+     * @param logicalAggregate logical aggregate
+     */
+    public void pushDown(final LogicalAggregate logicalAggregate) {
+        RelNode input = pushDownRelBuilder.build();
+        pushDownRelBuilder.push(logicalAggregate.copy(logicalAggregate.getTraitSet(), Collections.singletonList(input)));
+        resetRowType(logicalAggregate);
+    }
+    
+    /**
+     * Push down logical sort with fetch.
+     *
+     * @param logicalSort logical sort
+     * @param fetch fetch
+     */
+    public void pushDown(final LogicalSort logicalSort, final RexNode fetch) {
+        RelNode input = pushDownRelBuilder.build();
+        pushDownRelBuilder.push(logicalSort.copy(logicalSort.getTraitSet(), input, logicalSort.getCollation(), null, fetch));
+    }
+    
+    /**
+     * Push down logical join.
+     *
+     * @param logicalJoin logical join
+     * @param joinedRelNode joined rel node which combines push down rel nodes of both join inputs
+     */
+    public void pushDown(final LogicalJoin logicalJoin, final RelNode joinedRelNode) {
+        pushDownRelBuilder.build();
+        pushDownRelBuilder.push(joinedRelNode);
+        resetRowType(logicalJoin);
+    }
+    
+    /**
+     * Judge whether rel node with specified type is pushed down.
+     *
+     * @param relNodeClass rel node class
+     * @return rel node with specified type is pushed down or not
+     */
+    public boolean isPushedDown(final Class<? extends RelNode> relNodeClass) {
+        return isPushedDown(pushDownRelBuilder.peek(), relNodeClass);
+    }
+    
+    private boolean isPushedDown(final RelNode relNode, final Class<? extends RelNode> relNodeClass) {
+        if (relNodeClass.isInstance(relNode)) {
+            return true;
+        }
+        for (RelNode each : relNode.getInputs()) {
+            if (isPushedDown(each, relNodeClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     /**
      * Peek rel node.
      *
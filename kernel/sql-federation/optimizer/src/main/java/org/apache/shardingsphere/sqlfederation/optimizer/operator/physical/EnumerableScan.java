@@ -24,6 +24,7 @@ import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
 import org.apache.calcite.adapter.enumerable.PhysType;
 import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
 import org.apache.calcite.linq4j.tree.Blocks;
+import org.apache.calcite.linq4j.tree.Expression;
 import org.apache.calcite.linq4j.tree.Expressions;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelOptTable;
@@ -33,13 +34,17 @@ import org.apache.calcite.rel.RelWriter;
 import org.apache.calcite.rel.core.TableScan;
 import org.apache.calcite.rel.rel2sql.RelToSqlConverter;
 import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeField;
 import org.apache.calcite.sql.SqlDialect;
 import org.apache.calcite.sql.util.SqlString;
 import org.apache.shardingsphere.sqlfederation.optimizer.sql.SQLDialectFactory;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.RuntimeFilterConsumer;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.RuntimeFilterProducer;
 
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 
@@ -49,32 +54,77 @@ import java.util.Objects;
 @Getter
 public final class EnumerableScan extends TableScan implements EnumerableRel {
     
+    private final RelNode pushDownRelNode;
+    
+    private final String databaseType;
+    
     private final SqlString sqlString;
     
     private final RelDataType pushDownRowType;
     
+    private final RuntimeFilterProducer runtimeFilterProducer;
+    
+    private final RuntimeFilterConsumer runtimeFilterConsumer;
+    
     public EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final RelNode pushDownRelNode, final String databaseType) {
-        super(cluster, traitSet, Collections.emptyList(), table);
-        this.traitSet = this.traitSet.replace(EnumerableConvention.INSTANCE);
-        sqlString = createSQLString(pushDownRelNode, databaseType);
-        pushDownRowType = pushDownRelNode.getRowType();
+        this(cluster, traitSet, table, pushDownRelNode, databaseType, createSQLString(pushDownRelNode, databaseType), null, null);
     }
     
-    public EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final SqlString sqlString, final RelDataType pushDownRowType) {
+    private EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final RelNode pushDownRelNode, final String databaseType,
+                           final SqlString sqlString, final RuntimeFilterProducer runtimeFilterProducer, final RuntimeFilterConsumer runtimeFilterConsumer) {
         super(cluster, traitSet, Collections.emptyList(), table);
         this.traitSet = this.traitSet.replace(EnumerableConvention.INSTANCE);
+        this.pushDownRelNode = pushDownRelNode;
+        this.databaseType = databaseType;
         this.sqlString = sqlString;
-        this.pushDownRowType = pushDownRowType;
+        pushDownRowType = pushDownRelNode.getRowType();
+        this.runtimeFilterProducer = runtimeFilterProducer;
+        this.runtimeFilterConsumer = runtimeFilterConsumer;
     }
     
     @Override
     public RelNode copy(final RelTraitSet traitSet, final List<RelNode> inputs) {
-        return new EnumerableScan(getCluster(), traitSet, table, sqlString, pushDownRowType);
+        return new EnumerableScan(getCluster(), traitSet, table, pushDownRelNode, databaseType, sqlString, runtimeFilterProducer, runtimeFilterConsumer);
+    }
+    
+    /**
+     * Create enumerable scan which collects join keys for runtime filter.
+     *
+     * @param filterId runtime filter id
+     * @param keyIndex index of join key in row
+     * @param maxDistinctKeySize max distinct key size
+     * @return enumerable scan with runtime filter producer
+     */
+    public EnumerableScan withRuntimeFilterProducer(final int filterId, final int keyIndex, final int maxDistinctKeySize) {
+        return new EnumerableScan(getCluster(), traitSet, table, pushDownRelNode, databaseType, sqlString, new RuntimeFilterProducer(filterId, keyIndex, maxDistinctKeySize), runtimeFilterConsumer);
+    }
+    
+    /**
+     * Create enumerable scan which filters rows by join keys of runtime filter.
+     *
+     * @param filterId runtime filter id
+     * @param columnName name of filtered column
+     * @param inListRelNodes push down rel nodes filtered by IN list, the i-th one contains 2^i runtime filter parameters
+     * @param rangeRelNode push down rel node filtered by range of min key and max key
+     * @return enumerable scan with runtime filter consumer
+     */
+    public EnumerableScan withRuntimeFilterConsumer(final int filterId, final String columnName, final List<RelNode> inListRelNodes, final RelNode rangeRelNode) {
+        String[] inListSQLs = new String[inListRelNodes.size()];
+        int[][] inListParamIndexes = new int[inListRelNodes.size()][];
+        for (int i = 0; i < inListSQLs.length; i++) {
+            SqlString inListSQLString = createSQLString(inListRelNodes.get(i), databaseType);
+            inListSQLs[i] = getSQL(inListSQLString);
+            inListParamIndexes[i] = getParamIndexes(inListSQLString);
+        }
+        SqlString rangeSQLString = createSQLString(rangeRelNode, databaseType);
+        RuntimeFilterConsumer consumer = new RuntimeFilterConsumer(filterId, columnName, inListSQLs, inListParamIndexes, getSQL(rangeSQLString), getParamIndexes(rangeSQLString));
+        return new EnumerableScan(getCluster(), traitSet, table, pushDownRelNode, databaseType, sqlString, runtimeFilterProducer, consumer);
     }
     
     @Override
     public RelWriter explainTerms(final RelWriter relWriter) {
-        return super.explainTerms(relWriter).item("sql", sqlString.getSql().replaceAll(System.lineSeparator(), " ")).item("dynamicParameters", sqlString.getDynamicParameters());
+        return super.explainTerms(relWriter).item("sql", sqlString.getSql().replaceAll(System.lineSeparator(), " ")).item("dynamicParameters", sqlString.getDynamicParameters())
+                .itemIf("runtimeFilterProducer", runtimeFilterProducer, null != runtimeFilterProducer).itemIf("runtimeFilterConsumer", runtimeFilterConsumer, null != runtimeFilterConsumer);
     }
     
     @Override
@@ -85,20 +135,44 @@ public final class EnumerableScan extends TableScan implements EnumerableRel {
     @Override
     public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
         PhysType physType = PhysTypeImpl.of(implementor.getTypeFactory(), getPushDownRowType(), pref.preferArray());
-        int[] paramIndexes = null == sqlString.getDynamicParameters() ? new int[]{} : getParamIndexes(sqlString.getDynamicParameters());
-        return implementor.result(physType, Blocks.toBlock(Expressions.call(Objects.requireNonNull(table.getExpression(SQLFederationTable.class)), "execute", implementor.getRootExpression(),
-                Expressions.constant(sqlString.getSql().replace("u&'\\", "'\\u")), Expressions.constant(paramIndexes))));
+        List<Expression> arguments = new LinkedList<>(Arrays.asList(implementor.getRootExpression(),
+                Expressions.constant(getSQL(sqlString)), Expressions.constant(getParamIndexes(sqlString)), Expressions.constant(getColumnTypes())));
+        if (null != runtimeFilterProducer) {
+            arguments.add(Expressions.new_(RuntimeFilterProducer.class, Expressions.constant(runtimeFilterProducer.getFilterId()),
+                    Expressions.constant(runtimeFilterProducer.getKeyIndex()), Expressions.constant(runtimeFilterProducer.getMaxDistinctKeySize())));
+        } else if (null != runtimeFilterConsumer) {
+            arguments.add(Expressions.new_(RuntimeFilterConsumer.class, Expressions.constant(runtimeFilterConsumer.getFilterId()), Expressions.constant(runtimeFilterConsumer.getColumnName()),
+                    Expressions.constant(runtimeFilterConsumer.getInListSQLs()), Expressions.constant(runtimeFilterConsumer.getInListParamIndexes()),
+                    Expressions.constant(runtimeFilterConsumer.getRangeSQL()), Expressions.constant(runtimeFilterConsumer.getRangeParamIndexes())));
+        }
+        return implementor.result(physType, Blocks.toBlock(Expressions.call(Objects.requireNonNull(table.getExpression(SQLFederationTable.class)), "execute", arguments)));
+    }
+    
+    private int[] getColumnTypes() {
+        List<RelDataTypeField> fields = pushDownRowType.getFieldList();
+        int[] result = new int[fields.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = fields.get(i).getType().getSqlTypeName().getJdbcOrdinal();
+        }
+        return result;
     }
     
-    private SqlString createSQLString(final RelNode scanContext, final String databaseType) {
+    private static SqlString createSQLString(final RelNode scanContext, final String databaseType) {
         SqlDialect sqlDialect = SQLDialectFactory.getSQLDialect(databaseType);
         return new RelToSqlConverter(sqlDialect).visitRoot(scanContext).asStatement().toSqlString(sqlDialect);
     }
     
-    private int[] getParamIndexes(final Collection<Integer> dynamicParameters) {
-        int[] result = new int[dynamicParameters.size()];
+    private String getSQL(final SqlString sqlString) {
+        return sqlString.getSql().replace("u&'\\", "'\\u");
+    }
+    
+    private int[] getParamIndexes(final SqlString sqlString) {
+        if (null == sqlString.getDynamicParameters()) {
+            return new int[]{};
+        }
+        int[] result = new int[sqlString.getDynamicParameters().size()];
         int index = 0;
-        for (Integer each : dynamicParameters) {
+        for (Integer each : sqlString.getDynamicParameters()) {
             result[index++] = each;
         }
         return result;
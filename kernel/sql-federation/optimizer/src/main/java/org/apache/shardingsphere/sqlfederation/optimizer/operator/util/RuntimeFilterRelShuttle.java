@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.util;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.adapter.enumerable.EnumerableHashJoin;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelShuttleImpl;
+import org.apache.calcite.rel.core.Filter;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.core.Project;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.logical.LogicalFilter;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutorContext;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.EnumerableScan;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+/**
+ * Runtime filter rel shuttle.
+ * 
+ * <p>For inner and semi hash join whose inputs are both enumerable scans, join keys of build side (right input) are collected at runtime,
+ * and pushed into probe side (left input) as IN list or range predicate, so that shards of probe side can be pruned by sharding route.
+ * Runtime filter is only planned when build side is estimated smaller than probe side.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RuntimeFilterRelShuttle extends RelShuttleImpl {
+    
+    private static final int MAX_IN_LIST_SIZE_EXPONENT = 7;
+    
+    private int filterId;
+    
+    @Override
+    public RelNode visit(final RelNode other) {
+        RelNode result = super.visit(other);
+        return result instanceof EnumerableHashJoin ? planRuntimeFilter((EnumerableHashJoin) result) : result;
+    }
+    
+    private RelNode planRuntimeFilter(final EnumerableHashJoin join) {
+        if (JoinRelType.INNER != join.getJoinType() && JoinRelType.SEMI != join.getJoinType() || !(join.getLeft() instanceof EnumerableScan) || !(join.getRight() instanceof EnumerableScan)) {
+            return join;
+        }
+        EnumerableScan probeScan = (EnumerableScan) join.getLeft();
+        EnumerableScan buildScan = (EnumerableScan) join.getRight();
+        JoinInfo joinInfo = join.analyzeCondition();
+        if (joinInfo.leftKeys.isEmpty() || null != probeScan.getRuntimeFilterConsumer() || null != buildScan.getRuntimeFilterProducer() || !isBuildSideSmaller(join, probeScan, buildScan)) {
+            return join;
+        }
+        int probeKeyIndex = joinInfo.leftKeys.get(0);
+        int buildKeyIndex = joinInfo.rightKeys.get(0);
+        RelDataType probeKeyType = probeScan.getPushDownRowType().getFieldList().get(probeKeyIndex).getType();
+        if (probeKeyType.getSqlTypeName() != buildScan.getPushDownRowType().getFieldList().get(buildKeyIndex).getType().getSqlTypeName()) {
+            return join;
+        }
+        Optional<Integer> columnIndex = findTableColumnIndex(probeScan.getPushDownRelNode(), probeKeyIndex);
+        if (!columnIndex.isPresent()) {
+            return join;
+        }
+        int currentFilterId = filterId++;
+        List<RelNode> inListRelNodes = new ArrayList<>(MAX_IN_LIST_SIZE_EXPONENT + 1);
+        for (int i = 0; i <= MAX_IN_LIST_SIZE_EXPONENT; i++) {
+            int inListSize = 1 << i;
+            inListRelNodes.add(createFilteredRelNode(probeScan.getPushDownRelNode(), columnIndex.get(), (rexBuilder, column) -> createInListCondition(rexBuilder, column, inListSize)));
+        }
+        RelNode rangeRelNode = createFilteredRelNode(probeScan.getPushDownRelNode(), columnIndex.get(), this::createRangeCondition);
+        String columnName = findTableScan(probeScan.getPushDownRelNode()).getRowType().getFieldNames().get(columnIndex.get());
+        EnumerableScan filteredProbeScan = probeScan.withRuntimeFilterConsumer(currentFilterId, columnName, inListRelNodes, rangeRelNode);
+        EnumerableScan collectingBuildScan = buildScan.withRuntimeFilterProducer(currentFilterId, buildKeyIndex, 1 << MAX_IN_LIST_SIZE_EXPONENT);
+        return join.copy(join.getTraitSet(), Arrays.asList(filteredProbeScan, collectingBuildScan));
+    }
+    
+    private boolean isBuildSideSmaller(final EnumerableHashJoin join, final EnumerableScan probeScan, final EnumerableScan buildScan) {
+        RelMetadataQuery metadataQuery = join.getCluster().getMetadataQuery();
+        Double probeRowCount = metadataQuery.getRowCount(probeScan.getPushDownRelNode());
+        Double buildRowCount = metadataQuery.getRowCount(buildScan.getPushDownRelNode());
+        return null != probeRowCount && null != buildRowCount && buildRowCount < probeRowCount;
+    }
+    
+    private Optional<Integer> findTableColumnIndex(final RelNode relNode, final int columnIndex) {
+        if (relNode instanceof TableScan) {
+            return Optional.of(columnIndex);
+        }
+        if (relNode instanceof Filter) {
+            return findTableColumnIndex(((Filter) relNode).getInput(), columnIndex);
+        }
+        if (relNode instanceof Project) {
+            RexNode project = ((Project) relNode).getProjects().get(columnIndex);
+            return project instanceof RexInputRef ? findTableColumnIndex(((Project) relNode).getInput(), ((RexInputRef) project).getIndex()) : Optional.empty();
+        }
+        return Optional.empty();
+    }
+    
+    private TableScan findTableScan(final RelNode relNode) {
+        return relNode instanceof TableScan ? (TableScan) relNode : findTableScan(relNode.getInput(0));
+    }
+    
+    private RelNode createFilteredRelNode(final RelNode relNode, final int columnIndex, final BiFunction<RexBuilder, RexInputRef, RexNode> conditionCreator) {
+        return relNode.accept(new RelShuttleImpl() {
+            
+            @Override
+            public RelNode visit(final TableScan scan) {
+                RexBuilder rexBuilder = scan.getCluster().getRexBuilder();
+                return LogicalFilter.create(scan, conditionCreator.apply(rexBuilder, rexBuilder.makeInputRef(scan, columnIndex)));
+            }
+        });
+    }
+    
+    private RexNode createInListCondition(final RexBuilder rexBuilder, final RexInputRef column, final int inListSize) {
+        List<RexNode> result = new ArrayList<>(inListSize);
+        for (int i = 0; i < inListSize; i++) {
+            result.add(rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, column, createRuntimeFilterParameter(rexBuilder, column, i)));
+        }
+        return RexUtil.composeDisjunction(rexBuilder, result);
+    }
+    
+    private RexNode createRangeCondition(final RexBuilder rexBuilder, final RexInputRef column) {
+        return RexUtil.composeConjunction(rexBuilder, Arrays.asList(rexBuilder.makeCall(SqlStdOperatorTable.GREATER_THAN_OR_EQUAL, column, createRuntimeFilterParameter(rexBuilder, column, 0)),
+                rexBuilder.makeCall(SqlStdOperatorTable.LESS_THAN_OR_EQUAL, column, createRuntimeFilterParameter(rexBuilder, column, 1))));
+    }
+    
+    private RexNode createRuntimeFilterParameter(final RexBuilder rexBuilder, final RexInputRef column, final int index) {
+        return rexBuilder.makeDynamicParam(column.getType(), ScanExecutorContext.RUNTIME_FILTER_PARAMETER_INDEX_OFFSET + index);
+    }
+    
+    /**
+     * Plan runtime filter for hash joins.
+     *
+     * @param relNode physical rel node
+     * @return rel node with runtime filter
+     */
+    public static RelNode plan(final RelNode relNode) {
+        return relNode.accept(new RuntimeFilterRelShuttle());
+    }
+}
@@ -20,10 +20,11 @@ package org.apache.shardingsphere.sqlfederation.optimizer.planner.cache;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.calcite.sql.SqlNode;
 import org.apache.shardingsphere.sqlfederation.optimizer.statement.SQLStatementCompiler;
 
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -31,17 +32,20 @@ import java.util.Map;
  */
 @RequiredArgsConstructor
 @Getter
-@EqualsAndHashCode(of = {"sql", "tableMetaDataVersions"})
+@EqualsAndHashCode(of = {"sql", "paramIndexes", "sqlStatementCompiler", "statisticsVersion", "tableMetaDataVersions"})
 public final class ExecutionPlanCacheKey {
     
-    // TODO replace sql with parameterized sql
     private final String sql;
     
-    private final SQLStatement sqlStatement;
+    private final SqlNode sqlNode;
+    
+    private final List<Integer> paramIndexes;
     
     private final String databaseType;
     
     private final SQLStatementCompiler sqlStatementCompiler;
     
+    private final long statisticsVersion;
+    
     private final Map<String, Integer> tableMetaDataVersions = new LinkedHashMap<>();
 }
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.cache;
+
+import lombok.Getter;
+import org.apache.calcite.sql.SqlCall;
+import org.apache.calcite.sql.SqlCharStringLiteral;
+import org.apache.calcite.sql.SqlDynamicParam;
+import org.apache.calcite.sql.SqlIdentifier;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.SqlLiteral;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.SqlNodeList;
+import org.apache.calcite.sql.SqlNumericLiteral;
+import org.apache.calcite.sql.util.SqlShuttle;
+import org.apache.calcite.sql2rel.SqlToRelConverter;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.util.SQLFederationDataTypeUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Literal parameterizer, which hoists literals compared with table columns into dynamic parameters,
+ * so that statements differing only in those literals share the same execution plan.
+ */
+public final class LiteralParameterizer extends SqlShuttle {
+    
+    private static final Set<SqlKind> PARAMETERIZABLE_KINDS = EnumSet.of(SqlKind.EQUALS, SqlKind.NOT_EQUALS, SqlKind.LESS_THAN, SqlKind.LESS_THAN_OR_EQUAL,
+            SqlKind.GREATER_THAN, SqlKind.GREATER_THAN_OR_EQUAL, SqlKind.BETWEEN, SqlKind.IN, SqlKind.NOT_IN);
+    
+    private final Map<String, Class<?>> columnTypes = new HashMap<>();
+    
+    private final int paramCount;
+    
+    @Getter
+    private final List<Integer> paramIndexes = new LinkedList<>();
+    
+    @Getter
+    private final List<Object> hoistedParams = new LinkedList<>();
+    
+    public LiteralParameterizer(final Collection<ShardingSphereTable> tables, final DatabaseType protocolType, final int paramCount) {
+        for (ShardingSphereTable each : tables) {
+            for (ShardingSphereColumn column : each.getColumnValues()) {
+                String columnName = column.getName().toLowerCase();
+                Class<?> columnType = SQLFederationDataTypeUtils.getSqlTypeClass(protocolType, column);
+                columnTypes.put(columnName, columnTypes.containsKey(columnName) && columnTypes.get(columnName) != columnType ? null : columnType);
+            }
+        }
+        this.paramCount = paramCount;
+    }
+    
+    @Override
+    public SqlNode visit(final SqlDynamicParam param) {
+        paramIndexes.add(param.getIndex());
+        return param;
+    }
+    
+    @Override
+    public SqlNode visit(final SqlCall call) {
+        if (!PARAMETERIZABLE_KINDS.contains(call.getKind())) {
+            return super.visit(call);
+        }
+        Optional<Class<?>> columnType = findComparedColumnType(call);
+        if (!columnType.isPresent()) {
+            return super.visit(call);
+        }
+        Optional<List<Object>> params = convertLiterals(call.getOperandList(), columnType.get());
+        return params.isPresent() ? createParameterizedCall(call, params.get()) : call;
+    }
+    
+    private Optional<Class<?>> findComparedColumnType(final SqlCall call) {
+        Class<?> result = null;
+        for (SqlNode each : call.getOperandList()) {
+            if (each instanceof SqlIdentifier) {
+                if (null != result) {
+                    return Optional.empty();
+                }
+                result = columnTypes.get(((SqlIdentifier) each).names.get(((SqlIdentifier) each).names.size() - 1).toLowerCase());
+                if (null == result) {
+                    return Optional.empty();
+                }
+            } else if (!isLiteralOrLiteralList(each)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.ofNullable(result);
+    }
+    
+    private boolean isLiteralOrLiteralList(final SqlNode sqlNode) {
+        if (sqlNode instanceof SqlLiteral) {
+            return true;
+        }
+        if (!(sqlNode instanceof SqlNodeList) || ((SqlNodeList) sqlNode).size() >= SqlToRelConverter.DEFAULT_IN_SUB_QUERY_THRESHOLD) {
+            return false;
+        }
+        for (SqlNode each : (SqlNodeList) sqlNode) {
+            if (!(each instanceof SqlLiteral)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Optional<List<Object>> convertLiterals(final List<SqlNode> operands, final Class<?> columnType) {
+        List<Object> result = new ArrayList<>();
+        for (SqlNode each : operands) {
+            if (each instanceof SqlIdentifier) {
+                continue;
+            }
+            for (SqlNode literal : each instanceof SqlNodeList ? (SqlNodeList) each : Collections.singletonList(each)) {
+                Optional<Object> value = convertLiteral((SqlLiteral) literal, columnType);
+                if (!value.isPresent()) {
+                    return Optional.empty();
+                }
+                result.add(value.get());
+            }
+        }
+        return Optional.of(result);
+    }
+    
+    private Optional<Object> convertLiteral(final SqlLiteral literal, final Class<?> columnType) {
+        if (literal instanceof SqlCharStringLiteral) {
+            return String.class == columnType ? Optional.of(literal.getValueAs(String.class)) : Optional.empty();
+        }
+        return literal instanceof SqlNumericLiteral ? convertNumber(literal.getValueAs(BigDecimal.class), columnType) : Optional.empty();
+    }
+    
+    private Optional<Object> convertNumber(final BigDecimal value, final Class<?> columnType) {
+        try {
+            if (Integer.class == columnType) {
+                return Optional.of(value.intValueExact());
+            }
+            if (Long.class == columnType) {
+                return Optional.of(value.longValueExact());
+            }
+            if (Short.class == columnType) {
+                return Optional.of(value.shortValueExact());
+            }
+            if (Byte.class == columnType) {
+                return Optional.of(value.byteValueExact());
+            }
+            if (BigInteger.class == columnType) {
+                return Optional.of(value.toBigIntegerExact());
+            }
+        } catch (final ArithmeticException ignored) {
+            return Optional.empty();
+        }
+        return BigDecimal.class == columnType ? Optional.of(value) : Optional.empty();
+    }
+    
+    private SqlCall createParameterizedCall(final SqlCall call, final List<Object> params) {
+        Iterator<Object> values = params.iterator();
+        List<SqlNode> operands = new ArrayList<>(call.operandCount());
+        for (SqlNode each : call.getOperandList()) {
+            if (each instanceof SqlIdentifier) {
+                operands.add(each);
+            } else if (each instanceof SqlNodeList) {
+                SqlNodeList dynamicParams = new SqlNodeList(each.getParserPosition());
+                for (SqlNode literal : (SqlNodeList) each) {
+                    dynamicParams.add(createDynamicParam(literal, values.next()));
+                }
+                operands.add(dynamicParams);
+            } else {
+                operands.add(createDynamicParam(each, values.next()));
+            }
+        }
+        return call.getOperator().createCall(call.getFunctionQuantifier(), call.getParserPosition(), operands);
+    }
+    
+    private SqlDynamicParam createDynamicParam(final SqlNode literal, final Object value) {
+        int index = paramCount + hoistedParams.size();
+        paramIndexes.add(index);
+        hoistedParams.add(value);
+        return new SqlDynamicParam(index, literal.getParserPosition());
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.metadata;
+
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.BuiltInMetadata;
+import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMdDistinctRowCount;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.NumberUtil;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationColumnStatistic;
+
+import java.util.Optional;
+
+/**
+ * SQL federation rel metadata of distinct row count, distinct row count of single column is estimated by collected column statistic.
+ */
+public final class SQLFederationRelMdDistinctRowCount extends RelMdDistinctRowCount {
+    
+    public static final RelMetadataProvider SOURCE = ReflectiveRelMetadataProvider.reflectiveSource(new SQLFederationRelMdDistinctRowCount(), BuiltInMetadata.DistinctRowCount.Handler.class);
+    
+    @Override
+    public Double getDistinctRowCount(final TableScan rel, final RelMetadataQuery mq, final ImmutableBitSet groupKey, final RexNode predicate) {
+        if (!SQLFederationRelMdUtils.findStatistic(rel).isPresent()) {
+            return super.getDistinctRowCount(rel, mq, groupKey, predicate);
+        }
+        Optional<RelNode> pushDownRelNode = SQLFederationRelMdUtils.findPushDownRelNode(rel);
+        if (pushDownRelNode.isPresent()) {
+            return mq.getDistinctRowCount(pushDownRelNode.get(), groupKey, predicate);
+        }
+        Optional<Double> distinctCount = 1 == groupKey.cardinality()
+                ? SQLFederationRelMdUtils.findColumnStatistic(rel, groupKey.nth(0)).flatMap(SQLFederationColumnStatistic::findDistinctCount)
+                : Optional.empty();
+        if (!distinctCount.isPresent()) {
+            return super.getDistinctRowCount(rel, mq, groupKey, predicate);
+        }
+        if (null == predicate || predicate.isAlwaysTrue()) {
+            return distinctCount.get();
+        }
+        Double selectedRowCount = NumberUtil.multiply(mq.getRowCount(rel), mq.getSelectivity(rel, predicate));
+        return null == selectedRowCount ? distinctCount.get() : RelMdUtil.numDistinctVals(distinctCount.get(), selectedRowCount);
+    }
+}
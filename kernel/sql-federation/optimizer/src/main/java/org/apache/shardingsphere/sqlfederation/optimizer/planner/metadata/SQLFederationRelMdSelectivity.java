@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.metadata;
+
+import com.google.common.collect.Range;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.BuiltInMetadata;
+import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMdSelectivity;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.Sarg;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationColumnStatistic;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationHistogram;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatistic;
+
+import java.util.Optional;
+
+/**
+ * SQL federation rel metadata of selectivity.
+ * 
+ * <p>Selectivity of comparison and search predicates on table scan is estimated by collected distinct count and histogram,
+ * and selectivity of equi-join condition is estimated by distinct row count of join keys.</p>
+ */
+public final class SQLFederationRelMdSelectivity extends RelMdSelectivity {
+    
+    public static final RelMetadataProvider SOURCE = ReflectiveRelMetadataProvider.reflectiveSource(new SQLFederationRelMdSelectivity(), BuiltInMetadata.Selectivity.Handler.class);
+    
+    @Override
+    public Double getSelectivity(final TableScan rel, final RelMetadataQuery mq, final RexNode predicate) {
+        Optional<SQLFederationStatistic> statistic = SQLFederationRelMdUtils.findStatistic(rel);
+        if (!statistic.isPresent() || null == predicate) {
+            return super.getSelectivity(rel, mq, predicate);
+        }
+        Optional<RelNode> pushDownRelNode = SQLFederationRelMdUtils.findPushDownRelNode(rel);
+        if (pushDownRelNode.isPresent()) {
+            return mq.getSelectivity(pushDownRelNode.get(), predicate);
+        }
+        double result = 1D;
+        boolean estimated = false;
+        for (RexNode each : RelOptUtil.conjunctions(predicate)) {
+            Optional<Double> selectivity = estimateSelectivity(rel, each);
+            result *= selectivity.orElseGet(() -> RelMdUtil.guessSelectivity(each));
+            estimated |= selectivity.isPresent();
+        }
+        if (!estimated) {
+            return super.getSelectivity(rel, mq, predicate);
+        }
+        double rowCount = statistic.get().getRowCount();
+        return rowCount > 1D ? Math.max(result, 1D / rowCount) : result;
+    }
+    
+    @Override
+    public Double getSelectivity(final Join rel, final RelMetadataQuery mq, final RexNode predicate) {
+        if (null == predicate || JoinRelType.INNER != rel.getJoinType() && JoinRelType.LEFT != rel.getJoinType() && JoinRelType.RIGHT != rel.getJoinType()) {
+            return super.getSelectivity(rel, mq, predicate);
+        }
+        int leftFieldCount = rel.getLeft().getRowType().getFieldCount();
+        double result = 1D;
+        boolean estimated = false;
+        for (RexNode each : RelOptUtil.conjunctions(predicate)) {
+            Optional<Double> selectivity = estimateEquiJoinSelectivity(rel, mq, each, leftFieldCount);
+            result *= selectivity.orElseGet(() -> RelMdUtil.guessSelectivity(each));
+            estimated |= selectivity.isPresent();
+        }
+        return estimated ? result : super.getSelectivity(rel, mq, predicate);
+    }
+    
+    private Optional<Double> estimateSelectivity(final TableScan rel, final RexNode predicate) {
+        if (!(predicate instanceof RexCall) || 2 != ((RexCall) predicate).getOperands().size()) {
+            return Optional.empty();
+        }
+        RexCall call = (RexCall) predicate;
+        RexNode left = call.getOperands().get(0);
+        RexNode right = call.getOperands().get(1);
+        if (SqlKind.SEARCH == call.getKind()) {
+            return left instanceof RexInputRef && right instanceof RexLiteral ? estimateSearchSelectivity(rel, ((RexInputRef) left).getIndex(), (RexLiteral) right) : Optional.empty();
+        }
+        if (left instanceof RexInputRef && right instanceof RexLiteral) {
+            return estimateComparisonSelectivity(rel, ((RexInputRef) left).getIndex(), call.getKind(), (RexLiteral) right);
+        }
+        if (right instanceof RexInputRef && left instanceof RexLiteral) {
+            return estimateComparisonSelectivity(rel, ((RexInputRef) right).getIndex(), call.getKind().reverse(), (RexLiteral) left);
+        }
+        return Optional.empty();
+    }
+    
+    private Optional<Double> estimateComparisonSelectivity(final TableScan rel, final int columnIndex, final SqlKind kind, final RexLiteral literal) {
+        Optional<SQLFederationColumnStatistic> columnStatistic = SQLFederationRelMdUtils.findColumnStatistic(rel, columnIndex);
+        if (!columnStatistic.isPresent()) {
+            return Optional.empty();
+        }
+        switch (kind) {
+            case EQUALS:
+                return columnStatistic.get().findDistinctCount().map(optional -> 1D / optional);
+            case NOT_EQUALS:
+                return columnStatistic.get().findDistinctCount().map(optional -> 1D - 1D / optional);
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+                return estimateRangeSelectivity(columnStatistic.get(), null, literal);
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                return estimateRangeSelectivity(columnStatistic.get(), literal, null);
+            default:
+                return Optional.empty();
+        }
+    }
+    
+    private Optional<Double> estimateSearchSelectivity(final TableScan rel, final int columnIndex, final RexLiteral literal) {
+        Optional<SQLFederationColumnStatistic> columnStatistic = SQLFederationRelMdUtils.findColumnStatistic(rel, columnIndex);
+        Sarg<?> sarg = literal.getValueAs(Sarg.class);
+        if (!columnStatistic.isPresent() || null == sarg) {
+            return Optional.empty();
+        }
+        double result = 0D;
+        for (Range<?> each : sarg.rangeSet.asRanges()) {
+            Optional<Double> selectivity = isPoint(each)
+                    ? columnStatistic.get().findDistinctCount().map(optional -> 1D / optional)
+                    : estimateRangeSelectivity(columnStatistic.get(), each.hasLowerBound() ? each.lowerEndpoint() : null, each.hasUpperBound() ? each.upperEndpoint() : null);
+            if (!selectivity.isPresent()) {
+                return Optional.empty();
+            }
+            result += selectivity.get();
+        }
+        return Optional.of(Math.min(result, 1D));
+    }
+    
+    private boolean isPoint(final Range<?> range) {
+        return range.hasLowerBound() && range.hasUpperBound() && range.lowerEndpoint().equals(range.upperEndpoint());
+    }
+    
+    private Optional<Double> estimateRangeSelectivity(final SQLFederationColumnStatistic columnStatistic, final Object lower, final Object upper) {
+        Optional<SQLFederationHistogram> histogram = columnStatistic.findHistogram();
+        if (!histogram.isPresent()) {
+            return Optional.empty();
+        }
+        Optional<Double> lowerValue = null == lower ? Optional.empty() : SQLFederationRelMdUtils.toDouble(lower);
+        Optional<Double> upperValue = null == upper ? Optional.empty() : SQLFederationRelMdUtils.toDouble(upper);
+        if (null != lower && !lowerValue.isPresent() || null != upper && !upperValue.isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(histogram.get().getRangeFrequency(lowerValue.orElse(null), upperValue.orElse(null)));
+    }
+    
+    private Optional<Double> estimateEquiJoinSelectivity(final Join rel, final RelMetadataQuery mq, final RexNode condition, final int leftFieldCount) {
+        if (!condition.isA(SqlKind.EQUALS) || !(((RexCall) condition).getOperands().get(0) instanceof RexInputRef) || !(((RexCall) condition).getOperands().get(1) instanceof RexInputRef)) {
+            return Optional.empty();
+        }
+        int firstIndex = ((RexInputRef) ((RexCall) condition).getOperands().get(0)).getIndex();
+        int secondIndex = ((RexInputRef) ((RexCall) condition).getOperands().get(1)).getIndex();
+        int leftIndex = Math.min(firstIndex, secondIndex);
+        int rightIndex = Math.max(firstIndex, secondIndex);
+        if (leftIndex >= leftFieldCount || rightIndex < leftFieldCount) {
+            return Optional.empty();
+        }
+        Double leftDistinctCount = mq.getDistinctRowCount(rel.getLeft(), ImmutableBitSet.of(leftIndex), null);
+        Double rightDistinctCount = mq.getDistinctRowCount(rel.getRight(), ImmutableBitSet.of(rightIndex - leftFieldCount), null);
+        if (null == leftDistinctCount || null == rightDistinctCount || leftDistinctCount <= 0D || rightDistinctCount <= 0D) {
+            return Optional.empty();
+        }
+        return Optional.of(1D / Math.max(leftDistinctCount, rightDistinctCount));
+    }
+}
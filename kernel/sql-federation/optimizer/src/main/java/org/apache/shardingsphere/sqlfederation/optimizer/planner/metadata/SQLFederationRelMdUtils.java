@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.metadata;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.logical.LogicalScan;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationColumnStatistic;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatistic;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL federation rel metadata utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class SQLFederationRelMdUtils {
+    
+    /**
+     * Find statistic of table scan, only statistic with collected row count is returned.
+     *
+     * @param tableScan table scan
+     * @return SQL federation statistic
+     */
+    static Optional<SQLFederationStatistic> findStatistic(final TableScan tableScan) {
+        SQLFederationTable table = tableScan.getTable().unwrap(SQLFederationTable.class);
+        if (null == table || !(table.getStatistic() instanceof SQLFederationStatistic) || null == table.getStatistic().getRowCount()) {
+            return Optional.empty();
+        }
+        return Optional.of((SQLFederationStatistic) table.getStatistic());
+    }
+    
+    /**
+     * Find column statistic of table scan, table scan must output all columns of table in order.
+     *
+     * @param tableScan table scan
+     * @param columnIndex column index
+     * @return SQL federation column statistic
+     */
+    static Optional<SQLFederationColumnStatistic> findColumnStatistic(final TableScan tableScan, final int columnIndex) {
+        List<String> columnNames = tableScan.getTable().getRowType().getFieldNames();
+        if (!columnNames.equals(tableScan.getRowType().getFieldNames()) || columnIndex >= columnNames.size()) {
+            return Optional.empty();
+        }
+        return findStatistic(tableScan).flatMap(optional -> optional.findColumnStatistic(columnNames.get(columnIndex)));
+    }
+    
+    /**
+     * Find rel node pushed down into logical scan.
+     *
+     * @param tableScan table scan
+     * @return pushed down rel node
+     */
+    static Optional<RelNode> findPushDownRelNode(final TableScan tableScan) {
+        if (!(tableScan instanceof LogicalScan)) {
+            return Optional.empty();
+        }
+        RelNode result = ((LogicalScan) tableScan).peek();
+        return result instanceof TableScan ? Optional.empty() : Optional.of(result);
+    }
+    
+    /**
+     * Convert literal or range endpoint to double.
+     *
+     * @param value value
+     * @return double value
+     */
+    static Optional<Double> toDouble(final Object value) {
+        Object actualValue = value instanceof RexLiteral ? ((RexLiteral) value).getValue() : value;
+        return actualValue instanceof BigDecimal ? Optional.of(((BigDecimal) actualValue).doubleValue()) : Optional.empty();
+    }
+}
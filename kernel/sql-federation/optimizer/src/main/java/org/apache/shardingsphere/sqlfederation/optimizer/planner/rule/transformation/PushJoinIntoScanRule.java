@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation;
+
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Filter;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.logical.LogicalFilter;
+import org.apache.calcite.rel.logical.LogicalJoin;
+import org.apache.calcite.rel.metadata.RelColumnOrigin;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.rules.TransformationRule;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.colocation.TableColocation;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.colocation.TableColocationType;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.logical.LogicalScan;
+import org.immutables.value.Value;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Push join into scan rule.
+ * 
+ * <p>Join is pushed down only when both inputs are co-located, which means broadcast tables, or binding tables joined on their sharding columns.
+ * Right input must be a single table, so the generated SQL keeps a flat join list.</p>
+ */
+@Value.Enclosing
+public final class PushJoinIntoScanRule extends RelRule<PushJoinIntoScanRule.Config> implements TransformationRule {
+    
+    private static final Collection<String> SYSTEM_SCHEMAS = new HashSet<>(Arrays.asList("information_schema", "performance_schema", "mysql", "sys", "shardingsphere", "pg_catalog"));
+    
+    private PushJoinIntoScanRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        LogicalJoin logicalJoin = call.rel(0);
+        LogicalScan leftScan = call.rel(1);
+        LogicalScan rightScan = call.rel(2);
+        if (isSystemSchema(leftScan) || isSystemSchema(rightScan) || !leftScan.getDatabaseType().equals(rightScan.getDatabaseType())) {
+            return false;
+        }
+        if (!logicalJoin.getVariablesSet().isEmpty() || RexUtil.SubQueryFinder.containsSubQuery(logicalJoin) || !isSupportedJoinType(logicalJoin, leftScan, rightScan)) {
+            return false;
+        }
+        if (!isFlatJoinTree(removeFilters(leftScan.peek())) || !(removeFilters(rightScan.peek()) instanceof TableScan)) {
+            return false;
+        }
+        Optional<TableColocation> leftColocation = findColocation(leftScan.peek());
+        Optional<TableColocation> rightColocation = findColocation(rightScan.peek());
+        return leftColocation.isPresent() && rightColocation.isPresent() && isColocated(logicalJoin, leftScan, rightScan, leftColocation.get(), rightColocation.get());
+    }
+    
+    private boolean isSystemSchema(final LogicalScan logicalScan) {
+        for (String each : logicalScan.getTable().getQualifiedName()) {
+            if (SYSTEM_SCHEMAS.contains(each.toLowerCase())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean isSupportedJoinType(final LogicalJoin logicalJoin, final LogicalScan leftScan, final LogicalScan rightScan) {
+        JoinRelType joinType = logicalJoin.getJoinType();
+        if (JoinRelType.FULL == joinType) {
+            return !(leftScan.peek() instanceof Filter) && !(rightScan.peek() instanceof Filter);
+        }
+        return JoinRelType.INNER == joinType || JoinRelType.LEFT == joinType || JoinRelType.RIGHT == joinType;
+    }
+    
+    private RelNode removeFilters(final RelNode relNode) {
+        RelNode result = relNode;
+        while (result instanceof Filter) {
+            result = ((Filter) result).getInput();
+        }
+        return result;
+    }
+    
+    private boolean isFlatJoinTree(final RelNode relNode) {
+        if (relNode instanceof TableScan) {
+            return true;
+        }
+        if (!(relNode instanceof LogicalJoin)) {
+            return false;
+        }
+        for (RelNode each : relNode.getInputs()) {
+            if (!isFlatJoinTree(removeFilters(each))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Optional<TableColocation> findColocation(final RelNode relNode) {
+        Collection<TableColocation> colocations = new LinkedList<>();
+        for (RelOptTable each : collectTables(relNode, new LinkedList<>())) {
+            Optional<TableColocation> colocation = findColocation(each);
+            if (!colocation.isPresent()) {
+                return Optional.empty();
+            }
+            colocations.add(colocation.get());
+        }
+        TableColocation result = null;
+        for (TableColocation each : colocations) {
+            if (TableColocationType.BROADCAST == each.getType()) {
+                continue;
+            }
+            if (null != result && !result.getColocationGroup().equals(each.getColocationGroup())) {
+                return Optional.empty();
+            }
+            result = null == result ? each : result;
+        }
+        return Optional.of(null == result ? TableColocation.broadcast() : result);
+    }
+    
+    private Optional<TableColocation> findColocation(final RelOptTable table) {
+        return Optional.ofNullable(table.unwrap(SQLFederationTable.class)).flatMap(SQLFederationTable::findColocation);
+    }
+    
+    private Collection<RelOptTable> collectTables(final RelNode relNode, final Collection<RelOptTable> result) {
+        if (relNode instanceof TableScan) {
+            result.add(relNode.getTable());
+        }
+        for (RelNode each : relNode.getInputs()) {
+            collectTables(each, result);
+        }
+        return result;
+    }
+    
+    private boolean isColocated(final LogicalJoin logicalJoin, final LogicalScan leftScan, final LogicalScan rightScan, final TableColocation leftColocation, final TableColocation rightColocation) {
+        boolean isLeftBroadcast = TableColocationType.BROADCAST == leftColocation.getType();
+        boolean isRightBroadcast = TableColocationType.BROADCAST == rightColocation.getType();
+        JoinRelType joinType = logicalJoin.getJoinType();
+        if (isLeftBroadcast && isRightBroadcast) {
+            return true;
+        }
+        if (isRightBroadcast) {
+            return JoinRelType.INNER == joinType || JoinRelType.LEFT == joinType;
+        }
+        if (isLeftBroadcast) {
+            return JoinRelType.INNER == joinType || JoinRelType.RIGHT == joinType;
+        }
+        if (!leftColocation.getColocationGroup().equals(rightColocation.getColocationGroup())) {
+            return false;
+        }
+        JoinInfo joinInfo = logicalJoin.analyzeCondition();
+        RelMetadataQuery metadataQuery = logicalJoin.getCluster().getMetadataQuery();
+        return (null == leftColocation.getDatabaseShardingColumn() || containsShardingColumnPair(metadataQuery, joinInfo, leftScan, rightScan, TableColocation::getDatabaseShardingColumn))
+                && (null == leftColocation.getTableShardingColumn() || containsShardingColumnPair(metadataQuery, joinInfo, leftScan, rightScan, TableColocation::getTableShardingColumn));
+    }
+    
+    private boolean containsShardingColumnPair(final RelMetadataQuery metadataQuery, final JoinInfo joinInfo, final LogicalScan leftScan, final LogicalScan rightScan,
+                                               final Function<TableColocation, String> shardingColumnGetter) {
+        for (int i = 0; i < joinInfo.leftKeys.size(); i++) {
+            if (isShardingColumn(metadataQuery.getColumnOrigin(leftScan.peek(), joinInfo.leftKeys.get(i)), shardingColumnGetter)
+                    && isShardingColumn(metadataQuery.getColumnOrigin(rightScan.peek(), joinInfo.rightKeys.get(i)), shardingColumnGetter)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean isShardingColumn(final RelColumnOrigin columnOrigin, final Function<TableColocation, String> shardingColumnGetter) {
+        if (null == columnOrigin || columnOrigin.isDerived()) {
+            return false;
+        }
+        Optional<TableColocation> colocation = findColocation(columnOrigin.getOriginTable());
+        if (!colocation.isPresent() || TableColocationType.SHARDING != colocation.get().getType()) {
+            return false;
+        }
+        String columnName = columnOrigin.getOriginTable().getRowType().getFieldList().get(columnOrigin.getOriginColumnOrdinal()).getName();
+        return columnName.equalsIgnoreCase(shardingColumnGetter.apply(colocation.get()));
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        LogicalJoin logicalJoin = call.rel(0);
+        LogicalScan leftScan = call.rel(1);
+        LogicalScan rightScan = call.rel(2);
+        int leftFieldCount = leftScan.getRowType().getFieldCount();
+        List<RexNode> leftFilters = collectFilterConditions(leftScan.peek(), new LinkedList<>());
+        List<RexNode> rightFilters = new LinkedList<>();
+        for (RexNode each : collectFilterConditions(rightScan.peek(), new LinkedList<>())) {
+            rightFilters.add(RexUtil.shift(each, leftFieldCount));
+        }
+        List<RexNode> joinConditions = new LinkedList<>();
+        joinConditions.add(logicalJoin.getCondition());
+        List<RexNode> topConditions = new LinkedList<>();
+        if (JoinRelType.LEFT == logicalJoin.getJoinType()) {
+            joinConditions.addAll(rightFilters);
+            topConditions.addAll(leftFilters);
+        } else if (JoinRelType.RIGHT == logicalJoin.getJoinType()) {
+            joinConditions.addAll(leftFilters);
+            topConditions.addAll(rightFilters);
+        } else {
+            topConditions.addAll(leftFilters);
+            topConditions.addAll(rightFilters);
+        }
+        RexBuilder rexBuilder = logicalJoin.getCluster().getRexBuilder();
+        RelNode joinedRelNode = LogicalJoin.create(removeFilters(leftScan.peek()), removeFilters(rightScan.peek()), logicalJoin.getHints(),
+                RexUtil.composeConjunction(rexBuilder, joinConditions), logicalJoin.getVariablesSet(), logicalJoin.getJoinType());
+        if (!topConditions.isEmpty()) {
+            joinedRelNode = LogicalFilter.create(joinedRelNode, RexUtil.composeConjunction(rexBuilder, topConditions));
+        }
+        leftScan.pushDown(logicalJoin, joinedRelNode);
+        call.transformTo(leftScan);
+    }
+    
+    private List<RexNode> collectFilterConditions(final RelNode relNode, final List<RexNode> result) {
+        if (relNode instanceof Filter) {
+            result.add(((Filter) relNode).getCondition());
+            collectFilterConditions(((Filter) relNode).getInput(), result);
+        }
+        return result;
+    }
+    
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        
+        Config DEFAULT = ImmutablePushJoinIntoScanRule.Config.builder().description(PushJoinIntoScanRule.class.getSimpleName())
+                .operandSupplier(b0 -> b0.operand(LogicalJoin.class).inputs(b1 -> b1.operand(LogicalScan.class).anyInputs(), b2 -> b2.operand(LogicalScan.class).anyInputs())).build();
+        
+        @Override
+        default PushJoinIntoScanRule toRule() {
+            return new PushJoinIntoScanRule(this);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation;
+
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.core.Sort;
+import org.apache.calcite.rel.logical.LogicalSort;
+import org.apache.calcite.rel.rules.TransformationRule;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.logical.LogicalScan;
+import org.immutables.value.Value;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+
+/**
+ * Push sort into scan rule.
+ * 
+ * <p>Only sort with fetch is pushed down as top-N query, which fetches offset plus fetch rows.
+ * Original sort is retained to apply offset and fetch on merged rows.</p>
+ */
+@Value.Enclosing
+public final class PushSortIntoScanRule extends RelRule<PushSortIntoScanRule.Config> implements TransformationRule {
+    
+    private static final Collection<String> SYSTEM_SCHEMAS = new HashSet<>(Arrays.asList("information_schema", "performance_schema", "mysql", "sys", "shardingsphere", "pg_catalog"));
+    
+    private static final Collection<String> LIMIT_SUPPORTED_DATABASE_TYPES = new HashSet<>(Arrays.asList("H2", "MySQL", "MariaDB", "PostgreSQL", "openGauss"));
+    
+    private PushSortIntoScanRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        LogicalScan logicalScan = call.rel(1);
+        for (String each : logicalScan.getTable().getQualifiedName()) {
+            if (SYSTEM_SCHEMAS.contains(each.toLowerCase())) {
+                return false;
+            }
+        }
+        if (!LIMIT_SUPPORTED_DATABASE_TYPES.contains(logicalScan.getDatabaseType()) || logicalScan.isPushedDown(Sort.class)) {
+            return false;
+        }
+        LogicalSort logicalSort = call.rel(0);
+        return logicalSort.fetch instanceof RexLiteral && (null == logicalSort.offset || logicalSort.offset instanceof RexLiteral);
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        LogicalSort logicalSort = call.rel(0);
+        LogicalScan logicalScan = call.rel(1);
+        long fetch = (long) RexLiteral.intValue(logicalSort.fetch) + (null == logicalSort.offset ? 0L : RexLiteral.intValue(logicalSort.offset));
+        RexNode fetchLiteral = logicalSort.getCluster().getRexBuilder().makeExactLiteral(BigDecimal.valueOf(fetch));
+        logicalScan.pushDown(logicalSort, fetchLiteral);
+        call.transformTo(logicalSort.copy(logicalSort.getTraitSet(), Collections.singletonList(logicalScan)));
+    }
+    
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        
+        Config DEFAULT = ImmutablePushSortIntoScanRule.Config.builder().description(PushSortIntoScanRule.class.getSimpleName())
+                .operandSupplier(b0 -> b0.operand(LogicalSort.class).inputs(b1 -> b1.operand(LogicalScan.class).anyInputs())).build();
+        
+        @Override
+        default PushSortIntoScanRule toRule() {
+            return new PushSortIntoScanRule(this);
+        }
+    }
+}
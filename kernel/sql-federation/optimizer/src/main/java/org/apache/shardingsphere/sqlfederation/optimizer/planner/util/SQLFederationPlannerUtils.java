@@ -53,8 +53,11 @@ import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.view.ShardingSphereViewExpander;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter.EnumerableModifyConverterRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter.EnumerableScanConverterRule;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushAggregateIntoScanRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushFilterIntoScanRule;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushJoinIntoScanRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushProjectIntoScanRule;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushSortIntoScanRule;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -181,11 +184,14 @@ public final class SQLFederationPlannerUtils {
         result.add(CoreRules.JOIN_PUSH_EXPRESSIONS);
         result.add(CoreRules.JOIN_PUSH_TRANSITIVE_PREDICATES);
         result.add(PushFilterIntoScanRule.Config.DEFAULT.toRule());
+        result.add(PushJoinIntoScanRule.Config.DEFAULT.toRule());
         return result;
     }
     
     private static Collection<RelOptRule> getAggregationRules() {
         Collection<RelOptRule> result = new LinkedList<>();
+        result.add(PushAggregateIntoScanRule.Config.DEFAULT.toRule());
+        result.add(PushSortIntoScanRule.Config.DEFAULT.toRule());
         result.add(CoreRules.AGGREGATE_MERGE);
         result.add(CoreRules.AGGREGATE_REDUCE_FUNCTIONS);
         return result;
@@ -17,11 +17,11 @@
 
 package org.apache.shardingsphere.sqlfederation.optimizer.statement;
 
+import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.adapter.enumerable.EnumerableConvention;
 import org.apache.calcite.plan.RelOptPlanner;
 import org.apache.calcite.rel.RelNode;
-import org.apache.calcite.rel.metadata.JaninoRelMetadataProvider;
 import org.apache.calcite.rel.metadata.RelMetadataQueryBase;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.sql.SqlNode;
@@ -30,6 +30,8 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sqlfederation.optimizer.SQLFederationExecutionPlan;
 import org.apache.shardingsphere.sqlfederation.optimizer.converter.SQLNodeConverterEngine;
 import org.apache.shardingsphere.sqlfederation.optimizer.operator.util.LogicalScanRelShuttle;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.util.RuntimeFilterRelShuttle;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.metadata.SQLFederationRelMetadataProvider;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.util.SQLFederationPlannerUtils;
 
 import java.util.Objects;
@@ -38,6 +40,7 @@ import java.util.Objects;
  * SQL statement compiler.
  */
 @RequiredArgsConstructor
+@EqualsAndHashCode
 public final class SQLStatementCompiler {
     
     private final SqlToRelConverter converter;
@@ -50,13 +53,23 @@ public final class SQLStatementCompiler {
      * @return sql federation execution plan
      */
     public SQLFederationExecutionPlan compile(final SQLStatement sqlStatement, final String databaseType) {
-        RelMetadataQueryBase.THREAD_PROVIDERS.set(JaninoRelMetadataProvider.DEFAULT);
-        SqlNode sqlNode = SQLNodeConverterEngine.convert(sqlStatement);
+        return compile(SQLNodeConverterEngine.convert(sqlStatement), databaseType);
+    }
+    
+    /**
+     * Compile sql node to execution plan.
+     *
+     * @param sqlNode sql node
+     * @param databaseType database type
+     * @return sql federation execution plan
+     */
+    public SQLFederationExecutionPlan compile(final SqlNode sqlNode, final String databaseType) {
+        RelMetadataQueryBase.THREAD_PROVIDERS.set(SQLFederationRelMetadataProvider.JANINO_INSTANCE);
         RelNode logicalPlan = converter.convertQuery(sqlNode, true, true).rel;
         RelDataType resultColumnType = Objects.requireNonNull(converter.validator).getValidatedNodeType(sqlNode);
         RelNode replacePlan = LogicalScanRelShuttle.replace(logicalPlan, databaseType);
         RelNode rewritePlan = rewrite(replacePlan, SQLFederationPlannerUtils.createHepPlanner());
-        RelNode physicalPlan = optimize(rewritePlan, converter);
+        RelNode physicalPlan = RuntimeFilterRelShuttle.plan(optimize(rewritePlan, converter));
         RelMetadataQueryBase.THREAD_PROVIDERS.remove();
         return new SQLFederationExecutionPlan(physicalPlan, resultColumnType);
     }
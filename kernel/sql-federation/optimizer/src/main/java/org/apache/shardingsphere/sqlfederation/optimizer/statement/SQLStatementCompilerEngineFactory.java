@@ -41,11 +41,21 @@ public final class SQLStatementCompilerEngineFactory {
      * @return SQL statement compiler engine
      */
     public static SQLStatementCompilerEngine getSQLStatementCompilerEngine(final String databaseName, final String schemaName, final CacheOption cacheOption) {
-        String cacheKey = databaseName + "." + schemaName;
+        String cacheKey = databaseName.toLowerCase() + "." + schemaName;
         SQLStatementCompilerEngine result = COMPILER_ENGINES.get(cacheKey);
         if (null == result) {
             result = COMPILER_ENGINES.computeIfAbsent(cacheKey, unused -> new SQLStatementCompilerEngine(cacheOption));
         }
         return result;
     }
+    
+    /**
+     * Invalidate SQL statement compiler engines of database, cached execution plans are dropped when meta data of database is changed.
+     *
+     * @param databaseName database name
+     */
+    public static void invalidate(final String databaseName) {
+        String cacheKeyPrefix = databaseName.toLowerCase() + ".";
+        COMPILER_ENGINES.keySet().removeIf(each -> each.startsWith(cacheKeyPrefix));
+    }
 }
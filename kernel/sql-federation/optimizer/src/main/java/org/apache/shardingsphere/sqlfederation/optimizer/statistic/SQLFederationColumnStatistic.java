@@ -15,39 +15,39 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.data.pipeline.cdc.core.ack;
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
 
-import lombok.Getter;
-import lombok.Setter;
-import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Optional;
 
 /**
- * CDC ack position.
+ * SQL federation column statistic.
  */
-@Getter
-public final class CDCAckPosition {
+@RequiredArgsConstructor
+@EqualsAndHashCode
+public final class SQLFederationColumnStatistic {
     
-    @Setter
-    private Record lastRecord;
+    private final Double distinctCount;
     
-    private final AtomicInteger dataRecordCount = new AtomicInteger();
+    private final SQLFederationHistogram histogram;
     
-    private final long createTimeMills;
-    
-    public CDCAckPosition(final Record lastRecord, final int dataRecordCount) {
-        this.lastRecord = lastRecord;
-        this.dataRecordCount.set(dataRecordCount);
-        createTimeMills = System.currentTimeMillis();
+    /**
+     * Find distinct count.
+     *
+     * @return distinct count
+     */
+    public Optional<Double> findDistinctCount() {
+        return Optional.ofNullable(distinctCount);
     }
     
     /**
-     * Get data record count.
+     * Find histogram.
      *
-     * @return data record count.
+     * @return histogram
      */
-    public int getDataRecordCount() {
-        return dataRecordCount.get();
+    public Optional<SQLFederationHistogram> findHistogram() {
+        return Optional.ofNullable(histogram);
     }
 }
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * SQL federation histogram.
+ *
+ * <p>Histogram is described by ascending numeric bounds and cumulative frequencies of rows whose value is less than or equal to the bound,
+ * frequencies between neighbour bounds are linearly interpolated.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode
+public final class SQLFederationHistogram {
+    
+    private static final int MAX_MERGED_BOUND_COUNT = 256;
+    
+    private final double[] bounds;
+    
+    private final double[] cumulativeFrequencies;
+    
+    /**
+     * Parse histogram, which is formatted as comma separated {@code bound:cumulativeFrequency} pairs.
+     *
+     * @param text histogram text
+     * @return parsed histogram, empty if text is not a valid histogram
+     */
+    public static Optional<SQLFederationHistogram> parse(final String text) {
+        if (null == text || text.trim().isEmpty()) {
+            return Optional.empty();
+        }
+        String[] pairs = text.split(",");
+        if (pairs.length < 2) {
+            return Optional.empty();
+        }
+        double[] bounds = new double[pairs.length];
+        double[] cumulativeFrequencies = new double[pairs.length];
+        for (int i = 0; i < pairs.length; i++) {
+            int index = pairs[i].lastIndexOf(':');
+            if (index <= 0) {
+                return Optional.empty();
+            }
+            try {
+                bounds[i] = Double.parseDouble(pairs[i].substring(0, index));
+                cumulativeFrequencies[i] = Double.parseDouble(pairs[i].substring(index + 1));
+            } catch (final NumberFormatException ignored) {
+                return Optional.empty();
+            }
+            if (i > 0 && (bounds[i] < bounds[i - 1] || cumulativeFrequencies[i] < cumulativeFrequencies[i - 1])) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(new SQLFederationHistogram(bounds, cumulativeFrequencies));
+    }
+    
+    /**
+     * Merge histograms of actual tables into histogram of logic table.
+     *
+     * @param histograms histograms of actual tables
+     * @param weights row counts of actual tables
+     * @return merged histogram
+     */
+    public static SQLFederationHistogram merge(final List<SQLFederationHistogram> histograms, final List<Double> weights) {
+        if (1 == histograms.size()) {
+            return histograms.get(0);
+        }
+        double totalWeight = 0D;
+        for (double each : weights) {
+            totalWeight += each;
+        }
+        Collection<Double> allBounds = new TreeSet<>();
+        for (SQLFederationHistogram each : histograms) {
+            for (double bound : each.bounds) {
+                allBounds.add(bound);
+            }
+        }
+        List<Double> mergedBounds = sampleBounds(new ArrayList<>(allBounds));
+        double[] bounds = new double[mergedBounds.size()];
+        double[] cumulativeFrequencies = new double[mergedBounds.size()];
+        for (int i = 0; i < bounds.length; i++) {
+            bounds[i] = mergedBounds.get(i);
+            double frequency = 0D;
+            for (int j = 0; j < histograms.size(); j++) {
+                double weight = totalWeight > 0D ? weights.get(j) / totalWeight : 1D / histograms.size();
+                frequency += weight * histograms.get(j).getCumulativeFrequency(bounds[i]);
+            }
+            cumulativeFrequencies[i] = i > 0 ? Math.max(frequency, cumulativeFrequencies[i - 1]) : frequency;
+        }
+        return new SQLFederationHistogram(bounds, cumulativeFrequencies);
+    }
+    
+    private static List<Double> sampleBounds(final List<Double> bounds) {
+        if (bounds.size() <= MAX_MERGED_BOUND_COUNT) {
+            return bounds;
+        }
+        List<Double> result = new ArrayList<>(MAX_MERGED_BOUND_COUNT);
+        for (int i = 0; i < MAX_MERGED_BOUND_COUNT; i++) {
+            result.add(bounds.get((int) ((long) i * (bounds.size() - 1) / (MAX_MERGED_BOUND_COUNT - 1))));
+        }
+        return result;
+    }
+    
+    /**
+     * Get cumulative frequency of rows whose value is less than or equal to the value.
+     *
+     * @param value value
+     * @return cumulative frequency
+     */
+    public double getCumulativeFrequency(final double value) {
+        if (value < bounds[0]) {
+            return 0D;
+        }
+        int lastIndex = bounds.length - 1;
+        if (value >= bounds[lastIndex]) {
+            return cumulativeFrequencies[lastIndex];
+        }
+        int index = Arrays.binarySearch(bounds, value);
+        if (index >= 0) {
+            return cumulativeFrequencies[findLastIndexOfBound(index)];
+        }
+        int upperIndex = -index - 1;
+        int lowerIndex = upperIndex - 1;
+        double ratio = (value - bounds[lowerIndex]) / (bounds[upperIndex] - bounds[lowerIndex]);
+        return cumulativeFrequencies[lowerIndex] + (cumulativeFrequencies[upperIndex] - cumulativeFrequencies[lowerIndex]) * ratio;
+    }
+    
+    private int findLastIndexOfBound(final int index) {
+        int result = index;
+        while (result + 1 < bounds.length && bounds[result + 1] == bounds[index]) {
+            result++;
+        }
+        return result;
+    }
+    
+    /**
+     * Get frequency of rows whose value is between lower and upper.
+     *
+     * @param lower lower value, null means unbounded
+     * @param upper upper value, null means unbounded
+     * @return frequency
+     */
+    public double getRangeFrequency(final Double lower, final Double upper) {
+        double upperFrequency = null == upper ? cumulativeFrequencies[cumulativeFrequencies.length - 1] : getCumulativeFrequency(upper);
+        double lowerFrequency = null == lower ? 0D : getCumulativeFrequency(lower);
+        return Math.max(upperFrequency - lowerFrequency, 0D);
+    }
+}
@@ -24,13 +24,50 @@ import org.apache.calcite.rel.RelReferentialConstraint;
 import org.apache.calcite.schema.Statistic;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 /**
  * SQL federation statistic.
  */
 public final class SQLFederationStatistic implements Statistic {
     
+    private volatile Double rowCount;
+    
+    private volatile Map<String, SQLFederationColumnStatistic> columnStatistics = Collections.emptyMap();
+    
+    /**
+     * Refresh statistic.
+     *
+     * @param rowCount row count, null means unknown
+     * @param columnStatistics column statistics, key is lower case column name
+     * @return changed or not
+     */
+    public boolean refresh(final Double rowCount, final Map<String, SQLFederationColumnStatistic> columnStatistics) {
+        boolean result = !Objects.equals(this.rowCount, rowCount) || !this.columnStatistics.equals(columnStatistics);
+        this.columnStatistics = columnStatistics;
+        this.rowCount = rowCount;
+        return result;
+    }
+    
+    @Override
+    public Double getRowCount() {
+        return rowCount;
+    }
+    
+    /**
+     * Find column statistic.
+     *
+     * @param columnName column name
+     * @return column statistic
+     */
+    public Optional<SQLFederationColumnStatistic> findColumnStatistic(final String columnName) {
+        return Optional.ofNullable(columnStatistics.get(columnName.toLowerCase()));
+    }
+    
     @Override
     public List<RelReferentialConstraint> getReferentialConstraints() {
         return new ArrayList<>();
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * SQL federation statistics loader.
+ *
+ * <p>Statistics of actual tables are collected into {@code sharding_table_statistics} and {@code sharding_column_statistics},
+ * and they are aggregated into statistics of logic tables here.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLFederationStatisticsLoader {
+    
+    private static final String SHARDING_SPHERE = "shardingsphere";
+    
+    private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
+    
+    private static final String SHARDING_COLUMN_STATISTICS = "sharding_column_statistics";
+    
+    private static final int LOGIC_DATABASE_NAME_INDEX = 1;
+    
+    private static final int LOGIC_TABLE_NAME_INDEX = 2;
+    
+    private static final int ACTUAL_DATABASE_NAME_INDEX = 3;
+    
+    private static final int ACTUAL_TABLE_NAME_INDEX = 4;
+    
+    private static final int ROW_COUNT_INDEX = 5;
+    
+    private static final int COLUMN_NAME_INDEX = 5;
+    
+    private static final int DISTINCT_COUNT_INDEX = 6;
+    
+    private static final int HISTOGRAM_INDEX = 7;
+    
+    private static final double UNIQUE_DISTINCT_RATIO = 0.9D;
+    
+    /**
+     * Load statistics of logic tables.
+     *
+     * @param statistics ShardingSphere statistics
+     * @param databaseName database name
+     * @param tableStatistics table statistics to be refreshed, key is lower case logic table name
+     * @return any table statistic changed or not
+     */
+    public static boolean load(final ShardingSphereStatistics statistics, final String databaseName, final Map<String, SQLFederationStatistic> tableStatistics) {
+        Map<String, Map<String, Double>> actualTableRowCounts = new HashMap<>();
+        Map<String, Map<String, Collection<List<Object>>>> columnRows = new HashMap<>();
+        for (List<Object> each : findRows(statistics, databaseName, SHARDING_TABLE_STATISTICS)) {
+            actualTableRowCounts.computeIfAbsent(getLogicTableName(each), key -> new HashMap<>()).put(getActualTableKey(each), toDouble(each.get(ROW_COUNT_INDEX)));
+        }
+        for (List<Object> each : findRows(statistics, databaseName, SHARDING_COLUMN_STATISTICS)) {
+            columnRows.computeIfAbsent(getLogicTableName(each), key -> new HashMap<>())
+                    .computeIfAbsent(String.valueOf(each.get(COLUMN_NAME_INDEX)).toLowerCase(), key -> new LinkedList<>()).add(each);
+        }
+        boolean result = false;
+        for (Entry<String, SQLFederationStatistic> entry : tableStatistics.entrySet()) {
+            Map<String, Double> rowCounts = actualTableRowCounts.get(entry.getKey());
+            if (null == rowCounts) {
+                result |= entry.getValue().refresh(null, Collections.emptyMap());
+                continue;
+            }
+            double rowCount = rowCounts.values().stream().mapToDouble(Double::doubleValue).sum();
+            Map<String, SQLFederationColumnStatistic> columnStatistics = new HashMap<>();
+            for (Entry<String, Collection<List<Object>>> columnEntry : columnRows.getOrDefault(entry.getKey(), Collections.emptyMap()).entrySet()) {
+                columnStatistics.put(columnEntry.getKey(), aggregateColumnStatistic(rowCounts, rowCount, columnEntry.getValue()));
+            }
+            result |= entry.getValue().refresh(rowCount, columnStatistics);
+        }
+        return result;
+    }
+    
+    private static Collection<List<Object>> findRows(final ShardingSphereStatistics statistics, final String databaseName, final String tableName) {
+        Collection<List<Object>> result = new LinkedList<>();
+        for (String each : new LinkedHashSet<>(Arrays.asList(databaseName.toLowerCase(), SHARDING_SPHERE))) {
+            findTableData(statistics, each, tableName).ifPresent(optional -> {
+                for (ShardingSphereRowData row : optional.getRows()) {
+                    if (databaseName.equalsIgnoreCase(String.valueOf(row.getRows().get(LOGIC_DATABASE_NAME_INDEX)))) {
+                        result.add(row.getRows());
+                    }
+                }
+            });
+        }
+        return result;
+    }
+    
+    private static Optional<ShardingSphereTableData> findTableData(final ShardingSphereStatistics statistics, final String databaseName, final String tableName) {
+        ShardingSphereDatabaseData databaseData = statistics.getDatabaseData().get(databaseName);
+        ShardingSphereSchemaData schemaData = null == databaseData ? null : databaseData.getSchemaData().get(SHARDING_SPHERE);
+        return null == schemaData ? Optional.empty() : Optional.ofNullable(schemaData.getTableData().get(tableName));
+    }
+    
+    private static String getLogicTableName(final List<Object> row) {
+        return String.valueOf(row.get(LOGIC_TABLE_NAME_INDEX)).toLowerCase();
+    }
+    
+    private static String getActualTableKey(final List<Object> row) {
+        return row.get(ACTUAL_DATABASE_NAME_INDEX) + "." + row.get(ACTUAL_TABLE_NAME_INDEX);
+    }
+    
+    private static SQLFederationColumnStatistic aggregateColumnStatistic(final Map<String, Double> rowCounts, final double rowCount, final Collection<List<Object>> rows) {
+        double distinctCountSum = 0D;
+        double distinctCountMax = 0D;
+        boolean unique = true;
+        List<SQLFederationHistogram> histograms = new LinkedList<>();
+        List<Double> weights = new LinkedList<>();
+        for (List<Object> each : rows) {
+            double actualRowCount = rowCounts.getOrDefault(getActualTableKey(each), 0D);
+            double distinctCount = toDouble(each.get(DISTINCT_COUNT_INDEX));
+            if (distinctCount > 0D) {
+                distinctCountSum += distinctCount;
+                distinctCountMax = Math.max(distinctCountMax, distinctCount);
+                unique &= distinctCount >= actualRowCount * UNIQUE_DISTINCT_RATIO;
+            }
+            SQLFederationHistogram.parse(null == each.get(HISTOGRAM_INDEX) ? null : each.get(HISTOGRAM_INDEX).toString()).ifPresent(optional -> {
+                histograms.add(optional);
+                weights.add(actualRowCount);
+            });
+        }
+        Double distinctCount = distinctCountMax > 0D ? estimateDistinctCount(unique ? distinctCountSum : distinctCountMax, rowCount) : null;
+        return new SQLFederationColumnStatistic(distinctCount, histograms.isEmpty() ? null : SQLFederationHistogram.merge(new ArrayList<>(histograms), new ArrayList<>(weights)));
+    }
+    
+    private static double estimateDistinctCount(final double distinctCount, final double rowCount) {
+        return rowCount > 0D ? Math.min(distinctCount, rowCount) : distinctCount;
+    }
+    
+    private static double toDouble(final Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        if (null == value) {
+            return 0D;
+        }
+        try {
+            return Double.parseDouble(value.toString());
+        } catch (final NumberFormatException ignored) {
+            return 0D;
+        }
+    }
+}
@@ -35,7 +35,9 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.colocation.TableColocation;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationSchema;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.util.SQLFederationPlannerUtils;
 import org.apache.shardingsphere.sqlfederation.optimizer.statement.SQLStatementCompiler;
 import org.junit.jupiter.api.BeforeEach;
@@ -236,12 +238,20 @@ class SQLStatementCompilerIT {
         RelDataTypeFactory relDataTypeFactory = new JavaTypeFactoryImpl();
         DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "H2");
         SQLFederationSchema sqlFederationSchema = new SQLFederationSchema(SCHEMA_NAME, schema, databaseType, new JavaTypeFactoryImpl());
+        setTableColocations(sqlFederationSchema);
         CalciteCatalogReader catalogReader = SQLFederationPlannerUtils.createCatalogReader(SCHEMA_NAME, sqlFederationSchema, relDataTypeFactory, connectionConfig);
         SqlValidator validator = SQLFederationPlannerUtils.createSqlValidator(catalogReader, relDataTypeFactory, databaseType, connectionConfig);
         RelOptCluster cluster = RelOptCluster.create(SQLFederationPlannerUtils.createVolcanoPlanner(), new RexBuilder(relDataTypeFactory));
         return SQLFederationPlannerUtils.createSqlToRelConverter(catalogReader, validator, cluster, mock(SQLParserRule.class), databaseType, false);
     }
     
+    private void setTableColocations(final SQLFederationSchema sqlFederationSchema) {
+        String bindingGroup = "t_order_federate_sharding,t_order_item_federate_sharding";
+        ((SQLFederationTable) sqlFederationSchema.getTable("t_order_federate_sharding")).setColocation(TableColocation.sharding(bindingGroup, "user_id", "order_id_sharding"));
+        ((SQLFederationTable) sqlFederationSchema.getTable("t_order_item_federate_sharding")).setColocation(TableColocation.sharding(bindingGroup, "user_id", "order_id"));
+        ((SQLFederationTable) sqlFederationSchema.getTable("t_product")).setColocation(TableColocation.broadcast());
+    }
+    
     @ParameterizedTest(name = "{0}")
     @ArgumentsSource(TestCaseArgumentsProvider.class)
     void assertCompile(final TestCase testcase) {
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table;
+
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ColumnTypeConvertedRowEnumeratorTest {
+    
+    @Test
+    void assertCurrentWithMultipleColumns() {
+        Enumerator<Object> enumerator = new ColumnTypeConvertedRowEnumerator(
+                Linq4j.enumerator(Collections.singletonList(new Object[]{new BigDecimal("10"), new BigDecimal("2"), "foo", new BigDecimal("1")})), new int[]{Types.INTEGER, Types.BIGINT, Types.VARCHAR});
+        assertTrue(enumerator.moveNext());
+        Object[] actual = (Object[]) enumerator.current();
+        assertThat(actual.length, is(3));
+        assertThat(actual[0], is(10));
+        assertThat(actual[1], is(2L));
+        assertThat(actual[2], is("foo"));
+    }
+    
+    @Test
+    void assertCurrentWithSingleColumn() {
+        Enumerator<Object> enumerator = new ColumnTypeConvertedRowEnumerator(Linq4j.enumerator(Collections.singletonList(new Object[]{1L, 1L})), new int[]{Types.DECIMAL});
+        assertTrue(enumerator.moveNext());
+        assertThat(enumerator.current(), is(new BigDecimal("1")));
+    }
+}
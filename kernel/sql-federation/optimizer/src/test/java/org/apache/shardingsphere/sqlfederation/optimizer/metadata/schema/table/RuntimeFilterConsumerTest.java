@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class RuntimeFilterConsumerTest {
+    
+    private final RuntimeFilterConsumer consumer = new RuntimeFilterConsumer(0, "user_id", new String[]{"in_1", "in_2", "in_4"}, new int[][]{{1048576}, {1048576, 1048577}, {0, 1048576, 1048577, 1048578, 1048579}},
+            "range", new int[]{1048576, 1048577});
+    
+    @Test
+    void assertCreateScanExecutorContextWithPaddedInList() {
+        Optional<ScanExecutorContext> actual = consumer.createScanExecutorContext(mock(DataContext.class), collectKeys(4, 1, 2, 3, 2));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("in_4"));
+        assertThat(actual.get().getRuntimeFilterValues(), is(Arrays.asList(1, 2, 3, 3)));
+    }
+    
+    @Test
+    void assertCreateScanExecutorContextWithRange() {
+        Optional<ScanExecutorContext> actual = consumer.createScanExecutorContext(mock(DataContext.class), collectKeys(4, 5, 1, 3, 2, 4));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("range"));
+        assertThat(actual.get().getRuntimeFilterValues(), is(Arrays.asList(1, 5)));
+    }
+    
+    @Test
+    void assertCreateScanExecutorContextWithoutRange() {
+        assertFalse(consumer.createScanExecutorContext(mock(DataContext.class), collectKeys(1, "foo", "bar")).isPresent());
+    }
+    
+    @Test
+    void assertCreateScanExecutorContextWithEmptyKeys() {
+        RuntimeFilterKeys keys = collectKeys(4);
+        assertTrue(keys.isEmpty());
+        assertFalse(consumer.createScanExecutorContext(mock(DataContext.class), keys).isPresent());
+    }
+    
+    @Test
+    void assertKeysNotCompletedBeforeEnumeratorExhausted() {
+        RuntimeFilterContext context = new RuntimeFilterContext();
+        Enumerator<Object> enumerator = new RuntimeFilterCollectingEnumerator(Linq4j.enumerator(Arrays.asList(new Object[]{1, "foo"}, new Object[]{null, "bar"})), 0, false, context.start(0, 4));
+        assertTrue(enumerator.moveNext());
+        assertFalse(context.findCompletedKeys(0).isPresent());
+        assertTrue(enumerator.moveNext());
+        assertFalse(enumerator.moveNext());
+        assertTrue(context.findCompletedKeys(0).isPresent());
+        assertThat(context.findCompletedKeys(0).get().getDistinctKeys().size(), is(1));
+    }
+    
+    private RuntimeFilterKeys collectKeys(final int maxDistinctKeySize, final Object... keys) {
+        RuntimeFilterContext context = new RuntimeFilterContext();
+        Enumerator<Object> enumerator = new RuntimeFilterCollectingEnumerator(Linq4j.enumerator(Arrays.asList(keys)), 0, true, context.start(0, maxDistinctKeySize));
+        while (enumerator.moveNext()) {
+            enumerator.current();
+        }
+        return context.findCompletedKeys(0).orElseThrow(IllegalStateException::new);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.cache;
+
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.parser.SqlParseException;
+import org.apache.calcite.sql.parser.SqlParser;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class LiteralParameterizerTest {
+    
+    private final ShardingSphereTable table = new ShardingSphereTable("t_order", Arrays.asList(
+            new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true, false, false),
+            new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false, false),
+            new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false, false),
+            new ShardingSphereColumn("amount", Types.DECIMAL, false, false, false, true, false, false),
+            new ShardingSphereColumn("creation_date", Types.DATE, false, false, false, true, false, false)), Collections.emptyList(), Collections.emptyList());
+    
+    @Test
+    void assertParameterizeComparisonLiterals() throws SqlParseException {
+        LiteralParameterizer parameterizer = new LiteralParameterizer(Collections.singleton(table), TypedSPILoader.getService(DatabaseType.class, "MySQL"), 1);
+        SqlNode actual = parse("SELECT * FROM t_order WHERE user_id = ? AND order_id IN (1, 2) AND status <> 'OK' AND amount BETWEEN 1.5 AND 10").accept(parameterizer);
+        assertThat(actual.toString().replace(System.lineSeparator(), " "),
+                is("SELECT * FROM `T_ORDER` WHERE `USER_ID` = ? AND `ORDER_ID` IN (?, ?) AND `STATUS` <> ? AND `AMOUNT` BETWEEN ASYMMETRIC ? AND ?"));
+        assertThat(parameterizer.getParamIndexes(), is(Arrays.asList(0, 1, 2, 3, 4, 5)));
+        assertThat(parameterizer.getHoistedParams(), is(Arrays.asList(1L, 2L, "OK", new BigDecimal("1.5"), new BigDecimal("10"))));
+    }
+    
+    @Test
+    void assertParameterizeLiteralOnLeftSide() throws SqlParseException {
+        LiteralParameterizer parameterizer = new LiteralParameterizer(Collections.singleton(table), TypedSPILoader.getService(DatabaseType.class, "MySQL"), 0);
+        SqlNode actual = parse("SELECT * FROM t_order WHERE 10 < user_id").accept(parameterizer);
+        assertThat(actual.toString().replace(System.lineSeparator(), " "), is("SELECT * FROM `T_ORDER` WHERE ? < `USER_ID`"));
+        assertThat(parameterizer.getHoistedParams(), is(Collections.singletonList(10)));
+    }
+    
+    @Test
+    void assertNotParameterizeInconvertibleLiterals() throws SqlParseException {
+        LiteralParameterizer parameterizer = new LiteralParameterizer(Collections.singleton(table), TypedSPILoader.getService(DatabaseType.class, "MySQL"), 0);
+        String sql = "SELECT * FROM t_order WHERE user_id = 1.5 AND status = 1 AND creation_date = '2023-01-01' AND user_id + 1 = 2 AND unknown_id = 1";
+        SqlNode expected = parse(sql);
+        assertThat(parse(sql).accept(parameterizer).toString(), is(expected.toString()));
+        assertThat(parameterizer.getParamIndexes(), is(Collections.emptyList()));
+        assertThat(parameterizer.getHoistedParams(), is(Collections.emptyList()));
+    }
+    
+    private SqlNode parse(final String sql) throws SqlParseException {
+        return SqlParser.create(sql).parseQuery();
+    }
+}
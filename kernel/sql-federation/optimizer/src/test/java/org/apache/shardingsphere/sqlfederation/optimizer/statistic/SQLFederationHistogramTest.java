@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLFederationHistogramTest {
+    
+    @Test
+    void assertParseWithInvalidText() {
+        assertFalse(SQLFederationHistogram.parse(null).isPresent());
+        assertFalse(SQLFederationHistogram.parse("").isPresent());
+        assertFalse(SQLFederationHistogram.parse("a:0,b:1").isPresent());
+        assertFalse(SQLFederationHistogram.parse("10:0,5:1").isPresent());
+    }
+    
+    @Test
+    void assertGetCumulativeFrequency() {
+        SQLFederationHistogram actual = SQLFederationHistogram.parse("0:0,100:0.5,200:1").orElseThrow(IllegalStateException::new);
+        assertThat(actual.getCumulativeFrequency(-1D), is(0D));
+        assertThat(actual.getCumulativeFrequency(50D), closeTo(0.25D, 0.0001D));
+        assertThat(actual.getCumulativeFrequency(150D), closeTo(0.75D, 0.0001D));
+        assertThat(actual.getCumulativeFrequency(300D), is(1D));
+    }
+    
+    @Test
+    void assertGetRangeFrequency() {
+        SQLFederationHistogram actual = SQLFederationHistogram.parse("0:0,100:0.5,200:1").orElseThrow(IllegalStateException::new);
+        assertThat(actual.getRangeFrequency(50D, 150D), closeTo(0.5D, 0.0001D));
+        assertThat(actual.getRangeFrequency(null, 100D), closeTo(0.5D, 0.0001D));
+        assertThat(actual.getRangeFrequency(100D, null), closeTo(0.5D, 0.0001D));
+    }
+    
+    @Test
+    void assertMerge() {
+        SQLFederationHistogram first = SQLFederationHistogram.parse("0:0,400:1").orElseThrow(IllegalStateException::new);
+        SQLFederationHistogram second = SQLFederationHistogram.parse("400:0,1000:1").orElseThrow(IllegalStateException::new);
+        SQLFederationHistogram actual = SQLFederationHistogram.merge(Arrays.asList(first, second), Arrays.asList(400D, 600D));
+        assertThat(actual.getCumulativeFrequency(250D), closeTo(0.25D, 0.0001D));
+        assertThat(actual.getCumulativeFrequency(700D), closeTo(0.7D, 0.0001D));
+        assertTrue(actual.getCumulativeFrequency(1000D) >= 1D);
+    }
+}
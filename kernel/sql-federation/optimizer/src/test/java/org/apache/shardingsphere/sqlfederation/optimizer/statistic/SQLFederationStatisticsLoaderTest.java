@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLFederationStatisticsLoaderTest {
+    
+    @Test
+    void assertLoad() {
+        Map<String, SQLFederationStatistic> tableStatistics = new HashMap<>(2, 1F);
+        tableStatistics.put("t_order", new SQLFederationStatistic());
+        tableStatistics.put("t_user", new SQLFederationStatistic());
+        SQLFederationStatisticsLoader.load(createStatistics(), "foo_db", tableStatistics);
+        SQLFederationStatistic actual = tableStatistics.get("t_order");
+        assertThat(actual.getRowCount(), is(1000D));
+        assertThat(actual.findColumnStatistic("USER_ID").flatMap(SQLFederationColumnStatistic::findDistinctCount).orElse(null), is(50D));
+        assertFalse(actual.findColumnStatistic("user_id").flatMap(SQLFederationColumnStatistic::findHistogram).isPresent());
+        assertThat(actual.findColumnStatistic("order_id").flatMap(SQLFederationColumnStatistic::findDistinctCount).orElse(null), is(1000D));
+        assertThat(actual.findColumnStatistic("order_id").flatMap(SQLFederationColumnStatistic::findHistogram).map(optional -> optional.getCumulativeFrequency(250D)).orElse(0D),
+                closeTo(0.25D, 0.0001D));
+        assertThat(tableStatistics.get("t_user").getRowCount(), nullValue());
+    }
+    
+    @Test
+    void assertLoadUnchangedStatistics() {
+        Map<String, SQLFederationStatistic> tableStatistics = new HashMap<>(1, 1F);
+        tableStatistics.put("t_order", new SQLFederationStatistic());
+        assertTrue(SQLFederationStatisticsLoader.load(createStatistics(), "foo_db", tableStatistics));
+        assertFalse(SQLFederationStatisticsLoader.load(createStatistics(), "foo_db", tableStatistics));
+    }
+    
+    private ShardingSphereStatistics createStatistics() {
+        ShardingSphereTableData tableStatistics = new ShardingSphereTableData("sharding_table_statistics");
+        tableStatistics.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "foo_db", "t_order", "ds_0", "t_order_0", new BigDecimal(400), new BigDecimal(0))));
+        tableStatistics.getRows().add(new ShardingSphereRowData(Arrays.asList(2, "foo_db", "t_order", "ds_1", "t_order_1", new BigDecimal(600), new BigDecimal(0))));
+        tableStatistics.getRows().add(new ShardingSphereRowData(Arrays.asList(3, "bar_db", "t_user", "ds_0", "t_user_0", new BigDecimal(10), new BigDecimal(0))));
+        ShardingSphereTableData columnStatistics = new ShardingSphereTableData("sharding_column_statistics");
+        columnStatistics.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "foo_db", "t_order", "ds_0", "t_order_0", "user_id", new BigDecimal(50), "")));
+        columnStatistics.getRows().add(new ShardingSphereRowData(Arrays.asList(2, "foo_db", "t_order", "ds_1", "t_order_1", "user_id", new BigDecimal(40), "")));
+        columnStatistics.getRows().add(new ShardingSphereRowData(Arrays.asList(3, "foo_db", "t_order", "ds_0", "t_order_0", "order_id", new BigDecimal(400), "0:0,400:1")));
+        columnStatistics.getRows().add(new ShardingSphereRowData(Arrays.asList(4, "foo_db", "t_order", "ds_1", "t_order_1", "order_id", new BigDecimal(600), "400:0,1000:1")));
+        ShardingSphereSchemaData schemaData = new ShardingSphereSchemaData();
+        schemaData.putTable("sharding_table_statistics", tableStatistics);
+        schemaData.putTable("sharding_column_statistics", columnStatistics);
+        ShardingSphereDatabaseData databaseData = new ShardingSphereDatabaseData();
+        databaseData.putSchema("shardingsphere", schemaData);
+        ShardingSphereStatistics result = new ShardingSphereStatistics();
+        result.putDatabase("shardingsphere", databaseData);
+        return result;
+    }
+}
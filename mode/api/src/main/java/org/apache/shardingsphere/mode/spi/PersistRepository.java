@@ -19,7 +19,9 @@ package org.apache.shardingsphere.mode.spi;
 
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPI;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Persist repository.
@@ -63,6 +65,17 @@ public interface PersistRepository extends TypedSPI {
      */
     void persist(String key, String value);
     
+    /**
+     * Persist data in batch.
+     * 
+     * <p>Repositories which support multi-key transactions write the batch in as few round trips as possible.</p>
+     *
+     * @param keyValues keys and values of data
+     */
+    default void batchPersist(final Map<String, String> keyValues) {
+        keyValues.forEach(this::persist);
+    }
+    
     /**
      * Update data.
      *
@@ -78,6 +91,15 @@ public interface PersistRepository extends TypedSPI {
      */
     void delete(String key);
     
+    /**
+     * Delete nodes in batch.
+     *
+     * @param keys keys of data
+     */
+    default void batchDelete(final Collection<String> keys) {
+        keys.forEach(this::delete);
+    }
+    
     /**
      * Close.
      */
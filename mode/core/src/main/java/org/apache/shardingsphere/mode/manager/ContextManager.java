@@ -117,22 +117,22 @@ public final class ContextManager implements AutoCloseable {
             ShardingSphereDatabase database = metaDataContexts.get().getMetaData().getDatabase(databaseName);
             Map<String, DataSourcePoolProperties> dataSourcePoolPropsFromRegCenter = metaDataContexts.get().getPersistService().getDataSourceUnitService().load(databaseName);
             SwitchingResource switchingResource = new ResourceSwitchManager().createByAlterDataSourcePoolProperties(database.getResourceMetaData(), dataSourcePoolPropsFromRegCenter);
-            metaDataContexts.get().getMetaData().getDatabases().putAll(configurationContextManager.renewDatabase(database, switchingResource));
-            MetaDataContexts reloadedMetaDataContexts = createMetaDataContexts(databaseName, switchingResource);
+            ShardingSphereDatabase renewedDatabase = configurationContextManager.renewDatabase(database, switchingResource).values().iterator().next();
+            MetaDataContexts reloadedMetaDataContexts = createMetaDataContexts(renewedDatabase, switchingResource);
             deletedSchemaNames(databaseName, reloadedMetaDataContexts.getMetaData().getDatabase(databaseName), database);
             metaDataContexts.set(reloadedMetaDataContexts);
-            metaDataContexts.get().getMetaData().getDatabase(databaseName).getSchemas()
-                    .forEach((schemaName, schema) -> metaDataContexts.get().getPersistService().getDatabaseMetaDataService().compareAndPersist(database.getName(), schemaName, schema));
+            reloadedMetaDataContexts.getMetaData().getDatabase(databaseName).getSchemas()
+                    .forEach((schemaName, schema) -> reloadedMetaDataContexts.getPersistService().getDatabaseMetaDataService().compareAndPersist(database.getName(), schemaName, schema));
             switchingResource.closeStaleDataSources();
         } catch (final SQLException ex) {
             log.error("Reload database meta data: {} failed", databaseName, ex);
         }
     }
     
-    private MetaDataContexts createMetaDataContexts(final String databaseName, final SwitchingResource switchingResource) throws SQLException {
+    private MetaDataContexts createMetaDataContexts(final ShardingSphereDatabase currentDatabase, final SwitchingResource switchingResource) throws SQLException {
         MetaDataBasedPersistService metaDataPersistService = metaDataContexts.get().getPersistService();
-        Map<String, ShardingSphereDatabase> changedDatabases = configurationContextManager.createChangedDatabases(databaseName, false,
-                switchingResource, metaDataPersistService.getDatabaseRulePersistService().load(databaseName));
+        Map<String, ShardingSphereDatabase> changedDatabases = configurationContextManager.createChangedDatabases(currentDatabase, false,
+                switchingResource, metaDataPersistService.getDatabaseRulePersistService().load(currentDatabase.getName()));
         ConfigurationProperties props = new ConfigurationProperties(metaDataPersistService.getPropsService().load());
         RuleMetaData changedGlobalMetaData = new RuleMetaData(
                 GlobalRulesBuilder.buildRules(metaDataPersistService.getGlobalRuleService().load(), changedDatabases, props));
@@ -161,29 +161,43 @@ public final class ContextManager implements AutoCloseable {
      */
     public void reloadSchema(final String databaseName, final String schemaName, final String dataSourceName) {
         try {
-            ShardingSphereSchema reloadedSchema = loadSchema(databaseName, schemaName, dataSourceName);
-            if (reloadedSchema.getTables().isEmpty()) {
-                metaDataContexts.get().getMetaData().getDatabase(databaseName).dropSchema(schemaName);
-                metaDataContexts.get().getPersistService().getDatabaseMetaDataService().dropSchema(metaDataContexts.get().getMetaData().getDatabase(databaseName).getName(),
-                        schemaName);
-            } else {
-                metaDataContexts.get().getMetaData().getDatabase(databaseName).addSchema(schemaName, reloadedSchema);
-                metaDataContexts.get().getPersistService().getDatabaseMetaDataService()
-                        .compareAndPersist(metaDataContexts.get().getMetaData().getDatabase(databaseName).getName(), schemaName, reloadedSchema);
-            }
+            ShardingSphereDatabase database = metaDataContexts.get().getMetaData().getDatabase(databaseName);
+            reloadSchema(database, schemaName, loadSchema(database, schemaName, Collections.singletonMap(dataSourceName, database.getResourceMetaData().getStorageUnits().get(dataSourceName))));
         } catch (final SQLException ex) {
             log.error("Reload meta data of database: {} schema: {} with data source: {} failed", databaseName, schemaName, dataSourceName, ex);
         }
     }
     
-    private ShardingSphereSchema loadSchema(final String databaseName, final String schemaName, final String dataSourceName) throws SQLException {
-        ShardingSphereDatabase database = metaDataContexts.get().getMetaData().getDatabase(databaseName);
+    /**
+     * Reload schema from all storage units.
+     * 
+     * @param databaseName database name
+     * @param schemaName to be reloaded schema name
+     */
+    public void reloadSchema(final String databaseName, final String schemaName) {
+        try {
+            ShardingSphereDatabase database = metaDataContexts.get().getMetaData().getDatabase(databaseName);
+            reloadSchema(database, schemaName, loadSchema(database, schemaName, database.getResourceMetaData().getStorageUnits()));
+        } catch (final SQLException ex) {
+            log.error("Reload meta data of database: {} schema: {} failed", databaseName, schemaName, ex);
+        }
+    }
+    
+    private void reloadSchema(final ShardingSphereDatabase database, final String schemaName, final ShardingSphereSchema reloadedSchema) {
+        if (reloadedSchema.getTables().isEmpty()) {
+            database.dropSchema(schemaName);
+            metaDataContexts.get().getPersistService().getDatabaseMetaDataService().dropSchema(database.getName(), schemaName);
+        } else {
+            database.addSchema(schemaName, reloadedSchema);
+            metaDataContexts.get().getPersistService().getDatabaseMetaDataService().compareAndPersist(database.getName(), schemaName, reloadedSchema);
+        }
+    }
+    
+    private ShardingSphereSchema loadSchema(final ShardingSphereDatabase database, final String schemaName, final Map<String, StorageUnit> storageUnits) throws SQLException {
         database.reloadRules(MutableDataNodeRule.class);
         GenericSchemaBuilderMaterial material = new GenericSchemaBuilderMaterial(database.getProtocolType(),
-                Collections.singletonMap(dataSourceName, database.getResourceMetaData().getStorageUnits().get(dataSourceName).getStorageType()),
-                Collections.singletonMap(dataSourceName, database.getResourceMetaData().getStorageUnits().get(dataSourceName).getDataSource()),
-                database.getRuleMetaData().getRules(), metaDataContexts.get().getMetaData().getProps(), schemaName);
-        ShardingSphereSchema result = GenericSchemaBuilder.build(material).get(schemaName);
+                storageUnits, database.getRuleMetaData().getRules(), metaDataContexts.get().getMetaData().getProps(), schemaName);
+        ShardingSphereSchema result = GenericSchemaBuilder.build(material).getOrDefault(schemaName, new ShardingSphereSchema());
         result.getViews().putAll(metaDataContexts.get().getPersistService().getDatabaseMetaDataService().getViewMetaDataPersistService().load(database.getName(), schemaName));
         return result;
     }
@@ -24,7 +24,10 @@ import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDa
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.rule.scope.DatabaseRuleConfiguration;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.datasource.pool.props.domain.DataSourcePoolProperties;
+import org.apache.shardingsphere.infra.executor.sql.statistics.DataSourceExecutionStatisticsRegistry;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -33,11 +36,17 @@ import org.apache.shardingsphere.infra.metadata.database.resource.node.StorageNo
 import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.SchemaManager;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.builder.database.DatabaseRulesBuilder;
 import org.apache.shardingsphere.infra.rule.builder.global.GlobalRulesBuilder;
+import org.apache.shardingsphere.infra.rule.identifier.type.ChangedTableDetectableRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.MutableDataNodeRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.ResourceHeldRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
 import org.apache.shardingsphere.metadata.factory.ExternalMetaDataFactory;
 import org.apache.shardingsphere.metadata.factory.InternalMetaDataFactory;
 import org.apache.shardingsphere.metadata.persist.MetaDataBasedPersistService;
@@ -56,6 +65,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -128,16 +138,16 @@ public final class ConfigurationContextManager {
     }
     
     private void buildNewMetaDataContext(final String databaseName, final SwitchingResource switchingResource) throws SQLException {
-        metaDataContexts.get().getMetaData().getDatabases().putAll(renewDatabase(metaDataContexts.get().getMetaData().getDatabase(databaseName), switchingResource));
-        MetaDataContexts reloadMetaDataContexts = createMetaDataContexts(databaseName, false, switchingResource, null);
+        ShardingSphereDatabase renewedDatabase = renewDatabase(metaDataContexts.get().getMetaData().getDatabase(databaseName), switchingResource).values().iterator().next();
+        MetaDataContexts reloadMetaDataContexts = createMetaDataContexts(renewedDatabase, false, switchingResource, null);
         reloadMetaDataContexts.getMetaData().getDatabase(databaseName).getSchemas().forEach((schemaName, schema) -> reloadMetaDataContexts.getPersistService().getDatabaseMetaDataService()
                 .persist(reloadMetaDataContexts.getMetaData().getDatabase(databaseName).getName(), schemaName, schema));
         Optional.ofNullable(reloadMetaDataContexts.getStatistics().getDatabaseData().get(databaseName))
                 .ifPresent(optional -> optional.getSchemaData().forEach((schemaName, schemaData) -> reloadMetaDataContexts.getPersistService().getShardingSphereDataPersistService()
                         .persist(databaseName, schemaName, schemaData, metaDataContexts.get().getMetaData().getDatabases())));
-        alterSchemaMetaData(databaseName, reloadMetaDataContexts.getMetaData().getDatabase(databaseName), metaDataContexts.get().getMetaData().getDatabase(databaseName));
+        alterSchemaMetaData(databaseName, reloadMetaDataContexts.getMetaData().getDatabase(databaseName), renewedDatabase);
+        reloadMetaDataContexts.getMetaData().getDatabases().putAll(newShardingSphereDatabase(reloadMetaDataContexts.getMetaData().getDatabase(databaseName)));
         metaDataContexts.set(reloadMetaDataContexts);
-        metaDataContexts.get().getMetaData().getDatabases().putAll(newShardingSphereDatabase(metaDataContexts.get().getMetaData().getDatabase(databaseName)));
         switchingResource.closeStaleDataSources();
     }
     
@@ -154,8 +164,8 @@ public final class ConfigurationContextManager {
             staleResourceHeldRules.forEach(ResourceHeldRule::closeStaleResource);
             MetaDataContexts reloadMetaDataContexts = createMetaDataContexts(databaseName, false, null, ruleConfigs);
             alterSchemaMetaData(databaseName, reloadMetaDataContexts.getMetaData().getDatabase(databaseName), metaDataContexts.get().getMetaData().getDatabase(databaseName));
+            reloadMetaDataContexts.getMetaData().getDatabase(databaseName).getSchemas().putAll(newShardingSphereSchemas(reloadMetaDataContexts.getMetaData().getDatabase(databaseName)));
             metaDataContexts.set(reloadMetaDataContexts);
-            metaDataContexts.get().getMetaData().getDatabase(databaseName).getSchemas().putAll(newShardingSphereSchemas(metaDataContexts.get().getMetaData().getDatabase(databaseName)));
         } catch (final SQLException ex) {
             log.error("Alter database: {} rule configurations failed", databaseName, ex);
         }
@@ -210,18 +220,94 @@ public final class ConfigurationContextManager {
     }
     
     private void refreshMetadata(final String databaseName, final ShardingSphereDatabase database, final Collection<ShardingSphereRule> rules) throws SQLException {
-        database.getRuleMetaData().getRules().clear();
-        database.getRuleMetaData().getRules().addAll(rules);
-        MetaDataContexts reloadMetaDataContexts = createMetaDataContextsByAlterRule(databaseName, database.getRuleMetaData().getConfigurations());
-        alterSchemaMetaData(databaseName, reloadMetaDataContexts.getMetaData().getDatabase(databaseName), metaDataContexts.get().getMetaData().getDatabase(databaseName));
-        metaDataContexts.set(reloadMetaDataContexts);
-        metaDataContexts.get().getMetaData().getDatabase(databaseName).getSchemas().putAll(newShardingSphereSchemas(metaDataContexts.get().getMetaData().getDatabase(databaseName)));
+        if (isLazyLoadingTables(database) || !isChangedTableDetectable(database.getRuleMetaData().getRules(), rules)) {
+            rebuildMetadata(databaseName, database, rules);
+            return;
+        }
+        ShardingSphereDatabase changedDatabase = createChangedDatabaseByAlterRule(database, rules);
+        alterSchemaMetaData(databaseName, changedDatabase, database);
+        Map<String, ShardingSphereDatabase> changedDatabases = new LinkedHashMap<>(metaDataContexts.get().getMetaData().getDatabases());
+        changedDatabases.put(databaseName.toLowerCase(), changedDatabase);
+        ConfigurationProperties props = metaDataContexts.get().getMetaData().getProps();
+        RuleMetaData changedGlobalMetaData = new RuleMetaData(
+                GlobalRulesBuilder.buildRules(metaDataContexts.get().getMetaData().getGlobalRuleMetaData().getConfigurations(), changedDatabases, props));
+        metaDataContexts.set(newMetaDataContexts(new ShardingSphereMetaData(changedDatabases, metaDataContexts.get().getMetaData().getGlobalResourceMetaData(), changedGlobalMetaData, props)));
+    }
+    
+    private boolean isLazyLoadingTables(final ShardingSphereDatabase database) {
+        return database.getSchemas().values().stream().anyMatch(each -> each.findLazyTableMetaDataLoader().isPresent());
+    }
+    
+    private boolean isChangedTableDetectable(final Collection<ShardingSphereRule> previousRules, final Collection<ShardingSphereRule> rules) {
+        return rules.stream().filter(each -> !previousRules.contains(each)).allMatch(ChangedTableDetectableRule.class::isInstance)
+                && previousRules.stream().allMatch(each -> rules.stream().anyMatch(optional -> optional.getClass() == each.getClass()));
+    }
+    
+    private ShardingSphereDatabase createChangedDatabaseByAlterRule(final ShardingSphereDatabase database, final Collection<ShardingSphereRule> rules) throws SQLException {
+        Map<String, ShardingSphereSchema> schemas = new LinkedHashMap<>(database.getSchemas().size(), 1F);
+        database.getSchemas().forEach((key, value) -> schemas.put(key, new ShardingSphereSchema(value.getTables(), value.getViews())));
+        ShardingSphereDatabase result = new ShardingSphereDatabase(database.getName(), database.getProtocolType(), database.getResourceMetaData(), new RuleMetaData(rules), schemas);
+        Collection<ShardingSphereRule> previousRules = database.getRuleMetaData().getRules();
+        if (getChangedTableNames(previousRules, rules).isEmpty()) {
+            return result;
+        }
+        result.reloadRules(MutableDataNodeRule.class);
+        Collection<String> changedTableNames = getChangedTableNames(previousRules, result.getRuleMetaData().getRules());
+        result.getSchemas().values().forEach(each -> changedTableNames.forEach(each::removeTable));
+        Collection<String> toBeLoadedTableNames = changedTableNames.stream().filter(each -> isContainedTable(result.getRuleMetaData().getRules(), each)).collect(Collectors.toList());
+        if (toBeLoadedTableNames.isEmpty()) {
+            return result;
+        }
+        GenericSchemaBuilderMaterial material = new GenericSchemaBuilderMaterial(result.getProtocolType(), result.getResourceMetaData().getStorageUnits(), result.getRuleMetaData().getRules(),
+                metaDataContexts.get().getMetaData().getProps(), new DatabaseTypeRegistry(result.getProtocolType()).getDefaultSchemaName(result.getName()));
+        for (Entry<String, ShardingSphereSchema> entry : GenericSchemaBuilder.build(toBeLoadedTableNames, material).entrySet()) {
+            ShardingSphereSchema schema = result.getSchemas().computeIfAbsent(entry.getKey().toLowerCase(), key -> new ShardingSphereSchema());
+            entry.getValue().getTables().forEach(schema::putTable);
+        }
+        return result;
+    }
+    
+    private Collection<String> getChangedTableNames(final Collection<ShardingSphereRule> previousRules, final Collection<ShardingSphereRule> rules) {
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (ShardingSphereRule each : rules) {
+            if (!previousRules.contains(each)) {
+                result.addAll(getChangedTableNames(previousRules.stream().filter(optional -> optional.getClass() == each.getClass()).findFirst().orElse(null), each));
+            }
+        }
+        return result;
+    }
+    
+    private Collection<String> getChangedTableNames(final ShardingSphereRule previousRule, final ShardingSphereRule rule) {
+        if (rule instanceof ChangedTableDetectableRule) {
+            return null == previousRule ? ((TableContainedRule) rule).getLogicTableMapper().getTableNames() : ((ChangedTableDetectableRule) rule).getChangedTableNames(previousRule);
+        }
+        Collection<String> result = new LinkedList<>();
+        if (rule instanceof DataNodeContainedRule && null != previousRule) {
+            Map<String, Collection<DataNode>> previousDataNodes = ((DataNodeContainedRule) previousRule).getAllDataNodes();
+            Map<String, Collection<DataNode>> dataNodes = ((DataNodeContainedRule) rule).getAllDataNodes();
+            dataNodes.forEach((key, value) -> {
+                if (!value.equals(previousDataNodes.get(key))) {
+                    result.add(key);
+                }
+            });
+            previousDataNodes.keySet().stream().filter(each -> !dataNodes.containsKey(each)).forEach(result::add);
+            return result;
+        }
+        if (rule instanceof TableContainedRule) {
+            result.addAll(((TableContainedRule) rule).getLogicTableMapper().getTableNames());
+        }
+        return result;
     }
     
-    private MetaDataContexts createMetaDataContextsByAlterRule(final String databaseName, final Collection<RuleConfiguration> ruleConfigs) throws SQLException {
-        Map<String, ShardingSphereDatabase> changedDatabases = createChangedDatabases(databaseName, false, null, ruleConfigs);
-        return newMetaDataContexts(new ShardingSphereMetaData(changedDatabases, metaDataContexts.get().getMetaData().getGlobalResourceMetaData(),
-                metaDataContexts.get().getMetaData().getGlobalRuleMetaData(), metaDataContexts.get().getMetaData().getProps()));
+    private boolean isContainedTable(final Collection<ShardingSphereRule> rules, final String tableName) {
+        return rules.stream().filter(TableContainedRule.class::isInstance).anyMatch(each -> ((TableContainedRule) each).getLogicTableMapper().contains(tableName));
+    }
+    
+    private void rebuildMetadata(final String databaseName, final ShardingSphereDatabase database, final Collection<ShardingSphereRule> rules) throws SQLException {
+        MetaDataContexts reloadMetaDataContexts = createMetaDataContexts(databaseName, false, null, new RuleMetaData(rules).getConfigurations());
+        alterSchemaMetaData(databaseName, reloadMetaDataContexts.getMetaData().getDatabase(databaseName), database);
+        reloadMetaDataContexts.getMetaData().getDatabase(databaseName).getSchemas().putAll(newShardingSphereSchemas(reloadMetaDataContexts.getMetaData().getDatabase(databaseName)));
+        metaDataContexts.set(reloadMetaDataContexts);
     }
     
     /**
@@ -237,17 +323,17 @@ public final class ConfigurationContextManager {
             staleResourceHeldRules.forEach(ResourceHeldRule::closeStaleResource);
             SwitchingResource switchingResource =
                     new ResourceSwitchManager().createByAlterDataSourcePoolProperties(metaDataContexts.get().getMetaData().getDatabase(databaseName).getResourceMetaData(), propsMap);
-            metaDataContexts.get().getMetaData().getDatabases().putAll(renewDatabase(metaDataContexts.get().getMetaData().getDatabase(databaseName), switchingResource));
+            ShardingSphereDatabase renewedDatabase = renewDatabase(metaDataContexts.get().getMetaData().getDatabase(databaseName), switchingResource).values().iterator().next();
             // TODO Remove this logic when issue #22887 are finished.
-            MetaDataContexts reloadMetaDataContexts = createMetaDataContexts(databaseName, false, switchingResource, null);
+            MetaDataContexts reloadMetaDataContexts = createMetaDataContexts(renewedDatabase, false, switchingResource, null);
             reloadMetaDataContexts.getMetaData().getDatabase(databaseName).getSchemas().forEach((schemaName, schema) -> reloadMetaDataContexts.getPersistService().getDatabaseMetaDataService()
                     .persist(reloadMetaDataContexts.getMetaData().getDatabase(databaseName).getName(), schemaName, schema));
             Optional.ofNullable(reloadMetaDataContexts.getStatistics().getDatabaseData().get(databaseName))
                     .ifPresent(optional -> optional.getSchemaData().forEach((schemaName, schemaData) -> reloadMetaDataContexts.getPersistService().getShardingSphereDataPersistService()
                             .persist(databaseName, schemaName, schemaData, metaDataContexts.get().getMetaData().getDatabases())));
-            alterSchemaMetaData(databaseName, reloadMetaDataContexts.getMetaData().getDatabase(databaseName), metaDataContexts.get().getMetaData().getDatabase(databaseName));
+            alterSchemaMetaData(databaseName, reloadMetaDataContexts.getMetaData().getDatabase(databaseName), renewedDatabase);
+            reloadMetaDataContexts.getMetaData().getDatabases().putAll(newShardingSphereDatabase(reloadMetaDataContexts.getMetaData().getDatabase(databaseName)));
             metaDataContexts.set(reloadMetaDataContexts);
-            metaDataContexts.get().getMetaData().getDatabases().putAll(newShardingSphereDatabase(metaDataContexts.get().getMetaData().getDatabase(databaseName)));
             switchingResource.closeStaleDataSources();
         } catch (final SQLException ex) {
             log.error("Alter database: {} data source configuration failed", databaseName, ex);
@@ -276,6 +362,7 @@ public final class ConfigurationContextManager {
      * @return ShardingSphere databases
      */
     public Map<String, ShardingSphereDatabase> renewDatabase(final ShardingSphereDatabase database, final SwitchingResource resource) {
+        resource.getStaleStorageUnitNames().forEach(each -> DataSourceExecutionStatisticsRegistry.getInstance().remove(database.getName(), each));
         Map<StorageNode, DataSource> newStorageNodes = getNewStorageNodes(database.getResourceMetaData().getDataSources(), resource);
         Map<String, StorageUnit> newStorageUnits = getNewStorageUnits(database.getResourceMetaData().getStorageUnits(), resource);
         return Collections.singletonMap(database.getName().toLowerCase(), new ShardingSphereDatabase(database.getName(), database.getProtocolType(),
@@ -322,7 +409,22 @@ public final class ConfigurationContextManager {
      */
     public MetaDataContexts createMetaDataContexts(final String databaseName, final boolean internalLoadMetaData, final SwitchingResource switchingResource,
                                                    final Collection<RuleConfiguration> ruleConfigs) throws SQLException {
-        Map<String, ShardingSphereDatabase> changedDatabases = createChangedDatabases(databaseName, internalLoadMetaData, switchingResource, ruleConfigs);
+        return createMetaDataContexts(metaDataContexts.get().getMetaData().getDatabase(databaseName), internalLoadMetaData, switchingResource, ruleConfigs);
+    }
+    
+    /**
+     * Create meta data contexts based on the given database instead of the published one.
+     *
+     * @param currentDatabase current database to be changed
+     * @param internalLoadMetaData internal load meta data
+     * @param switchingResource switching resource
+     * @param ruleConfigs rule configs
+     * @return MetaDataContexts meta data contexts
+     * @throws SQLException SQL exception
+     */
+    public MetaDataContexts createMetaDataContexts(final ShardingSphereDatabase currentDatabase, final boolean internalLoadMetaData, final SwitchingResource switchingResource,
+                                                   final Collection<RuleConfiguration> ruleConfigs) throws SQLException {
+        Map<String, ShardingSphereDatabase> changedDatabases = createChangedDatabases(currentDatabase, internalLoadMetaData, switchingResource, ruleConfigs);
         ConfigurationProperties props = metaDataContexts.get().getMetaData().getProps();
         RuleMetaData changedGlobalMetaData = new RuleMetaData(
                 GlobalRulesBuilder.buildRules(metaDataContexts.get().getMetaData().getGlobalRuleMetaData().getConfigurations(), changedDatabases, props));
@@ -341,16 +443,28 @@ public final class ConfigurationContextManager {
      */
     public synchronized Map<String, ShardingSphereDatabase> createChangedDatabases(final String databaseName, final boolean internalLoadMetaData,
                                                                                    final SwitchingResource switchingResource, final Collection<RuleConfiguration> ruleConfigs) throws SQLException {
-        Collection<RuleConfiguration> toBeCreatedRuleConfigs = null == ruleConfigs
-                ? metaDataContexts.get().getMetaData().getDatabase(databaseName).getRuleMetaData().getConfigurations()
-                : ruleConfigs;
-        DatabaseConfiguration toBeCreatedDatabaseConfig = getDatabaseConfiguration(
-                metaDataContexts.get().getMetaData().getDatabase(databaseName).getResourceMetaData(), switchingResource, toBeCreatedRuleConfigs);
-        ShardingSphereDatabase changedDatabase = createChangedDatabase(metaDataContexts.get().getMetaData().getDatabase(databaseName).getName(), internalLoadMetaData,
+        return createChangedDatabases(metaDataContexts.get().getMetaData().getDatabase(databaseName), internalLoadMetaData, switchingResource, ruleConfigs);
+    }
+    
+    /**
+     * Create changed databases based on the given database instead of the published one.
+     *
+     * @param currentDatabase current database to be changed
+     * @param internalLoadMetaData internal load meta data
+     * @param switchingResource switching resource
+     * @param ruleConfigs rule configs
+     * @return ShardingSphere databases
+     * @throws SQLException SQL exception
+     */
+    public synchronized Map<String, ShardingSphereDatabase> createChangedDatabases(final ShardingSphereDatabase currentDatabase, final boolean internalLoadMetaData,
+                                                                                   final SwitchingResource switchingResource, final Collection<RuleConfiguration> ruleConfigs) throws SQLException {
+        Collection<RuleConfiguration> toBeCreatedRuleConfigs = null == ruleConfigs ? currentDatabase.getRuleMetaData().getConfigurations() : ruleConfigs;
+        DatabaseConfiguration toBeCreatedDatabaseConfig = getDatabaseConfiguration(currentDatabase.getResourceMetaData(), switchingResource, toBeCreatedRuleConfigs);
+        ShardingSphereDatabase changedDatabase = createChangedDatabase(currentDatabase.getName(), internalLoadMetaData,
                 metaDataContexts.get().getPersistService(), toBeCreatedDatabaseConfig, metaDataContexts.get().getMetaData().getProps(), instanceContext);
         Map<String, ShardingSphereDatabase> result = new LinkedHashMap<>(metaDataContexts.get().getMetaData().getDatabases());
         changedDatabase.getSchemas().putAll(newShardingSphereSchemas(changedDatabase));
-        result.put(databaseName.toLowerCase(), changedDatabase);
+        result.put(currentDatabase.getName().toLowerCase(), changedDatabase);
         return result;
     }
     
@@ -364,7 +478,7 @@ public final class ConfigurationContextManager {
     }
     
     private Map<StorageNode, DataSource> getMergedStorageNodeDataSources(final ResourceMetaData currentResourceMetaData, final SwitchingResource switchingResource) {
-        Map<StorageNode, DataSource> result = currentResourceMetaData.getDataSources();
+        Map<StorageNode, DataSource> result = new LinkedHashMap<>(currentResourceMetaData.getDataSources());
         if (null != switchingResource && !switchingResource.getNewDataSources().isEmpty()) {
             result.putAll(switchingResource.getNewDataSources());
         }
@@ -427,10 +541,8 @@ public final class ConfigurationContextManager {
         }
         Collection<ShardingSphereRule> rules = removeSingleGlobalRule(ruleConfig);
         rules.addAll(GlobalRulesBuilder.buildSingleRules(ruleConfig, metaDataContexts.get().getMetaData().getDatabases(), metaDataContexts.get().getMetaData().getProps()));
-        metaDataContexts.get().getMetaData().getGlobalRuleMetaData().getRules().clear();
-        metaDataContexts.get().getMetaData().getGlobalRuleMetaData().getRules().addAll(rules);
         ShardingSphereMetaData toBeChangedMetaData = new ShardingSphereMetaData(metaDataContexts.get().getMetaData().getDatabases(), metaDataContexts.get().getMetaData().getGlobalResourceMetaData(),
-                metaDataContexts.get().getMetaData().getGlobalRuleMetaData(), metaDataContexts.get().getMetaData().getProps());
+                new RuleMetaData(rules), metaDataContexts.get().getMetaData().getProps());
         metaDataContexts.set(newMetaDataContexts(toBeChangedMetaData));
     }
     
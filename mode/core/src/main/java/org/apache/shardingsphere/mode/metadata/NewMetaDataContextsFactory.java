@@ -33,7 +33,10 @@ import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.LazyTableMetaDataLoader;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rule.builder.global.GlobalRulesBuilder;
+import org.apache.shardingsphere.infra.rule.identifier.type.MetaDataHeldRule;
 import org.apache.shardingsphere.infra.state.datasource.DataSourceState;
 import org.apache.shardingsphere.infra.state.datasource.DataSourceStateManager;
 import org.apache.shardingsphere.metadata.factory.ExternalMetaDataFactory;
@@ -51,6 +54,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -164,9 +168,20 @@ public final class NewMetaDataContextsFactory {
     }
     
     private static void persistMetaData(final MetaDataContexts metaDataContexts) {
-        metaDataContexts.getMetaData().getDatabases().values().forEach(each -> each.getSchemas()
-                .forEach((schemaName, schema) -> metaDataContexts.getPersistService().getDatabaseMetaDataService().persist(each.getName(), schemaName, schema)));
+        metaDataContexts.getMetaData().getDatabases().values().forEach(each -> each.getSchemas().forEach((schemaName, schema) -> persistSchema(metaDataContexts, each, schemaName, schema)));
         metaDataContexts.getStatistics().getDatabaseData().forEach((databaseName, databaseData) -> databaseData.getSchemaData().forEach((schemaName, schemaData) -> metaDataContexts
                 .getPersistService().getShardingSphereDataPersistService().persist(databaseName, schemaName, schemaData, metaDataContexts.getMetaData().getDatabases())));
     }
+    
+    private static void persistSchema(final MetaDataContexts metaDataContexts, final ShardingSphereDatabase database, final String schemaName, final ShardingSphereSchema schema) {
+        Optional<LazyTableMetaDataLoader> lazyTableMetaDataLoader = schema.findLazyTableMetaDataLoader();
+        if (!lazyTableMetaDataLoader.isPresent()) {
+            metaDataContexts.getPersistService().getDatabaseMetaDataService().persist(database.getName(), schemaName, schema);
+            return;
+        }
+        lazyTableMetaDataLoader.get().getCompletionFuture().thenRun(() -> {
+            metaDataContexts.getPersistService().getDatabaseMetaDataService().persist(database.getName(), schemaName, schema);
+            metaDataContexts.getMetaData().getGlobalRuleMetaData().findRules(MetaDataHeldRule.class).forEach(each -> each.alterDatabase(database));
+        });
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.checksum;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.temporary.TemporaryConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.DialectMetaDataChecksumLoader;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.metadata.persist.service.database.MetaDataChecksumPersistService;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Meta data checksum validator.
+ * 
+ * <p>Meta data loaded from persist repository is served immediately, this validator compares schema checksums of storage units with persisted ones in background,
+ * and only reloads the schemas whose checksum changed.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class MetaDataChecksumValidator {
+    
+    private final ContextManager contextManager;
+    
+    /**
+     * Validate meta data asynchronously if meta data checksum validation enabled.
+     */
+    public void asyncValidate() {
+        if (!contextManager.getMetaDataContexts().getMetaData().getTemporaryProps().<Boolean>getValue(TemporaryConfigurationPropertyKey.META_DATA_CHECKSUM_VALIDATION_ENABLED)) {
+            return;
+        }
+        ExecutorService executorService = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("meta-data-checksum-validator-%d"));
+        executorService.execute(this::validate);
+        executorService.shutdown();
+    }
+    
+    /**
+     * Validate meta data of all databases.
+     */
+    public void validate() {
+        for (ShardingSphereDatabase each : contextManager.getMetaDataContexts().getMetaData().getDatabases().values()) {
+            try {
+                validate(each);
+                // CHECKSTYLE:OFF
+            } catch (final SQLException | RuntimeException ex) {
+                // CHECKSTYLE:ON
+                log.warn("Validate meta data checksum of database: {} failed", each.getName(), ex);
+            }
+        }
+    }
+    
+    private void validate(final ShardingSphereDatabase database) throws SQLException {
+        MetaDataChecksumPersistService persistService = new MetaDataChecksumPersistService(contextManager.getMetaDataContexts().getPersistService().getRepository());
+        Collection<String> changedSchemaNames = new LinkedHashSet<>();
+        Map<String, Map<String, String>> changedChecksums = new LinkedHashMap<>();
+        for (Entry<String, StorageUnit> entry : database.getResourceMetaData().getStorageUnits().entrySet()) {
+            Optional<DialectMetaDataChecksumLoader> loader = DatabaseTypedSPILoader.findService(DialectMetaDataChecksumLoader.class, entry.getValue().getStorageType());
+            if (!loader.isPresent()) {
+                continue;
+            }
+            Map<String, String> actualChecksums = loader.get().load(entry.getValue().getDataSource());
+            Map<String, String> persistedChecksums = persistService.load(database.getName(), entry.getKey());
+            if (actualChecksums.isEmpty() || actualChecksums.equals(persistedChecksums)) {
+                continue;
+            }
+            if (!persistedChecksums.isEmpty()) {
+                changedSchemaNames.addAll(getChangedSchemaNames(database, entry.getValue().getStorageType(), persistedChecksums, actualChecksums));
+            }
+            changedChecksums.put(entry.getKey(), actualChecksums);
+        }
+        for (String each : changedSchemaNames) {
+            log.info("Meta data checksum of database: {} schema: {} changed, reload schema", database.getName(), each);
+            contextManager.reloadSchema(database.getName(), each);
+        }
+        changedChecksums.forEach((key, value) -> persistService.persist(database.getName(), key, value));
+    }
+    
+    private Collection<String> getChangedSchemaNames(final ShardingSphereDatabase database, final DatabaseType storageType,
+                                                     final Map<String, String> persistedChecksums, final Map<String, String> actualChecksums) {
+        Collection<String> result = new LinkedHashSet<>(persistedChecksums.keySet());
+        result.addAll(actualChecksums.keySet());
+        result.removeIf(each -> Objects.equals(persistedChecksums.get(each), actualChecksums.get(each)));
+        if (result.isEmpty()) {
+            return Collections.emptyList();
+        }
+        DatabaseTypeRegistry protocolTypeRegistry = new DatabaseTypeRegistry(database.getProtocolType());
+        if (!protocolTypeRegistry.getDialectDatabaseMetaData().getDefaultSchema().isPresent() || !new DatabaseTypeRegistry(storageType).getDialectDatabaseMetaData().getDefaultSchema().isPresent()) {
+            return Collections.singleton(protocolTypeRegistry.getDefaultSchemaName(database.getName()));
+        }
+        return result.stream().map(String::toLowerCase).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
@@ -18,14 +18,45 @@
 package org.apache.shardingsphere.mode.fixture;
 
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.identifier.scope.DatabaseRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.ChangedTableDetectableRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.TableNamesMapper;
+
+import java.util.Collection;
+import java.util.Collections;
 
 import static org.mockito.Mockito.mock;
 
-public final class ModeRuleFixture implements DatabaseRule {
+public final class ModeRuleFixture implements DatabaseRule, ChangedTableDetectableRule {
     
     @Override
     public RuleConfiguration getConfiguration() {
         return mock(RuleConfiguration.class);
     }
+    
+    @Override
+    public TableNamesMapper getLogicTableMapper() {
+        return new TableNamesMapper();
+    }
+    
+    @Override
+    public TableNamesMapper getActualTableMapper() {
+        return new TableNamesMapper();
+    }
+    
+    @Override
+    public TableNamesMapper getDistributedTableMapper() {
+        return new TableNamesMapper();
+    }
+    
+    @Override
+    public TableNamesMapper getEnhancedTableMapper() {
+        return new TableNamesMapper();
+    }
+    
+    @Override
+    public Collection<String> getChangedTableNames(final ShardingSphereRule previousRule) {
+        return Collections.emptyList();
+    }
 }
@@ -24,6 +24,8 @@ import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.datasource.pool.props.domain.DataSourcePoolProperties;
+import org.apache.shardingsphere.infra.executor.sql.statistics.DataSourceExecutionStatistics;
+import org.apache.shardingsphere.infra.executor.sql.statistics.DataSourceExecutionStatisticsRegistry;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.instance.mode.ModeContextManager;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -62,6 +64,8 @@ import java.util.Properties;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -146,8 +150,10 @@ class ContextManagerTest {
     void assertDropDatabase() {
         when(metaDataContexts.getMetaData().getDatabase("foo_db").getName()).thenReturn("foo_db");
         when(metaDataContexts.getMetaData().containsDatabase("foo_db")).thenReturn(true);
+        DataSourceExecutionStatistics executionStatistics = DataSourceExecutionStatisticsRegistry.getInstance().get("foo_db", "foo_ds");
         contextManager.getResourceMetaDataContextManager().dropDatabase("foo_db");
         verify(metaDataContexts.getMetaData()).dropDatabase("foo_db");
+        assertThat(DataSourceExecutionStatisticsRegistry.getInstance().get("foo_db", "foo_ds"), not(sameInstance(executionStatistics)));
     }
     
     @Test
@@ -235,6 +241,25 @@ class ContextManagerTest {
         assertThat(contextManager.getMetaDataContexts().getMetaData().getDatabase("foo_db").getRuleMetaData().getConfigurations().size(), is(1));
     }
     
+    @Test
+    void assertAlterSingleRuleConfigurationWithoutChangedTables() {
+        ResourceMetaData resourceMetaData = mock(ResourceMetaData.class);
+        when(resourceMetaData.getStorageUnits()).thenReturn(Collections.emptyMap());
+        ShardingSphereSchema schema = createToBeAlteredSchema();
+        ShardingSphereDatabase database = new ShardingSphereDatabase("foo_db",
+                TypedSPILoader.getService(DatabaseType.class, "FIXTURE"), resourceMetaData, new RuleMetaData(Collections.emptyList()), Collections.singletonMap("foo_schema", schema));
+        when(metaDataContexts.getMetaData().getDatabase("foo_db")).thenReturn(database);
+        RuleMetaData globalRuleMetaData = new RuleMetaData(Collections.emptyList());
+        when(metaDataContexts.getMetaData().getGlobalRuleMetaData()).thenReturn(globalRuleMetaData);
+        contextManager.getConfigurationContextManager().alterRuleConfiguration("foo_db", new ModeRuleConfigurationFixture());
+        assertThat(contextManager.getMetaDataContexts().getMetaData().getGlobalRuleMetaData(), not(sameInstance(globalRuleMetaData)));
+        ShardingSphereDatabase actual = contextManager.getMetaDataContexts().getMetaData().getDatabase("foo_db");
+        assertThat(actual.getRuleMetaData().getRules().size(), is(1));
+        assertTrue(database.getRuleMetaData().getRules().isEmpty());
+        assertThat(actual.getSchema("foo_schema"), not(sameInstance(schema)));
+        assertThat(actual.getSchema("foo_schema").getTable("foo_tbl"), is(schema.getTable("foo_tbl")));
+    }
+    
     @Test
     void assertAlterDataSourceConfiguration() {
         ShardingSphereDatabase originalDatabaseMetaData = new ShardingSphereDatabase(
@@ -288,6 +313,14 @@ class ContextManagerTest {
         assertTrue(contextManager.getMetaDataContexts().getMetaData().getGlobalRuleMetaData().getConfigurations().contains(ruleConfig));
     }
     
+    @Test
+    void assertAlterSingleGlobalRuleConfigurationWithoutMutatingPublishedMetaData() {
+        RuleConfiguration ruleConfig = new TransactionRuleConfiguration("LOCAL", null, new Properties());
+        contextManager.getConfigurationContextManager().alterGlobalRuleConfiguration(ruleConfig);
+        assertTrue(contextManager.getMetaDataContexts().getMetaData().getGlobalRuleMetaData().getConfigurations().contains(ruleConfig));
+        assertTrue(metaDataContexts.getMetaData().getGlobalRuleMetaData().getRules().isEmpty());
+    }
+    
     @Test
     void assertAlterProperties() {
         contextManager.getConfigurationContextManager().alterProperties(PropertiesBuilder.build(new Property("foo", "foo_value")));
@@ -305,6 +338,17 @@ class ContextManagerTest {
         verify(databaseMetaDataPersistService).dropSchema("foo_db", "foo_schema");
     }
     
+    @Test
+    void assertReloadSchemaWithAllStorageUnits() {
+        when(metaDataContexts.getMetaData().getDatabase("foo_db").getName()).thenReturn("foo_db");
+        DatabaseMetaDataPersistService databaseMetaDataPersistService = mock(DatabaseMetaDataPersistService.class, RETURNS_DEEP_STUBS);
+        MetaDataPersistService persistService = mock(MetaDataPersistService.class);
+        when(persistService.getDatabaseMetaDataService()).thenReturn(databaseMetaDataPersistService);
+        when(metaDataContexts.getPersistService()).thenReturn(persistService);
+        contextManager.reloadSchema("foo_db", "foo_schema");
+        verify(databaseMetaDataPersistService).dropSchema("foo_db", "foo_schema");
+    }
+    
     @Test
     void assertReloadTable() {
         DatabaseMetaDataPersistService databaseMetaDataPersistService = mock(DatabaseMetaDataPersistService.class, RETURNS_DEEP_STUBS);
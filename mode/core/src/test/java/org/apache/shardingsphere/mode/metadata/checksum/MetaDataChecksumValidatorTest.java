@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.checksum;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.spi.PersistRepository;
+import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MetaDataChecksumValidatorTest {
+    
+    private ContextManager contextManager;
+    
+    private PersistRepository repository;
+    
+    @BeforeEach
+    void setUp() {
+        contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        repository = mock(PersistRepository.class);
+        when(contextManager.getMetaDataContexts().getPersistService().getRepository()).thenReturn(repository);
+        ShardingSphereDatabase database = mockDatabase();
+        when(contextManager.getMetaDataContexts().getMetaData().getDatabases().values()).thenReturn(Collections.singleton(database));
+    }
+    
+    private ShardingSphereDatabase mockDatabase() {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getName()).thenReturn("foo_db");
+        when(result.getProtocolType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        StorageUnit storageUnit = mock(StorageUnit.class);
+        when(storageUnit.getStorageType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(storageUnit.getDataSource()).thenReturn(new MockedDataSource());
+        when(result.getResourceMetaData().getStorageUnits()).thenReturn(Collections.singletonMap("foo_ds", storageUnit));
+        return result;
+    }
+    
+    @Test
+    void assertValidateWithoutPersistedChecksum() {
+        new MetaDataChecksumValidator(contextManager).validate();
+        verify(contextManager, never()).reloadSchema(anyString(), anyString());
+        verify(repository).persist("/metadata/foo_db/checksums/foo_ds", "foo_db: jdbc:mock://127.0.0.1/foo_ds" + System.lineSeparator());
+    }
+    
+    @Test
+    void assertValidateWithUnchangedChecksum() {
+        when(repository.getDirectly("/metadata/foo_db/checksums/foo_ds")).thenReturn("foo_db: jdbc:mock://127.0.0.1/foo_ds" + System.lineSeparator());
+        new MetaDataChecksumValidator(contextManager).validate();
+        verify(contextManager, never()).reloadSchema(anyString(), anyString());
+        verify(repository, never()).persist(anyString(), anyString());
+    }
+    
+    @Test
+    void assertValidateWithChangedChecksum() {
+        when(repository.getDirectly("/metadata/foo_db/checksums/foo_ds")).thenReturn("foo_db: jdbc:mock://127.0.0.1/bar_ds" + System.lineSeparator());
+        new MetaDataChecksumValidator(contextManager).validate();
+        verify(contextManager).reloadSchema("foo_db", "foo_db");
+        verify(repository).persist("/metadata/foo_db/checksums/foo_ds", "foo_db: jdbc:mock://127.0.0.1/foo_ds" + System.lineSeparator());
+    }
+}
@@ -20,12 +20,16 @@ package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.meta
 import com.google.common.eventbus.Subscribe;
 import org.apache.shardingsphere.infra.lock.GlobalLockNames;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
+import org.apache.shardingsphere.infra.yaml.data.pojo.YamlShardingSphereRowData;
 import org.apache.shardingsphere.metadata.persist.data.ShardingSphereDataPersistService;
 import org.apache.shardingsphere.mode.lock.GlobalLockDefinition;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.lock.GlobalLockPersistService;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.data.event.ShardingSphereSchemaDataAlteredEvent;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+
 /**
  * ShardingSphere schema data registry subscriber.
  */
@@ -54,8 +58,10 @@ public final class ShardingSphereSchemaDataRegistrySubscriber {
         GlobalLockDefinition lockDefinition = new GlobalLockDefinition(String.format(GlobalLockNames.STATISTICS.getLockName(), event.getDatabaseName(), event.getSchemaName(), event.getTableName()));
         if (lockPersistService.tryLock(lockDefinition, 10_000)) {
             try {
-                persistService.getTableRowDataPersistService().persist(databaseName, schemaName, event.getTableName(), event.getAddedRows());
-                persistService.getTableRowDataPersistService().persist(databaseName, schemaName, event.getTableName(), event.getUpdatedRows());
+                Collection<YamlShardingSphereRowData> changedRows = new ArrayList<>(event.getAddedRows().size() + event.getUpdatedRows().size());
+                changedRows.addAll(event.getAddedRows());
+                changedRows.addAll(event.getUpdatedRows());
+                persistService.getTableRowDataPersistService().persist(databaseName, schemaName, event.getTableName(), changedRows);
                 persistService.getTableRowDataPersistService().delete(databaseName, schemaName, event.getTableName(), event.getDeletedRows());
             } finally {
                 lockPersistService.unlock(lockDefinition);
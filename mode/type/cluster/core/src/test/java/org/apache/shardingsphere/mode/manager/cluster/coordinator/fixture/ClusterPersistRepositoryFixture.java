@@ -62,6 +62,10 @@ public final class ClusterPersistRepositoryFixture implements ClusterPersistRepo
     public void persistExclusiveEphemeral(final String key, final String value) {
     }
     
+    @Override
+    public void prefetch(final String key) {
+    }
+    
     @Override
     public DistributedLockHolder getDistributedLockHolder() {
         return null;
@@ -68,6 +68,10 @@ public final class ProcessListClusterPersistRepositoryFixture implements Cluster
     public void persistExclusiveEphemeral(final String key, final String value) {
     }
     
+    @Override
+    public void prefetch(final String key) {
+    }
+    
     @Override
     public DistributedLockHolder getDistributedLockHolder() {
         return null;
@@ -49,6 +49,13 @@ public interface ClusterPersistRepository extends PersistRepository {
      */
     void persistExclusiveEphemeral(String key, String value);
     
+    /**
+     * Prefetch values and sub-node keys of key and all its sub-nodes into read cache in one pass.
+     *
+     * @param key key of data
+     */
+    void prefetch(String key);
+    
     /**
      * Get distributed lock holder.
      * 
@@ -0,0 +1,305 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.cluster.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.mode.event.DataChangedEvent;
+import org.apache.shardingsphere.mode.spi.PersistRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Read cache of cluster persist repository.
+ * 
+ * <p>Values and sub-node keys are served from memory once loaded. Entries are refreshed or invalidated by watch events and local writes,
+ * and are reloaded from registry center when they are older than max staleness milliseconds.</p>
+ */
+public final class RepositoryReadCache {
+    
+    private final long maxStalenessMilliseconds;
+    
+    private final Comparator<String> childrenKeysComparator;
+    
+    private final Map<String, CachedEntry<RevisionedValue>> values = new ConcurrentHashMap<>();
+    
+    private final Map<String, CachedEntry<List<String>>> childrenKeys = new ConcurrentHashMap<>();
+    
+    private final Object lock = new Object();
+    
+    private volatile long version;
+    
+    public RepositoryReadCache(final long maxStalenessMilliseconds, final Comparator<String> childrenKeysComparator) {
+        this.maxStalenessMilliseconds = maxStalenessMilliseconds;
+        this.childrenKeysComparator = childrenKeysComparator;
+    }
+    
+    /**
+     * Judge whether read cache is enabled.
+     * 
+     * @return read cache is enabled or not
+     */
+    public boolean isEnabled() {
+        return maxStalenessMilliseconds > 0L;
+    }
+    
+    /**
+     * Get value, load it from registry center if absent or stale.
+     * 
+     * <p>Loader should return null if value cannot be loaded for reasons other than absence, then the result will not be cached.</p>
+     * 
+     * @param key key
+     * @param loader value loader
+     * @return value
+     */
+    public String getValue(final String key, final Function<String, RevisionedValue> loader) {
+        if (isEnabled()) {
+            CachedEntry<RevisionedValue> cached = values.get(key);
+            if (null != cached && !isExpired(cached)) {
+                return cached.getData().getValue();
+            }
+        }
+        long loadVersion = version;
+        RevisionedValue result = loader.apply(key);
+        if (null == result) {
+            return null;
+        }
+        if (isEnabled()) {
+            synchronized (lock) {
+                if (loadVersion == version) {
+                    putValueIfNewer(key, result);
+                }
+            }
+        }
+        return result.getValue();
+    }
+    
+    /**
+     * Get sub-node keys, load them from registry center if absent or stale.
+     * 
+     * <p>Loader should return null if sub-node keys cannot be loaded for reasons other than absence, then the result will not be cached.</p>
+     * 
+     * @param key key
+     * @param loader sub-node keys loader
+     * @return sub-node keys
+     */
+    public List<String> getChildrenKeys(final String key, final Function<String, List<String>> loader) {
+        if (isEnabled()) {
+            CachedEntry<List<String>> cached = childrenKeys.get(key);
+            if (null != cached && !isExpired(cached)) {
+                return new ArrayList<>(cached.getData());
+            }
+        }
+        long loadVersion = version;
+        List<String> result = loader.apply(key);
+        if (null == result) {
+            return Collections.emptyList();
+        }
+        if (isEnabled()) {
+            synchronized (lock) {
+                if (loadVersion == version) {
+                    childrenKeys.put(key, new CachedEntry<>(new ArrayList<>(result), System.currentTimeMillis()));
+                }
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Prefetch values and sub-node keys of the whole subtree in one pass.
+     * 
+     * @param key root key of subtree
+     * @param loader loader of all values in subtree keyed by full path, empty if subtree cannot be loaded
+     */
+    public void prefetch(final String key, final Function<String, Map<String, RevisionedValue>> loader) {
+        if (!isEnabled()) {
+            return;
+        }
+        long loadVersion = version;
+        Map<String, RevisionedValue> subtreeValues = loader.apply(key);
+        if (subtreeValues.isEmpty()) {
+            return;
+        }
+        Map<String, Collection<String>> subtreeChildrenKeys = getSubtreeChildrenKeys(key, subtreeValues.keySet());
+        synchronized (lock) {
+            if (loadVersion != version) {
+                return;
+            }
+            long loadedMillis = System.currentTimeMillis();
+            for (Entry<String, RevisionedValue> entry : subtreeValues.entrySet()) {
+                putValueIfNewer(entry.getKey(), entry.getValue());
+            }
+            for (Entry<String, Collection<String>> entry : subtreeChildrenKeys.entrySet()) {
+                List<String> sortedChildrenKeys = new ArrayList<>(entry.getValue());
+                sortedChildrenKeys.sort(childrenKeysComparator);
+                childrenKeys.put(entry.getKey(), new CachedEntry<>(sortedChildrenKeys, loadedMillis));
+            }
+        }
+    }
+    
+    private Map<String, Collection<String>> getSubtreeChildrenKeys(final String key, final Collection<String> subtreeKeys) {
+        Map<String, Collection<String>> result = new HashMap<>(subtreeKeys.size() + 1, 1F);
+        result.put(key, new LinkedHashSet<>());
+        for (String each : subtreeKeys) {
+            result.computeIfAbsent(each, unused -> new LinkedHashSet<>());
+            String current = each;
+            Optional<String> parentKey = findParentKey(current);
+            while (!key.equals(current) && parentKey.isPresent()) {
+                result.computeIfAbsent(parentKey.get(), unused -> new LinkedHashSet<>()).add(getNodeName(current));
+                current = parentKey.get();
+                parentKey = findParentKey(current);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Refresh cache by data changed event from watcher.
+     * 
+     * @param event data changed event
+     * @param revision modification revision of event
+     */
+    public void refresh(final DataChangedEvent event, final long revision) {
+        if (!isEnabled()) {
+            return;
+        }
+        synchronized (lock) {
+            version++;
+            switch (event.getType()) {
+                case ADDED:
+                    removeAncestors(event.getKey());
+                    childrenKeys.remove(event.getKey());
+                    putValueIfNewer(event.getKey(), new RevisionedValue(event.getValue(), revision));
+                    break;
+                case UPDATED:
+                    putValueIfNewer(event.getKey(), new RevisionedValue(event.getValue(), revision));
+                    break;
+                case DELETED:
+                    removeSubtree(event.getKey());
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+    
+    /**
+     * Invalidate key after it was persisted locally.
+     * 
+     * @param key key
+     */
+    public void invalidate(final String key) {
+        if (!isEnabled()) {
+            return;
+        }
+        synchronized (lock) {
+            version++;
+            values.remove(key);
+            childrenKeys.remove(key);
+            removeAncestors(key);
+        }
+    }
+    
+    /**
+     * Invalidate key and all its sub-nodes after they were deleted locally.
+     * 
+     * @param key key
+     */
+    public void invalidateSubtree(final String key) {
+        if (!isEnabled()) {
+            return;
+        }
+        synchronized (lock) {
+            version++;
+            removeSubtree(key);
+        }
+    }
+    
+    /**
+     * Invalidate all cached entries.
+     */
+    public void invalidateAll() {
+        synchronized (lock) {
+            version++;
+            values.clear();
+            childrenKeys.clear();
+        }
+    }
+    
+    private void putValueIfNewer(final String key, final RevisionedValue value) {
+        CachedEntry<RevisionedValue> cached = values.get(key);
+        if (null == cached || isExpired(cached) || cached.getData().getRevision() <= value.getRevision()) {
+            values.put(key, new CachedEntry<>(value, System.currentTimeMillis()));
+        }
+    }
+    
+    private void removeAncestors(final String key) {
+        Optional<String> parentKey = findParentKey(key);
+        while (parentKey.isPresent()) {
+            childrenKeys.remove(parentKey.get());
+            CachedEntry<RevisionedValue> cached = values.get(parentKey.get());
+            if (null != cached && null == cached.getData().getValue()) {
+                values.remove(parentKey.get());
+            }
+            parentKey = findParentKey(parentKey.get());
+        }
+    }
+    
+    private void removeSubtree(final String key) {
+        String prefix = key + PersistRepository.PATH_SEPARATOR;
+        values.keySet().removeIf(each -> each.equals(key) || each.startsWith(prefix));
+        childrenKeys.keySet().removeIf(each -> each.equals(key) || each.startsWith(prefix));
+        findParentKey(key).ifPresent(childrenKeys::remove);
+    }
+    
+    private Optional<String> findParentKey(final String key) {
+        int index = key.lastIndexOf(PersistRepository.PATH_SEPARATOR);
+        if (index < 0 || PersistRepository.PATH_SEPARATOR.equals(key)) {
+            return Optional.empty();
+        }
+        return Optional.of(0 == index ? PersistRepository.PATH_SEPARATOR : key.substring(0, index));
+    }
+    
+    private String getNodeName(final String key) {
+        return key.substring(key.lastIndexOf(PersistRepository.PATH_SEPARATOR) + 1);
+    }
+    
+    private boolean isExpired(final CachedEntry<?> cached) {
+        return System.currentTimeMillis() - cached.getLoadedMillis() > maxStalenessMilliseconds;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class CachedEntry<T> {
+        
+        private final T data;
+        
+        private final long loadedMillis;
+    }
+}
@@ -15,24 +15,24 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.data.pipeline.cdc.core.importer;
+package org.apache.shardingsphere.mode.repository.cluster.cache;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
-
-import java.util.List;
 
 /**
- * CSN records.
+ * Value loaded from registry center with its modification revision.
  */
 @RequiredArgsConstructor
 @Getter
-public final class CSNRecords {
+public final class RevisionedValue {
     
-    private final long csn;
+    /**
+     * Revision of value which is not existed or unknown.
+     */
+    public static final long UNKNOWN_REVISION = -1L;
     
-    private final CDCChannelProgressPair channelProgressPair;
+    private final String value;
     
-    private final List<Record> records;
+    private final long revision;
 }
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.cluster.cache;
+
+import org.apache.shardingsphere.mode.event.DataChangedEvent;
+import org.apache.shardingsphere.mode.event.DataChangedEvent.Type;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class RepositoryReadCacheTest {
+    
+    private final RepositoryReadCache readCache = new RepositoryReadCache(60000L, Comparator.naturalOrder());
+    
+    @Test
+    void assertGetValueFromCache() {
+        AtomicInteger loadCount = new AtomicInteger();
+        assertThat(readCache.getValue("/foo", key -> new RevisionedValue("value_" + loadCount.incrementAndGet(), 1L)), is("value_1"));
+        assertThat(readCache.getValue("/foo", key -> new RevisionedValue("value_" + loadCount.incrementAndGet(), 1L)), is("value_1"));
+        assertThat(loadCount.get(), is(1));
+    }
+    
+    @Test
+    void assertGetValueWithoutCacheWhenDisabled() {
+        RepositoryReadCache disabledReadCache = new RepositoryReadCache(0L, Comparator.naturalOrder());
+        AtomicInteger loadCount = new AtomicInteger();
+        disabledReadCache.getValue("/foo", key -> new RevisionedValue("value_" + loadCount.incrementAndGet(), 1L));
+        assertThat(disabledReadCache.getValue("/foo", key -> new RevisionedValue("value_" + loadCount.incrementAndGet(), 1L)), is("value_2"));
+    }
+    
+    @Test
+    void assertGetValueNotCachedWhenLoadFailed() {
+        assertThat(readCache.getValue("/foo", key -> null), nullValue());
+        assertThat(readCache.getValue("/foo", key -> new RevisionedValue("value", 1L)), is("value"));
+    }
+    
+    @Test
+    void assertRefreshWithNewerRevision() {
+        readCache.getValue("/foo", key -> new RevisionedValue("old_value", 1L));
+        readCache.refresh(new DataChangedEvent("/foo", "new_value", Type.UPDATED), 2L);
+        assertThat(readCache.getValue("/foo", key -> new RevisionedValue("loaded_value", 3L)), is("new_value"));
+    }
+    
+    @Test
+    void assertRefreshWithOlderRevision() {
+        readCache.getValue("/foo", key -> new RevisionedValue("new_value", 2L));
+        readCache.refresh(new DataChangedEvent("/foo", "old_value", Type.UPDATED), 1L);
+        assertThat(readCache.getValue("/foo", key -> new RevisionedValue("loaded_value", 3L)), is("new_value"));
+    }
+    
+    @Test
+    void assertRefreshWithAddedEvent() {
+        readCache.getChildrenKeys("/foo", key -> Collections.singletonList("bar"));
+        readCache.refresh(new DataChangedEvent("/foo/baz", "value", Type.ADDED), 1L);
+        assertThat(readCache.getChildrenKeys("/foo", key -> Arrays.asList("bar", "baz")), is(Arrays.asList("bar", "baz")));
+        assertThat(readCache.getValue("/foo/baz", key -> new RevisionedValue("loaded_value", 1L)), is("value"));
+    }
+    
+    @Test
+    void assertRefreshWithDeletedEvent() {
+        readCache.getValue("/foo/bar/baz", key -> new RevisionedValue("value", 1L));
+        readCache.getChildrenKeys("/foo", key -> Collections.singletonList("bar"));
+        readCache.refresh(new DataChangedEvent("/foo/bar", "", Type.DELETED), 2L);
+        assertThat(readCache.getValue("/foo/bar/baz", key -> new RevisionedValue(null, 2L)), nullValue());
+        assertThat(readCache.getChildrenKeys("/foo", key -> Collections.emptyList()), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertInvalidate() {
+        readCache.getValue("/foo", key -> new RevisionedValue(null, 1L));
+        readCache.getValue("/foo/bar", key -> new RevisionedValue("old_value", 1L));
+        readCache.getChildrenKeys("/foo", key -> Collections.emptyList());
+        readCache.invalidate("/foo/bar");
+        assertThat(readCache.getValue("/foo", key -> new RevisionedValue("", 2L)), is(""));
+        assertThat(readCache.getValue("/foo/bar", key -> new RevisionedValue("new_value", 2L)), is("new_value"));
+        assertThat(readCache.getChildrenKeys("/foo", key -> Collections.singletonList("bar")), is(Collections.singletonList("bar")));
+    }
+    
+    @Test
+    void assertInvalidateAll() {
+        readCache.getValue("/foo", key -> new RevisionedValue("old_value", 1L));
+        readCache.invalidateAll();
+        assertThat(readCache.getValue("/foo", key -> new RevisionedValue("new_value", 1L)), is("new_value"));
+    }
+    
+    @Test
+    void assertPrefetch() {
+        Map<String, RevisionedValue> subtreeValues = new HashMap<>(3, 1F);
+        subtreeValues.put("/foo", new RevisionedValue("", 1L));
+        subtreeValues.put("/foo/bar", new RevisionedValue("bar_value", 2L));
+        subtreeValues.put("/foo/baz/qux", new RevisionedValue("qux_value", 3L));
+        readCache.prefetch("/foo", key -> subtreeValues);
+        assertThat(readCache.getChildrenKeys("/foo", key -> Collections.emptyList()), is(Arrays.asList("bar", "baz")));
+        assertThat(readCache.getChildrenKeys("/foo/baz", key -> Collections.emptyList()), is(Collections.singletonList("qux")));
+        assertThat(readCache.getChildrenKeys("/foo/bar", key -> Collections.singletonList("unexpected")), is(Collections.emptyList()));
+        assertThat(readCache.getValue("/foo/baz/qux", key -> new RevisionedValue(null, 4L)), is("qux_value"));
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.mode.repository.cluster.consul;
 
+import com.ecwid.consul.transport.RawResponse;
 import com.ecwid.consul.v1.ConsulClient;
 import com.ecwid.consul.v1.ConsulRawClient;
 import com.ecwid.consul.v1.QueryParams;
@@ -27,6 +28,7 @@ import com.ecwid.consul.v1.session.model.NewSession;
 import com.ecwid.consul.v1.session.model.Session;
 import com.google.common.base.Strings;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.util.json.JsonUtils;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
 import org.apache.shardingsphere.mode.repository.cluster.consul.props.ConsulProperties;
@@ -35,12 +37,17 @@ import org.apache.shardingsphere.mode.event.DataChangedEvent;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
 import org.apache.shardingsphere.mode.repository.cluster.lock.holder.DistributedLockHolder;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -52,6 +59,10 @@ public final class ConsulRepository implements ClusterPersistRepository {
     
     private static final ScheduledThreadPoolExecutor SESSION_FLUSH_EXECUTOR = new ScheduledThreadPoolExecutor(2);
     
+    private static final int MAX_TRANSACTION_OPERATIONS = 64;
+    
+    private static final int HTTP_OK = 200;
+    
     private ShardingSphereConsulClient consulClient;
     
     private ConsulProperties consulProps;
@@ -92,6 +103,58 @@ public final class ConsulRepository implements ClusterPersistRepository {
         consulClient.setKVValue(key, value);
     }
     
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        Map<String, String> batchKeyValues = new LinkedHashMap<>(Math.min(keyValues.size(), MAX_TRANSACTION_OPERATIONS), 1F);
+        for (Entry<String, String> entry : keyValues.entrySet()) {
+            batchKeyValues.put(entry.getKey(), entry.getValue());
+            if (MAX_TRANSACTION_OPERATIONS == batchKeyValues.size()) {
+                commitTransaction(batchKeyValues);
+                batchKeyValues.clear();
+            }
+        }
+        commitTransaction(batchKeyValues);
+    }
+    
+    @Override
+    public void batchDelete(final Collection<String> keys) {
+        Map<String, String> batchKeyValues = new LinkedHashMap<>(Math.min(keys.size(), MAX_TRANSACTION_OPERATIONS), 1F);
+        for (String each : keys) {
+            batchKeyValues.put(each, null);
+            if (MAX_TRANSACTION_OPERATIONS == batchKeyValues.size()) {
+                commitTransaction(batchKeyValues);
+                batchKeyValues.clear();
+            }
+        }
+        commitTransaction(batchKeyValues);
+    }
+    
+    private void commitTransaction(final Map<String, String> batchKeyValues) {
+        if (batchKeyValues.isEmpty()) {
+            return;
+        }
+        List<Map<String, Map<String, String>>> operations = new ArrayList<>(batchKeyValues.size());
+        for (Entry<String, String> entry : batchKeyValues.entrySet()) {
+            Map<String, String> operation = new LinkedHashMap<>(3, 1F);
+            operation.put("Verb", null == entry.getValue() ? "delete" : "set");
+            operation.put("Key", entry.getKey());
+            if (null != entry.getValue()) {
+                operation.put("Value", Base64.getEncoder().encodeToString(entry.getValue().getBytes(StandardCharsets.UTF_8)));
+            }
+            operations.add(Collections.singletonMap("KV", operation));
+        }
+        RawResponse response = consulClient.getRawClient().makePutRequest("/v1/txn", JsonUtils.toJsonString(operations));
+        if (null == response || HTTP_OK != response.getStatusCode()) {
+            batchKeyValues.forEach((key, value) -> {
+                if (null == value) {
+                    delete(key);
+                } else {
+                    persist(key, value);
+                }
+            });
+        }
+    }
+    
     @Override
     public void update(final String key, final String value) {
         consulClient.setKVValue(key, value);
@@ -130,6 +193,10 @@ public final class ConsulRepository implements ClusterPersistRepository {
         persistEphemeral(key, value);
     }
     
+    @Override
+    public void prefetch(final String key) {
+    }
+    
     @Override
     public void watch(final String key, final DataChangedEventListener listener) {
         Thread watchThread = new Thread(() -> watchChildKeyChangeEvent(key, listener));
@@ -23,6 +23,8 @@ import io.etcd.jetcd.ByteSequence;
 import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Watch;
+import io.etcd.jetcd.kv.GetResponse;
+import io.etcd.jetcd.op.Op;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.OptionsUtil;
@@ -35,6 +37,8 @@ import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
+import org.apache.shardingsphere.mode.repository.cluster.cache.RepositoryReadCache;
+import org.apache.shardingsphere.mode.repository.cluster.cache.RevisionedValue;
 import org.apache.shardingsphere.mode.repository.cluster.etcd.props.EtcdProperties;
 import org.apache.shardingsphere.mode.repository.cluster.etcd.props.EtcdPropertyKey;
 import org.apache.shardingsphere.mode.event.DataChangedEvent;
@@ -43,7 +47,14 @@ import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEve
 import org.apache.shardingsphere.mode.repository.cluster.lock.holder.DistributedLockHolder;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
@@ -52,10 +63,14 @@ import java.util.stream.Collectors;
  */
 public final class EtcdRepository implements ClusterPersistRepository {
     
+    private static final int MAX_TRANSACTION_OPERATIONS = 128;
+    
     private Client client;
     
     private EtcdProperties etcdProps;
     
+    private RepositoryReadCache readCache = new RepositoryReadCache(0L, Comparator.naturalOrder());
+    
     @Getter
     private DistributedLockHolder distributedLockHolder;
     
@@ -67,18 +82,30 @@ public final class EtcdRepository implements ClusterPersistRepository {
                 .maxInboundMessageSize((int) 32e9)
                 .build();
         distributedLockHolder = new DistributedLockHolder(getType(), client, etcdProps);
+        readCache = new RepositoryReadCache(etcdProps.getValue(EtcdPropertyKey.READ_CACHE_MAX_STALENESS_MILLISECONDS), Comparator.naturalOrder());
     }
     
-    @SneakyThrows({InterruptedException.class, ExecutionException.class})
     @Override
     public String getDirectly(final String key) {
-        List<KeyValue> keyValues = client.getKVClient().get(ByteSequence.from(key, StandardCharsets.UTF_8)).get().getKvs();
-        return keyValues.isEmpty() ? null : keyValues.iterator().next().getValue().toString(StandardCharsets.UTF_8);
+        return readCache.getValue(key, this::loadValue);
     }
     
     @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    private RevisionedValue loadValue(final String key) {
+        GetResponse response = client.getKVClient().get(ByteSequence.from(key, StandardCharsets.UTF_8)).get();
+        List<KeyValue> keyValues = response.getKvs();
+        return keyValues.isEmpty()
+                ? new RevisionedValue(null, response.getHeader().getRevision())
+                : new RevisionedValue(keyValues.iterator().next().getValue().toString(StandardCharsets.UTF_8), keyValues.iterator().next().getModRevision());
+    }
+    
     @Override
     public List<String> getChildrenKeys(final String key) {
+        return readCache.getChildrenKeys(key, this::loadChildrenKeys);
+    }
+    
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    private List<String> loadChildrenKeys(final String key) {
         String prefix = key + PATH_SEPARATOR;
         ByteSequence prefixByteSequence = ByteSequence.from(prefix, StandardCharsets.UTF_8);
         GetOption getOption = GetOption.newBuilder().isPrefix(true).withSortField(GetOption.SortTarget.KEY).withSortOrder(GetOption.SortOrder.ASCEND).build();
@@ -101,6 +128,32 @@ public final class EtcdRepository implements ClusterPersistRepository {
     public void persist(final String key, final String value) {
         buildParentPath(key);
         client.getKVClient().put(ByteSequence.from(key, StandardCharsets.UTF_8), ByteSequence.from(value, StandardCharsets.UTF_8)).get();
+        readCache.invalidate(key);
+    }
+    
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        Collection<String> builtParentKeys = new HashSet<>();
+        List<Op> operations = new ArrayList<>(Math.min(keyValues.size(), MAX_TRANSACTION_OPERATIONS));
+        for (Entry<String, String> entry : keyValues.entrySet()) {
+            if (builtParentKeys.add(entry.getKey().substring(0, Math.max(entry.getKey().lastIndexOf(PATH_SEPARATOR), 0)))) {
+                buildParentPath(entry.getKey());
+            }
+            operations.add(Op.put(ByteSequence.from(entry.getKey(), StandardCharsets.UTF_8), ByteSequence.from(entry.getValue(), StandardCharsets.UTF_8), PutOption.DEFAULT));
+            if (MAX_TRANSACTION_OPERATIONS == operations.size()) {
+                commitTransaction(operations);
+                operations = new ArrayList<>(MAX_TRANSACTION_OPERATIONS);
+            }
+        }
+        commitTransaction(operations);
+        keyValues.keySet().forEach(readCache::invalidate);
+    }
+    
+    private void commitTransaction(final List<Op> operations) throws ExecutionException, InterruptedException {
+        if (!operations.isEmpty()) {
+            client.getKVClient().txn().Then(operations.toArray(new Op[0])).commit().get();
+        }
     }
     
     @Override
@@ -116,6 +169,7 @@ public final class EtcdRepository implements ClusterPersistRepository {
         client.getLeaseClient().keepAlive(leaseId, Observers.observer(response -> {
         }));
         client.getKVClient().put(ByteSequence.from(key, StandardCharsets.UTF_8), ByteSequence.from(value, StandardCharsets.UTF_8), PutOption.newBuilder().withLeaseId(leaseId).build()).get();
+        readCache.invalidate(key);
     }
     
     @Override
@@ -139,7 +193,43 @@ public final class EtcdRepository implements ClusterPersistRepository {
     
     @Override
     public void delete(final String key) {
-        client.getKVClient().delete(ByteSequence.from(key, StandardCharsets.UTF_8), DeleteOption.newBuilder().isPrefix(true).build());
+        readCache.invalidateSubtree(key);
+        client.getKVClient().delete(ByteSequence.from(key, StandardCharsets.UTF_8), DeleteOption.newBuilder().isPrefix(true).build()).thenRun(() -> readCache.invalidateSubtree(key));
+    }
+    
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public void batchDelete(final Collection<String> keys) {
+        keys.forEach(readCache::invalidateSubtree);
+        List<Op> operations = new ArrayList<>(Math.min(keys.size(), MAX_TRANSACTION_OPERATIONS));
+        for (String each : keys) {
+            operations.add(Op.delete(ByteSequence.from(each, StandardCharsets.UTF_8), DeleteOption.newBuilder().isPrefix(true).build()));
+            if (MAX_TRANSACTION_OPERATIONS == operations.size()) {
+                commitTransaction(operations);
+                operations = new ArrayList<>(MAX_TRANSACTION_OPERATIONS);
+            }
+        }
+        commitTransaction(operations);
+        keys.forEach(readCache::invalidateSubtree);
+    }
+    
+    @Override
+    public void prefetch(final String key) {
+        readCache.prefetch(key, this::loadSubtree);
+    }
+    
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    private Map<String, RevisionedValue> loadSubtree(final String key) {
+        String prefix = key + PATH_SEPARATOR;
+        List<KeyValue> keyValues = client.getKVClient().get(ByteSequence.from(key, StandardCharsets.UTF_8), GetOption.newBuilder().isPrefix(true).build()).get().getKvs();
+        Map<String, RevisionedValue> result = new HashMap<>(keyValues.size(), 1F);
+        for (KeyValue each : keyValues) {
+            String path = each.getKey().toString(StandardCharsets.UTF_8);
+            if (path.equals(key) || path.startsWith(prefix)) {
+                result.put(path, new RevisionedValue(each.getValue().toString(StandardCharsets.UTF_8), each.getModRevision()));
+            }
+        }
+        return result;
     }
     
     @Override
@@ -148,8 +238,9 @@ public final class EtcdRepository implements ClusterPersistRepository {
             for (WatchEvent each : response.getEvents()) {
                 Type type = getEventChangedType(each);
                 if (Type.IGNORED != type) {
-                    dataChangedEventListener.onChange(new DataChangedEvent(each.getKeyValue().getKey().toString(StandardCharsets.UTF_8),
-                            each.getKeyValue().getValue().toString(StandardCharsets.UTF_8), type));
+                    DataChangedEvent event = new DataChangedEvent(each.getKeyValue().getKey().toString(StandardCharsets.UTF_8), each.getKeyValue().getValue().toString(StandardCharsets.UTF_8), type);
+                    readCache.refresh(event, each.getKeyValue().getModRevision());
+                    dataChangedEventListener.onChange(event);
                 }
             }
         });
@@ -36,7 +36,12 @@ public enum EtcdPropertyKey implements TypedPropertyKey {
     /**
      * Time out to connection.
      */
-    CONNECTION_TIMEOUT_SECONDS("connectionTimeout", "30", long.class);
+    CONNECTION_TIMEOUT_SECONDS("connectionTimeout", "30", long.class),
+    
+    /**
+     * Max staleness milliseconds of values served from read cache, 0 means read cache is disabled.
+     */
+    READ_CACHE_MAX_STALENESS_MILLISECONDS("readCacheMaxStalenessMilliseconds", "0", long.class);
     
     private final String key;
     
@@ -23,9 +23,12 @@ import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KV;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Lease;
+import io.etcd.jetcd.Response;
+import io.etcd.jetcd.Txn;
 import io.etcd.jetcd.Watch;
 import io.etcd.jetcd.kv.GetResponse;
 import io.etcd.jetcd.lease.LeaseGrantResponse;
+import io.etcd.jetcd.op.Op;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.PutOption;
@@ -34,6 +37,7 @@ import io.etcd.jetcd.watch.WatchEvent;
 import io.etcd.jetcd.watch.WatchResponse;
 import io.grpc.stub.StreamObserver;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.mode.repository.cluster.cache.RepositoryReadCache;
 import org.apache.shardingsphere.mode.repository.cluster.etcd.props.EtcdProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -47,9 +51,13 @@ import org.mockito.quality.Strictness;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -62,6 +70,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -98,6 +107,9 @@ class EtcdRepositoryTest {
     @Mock
     private CompletableFuture putFuture;
     
+    @Mock
+    private CompletableFuture deleteFuture;
+    
     @BeforeEach
     void setUp() {
         setClient();
@@ -125,7 +137,9 @@ class EtcdRepositoryTest {
         when(kv.get(any(ByteSequence.class), any(GetOption.class))).thenReturn(getFuture);
         when(kv.put(any(ByteSequence.class), any(ByteSequence.class))).thenReturn(putFuture);
         when(kv.put(any(ByteSequence.class), any(ByteSequence.class), any(PutOption.class))).thenReturn(putFuture);
+        when(kv.delete(any(ByteSequence.class), any(DeleteOption.class))).thenReturn(deleteFuture);
         when(getFuture.get()).thenReturn(getResponse);
+        when(getResponse.getHeader()).thenReturn(mock(Response.Header.class));
         when(client.getLeaseClient()).thenReturn(lease);
         when(lease.grant(anyLong())).thenReturn(leaseFuture);
         when(leaseFuture.get()).thenReturn(leaseGrantResponse);
@@ -159,6 +173,37 @@ class EtcdRepositoryTest {
         assertThat(iterator.next(), is("key2"));
     }
     
+    @Test
+    void assertGetKeyWithReadCache() {
+        setReadCache();
+        when(getResponse.getKvs()).thenReturn(Collections.singletonList(createKeyValue("/key", "value", 1L)));
+        assertThat(repository.getDirectly("/key"), is("value"));
+        assertThat(repository.getDirectly("/key"), is("value"));
+        verify(kv).get(ByteSequence.from("/key", StandardCharsets.UTF_8));
+    }
+    
+    @Test
+    void assertPrefetch() {
+        setReadCache();
+        when(getResponse.getKvs()).thenReturn(Arrays.asList(createKeyValue("/key", "", 1L), createKeyValue("/key/key1", "value1", 2L),
+                createKeyValue("/key/key2/key2-1", "value2", 3L), createKeyValue("/key_other", "value3", 4L)));
+        repository.prefetch("/key");
+        assertThat(repository.getDirectly("/key/key1"), is("value1"));
+        assertThat(repository.getChildrenKeys("/key"), is(Arrays.asList("key1", "key2")));
+        assertThat(repository.getChildrenKeys("/key/key2"), is(Collections.singletonList("key2-1")));
+        verify(kv, times(1)).get(any(ByteSequence.class), any(GetOption.class));
+        verify(kv, times(0)).get(ByteSequence.from("/key/key1", StandardCharsets.UTF_8));
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void setReadCache() {
+        Plugins.getMemberAccessor().set(repository.getClass().getDeclaredField("readCache"), repository, new RepositoryReadCache(60000L, Comparator.naturalOrder()));
+    }
+    
+    private KeyValue createKeyValue(final String key, final String value, final long modRevision) {
+        return new KeyValue(io.etcd.jetcd.api.KeyValue.newBuilder().setKey(ByteString.copyFromUtf8(key)).setValue(ByteString.copyFromUtf8(value)).setModRevision(modRevision).build(), ByteSequence.EMPTY);
+    }
+    
     @Test
     @SuppressWarnings("unchecked")
     void assertPersistEphemeral() {
@@ -210,6 +255,36 @@ class EtcdRepositoryTest {
         verify(kv).delete(any(ByteSequence.class), any(DeleteOption.class));
     }
     
+    @Test
+    void assertBatchPersist() {
+        Txn txn = mockTxn();
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1F);
+        keyValues.put("/key/key1", "value1");
+        keyValues.put("/key/key2", "value2");
+        repository.batchPersist(keyValues);
+        verify(kv).txn();
+        verify(txn).Then(any(Op.class), any(Op.class));
+        verify(txn).commit();
+    }
+    
+    @Test
+    void assertBatchDelete() {
+        Txn txn = mockTxn();
+        repository.batchDelete(Arrays.asList("/key/key1", "/key/key2"));
+        verify(kv).txn();
+        verify(txn).Then(any(Op.class), any(Op.class));
+        verify(txn).commit();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Txn mockTxn() {
+        Txn result = mock(Txn.class);
+        when(kv.txn()).thenReturn(result);
+        when(result.Then(any(Op[].class))).thenReturn(result);
+        when(result.commit()).thenReturn(mock(CompletableFuture.class));
+        return result;
+    }
+    
     @Test
     void assertPersist() {
         repository.persist("key1", "value1");
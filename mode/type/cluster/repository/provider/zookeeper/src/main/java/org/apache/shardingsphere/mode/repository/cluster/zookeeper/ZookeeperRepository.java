@@ -23,15 +23,20 @@ import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.transaction.CuratorOp;
+import org.apache.curator.framework.recipes.cache.ChildData;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
 import org.apache.curator.framework.recipes.cache.CuratorCacheListener;
 import org.apache.curator.framework.recipes.cache.TreeCacheEvent;
+import org.apache.curator.framework.state.ConnectionState;
 import org.apache.curator.retry.ExponentialBackoffRetry;
 import org.apache.curator.utils.CloseableUtils;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.instance.InstanceContextAware;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
+import org.apache.shardingsphere.mode.repository.cluster.cache.RepositoryReadCache;
+import org.apache.shardingsphere.mode.repository.cluster.cache.RevisionedValue;
 import org.apache.shardingsphere.mode.repository.cluster.exception.ClusterPersistRepositoryException;
 import org.apache.shardingsphere.mode.event.DataChangedEvent;
 import org.apache.shardingsphere.mode.event.DataChangedEvent.Type;
@@ -42,16 +47,25 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.listener.Sess
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperProperties;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperPropertyKey;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException.NoNodeException;
 import org.apache.zookeeper.KeeperException.NodeExistsException;
 import org.apache.zookeeper.KeeperException.OperationTimeoutException;
 import org.apache.zookeeper.ZooDefs;
 import org.apache.zookeeper.data.ACL;
+import org.apache.zookeeper.data.Stat;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
@@ -60,12 +74,18 @@ import java.util.concurrent.TimeUnit;
  */
 public final class ZookeeperRepository implements ClusterPersistRepository, InstanceContextAware {
     
+    private static final int MAX_TRANSACTION_BYTES = 512 * 1024;
+    
     private final Map<String, CuratorCache> caches = new ConcurrentHashMap<>();
     
+    private final Collection<String> initializedCacheKeys = ConcurrentHashMap.newKeySet();
+    
     private final Builder builder = CuratorFrameworkFactory.builder();
     
     private CuratorFramework client;
     
+    private RepositoryReadCache readCache;
+    
     @Getter
     private DistributedLockHolder distributedLockHolder;
     
@@ -75,6 +95,7 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
         client = buildCuratorClient(config, zookeeperProps);
         distributedLockHolder = new DistributedLockHolder(getType(), client, zookeeperProps);
         initCuratorClient(zookeeperProps);
+        initReadCache(zookeeperProps);
     }
     
     private CuratorFramework buildCuratorClient(final ClusterPersistRepositoryConfiguration config, final ZookeeperProperties zookeeperProps) {
@@ -127,17 +148,34 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
         }
     }
     
+    private void initReadCache(final ZookeeperProperties zookeeperProps) {
+        readCache = new RepositoryReadCache(zookeeperProps.getValue(ZookeeperPropertyKey.READ_CACHE_MAX_STALENESS_MILLISECONDS), Comparator.reverseOrder());
+        if (readCache.isEnabled()) {
+            client.getConnectionStateListenable().addListener((framework, connectionState) -> {
+                if (ConnectionState.CONNECTED != connectionState) {
+                    readCache.invalidateAll();
+                }
+            });
+        }
+    }
+    
     @Override
     public List<String> getChildrenKeys(final String key) {
+        return readCache.getChildrenKeys(key, this::loadChildrenKeys);
+    }
+    
+    private List<String> loadChildrenKeys(final String key) {
         try {
             List<String> result = client.getChildren().forPath(key);
             result.sort(Comparator.reverseOrder());
             return result;
+        } catch (final NoNodeException ex) {
+            return Collections.emptyList();
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
             ZookeeperExceptionHandler.handleException(ex);
-            return Collections.emptyList();
+            return null;
         }
     }
     
@@ -148,6 +186,7 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
                 update(key, value);
             } else {
                 client.create().creatingParentsIfNeeded().withMode(CreateMode.PERSISTENT).forPath(key, value.getBytes(StandardCharsets.UTF_8));
+                readCache.invalidate(key);
             }
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
@@ -156,10 +195,70 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
         }
     }
     
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        Map<String, Collection<String>> existedChildrenKeys = new HashMap<>();
+        Map<String, String> batchKeyValues = new LinkedHashMap<>();
+        List<CuratorOp> operations = new LinkedList<>();
+        int batchBytes = 0;
+        try {
+            for (Entry<String, String> entry : keyValues.entrySet()) {
+                byte[] data = entry.getValue().getBytes(StandardCharsets.UTF_8);
+                if (!operations.isEmpty() && batchBytes + entry.getKey().length() + data.length > MAX_TRANSACTION_BYTES) {
+                    commitTransaction(operations, () -> batchKeyValues.forEach(this::persist), batchKeyValues.keySet());
+                    batchKeyValues.clear();
+                    operations = new LinkedList<>();
+                    batchBytes = 0;
+                }
+                int index = entry.getKey().lastIndexOf(PATH_SEPARATOR);
+                String parentKey = 0 == index ? PATH_SEPARATOR : entry.getKey().substring(0, index);
+                Collection<String> childrenKeys = existedChildrenKeys.computeIfAbsent(parentKey, this::loadOrCreateParentChildrenKeys);
+                operations.add(childrenKeys.contains(entry.getKey().substring(index + 1))
+                        ? client.transactionOp().setData().forPath(entry.getKey(), data)
+                        : client.transactionOp().create().withMode(CreateMode.PERSISTENT).forPath(entry.getKey(), data));
+                batchKeyValues.put(entry.getKey(), entry.getValue());
+                batchBytes += entry.getKey().length() + data.length;
+            }
+            if (!operations.isEmpty()) {
+                commitTransaction(operations, () -> batchKeyValues.forEach(this::persist), batchKeyValues.keySet());
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            ZookeeperExceptionHandler.handleException(ex);
+        }
+    }
+    
+    private Collection<String> loadOrCreateParentChildrenKeys(final String parentKey) {
+        try {
+            return new HashSet<>(client.getChildren().forPath(parentKey));
+        } catch (final NoNodeException ignored) {
+            persist(parentKey, "");
+            return Collections.emptySet();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            ZookeeperExceptionHandler.handleException(ex);
+            return Collections.emptySet();
+        }
+    }
+    
+    private void commitTransaction(final List<CuratorOp> operations, final Runnable fallback, final Collection<String> keys) {
+        try {
+            client.transaction().forOperations(operations);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ignored) {
+            // CHECKSTYLE:ON
+            fallback.run();
+        }
+        keys.forEach(readCache::invalidate);
+    }
+    
     @Override
     public void update(final String key, final String value) {
         try {
             client.setData().forPath(key, value.getBytes(StandardCharsets.UTF_8));
+            readCache.invalidate(key);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
@@ -169,8 +268,16 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
     
     @Override
     public String getDirectly(final String key) {
+        return readCache.getValue(key, this::loadValue);
+    }
+    
+    private RevisionedValue loadValue(final String key) {
         try {
-            return new String(client.getData().forPath(key), StandardCharsets.UTF_8);
+            Stat stat = new Stat();
+            byte[] data = client.getData().storingStatIn(stat).forPath(key);
+            return new RevisionedValue(new String(data, StandardCharsets.UTF_8), stat.getMzxid());
+        } catch (final NoNodeException ex) {
+            return new RevisionedValue(null, RevisionedValue.UNKNOWN_REVISION);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
@@ -198,6 +305,7 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
                 client.delete().deletingChildrenIfNeeded().forPath(key);
             }
             client.create().creatingParentsIfNeeded().withMode(CreateMode.EPHEMERAL).forPath(key, value.getBytes(StandardCharsets.UTF_8));
+            readCache.invalidate(key);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
@@ -209,6 +317,7 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
     public void persistExclusiveEphemeral(final String key, final String value) {
         try {
             client.create().creatingParentsIfNeeded().withMode(CreateMode.EPHEMERAL).forPath(key, value.getBytes(StandardCharsets.UTF_8));
+            readCache.invalidate(key);
         } catch (final NodeExistsException ex) {
             throw new ClusterPersistRepositoryException(ex);
             // CHECKSTYLE:OFF
@@ -223,6 +332,80 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
         try {
             if (isExisted(key)) {
                 client.delete().deletingChildrenIfNeeded().forPath(key);
+                readCache.invalidateSubtree(key);
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            ZookeeperExceptionHandler.handleException(ex);
+        }
+    }
+    
+    @Override
+    public void prefetch(final String key) {
+        readCache.prefetch(key, this::loadSubtree);
+    }
+    
+    private Map<String, RevisionedValue> loadSubtree(final String key) {
+        Optional<CuratorCache> watchedCache = findInitializedWatchedCache(key);
+        Map<String, RevisionedValue> result = new HashMap<>();
+        if (watchedCache.isPresent()) {
+            String prefix = key + PATH_SEPARATOR;
+            watchedCache.get().stream().filter(each -> each.getPath().equals(key) || each.getPath().startsWith(prefix))
+                    .forEach(each -> result.put(each.getPath(), new RevisionedValue(new String(each.getData(), StandardCharsets.UTF_8), getRevision(each))));
+            return result;
+        }
+        try {
+            loadSubtree(key, result);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            ZookeeperExceptionHandler.handleException(ex);
+            return Collections.emptyMap();
+        }
+        return result;
+    }
+    
+    private void loadSubtree(final String key, final Map<String, RevisionedValue> result) throws Exception {
+        try {
+            Stat stat = new Stat();
+            byte[] data = client.getData().storingStatIn(stat).forPath(key);
+            result.put(key, new RevisionedValue(new String(data, StandardCharsets.UTF_8), stat.getMzxid()));
+            for (String each : client.getChildren().forPath(key)) {
+                loadSubtree(PATH_SEPARATOR.equals(key) ? key + each : String.join(PATH_SEPARATOR, key, each), result);
+            }
+        } catch (final NoNodeException ignored) {
+        }
+    }
+    
+    private Optional<CuratorCache> findInitializedWatchedCache(final String key) {
+        for (String each : initializedCacheKeys) {
+            if (key.equals(each) || key.startsWith(each + PATH_SEPARATOR)) {
+                return Optional.ofNullable(caches.get(each));
+            }
+        }
+        return Optional.empty();
+    }
+    
+    @Override
+    public void batchDelete(final Collection<String> keys) {
+        Collection<String> batchKeys = new LinkedList<>();
+        List<CuratorOp> operations = new LinkedList<>();
+        int batchBytes = 0;
+        try {
+            for (String each : keys) {
+                if (!operations.isEmpty() && batchBytes + each.length() > MAX_TRANSACTION_BYTES) {
+                    commitTransaction(operations, () -> batchKeys.forEach(this::delete), batchKeys);
+                    batchKeys.clear();
+                    operations = new LinkedList<>();
+                    batchBytes = 0;
+                }
+                operations.add(client.transactionOp().delete().forPath(each));
+                batchKeys.add(each);
+                batchBytes += each.length();
+            }
+            if (!operations.isEmpty()) {
+                commitTransaction(operations, () -> batchKeys.forEach(this::delete), batchKeys);
             }
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
@@ -236,6 +419,7 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
         CuratorCache cache = caches.get(key);
         if (null == cache) {
             cache = CuratorCache.build(client, key);
+            cache.listenable().addListener(CuratorCacheListener.builder().forInitialized(() -> initializedCacheKeys.add(key)).build());
             caches.put(key, cache);
         }
         CuratorCacheListener curatorCacheListener = CuratorCacheListener.builder()
@@ -243,14 +427,20 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
                 .forTreeCache(client, (framework, treeCacheListener) -> {
                     Type changedType = getChangedType(treeCacheListener.getType());
                     if (Type.IGNORED != changedType) {
-                        listener.onChange(new DataChangedEvent(treeCacheListener.getData().getPath(),
-                                new String(treeCacheListener.getData().getData(), StandardCharsets.UTF_8), changedType));
+                        DataChangedEvent event = new DataChangedEvent(treeCacheListener.getData().getPath(),
+                                new String(treeCacheListener.getData().getData(), StandardCharsets.UTF_8), changedType);
+                        readCache.refresh(event, getRevision(treeCacheListener.getData()));
+                        listener.onChange(event);
                     }
                 }).build();
         cache.listenable().addListener(curatorCacheListener);
         cache.start();
     }
     
+    private long getRevision(final ChildData childData) {
+        return null == childData.getStat() ? RevisionedValue.UNKNOWN_REVISION : childData.getStat().getMzxid();
+    }
+    
     private Type getChangedType(final TreeCacheEvent.Type type) {
         switch (type) {
             case NODE_ADDED:
@@ -51,7 +51,12 @@ public enum ZookeeperPropertyKey implements TypedPropertyKey {
     /**
      * ZooKeeper client connection authorization schema name.
      */
-    DIGEST("digest", "", String.class);
+    DIGEST("digest", "", String.class),
+    
+    /**
+     * Max staleness milliseconds of values served from read cache, 0 means read cache is disabled.
+     */
+    READ_CACHE_MAX_STALENESS_MILLISECONDS("readCacheMaxStalenessMilliseconds", String.valueOf(0), long.class);
     
     private final String key;
     
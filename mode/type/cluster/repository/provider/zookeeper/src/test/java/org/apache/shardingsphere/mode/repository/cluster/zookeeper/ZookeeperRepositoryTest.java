@@ -21,6 +21,7 @@ import lombok.SneakyThrows;
 import org.apache.curator.RetryPolicy;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
+import org.apache.curator.framework.api.ACLPathAndBytesable;
 import org.apache.curator.framework.api.ACLProvider;
 import org.apache.curator.framework.api.BackgroundVersionable;
 import org.apache.curator.framework.api.CreateBuilder;
@@ -29,6 +30,11 @@ import org.apache.curator.framework.api.ExistsBuilder;
 import org.apache.curator.framework.api.GetChildrenBuilder;
 import org.apache.curator.framework.api.ProtectACLCreateModeStatPathAndBytesable;
 import org.apache.curator.framework.api.SetDataBuilder;
+import org.apache.curator.framework.api.transaction.CuratorMultiTransaction;
+import org.apache.curator.framework.api.transaction.CuratorOp;
+import org.apache.curator.framework.api.transaction.TransactionCreateBuilder;
+import org.apache.curator.framework.api.transaction.TransactionOp;
+import org.apache.curator.framework.listen.Listenable;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
 import org.apache.shardingsphere.mode.repository.cluster.lock.holder.DistributedLockHolder;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.lock.ZookeeperDistributedLock;
@@ -48,9 +54,12 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 
@@ -60,8 +69,10 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -181,6 +192,54 @@ class ZookeeperRepositoryTest {
         assertThat(childrenKeys.size(), is(2));
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertGetChildrenKeysWithReadCache() throws Exception {
+        when(client.getConnectionStateListenable()).thenReturn(mock(Listenable.class));
+        REPOSITORY.init(new ClusterPersistRepositoryConfiguration(REPOSITORY.getType(), "governance", SERVER_LISTS,
+                PropertiesBuilder.build(new Property(ZookeeperPropertyKey.READ_CACHE_MAX_STALENESS_MILLISECONDS.getKey(), "60000"))));
+        when(getChildrenBuilder.forPath("/test/cached")).thenReturn(new ArrayList<>(Arrays.asList("1", "2")));
+        assertThat(REPOSITORY.getChildrenKeys("/test/cached"), is(Arrays.asList("2", "1")));
+        assertThat(REPOSITORY.getChildrenKeys("/test/cached"), is(Arrays.asList("2", "1")));
+        verify(getChildrenBuilder).forPath("/test/cached");
+        when(protect.withMode(CreateMode.PERSISTENT)).thenReturn(protect);
+        REPOSITORY.persist("/test/cached/3", "value");
+        REPOSITORY.getChildrenKeys("/test/cached");
+        verify(getChildrenBuilder, times(2)).forPath("/test/cached");
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertBatchPersist() throws Exception {
+        TransactionOp transactionOp = mock(TransactionOp.class, RETURNS_DEEP_STUBS);
+        CuratorMultiTransaction transaction = mock(CuratorMultiTransaction.class);
+        when(client.transactionOp()).thenReturn(transactionOp);
+        when(client.transaction()).thenReturn(transaction);
+        TransactionCreateBuilder<CuratorOp> transactionCreateBuilder = mock(TransactionCreateBuilder.class);
+        when(transactionOp.create()).thenReturn(transactionCreateBuilder);
+        when(transactionCreateBuilder.withMode(CreateMode.PERSISTENT)).thenReturn(mock(ACLPathAndBytesable.class));
+        when(getChildrenBuilder.forPath("/test/batch")).thenReturn(Collections.singletonList("existed"));
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1F);
+        keyValues.put("/test/batch/existed", "value1");
+        keyValues.put("/test/batch/new", "value2");
+        REPOSITORY.batchPersist(keyValues);
+        verify(transactionOp).setData();
+        verify(transactionOp).create();
+        verify(transaction).forOperations(anyList());
+        verify(getChildrenBuilder).forPath("/test/batch");
+    }
+    
+    @Test
+    void assertBatchDelete() throws Exception {
+        TransactionOp transactionOp = mock(TransactionOp.class, RETURNS_DEEP_STUBS);
+        CuratorMultiTransaction transaction = mock(CuratorMultiTransaction.class);
+        when(client.transactionOp()).thenReturn(transactionOp);
+        when(client.transaction()).thenReturn(transaction);
+        REPOSITORY.batchDelete(Arrays.asList("/test/batch/1", "/test/batch/2"));
+        verify(transactionOp, times(2)).delete();
+        verify(transaction).forOperations(anyList());
+    }
+    
     @Test
     void assertBuildCuratorClientWithCustomConfig() {
         Properties props = PropertiesBuilder.build(
@@ -34,9 +34,14 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.UUID;
 
@@ -149,6 +154,75 @@ public final class JDBCRepository implements StandalonePersistRepository {
         }
     }
     
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        if (keyValues.isEmpty()) {
+            return;
+        }
+        Map<String, Collection<String>> existedKeys = new HashMap<>();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (
+                    PreparedStatement insertStatement = connection.prepareStatement(repositorySQL.getInsertSQL());
+                    PreparedStatement updateStatement = connection.prepareStatement(repositorySQL.getUpdateSQL())) {
+                for (Entry<String, String> entry : keyValues.entrySet()) {
+                    String parent = getParentKey(entry.getKey());
+                    if (existedKeys.computeIfAbsent(parent, unused -> loadExistedChildrenKeys(connection, entry.getKey())).contains(entry.getKey())) {
+                        updateStatement.setString(1, entry.getValue());
+                        updateStatement.setString(2, entry.getKey());
+                        updateStatement.addBatch();
+                    } else {
+                        insertStatement.setString(1, UUID.randomUUID().toString());
+                        insertStatement.setString(2, entry.getKey());
+                        insertStatement.setString(3, entry.getValue());
+                        insertStatement.setString(4, parent);
+                        insertStatement.addBatch();
+                    }
+                }
+                insertStatement.executeBatch();
+                updateStatement.executeBatch();
+                connection.commit();
+            } catch (final SQLException ex) {
+                connection.rollback();
+                throw ex;
+            }
+        } catch (final SQLException ex) {
+            log.error("Batch persist {} data to keys: {} failed", getType(), keyValues.keySet(), ex);
+        }
+    }
+    
+    private String getParentKey(final String key) {
+        int index = key.lastIndexOf(SEPARATOR);
+        return index <= 0 ? SEPARATOR : key.substring(0, index);
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private Collection<String> loadExistedChildrenKeys(final Connection connection, final String key) {
+        String parent = getParentKey(key);
+        if (!SEPARATOR.equals(parent) && !isRowExisted(connection, parent)) {
+            persist(parent, "");
+        }
+        Collection<String> result = new HashSet<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(repositorySQL.getSelectByParentKeySQL())) {
+            preparedStatement.setString(1, parent);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.add(resultSet.getString("key"));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private boolean isRowExisted(final Connection connection, final String key) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(repositorySQL.getSelectByKeySQL())) {
+            preparedStatement.setString(1, key);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+    
     private void insert(final String key, final String value, final String parent) throws SQLException {
         try (
                 Connection connection = dataSource.getConnection();
@@ -186,6 +260,29 @@ public final class JDBCRepository implements StandalonePersistRepository {
         }
     }
     
+    @Override
+    public void batchDelete(final Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement preparedStatement = connection.prepareStatement(repositorySQL.getDeleteSQL())) {
+                for (String each : keys) {
+                    preparedStatement.setString(1, each);
+                    preparedStatement.addBatch();
+                }
+                preparedStatement.executeBatch();
+                connection.commit();
+            } catch (final SQLException ex) {
+                connection.rollback();
+                throw ex;
+            }
+        } catch (final SQLException ex) {
+            log.error("Batch delete {} data by keys: {} failed", getType(), keys, ex);
+        }
+    }
+    
     @Override
     public void close() {
         dataSource.close();
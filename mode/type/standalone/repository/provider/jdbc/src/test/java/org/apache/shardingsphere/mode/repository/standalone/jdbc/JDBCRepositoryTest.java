@@ -35,7 +35,10 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -43,6 +46,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -248,6 +252,47 @@ class JDBCRepositoryTest {
         verify(mockPreparedStatement, times(0)).executeUpdate();
     }
     
+    @Test
+    void assertBatchPersist() throws SQLException {
+        PreparedStatement insertStatement = mock(PreparedStatement.class);
+        PreparedStatement updateStatement = mock(PreparedStatement.class);
+        PreparedStatement selectByKeyStatement = mock(PreparedStatement.class);
+        ResultSet selectByKeyResultSet = mock(ResultSet.class);
+        when(mockJdbcConnection.prepareStatement(repositorySQL.getInsertSQL())).thenReturn(insertStatement);
+        when(mockJdbcConnection.prepareStatement(repositorySQL.getUpdateSQL())).thenReturn(updateStatement);
+        when(mockJdbcConnection.prepareStatement(repositorySQL.getSelectByKeySQL())).thenReturn(selectByKeyStatement);
+        when(selectByKeyStatement.executeQuery()).thenReturn(selectByKeyResultSet);
+        when(selectByKeyResultSet.next()).thenReturn(true);
+        when(mockJdbcConnection.prepareStatement(repositorySQL.getSelectByParentKeySQL())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true, false);
+        when(mockResultSet.getString("key")).thenReturn("/foo/bar");
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1F);
+        keyValues.put("/foo/bar", "bar_value");
+        keyValues.put("/foo/baz", "baz_value");
+        repository.batchPersist(keyValues);
+        verify(updateStatement).setString(1, "bar_value");
+        verify(updateStatement).setString(2, "/foo/bar");
+        verify(updateStatement).addBatch();
+        verify(insertStatement).setString(2, "/foo/baz");
+        verify(insertStatement).setString(3, "baz_value");
+        verify(insertStatement).setString(4, "/foo");
+        verify(insertStatement).addBatch();
+        verify(mockPreparedStatement, times(1)).executeQuery();
+        verify(mockJdbcConnection).commit();
+    }
+    
+    @Test
+    void assertBatchDelete() throws SQLException {
+        when(mockJdbcConnection.prepareStatement(repositorySQL.getDeleteSQL())).thenReturn(mockPreparedStatement);
+        repository.batchDelete(Arrays.asList("/foo/bar", "/foo/baz"));
+        verify(mockPreparedStatement).setString(1, "/foo/bar");
+        verify(mockPreparedStatement).setString(1, "/foo/baz");
+        verify(mockPreparedStatement, times(2)).addBatch();
+        verify(mockPreparedStatement).executeBatch();
+        verify(mockJdbcConnection).commit();
+    }
+    
     @Test
     void assertClose() {
         repository.close();
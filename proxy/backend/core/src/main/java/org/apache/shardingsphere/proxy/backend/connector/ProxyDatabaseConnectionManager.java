@@ -152,6 +152,8 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
                 each.close();
             } catch (final SQLException ex) {
                 sqlException.setNextException(ex);
+            } finally {
+                ProxyContext.getInstance().getBackendDataSource().releaseConnectionPermit(each);
             }
         }
     }
@@ -315,6 +317,8 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
                     each.close();
                 } catch (final SQLException ex) {
                     result.add(ex);
+                } finally {
+                    ProxyContext.getInstance().getBackendDataSource().releaseConnectionPermit(each);
                 }
             }
             cachedConnections.clear();
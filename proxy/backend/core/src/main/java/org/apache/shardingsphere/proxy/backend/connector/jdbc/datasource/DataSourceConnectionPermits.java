@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.datasource;
+
+import lombok.Getter;
+
+import javax.sql.DataSource;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Connection permits of data source.
+ * 
+ * <p>Permits are sized to the max pool size of the data source.
+ * Permits of one query are reserved all or nothing before its connections are acquired, and each permit is held by one of the connections until it is closed.</p>
+ */
+public final class DataSourceConnectionPermits {
+    
+    @Getter
+    private final DataSource dataSource;
+    
+    @Getter
+    private final int maxPermits;
+    
+    @Getter
+    private final long timeoutMilliseconds;
+    
+    private final Semaphore semaphore;
+    
+    private final LongAdder waitCount = new LongAdder();
+    
+    private final LongAdder waitNanos = new LongAdder();
+    
+    public DataSourceConnectionPermits(final DataSource dataSource, final int maxPermits, final long timeoutMilliseconds) {
+        this.dataSource = dataSource;
+        this.maxPermits = maxPermits;
+        this.timeoutMilliseconds = timeoutMilliseconds;
+        semaphore = new Semaphore(maxPermits, true);
+    }
+    
+    /**
+     * Try to acquire permits.
+     *
+     * @param permits permits to be acquired, can not be greater than max permits
+     * @return acquired or not
+     * @throws InterruptedException interrupted exception
+     */
+    public boolean tryAcquire(final int permits) throws InterruptedException {
+        long startNanos = System.nanoTime();
+        try {
+            return semaphore.tryAcquire(permits, timeoutMilliseconds, TimeUnit.MILLISECONDS);
+        } finally {
+            waitCount.increment();
+            waitNanos.add(System.nanoTime() - startNanos);
+        }
+    }
+    
+    /**
+     * Release permits.
+     *
+     * @param permits permits to be released
+     */
+    public void release(final int permits) {
+        semaphore.release(permits);
+    }
+    
+    /**
+     * Get wait count.
+     *
+     * @return wait count
+     */
+    public long getWaitCount() {
+        return waitCount.sum();
+    }
+    
+    /**
+     * Get total wait time.
+     *
+     * @return total wait time in milliseconds
+     */
+    public long getWaitMilliseconds() {
+        return TimeUnit.NANOSECONDS.toMillis(waitNanos.sum());
+    }
+}
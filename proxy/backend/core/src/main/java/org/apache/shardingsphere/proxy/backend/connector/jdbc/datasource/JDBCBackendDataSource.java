@@ -19,8 +19,13 @@ package org.apache.shardingsphere.proxy.backend.connector.jdbc.datasource;
 
 import com.google.common.base.Preconditions;
 import org.apache.shardingsphere.infra.database.core.GlobalDataSourceRegistry;
+import org.apache.shardingsphere.infra.exception.ConnectionPermitsTimeoutException;
 import org.apache.shardingsphere.infra.exception.OverallConnectionNotEnoughException;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.statistics.DataSourceExecutionStatisticsRegistry;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.proxy.backend.connector.BackendDataSource;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.transaction.api.TransactionType;
@@ -33,12 +38,21 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Backend data source of JDBC.
  */
 public final class JDBCBackendDataSource implements BackendDataSource {
     
+    private static final long DEFAULT_CONNECTION_TIMEOUT_MILLISECONDS = 30000L;
+    
+    private final Map<String, Map<String, DataSourceConnectionPermits>> connectionPermits = new ConcurrentHashMap<>();
+    
+    private final Map<Connection, DataSourceConnectionPermits> permitHeldConnections = new ConcurrentHashMap<>();
+    
     /**
      * Get connections.
      *
@@ -65,11 +79,11 @@ public final class JDBCBackendDataSource implements BackendDataSource {
      * @return connections
      * @throws SQLException SQL exception
      */
-    @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
     public List<Connection> getConnections(final String databaseName, final String dataSourceName,
                                            final int connectionSize, final ConnectionMode connectionMode, final TransactionType transactionType) throws SQLException {
-        DataSource dataSource = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData()
-                .getDatabase(databaseName).getResourceMetaData().getStorageUnits().get(dataSourceName).getDataSource();
+        StorageUnit storageUnit = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData()
+                .getDatabase(databaseName).getResourceMetaData().getStorageUnits().get(dataSourceName);
+        DataSource dataSource = storageUnit.getDataSource();
         if (dataSourceName.contains(".")) {
             String dataSourceStr = dataSourceName.split("\\.")[0];
             if (GlobalDataSourceRegistry.getInstance().getCachedDataSources().containsKey(dataSourceStr)) {
@@ -77,17 +91,73 @@ public final class JDBCBackendDataSource implements BackendDataSource {
             }
         }
         Preconditions.checkNotNull(dataSource, "Can not get connection from datasource %s.", dataSourceName);
+        long startNanos = System.nanoTime();
+        try {
+            return createConnections(databaseName, dataSourceName, storageUnit, dataSource, connectionSize, connectionMode, transactionType);
+        } finally {
+            DataSourceExecutionStatisticsRegistry.getInstance().get(databaseName, dataSourceName).recordConnectionWait(System.nanoTime() - startNanos);
+        }
+    }
+    
+    /**
+     * Get connection permits.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return connection permits
+     */
+    public Optional<DataSourceConnectionPermits> getConnectionPermits(final String databaseName, final String dataSourceName) {
+        return Optional.ofNullable(connectionPermits.getOrDefault(databaseName, Collections.emptyMap()).get(dataSourceName));
+    }
+    
+    /**
+     * Release connection permit held by connection, should be called after connection closed.
+     *
+     * @param connection closed connection
+     */
+    public void releaseConnectionPermit(final Connection connection) {
+        DataSourceConnectionPermits permits = permitHeldConnections.remove(connection);
+        if (null != permits) {
+            permits.release(1);
+        }
+    }
+    
+    @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
+    private List<Connection> createConnections(final String databaseName, final String dataSourceName, final StorageUnit storageUnit, final DataSource dataSource,
+                                               final int connectionSize, final ConnectionMode connectionMode, final TransactionType transactionType) throws SQLException {
         if (1 == connectionSize) {
             return Collections.singletonList(createConnection(databaseName, dataSourceName, dataSource, transactionType));
         }
         if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
             return createConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType);
         }
+        Optional<DataSourceConnectionPermits> permits = findConnectionPermits(databaseName, dataSourceName, storageUnit, dataSource);
+        if (permits.isPresent()) {
+            return createConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType, permits.get());
+        }
         synchronized (dataSource) {
             return createConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType);
         }
     }
     
+    private List<Connection> createConnections(final String databaseName, final String dataSourceName, final DataSource dataSource,
+                                               final int connectionSize, final TransactionType transactionType, final DataSourceConnectionPermits permits) throws SQLException {
+        int permitSize = Math.min(connectionSize, permits.getMaxPermits());
+        ShardingSpherePreconditions.checkState(tryAcquire(permits, permitSize), () -> new ConnectionPermitsTimeoutException(connectionSize, dataSourceName, permits.getTimeoutMilliseconds()));
+        List<Connection> result = Collections.emptyList();
+        try {
+            result = createConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType);
+        } finally {
+            if (result.isEmpty()) {
+                permits.release(permitSize);
+            }
+        }
+        for (Connection each : result.subList(0, permitSize)) {
+            permitHeldConnections.put(each, permits);
+        }
+        return result;
+    }
+    
     private List<Connection> createConnections(final String databaseName, final String dataSourceName,
                                                final DataSource dataSource, final int connectionSize, final TransactionType transactionType) throws SQLException {
         List<Connection> result = new ArrayList<>(connectionSize);
@@ -104,6 +174,57 @@ public final class JDBCBackendDataSource implements BackendDataSource {
         return result;
     }
     
+    private boolean tryAcquire(final DataSourceConnectionPermits permits, final int permitSize) {
+        try {
+            return permits.tryAcquire(permitSize);
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    
+    private Optional<DataSourceConnectionPermits> findConnectionPermits(final String databaseName, final String dataSourceName, final StorageUnit storageUnit, final DataSource dataSource) {
+        Optional<DataSourceConnectionPermits> cached = getConnectionPermits(databaseName, dataSourceName);
+        if (cached.isPresent() && cached.get().getDataSource() == dataSource) {
+            return cached;
+        }
+        Map<String, Object> poolProps = storageUnit.getDataSourcePoolProperties().getPoolPropertySynonyms().getStandardProperties();
+        Long maxPoolSize = toLong(poolProps, "maxPoolSize");
+        if (null == maxPoolSize || maxPoolSize <= 0L || maxPoolSize > Integer.MAX_VALUE) {
+            connectionPermits.getOrDefault(databaseName, Collections.emptyMap()).remove(dataSourceName);
+            return Optional.empty();
+        }
+        Long connectionTimeoutMilliseconds = toLong(poolProps, "connectionTimeoutMilliseconds");
+        long timeoutMilliseconds = null == connectionTimeoutMilliseconds || connectionTimeoutMilliseconds <= 0L ? DEFAULT_CONNECTION_TIMEOUT_MILLISECONDS : connectionTimeoutMilliseconds;
+        evictUnregisteredConnectionPermits();
+        Map<String, DataSourceConnectionPermits> databaseConnectionPermits = connectionPermits.computeIfAbsent(databaseName, key -> new ConcurrentHashMap<>());
+        return Optional.of(databaseConnectionPermits.compute(dataSourceName, (unused, value) -> null != value && value.getDataSource() == dataSource
+                ? value
+                : new DataSourceConnectionPermits(dataSource, maxPoolSize.intValue(), timeoutMilliseconds)));
+    }
+    
+    private void evictUnregisteredConnectionPermits() {
+        ShardingSphereMetaData metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
+        connectionPermits.entrySet().removeIf(entry -> !metaData.containsDatabase(entry.getKey()));
+        connectionPermits.forEach((databaseName, value) -> value.keySet().removeIf(each -> !isRegisteredStorageUnit(metaData, databaseName, each)));
+    }
+    
+    private boolean isRegisteredStorageUnit(final ShardingSphereMetaData metaData, final String databaseName, final String dataSourceName) {
+        return metaData.containsDatabase(databaseName) && metaData.getDatabase(databaseName).getResourceMetaData().getStorageUnits().containsKey(dataSourceName);
+    }
+    
+    private Long toLong(final Map<String, Object> props, final String name) {
+        Object value = props.get(name);
+        if (null == value) {
+            return null;
+        }
+        try {
+            return Long.parseLong(String.valueOf(value));
+        } catch (final NumberFormatException ex) {
+            return null;
+        }
+    }
+    
     private Connection createConnection(final String databaseName, final String dataSourceName, final DataSource dataSource, final TransactionType transactionType) throws SQLException {
         TransactionRule transactionRule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData().getSingleRule(TransactionRule.class);
         ShardingSphereTransactionManager transactionManager = transactionRule.getResource().getTransactionManager(transactionType);
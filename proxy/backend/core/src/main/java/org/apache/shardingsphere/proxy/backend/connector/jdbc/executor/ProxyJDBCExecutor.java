@@ -71,12 +71,10 @@ public final class ProxyJDBCExecutor {
             processEngine.executeSQL(executionGroupContext, queryContext);
             SQLStatementContext context = queryContext.getSqlStatementContext();
             return jdbcExecutor.execute(executionGroupContext,
-                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseConnector, isReturnGeneratedKeys,
-                            isExceptionThrown,
-                            true),
-                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseConnector, isReturnGeneratedKeys,
-                            isExceptionThrown,
-                            false));
+                    ProxyJDBCExecutorCallbackFactory.newInstance(type, database.getName(), protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseConnector,
+                            isReturnGeneratedKeys, isExceptionThrown, true),
+                    ProxyJDBCExecutorCallbackFactory.newInstance(type, database.getName(), protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseConnector,
+                            isReturnGeneratedKeys, isExceptionThrown, false));
         } finally {
             processEngine.completeSQLExecution();
         }
@@ -38,6 +38,7 @@ public final class ProxyJDBCExecutorCallbackFactory {
      * Create new instance of Proxy JDBC executor callback.
      *
      * @param type driver type
+     * @param databaseName database name
      * @param protocolType protocol type
      * @param resourceMetaData resource meta data
      * @param sqlStatement SQL statement
@@ -48,14 +49,14 @@ public final class ProxyJDBCExecutorCallbackFactory {
      * @return created instance
      * @throws UnsupportedSQLOperationException unsupported SQL operation exception
      */
-    public static ProxyJDBCExecutorCallback newInstance(final String type, final DatabaseType protocolType, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement,
-                                                        final DatabaseConnector databaseConnector, final boolean isReturnGeneratedKeys, final boolean isExceptionThrown,
-                                                        final boolean isFetchMetaData) {
+    public static ProxyJDBCExecutorCallback newInstance(final String type, final String databaseName, final DatabaseType protocolType, final ResourceMetaData resourceMetaData,
+                                                        final SQLStatement sqlStatement, final DatabaseConnector databaseConnector, final boolean isReturnGeneratedKeys,
+                                                        final boolean isExceptionThrown, final boolean isFetchMetaData) {
         if (JDBCDriverType.STATEMENT.equals(type)) {
-            return new ProxyStatementExecutorCallback(protocolType, resourceMetaData, sqlStatement, databaseConnector, isReturnGeneratedKeys, isExceptionThrown, isFetchMetaData);
+            return new ProxyStatementExecutorCallback(databaseName, protocolType, resourceMetaData, sqlStatement, databaseConnector, isReturnGeneratedKeys, isExceptionThrown, isFetchMetaData);
         }
         if (JDBCDriverType.PREPARED_STATEMENT.equals(type)) {
-            return new ProxyPreparedStatementExecutorCallback(protocolType, resourceMetaData, sqlStatement, databaseConnector, isReturnGeneratedKeys, isExceptionThrown, isFetchMetaData);
+            return new ProxyPreparedStatementExecutorCallback(databaseName, protocolType, resourceMetaData, sqlStatement, databaseConnector, isReturnGeneratedKeys, isExceptionThrown, isFetchMetaData);
         }
         throw new UnsupportedSQLOperationException(String.format("Unsupported driver type: `%s`", type));
     }
@@ -32,10 +32,10 @@ import java.sql.Statement;
  */
 public final class ProxyStatementExecutorCallback extends ProxyJDBCExecutorCallback {
     
-    public ProxyStatementExecutorCallback(final DatabaseType protocolType, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement,
-                                          final DatabaseConnector databaseConnector, final boolean isReturnGeneratedKeys,
+    public ProxyStatementExecutorCallback(final String databaseName, final DatabaseType protocolType, final ResourceMetaData resourceMetaData,
+                                          final SQLStatement sqlStatement, final DatabaseConnector databaseConnector, final boolean isReturnGeneratedKeys,
                                           final boolean isExceptionThrown, final boolean fetchMetaData) {
-        super(protocolType, resourceMetaData, sqlStatement, databaseConnector, isReturnGeneratedKeys, isExceptionThrown, fetchMetaData);
+        super(databaseName, protocolType, resourceMetaData, sqlStatement, databaseConnector, isReturnGeneratedKeys, isExceptionThrown, fetchMetaData);
     }
     
     @Override
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.backend.connector.jdbc.datasource;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.exception.ConnectionPermitsTimeoutException;
 import org.apache.shardingsphere.infra.exception.OverallConnectionNotEnoughException;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -63,6 +64,7 @@ import java.util.concurrent.Future;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
@@ -98,9 +100,18 @@ class JDBCBackendDataSourceTest {
         for (Entry<String, DataSource> entry : mockDataSources(2).entrySet()) {
             when(database.getResourceMetaData().getStorageUnits().get(entry.getKey()).getDataSource()).thenReturn(entry.getValue());
         }
+        when(database.getResourceMetaData().getStorageUnits().get(String.format(DATA_SOURCE_PATTERN, 0)).getDataSourcePoolProperties().getPoolPropertySynonyms().getStandardProperties())
+                .thenReturn(createPoolProperties());
         return Collections.singletonMap("schema", database);
     }
     
+    private Map<String, Object> createPoolProperties() {
+        Map<String, Object> result = new HashMap<>(2, 1F);
+        result.put("maxPoolSize", 5);
+        result.put("connectionTimeoutMilliseconds", 100L);
+        return result;
+    }
+    
     private RuleMetaData mockGlobalRuleMetaData() {
         TransactionRule transactionRule = mock(TransactionRule.class);
         when(transactionRule.getResource()).thenReturn(mock(ShardingSphereTransactionManagerEngine.class));
@@ -126,13 +137,79 @@ class JDBCBackendDataSourceTest {
         assertThrows(OverallConnectionNotEnoughException.class, () -> new JDBCBackendDataSource().getConnections("schema", String.format(DATA_SOURCE_PATTERN, 1), 6, ConnectionMode.MEMORY_STRICTLY));
     }
     
+    @Test
+    void assertGetConnectionsWithConnectionPermits() throws SQLException, InterruptedException {
+        JDBCBackendDataSource backendDataSource = new JDBCBackendDataSource();
+        List<Connection> actual = backendDataSource.getConnections("schema", String.format(DATA_SOURCE_PATTERN, 0), 5, ConnectionMode.MEMORY_STRICTLY);
+        assertThat(actual.size(), is(5));
+        DataSourceConnectionPermits permits = backendDataSource.getConnectionPermits("schema", String.format(DATA_SOURCE_PATTERN, 0)).orElseThrow(IllegalStateException::new);
+        assertThat(permits.getMaxPermits(), is(5));
+        assertThat(permits.getTimeoutMilliseconds(), is(100L));
+        assertThat(permits.getWaitCount(), is(1L));
+        assertFalse(permits.tryAcquire(1));
+        actual.forEach(backendDataSource::releaseConnectionPermit);
+        assertTrue(permits.tryAcquire(5));
+    }
+    
+    @Test
+    void assertGetConnectionsWithConnectionPermitsTimeout() throws SQLException, InterruptedException {
+        JDBCBackendDataSource backendDataSource = new JDBCBackendDataSource();
+        backendDataSource.getConnections("schema", String.format(DATA_SOURCE_PATTERN, 0), 2, ConnectionMode.MEMORY_STRICTLY);
+        DataSourceConnectionPermits permits = backendDataSource.getConnectionPermits("schema", String.format(DATA_SOURCE_PATTERN, 0)).orElseThrow(IllegalStateException::new);
+        assertTrue(permits.tryAcquire(3));
+        assertThrows(ConnectionPermitsTimeoutException.class, () -> backendDataSource.getConnections("schema", String.format(DATA_SOURCE_PATTERN, 0), 2, ConnectionMode.MEMORY_STRICTLY));
+        assertThat(permits.getWaitCount(), is(3L));
+    }
+    
+    @Test
+    void assertGetConnectionsWithConnectionPermitsByMultiThreads() throws InterruptedException {
+        JDBCBackendDataSource backendDataSource = new JDBCBackendDataSource();
+        ContextManager contextManager = ProxyContext.getInstance().getContextManager();
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        Collection<Future<List<Connection>>> futures = new LinkedList<>();
+        for (int i = 0; i < 2; i++) {
+            futures.add(executorService.submit(new CallableTask(backendDataSource, contextManager, String.format(DATA_SOURCE_PATTERN, 0), 3, ConnectionMode.MEMORY_STRICTLY)));
+        }
+        List<Connection> actual = new LinkedList<>();
+        int timeoutCount = 0;
+        for (Future<List<Connection>> each : futures) {
+            try {
+                actual.addAll(each.get());
+            } catch (final ExecutionException ex) {
+                assertThat(ex.getCause(), instanceOf(ConnectionPermitsTimeoutException.class));
+                timeoutCount++;
+            }
+        }
+        executorService.shutdown();
+        assertThat(actual.size(), is(3));
+        assertThat(timeoutCount, is(1));
+        DataSourceConnectionPermits permits = backendDataSource.getConnectionPermits("schema", String.format(DATA_SOURCE_PATTERN, 0)).orElseThrow(IllegalStateException::new);
+        assertFalse(permits.tryAcquire(3));
+        actual.forEach(backendDataSource::releaseConnectionPermit);
+        assertTrue(permits.tryAcquire(5));
+    }
+    
+    @Test
+    void assertEvictConnectionPermitsOfUnregisteredStorageUnits() throws SQLException {
+        ShardingSphereDatabase database = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabase("schema");
+        when(database.getResourceMetaData().getStorageUnits().get(String.format(DATA_SOURCE_PATTERN, 1)).getDataSourcePoolProperties().getPoolPropertySynonyms().getStandardProperties())
+                .thenReturn(createPoolProperties());
+        when(database.getResourceMetaData().getStorageUnits().containsKey(String.format(DATA_SOURCE_PATTERN, 1))).thenReturn(true);
+        JDBCBackendDataSource backendDataSource = new JDBCBackendDataSource();
+        backendDataSource.getConnections("schema", String.format(DATA_SOURCE_PATTERN, 0), 2, ConnectionMode.MEMORY_STRICTLY);
+        assertTrue(backendDataSource.getConnectionPermits("schema", String.format(DATA_SOURCE_PATTERN, 0)).isPresent());
+        backendDataSource.getConnections("schema", String.format(DATA_SOURCE_PATTERN, 1), 2, ConnectionMode.MEMORY_STRICTLY);
+        assertFalse(backendDataSource.getConnectionPermits("schema", String.format(DATA_SOURCE_PATTERN, 0)).isPresent());
+        assertTrue(backendDataSource.getConnectionPermits("schema", String.format(DATA_SOURCE_PATTERN, 1)).isPresent());
+    }
+    
     @Test
     void assertGetConnectionsByMultiThreads() throws InterruptedException {
         JDBCBackendDataSource jdbcBackendDataSource = new JDBCBackendDataSource();
         ExecutorService executorService = Executors.newFixedThreadPool(20);
         Collection<Future<List<Connection>>> futures = new LinkedList<>();
         for (int i = 0; i < 200; i++) {
-            futures.add(executorService.submit(new CallableTask(jdbcBackendDataSource, String.format(DATA_SOURCE_PATTERN, 1), 6, ConnectionMode.MEMORY_STRICTLY)));
+            futures.add(executorService.submit(new CallableTask(jdbcBackendDataSource, mockContextManager(), String.format(DATA_SOURCE_PATTERN, 1), 6, ConnectionMode.MEMORY_STRICTLY)));
         }
         Collection<Connection> actual = new LinkedList<>();
         for (Future<List<Connection>> each : futures) {
@@ -151,6 +228,8 @@ class JDBCBackendDataSourceTest {
         
         private final JDBCBackendDataSource jdbcBackendDataSource;
         
+        private final ContextManager contextManager;
+        
         private final String datasourceName;
         
         private final int connectionSize;
@@ -160,7 +239,6 @@ class JDBCBackendDataSourceTest {
         @Override
         public List<Connection> call() throws SQLException {
             try (MockedStatic<ProxyContext> proxyContext = mockStatic(ProxyContext.class, RETURNS_DEEP_STUBS)) {
-                ContextManager contextManager = JDBCBackendDataSourceTest.this.mockContextManager();
                 proxyContext.when(() -> ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
                 return jdbcBackendDataSource.getConnections("schema", datasourceName, connectionSize, connectionMode);
             }
@@ -34,6 +34,7 @@ import org.apache.shardingsphere.data.pipeline.cdc.handler.CDCBackendHandler;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.AckStreamingRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.DropStreamingRequestBody;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.GrantCreditRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody.BasicBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StartStreamingRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StopStreamingRequestBody;
@@ -83,6 +84,15 @@ public final class CDCChannelInboundHandler extends ChannelInboundHandlerAdapter
         ctx.channel().attr(CONNECTION_CONTEXT_KEY).set(null);
     }
     
+    @Override
+    public void channelWritabilityChanged(final ChannelHandlerContext ctx) {
+        CDCConnectionContext connectionContext = ctx.channel().attr(CONNECTION_CONTEXT_KEY).get();
+        if (null != connectionContext) {
+            backendHandler.notifyWritabilityChanged(connectionContext.getJobId(), ctx.channel().id());
+        }
+        ctx.fireChannelWritabilityChanged();
+    }
+    
     @Override
     public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
         log.error("caught CDC resolution error", cause);
@@ -125,6 +135,9 @@ public final class CDCChannelInboundHandler extends ChannelInboundHandlerAdapter
             case DROP_STREAMING:
                 processDropStreamingRequest(ctx, request, connectionContext);
                 break;
+            case GRANT_CREDIT:
+                processGrantCreditRequest(ctx, request, connectionContext);
+                break;
             default:
                 log.warn("can't handle this type of request {}", request);
                 break;
@@ -187,6 +200,17 @@ public final class CDCChannelInboundHandler extends ChannelInboundHandlerAdapter
         backendHandler.processAck(requestBody);
     }
     
+    private void processGrantCreditRequest(final ChannelHandlerContext ctx, final CDCRequest request, final CDCConnectionContext connectionContext) {
+        if (!request.hasGrantCreditRequestBody()) {
+            throw new CDCExceptionWrapper(request.getRequestId(), new PipelineInvalidParameterException("Grant credit request body is empty"));
+        }
+        GrantCreditRequestBody requestBody = request.getGrantCreditRequestBody();
+        if (requestBody.getRecordCount() <= 0) {
+            throw new CDCExceptionWrapper(request.getRequestId(), new PipelineInvalidParameterException("Record count of credit must be positive"));
+        }
+        backendHandler.grantCredit(connectionContext.getJobId(), ctx.channel().id(), requestBody);
+    }
+    
     private void processStartStreamingRequest(final ChannelHandlerContext ctx, final CDCRequest request, final CDCConnectionContext connectionContext) {
         if (!request.hasStartStreamingRequestBody()) {
             throw new CDCExceptionWrapper(request.getRequestId(), new PipelineInvalidParameterException("Start streaming request body is empty"));
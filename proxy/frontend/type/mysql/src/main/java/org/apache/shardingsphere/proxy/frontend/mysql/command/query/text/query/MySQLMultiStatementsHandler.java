@@ -169,7 +169,7 @@ public final class MySQLMultiStatementsHandler implements ProxyBackendHandler {
     private UpdateResponseHeader executeBatchedStatements(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) throws SQLException {
         boolean isExceptionThrown = SQLExecutorExceptionHandler.isExceptionThrown();
         ResourceMetaData resourceMetaData = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName()).getResourceMetaData();
-        JDBCExecutorCallback<int[]> callback = new BatchedJDBCExecutorCallback(resourceMetaData, sqlStatementSample, isExceptionThrown);
+        JDBCExecutorCallback<int[]> callback = new BatchedJDBCExecutorCallback(connectionSession.getDatabaseName(), resourceMetaData, sqlStatementSample, isExceptionThrown);
         List<int[]> executeResults = jdbcExecutor.execute(executionGroupContext, callback);
         int updated = 0;
         for (int[] eachResult : executeResults) {
@@ -183,8 +183,8 @@ public final class MySQLMultiStatementsHandler implements ProxyBackendHandler {
     
     private static final class BatchedJDBCExecutorCallback extends JDBCExecutorCallback<int[]> {
         
-        private BatchedJDBCExecutorCallback(final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
-            super(TypedSPILoader.getService(DatabaseType.class, "MySQL"), resourceMetaData, sqlStatement, isExceptionThrown);
+        private BatchedJDBCExecutorCallback(final String databaseName, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
+            super(databaseName, TypedSPILoader.getService(DatabaseType.class, "MySQL"), resourceMetaData, sqlStatement, isExceptionThrown);
         }
         
         @Override
@@ -182,7 +182,8 @@ public final class PostgreSQLBatchedStatementsExecutor {
         ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName());
         DatabaseType protocolType = database.getProtocolType();
         JDBCExecutorCallback<int[]> callback =
-                new BatchedStatementsJDBCExecutorCallback(protocolType, database.getResourceMetaData(), preparedStatement.getSqlStatementContext().getSqlStatement(), isExceptionThrown);
+                new BatchedStatementsJDBCExecutorCallback(connectionSession.getDatabaseName(), protocolType, database.getResourceMetaData(),
+                        preparedStatement.getSqlStatementContext().getSqlStatement(), isExceptionThrown);
         List<int[]> executeResults = jdbcExecutor.execute(executionGroupContext, callback);
         int result = 0;
         for (int[] eachResult : executeResults) {
@@ -195,9 +196,9 @@ public final class PostgreSQLBatchedStatementsExecutor {
     
     private static final class BatchedStatementsJDBCExecutorCallback extends JDBCExecutorCallback<int[]> {
         
-        private BatchedStatementsJDBCExecutorCallback(final DatabaseType protocolType, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement,
-                                                      final boolean isExceptionThrown) {
-            super(protocolType, resourceMetaData, sqlStatement, isExceptionThrown);
+        private BatchedStatementsJDBCExecutorCallback(final String databaseName, final DatabaseType protocolType, final ResourceMetaData resourceMetaData,
+                                                      final SQLStatement sqlStatement, final boolean isExceptionThrown) {
+            super(databaseName, protocolType, resourceMetaData, sqlStatement, isExceptionThrown);
         }
         
         @Override
@@ -22,7 +22,9 @@ import org.apache.shardingsphere.data.pipeline.api.config.ingest.InventoryDumper
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
 import org.apache.shardingsphere.data.pipeline.common.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.common.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.PrimaryKeyPositionFactory;
 import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.type.IntegerPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.type.StringPrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.common.metadata.loader.PipelineTableMetaDataUtils;
 import org.apache.shardingsphere.data.pipeline.common.metadata.loader.StandardPipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.core.preparer.InventoryTaskSplitter;
@@ -46,6 +48,7 @@ import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class InventoryTaskSplitterTest {
@@ -114,6 +117,49 @@ class InventoryTaskSplitterTest {
         assertThat(keyPosition.getEndValue(), is(999L));
     }
     
+    @Test
+    void assertSplitInventoryDataWithVarcharPrimary() throws SQLException {
+        initVarcharPrimaryEnvironment(dumperConfig, "'k%03d'");
+        dumperConfig.setUniqueKeyColumns(Collections.singletonList(new PipelineColumnMetaData(1, "order_id", Types.VARCHAR, "varchar", false, true, true)));
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(10));
+        StringPrimaryKeyPosition firstPosition = (StringPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition();
+        assertThat(firstPosition.getBeginValue(), is("k001"));
+        assertThat(firstPosition.getEndValue(), is("k010"));
+        StringPrimaryKeyPosition secondPosition = (StringPrimaryKeyPosition) actual.get(1).getTaskProgress().getPosition();
+        assertThat(secondPosition.getBeginValue(), is("k011"));
+        assertThat(secondPosition.getEndValue(), is("k020"));
+        StringPrimaryKeyPosition lastPosition = (StringPrimaryKeyPosition) actual.get(9).getTaskProgress().getPosition();
+        assertThat(lastPosition.getBeginValue(), is("k091"));
+        assertNull(lastPosition.getEndValue());
+    }
+    
+    @Test
+    void assertSplitInventoryDataWithEmptyMinimumVarcharPrimary() throws SQLException {
+        initVarcharPrimaryEnvironment(dumperConfig, "'k%03d'");
+        insertVarcharPrimary("''");
+        dumperConfig.setUniqueKeyColumns(Collections.singletonList(new PipelineColumnMetaData(1, "order_id", Types.VARCHAR, "varchar", false, true, true)));
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        StringPrimaryKeyPosition firstPosition = (StringPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition();
+        assertThat(firstPosition.getBeginValue(), is(""));
+        assertThat(firstPosition.getEndValue(), is("k009"));
+        StringPrimaryKeyPosition resumedPosition = (StringPrimaryKeyPosition) PrimaryKeyPositionFactory.newInstance(firstPosition.toString());
+        assertThat(resumedPosition.getBeginValue(), is(""));
+        assertThat(resumedPosition.getEndValue(), is("k009"));
+    }
+    
+    @Test
+    void assertSplitInventoryDataWithCommaVarcharPrimary() throws SQLException {
+        initVarcharPrimaryEnvironment(dumperConfig, "'k,%03d'");
+        dumperConfig.setUniqueKeyColumns(Collections.singletonList(new PipelineColumnMetaData(1, "order_id", Types.VARCHAR, "varchar", false, true, true)));
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(10));
+        StringPrimaryKeyPosition secondPosition = (StringPrimaryKeyPosition) actual.get(1).getTaskProgress().getPosition();
+        StringPrimaryKeyPosition resumedPosition = (StringPrimaryKeyPosition) PrimaryKeyPositionFactory.newInstance(secondPosition.toString());
+        assertThat(resumedPosition.getBeginValue(), is("k,011"));
+        assertThat(resumedPosition.getEndValue(), is("k,020"));
+    }
+    
     @Test
     void assertSplitInventoryDataWithoutPrimaryButWithUniqueIndex() throws SQLException {
         initUniqueIndexOnNotNullColumnEnvironment(dumperConfig);
@@ -177,6 +223,28 @@ class InventoryTaskSplitterTest {
         }
     }
     
+    private void initVarcharPrimaryEnvironment(final DumperConfiguration dumperConfig, final String orderIdFormat) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id VARCHAR(12) PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 1; i <= 100; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (" + orderIdFormat + ", 'x')", i));
+            }
+        }
+    }
+    
+    private void insertVarcharPrimary(final String orderId) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (%s, 'x')", orderId));
+        }
+    }
+    
     private void initUnionPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
         try (